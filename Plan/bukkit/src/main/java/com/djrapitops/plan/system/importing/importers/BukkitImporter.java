@@ -26,6 +26,7 @@ import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
 import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.db.access.transactions.RebuildDailyAggregatesTransaction;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.system.cache.GeolocationCache;
 import com.djrapitops.plan.system.database.DBSystem;
@@ -158,6 +159,8 @@ public abstract class BukkitImporter implements Importer {
                 execute(LargeStoreQueries.storePerServerUserInformation(userInformation));
                 execute(LargeStoreQueries.storeAllNicknameData(Collections.singletonMap(serverUUID.get(), nickNames)));
                 execute(LargeStoreQueries.storeAllGeoInformation(geoInfo));
+                // Imported sessions and registers are not part of the per day aggregates yet.
+                executeOther(new RebuildDailyAggregatesTransaction(serverUUID.get()));
             }
         });
     }
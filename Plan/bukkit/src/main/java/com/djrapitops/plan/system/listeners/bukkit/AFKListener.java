@@ -31,9 +31,9 @@ import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 
 import javax.inject.Inject;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Listener that keeps track of actions that are not considered being AFK.
@@ -54,7 +54,7 @@ public class AFKListener implements Listener {
     @Inject
     public AFKListener(PlanConfig config, ErrorHandler errorHandler) {
         this.errorHandler = errorHandler;
-        this.ignorePermissionInfo = new HashMap<>();
+        this.ignorePermissionInfo = new ConcurrentHashMap<>();
 
         AFKListener.assignAFKTracker(config);
     }
@@ -74,12 +74,10 @@ public class AFKListener implements Listener {
             Boolean ignored = ignorePermissionInfo.get(uuid);
             if (ignored == null) {
                 ignored = player.hasPermission(Permissions.IGNORE_AFK.getPermission());
+                ignorePermissionInfo.put(uuid, ignored);
             }
             if (ignored) {
                 AFK_TRACKER.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
             AFK_TRACKER.performedAction(uuid, time);
@@ -17,8 +17,7 @@
 package com.djrapitops.plan.system.listeners.bukkit;
 
 import com.djrapitops.plan.Plan;
-import com.djrapitops.plan.db.access.transactions.events.CommandStoreTransaction;
-import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.cache.EventCountCache;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.Permissions;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -43,7 +42,7 @@ public class CommandListener implements Listener {
     private final Plan plugin;
     private final PlanConfig config;
     private final ServerInfo serverInfo;
-    private final DBSystem dbSystem;
+    private final EventCountCache eventCountCache;
     private final ErrorHandler errorHandler;
 
     @Inject
@@ -51,13 +50,13 @@ public class CommandListener implements Listener {
             Plan plugin,
             PlanConfig config,
             ServerInfo serverInfo,
-            DBSystem dbSystem,
+            EventCountCache eventCountCache,
             ErrorHandler errorHandler
     ) {
         this.plugin = plugin;
         this.config = config;
         this.serverInfo = serverInfo;
-        this.dbSystem = dbSystem;
+        this.eventCountCache = eventCountCache;
         this.errorHandler = errorHandler;
     }
 
@@ -91,7 +90,7 @@ public class CommandListener implements Listener {
                 commandName = command.getName();
             }
         }
-        dbSystem.getDatabase().executeTransaction(new CommandStoreTransaction(serverInfo.getServerUUID(), commandName));
+        eventCountCache.commandUsed(serverInfo.getServerUUID(), commandName);
     }
 
     private Command getBukkitCommand(String commandName) {
@@ -18,6 +18,7 @@ package com.djrapitops.plan.system.listeners.bukkit;
 
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.db.access.transactions.events.WorldNameStoreTransaction;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -44,6 +45,7 @@ public class GameModeChangeListener implements Listener {
     private final WorldAliasSettings worldAliasSettings;
     private final ServerInfo serverInfo;
     private final DBSystem dbSystem;
+    private final KnownEntityCache knownEntityCache;
     private final ErrorHandler errorHandler;
 
     @Inject
@@ -51,11 +53,13 @@ public class GameModeChangeListener implements Listener {
             WorldAliasSettings worldAliasSettings,
             ServerInfo serverInfo,
             DBSystem dbSystem,
+            KnownEntityCache knownEntityCache,
             ErrorHandler errorHandler
     ) {
         this.worldAliasSettings = worldAliasSettings;
         this.serverInfo = serverInfo;
         this.dbSystem = dbSystem;
+        this.knownEntityCache = knownEntityCache;
         this.errorHandler = errorHandler;
     }
 
@@ -78,7 +82,10 @@ public class GameModeChangeListener implements Listener {
         String gameMode = event.getNewGameMode().name();
         String worldName = player.getWorld().getName();
 
-        dbSystem.getDatabase().executeTransaction(new WorldNameStoreTransaction(serverInfo.getServerUUID(), worldName));
+        dbSystem.getDatabase().executeTransaction(new WorldNameStoreTransaction(
+                serverInfo.getServerUUID(), worldName,
+                knownEntityCache::isWorldNameStored, knownEntityCache::addWorldName
+        ));
         worldAliasSettings.addWorld(worldName);
 
         Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
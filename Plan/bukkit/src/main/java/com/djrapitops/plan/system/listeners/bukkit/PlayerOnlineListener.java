@@ -22,8 +22,11 @@ import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.transactions.events.*;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionServiceImplementation;
+import com.djrapitops.plan.system.cache.EventCountCache;
 import com.djrapitops.plan.system.cache.GeolocationCache;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.cache.NicknameCache;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -46,6 +49,7 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import javax.inject.Inject;
 import java.net.InetAddress;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Event Listener for PlayerJoin, PlayerQuit and PlayerKickEvents.
@@ -63,6 +67,9 @@ public class PlayerOnlineListener implements Listener {
     private final GeolocationCache geolocationCache;
     private final NicknameCache nicknameCache;
     private final SessionCache sessionCache;
+    private final EventCountCache eventCountCache;
+    private final KnownEntityCache knownEntityCache;
+    private final PlaceholderValueCache placeholderValueCache;
     private final ErrorHandler errorHandler;
     private final Status status;
 
@@ -77,6 +84,9 @@ public class PlayerOnlineListener implements Listener {
             GeolocationCache geolocationCache,
             NicknameCache nicknameCache,
             SessionCache sessionCache,
+            EventCountCache eventCountCache,
+            KnownEntityCache knownEntityCache,
+            PlaceholderValueCache placeholderValueCache,
             Status status,
             ErrorHandler errorHandler
     ) {
@@ -89,6 +99,9 @@ public class PlayerOnlineListener implements Listener {
         this.geolocationCache = geolocationCache;
         this.nicknameCache = nicknameCache;
         this.sessionCache = sessionCache;
+        this.eventCountCache = eventCountCache;
+        this.knownEntityCache = knownEntityCache;
+        this.placeholderValueCache = placeholderValueCache;
         this.status = status;
         this.errorHandler = errorHandler;
     }
@@ -126,7 +139,7 @@ public class PlayerOnlineListener implements Listener {
                 return;
             }
 
-            dbSystem.getDatabase().executeTransaction(new KickStoreTransaction(uuid));
+            eventCountCache.playerKicked(uuid);
         } catch (Exception e) {
             errorHandler.log(L.ERROR, this.getClass(), e);
         }
@@ -154,7 +167,10 @@ public class PlayerOnlineListener implements Listener {
         String gm = player.getGameMode().name();
 
         Database database = dbSystem.getDatabase();
-        database.executeTransaction(new WorldNameStoreTransaction(serverUUID, world));
+        database.executeTransaction(new WorldNameStoreTransaction(
+                serverUUID, world,
+                knownEntityCache::isWorldNameStored, knownEntityCache::addWorldName
+        ));
 
         InetAddress address = player.getAddress().getAddress();
 
@@ -168,13 +184,17 @@ public class PlayerOnlineListener implements Listener {
             );
         }
 
-        database.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, player::getFirstPlayed, playerName, serverUUID));
+        CompletableFuture<?> registered = database.executeTransaction(new PlayerServerRegisterTransaction(
+                playerUUID, player::getFirstPlayed, playerName, serverUUID,
+                knownEntityCache::isPlayerRegistered, knownEntityCache::addRegisteredPlayer
+        ));
         sessionCache.cacheSession(playerUUID, new Session(playerUUID, serverUUID, time, world, gm))
                 .ifPresent(previousSession -> database.executeTransaction(new SessionEndTransaction(previousSession)));
+        placeholderValueCache.sessionChanged(playerUUID, registered);
 
         database.executeTransaction(new NicknameStoreTransaction(
                 playerUUID, new Nickname(displayName, time, serverUUID),
-                (uuid, name) -> name.equals(nicknameCache.getDisplayName(uuid))
+                (uuid, name) -> false /* Checked from the database on join */, knownEntityCache::updateNickname
         ));
 
         processing.submitNonCritical(processors.info().playerPageUpdateProcessor(playerUUID));
@@ -209,8 +229,10 @@ public class PlayerOnlineListener implements Listener {
 
         dbSystem.getDatabase().executeTransaction(new BanStatusTransaction(playerUUID, player::isBanned));
 
-        sessionCache.endSession(playerUUID, time)
-                .ifPresent(endedSession -> dbSystem.getDatabase().executeTransaction(new SessionEndTransaction(endedSession)));
+        sessionCache.endSession(playerUUID, time).ifPresent(endedSession -> {
+            CompletableFuture<?> stored = dbSystem.getDatabase().executeTransaction(new SessionEndTransaction(endedSession));
+            placeholderValueCache.sessionChanged(playerUUID, stored);
+        });
 
         processing.submit(processors.info().playerPageUpdateProcessor(playerUUID));
     }
@@ -18,6 +18,7 @@ package com.djrapitops.plan.system.listeners.bukkit;
 
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.db.access.transactions.events.WorldNameStoreTransaction;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -39,6 +40,7 @@ public class WorldChangeListener implements Listener {
     private final WorldAliasSettings worldAliasSettings;
     private final ServerInfo serverInfo;
     private final DBSystem dbSystem;
+    private final KnownEntityCache knownEntityCache;
     private final ErrorHandler errorHandler;
 
     @Inject
@@ -46,11 +48,13 @@ public class WorldChangeListener implements Listener {
             WorldAliasSettings worldAliasSettings,
             ServerInfo serverInfo,
             DBSystem dbSystem,
+            KnownEntityCache knownEntityCache,
             ErrorHandler errorHandler
     ) {
         this.worldAliasSettings = worldAliasSettings;
         this.serverInfo = serverInfo;
         this.dbSystem = dbSystem;
+        this.knownEntityCache = knownEntityCache;
         this.errorHandler = errorHandler;
     }
 
@@ -72,7 +76,10 @@ public class WorldChangeListener implements Listener {
         String worldName = player.getWorld().getName();
         String gameMode = player.getGameMode().name();
 
-        dbSystem.getDatabase().executeTransaction(new WorldNameStoreTransaction(serverInfo.getServerUUID(), worldName));
+        dbSystem.getDatabase().executeTransaction(new WorldNameStoreTransaction(
+                serverInfo.getServerUUID(), worldName,
+                knownEntityCache::isWorldNameStored, knownEntityCache::addWorldName
+        ));
         worldAliasSettings.addWorld(worldName);
 
         Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
@@ -28,7 +28,9 @@ import com.djrapitops.plan.system.tasks.bukkit.PaperTPSCountTimer;
 import com.djrapitops.plan.system.tasks.bukkit.PingCountTimerBukkit;
 import com.djrapitops.plan.system.tasks.server.BootAnalysisTask;
 import com.djrapitops.plan.system.tasks.server.ConfigStoreTask;
+import com.djrapitops.plan.system.tasks.server.EventCountSaveTask;
 import com.djrapitops.plan.system.tasks.server.PeriodicAnalysisTask;
+import com.djrapitops.plan.system.tasks.server.PlaceholderRefreshTask;
 import com.djrapitops.plugin.api.Check;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.RunnableFactory;
@@ -67,6 +69,8 @@ public class BukkitTaskSystem extends ServerTaskSystem {
             PingCountTimerBukkit pingCountTimer,
             LogsFolderCleanTask logsFolderCleanTask,
             PlayersPageRefreshTask playersPageRefreshTask,
+            EventCountSaveTask eventCountSaveTask,
+            PlaceholderRefreshTask placeholderRefreshTask,
             ConfigStoreTask configStoreTask,
             DBCleanTask dbCleanTask,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask
@@ -78,7 +82,9 @@ public class BukkitTaskSystem extends ServerTaskSystem {
                 bootAnalysisTask,
                 periodicAnalysisTask,
                 logsFolderCleanTask,
-                playersPageRefreshTask);
+                playersPageRefreshTask,
+                eventCountSaveTask,
+                placeholderRefreshTask);
         this.plugin = plugin;
         this.shutdownHook = shutdownHook;
         this.pingCountTimer = pingCountTimer;
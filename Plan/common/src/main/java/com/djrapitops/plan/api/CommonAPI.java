@@ -25,6 +25,7 @@ import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
 import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.database.databases.operation.FetchOperations;
 import com.djrapitops.plan.system.database.databases.sql.operation.SQLFetchOps;
@@ -38,7 +39,9 @@ import javax.inject.Singleton;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * PlanAPI extension for all implementations.
@@ -51,6 +54,7 @@ public class CommonAPI implements PlanAPI {
     private final DBSystem dbSystem;
     private final UUIDUtility uuidUtility;
     private final HookHandler hookHandler;
+    private final PlaceholderValueCache placeholderValueCache;
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
 
@@ -59,12 +63,14 @@ public class CommonAPI implements PlanAPI {
             DBSystem dbSystem,
             UUIDUtility uuidUtility,
             HookHandler hookHandler,
+            PlaceholderValueCache placeholderValueCache,
             PluginLogger logger,
             ErrorHandler errorHandler
     ) {
         this.dbSystem = dbSystem;
         this.uuidUtility = uuidUtility;
         this.hookHandler = hookHandler;
+        this.placeholderValueCache = placeholderValueCache;
         this.logger = logger;
         this.errorHandler = errorHandler;
         PlanAPIHolder.set(this);
@@ -115,6 +121,16 @@ public class CommonAPI implements PlanAPI {
         return queryDB(ServerQueries.fetchPlanServerInformation()).keySet();
     }
 
+    @Override
+    public Optional<String> getCachedServerPlaceholderValue(String placeholder, Supplier<Map<String, String>> loader) {
+        return placeholderValueCache.getServerValue(placeholder, loader);
+    }
+
+    @Override
+    public Optional<String> getCachedPlayerPlaceholderValue(String placeholder, UUID playerUUID, Supplier<Map<String, String>> loader) {
+        return placeholderValueCache.getPlayerValue(placeholder, playerUUID, loader);
+    }
+
     @Override
     public String getPlayerName(UUID playerUUID) {
         return queryDB(UserIdentifierQueries.fetchPlayerNameOf(playerUUID)).orElse(null);
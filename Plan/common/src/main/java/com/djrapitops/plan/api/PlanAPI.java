@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Interface for PlanAPI methods.
@@ -97,4 +98,31 @@ public interface PlanAPI {
      * @return All Plan server UUIDs.
      */
     Collection<UUID> fetchServerUUIDs();
+
+    /**
+     * Get the last known value of a server placeholder.
+     * <p>
+     * Non-blocking operation. The values are loaded asynchronously with the loader, and refreshed periodically
+     * and when players join or leave.
+     *
+     * @param placeholder Identifier of the placeholder.
+     * @param loader      Function that loads the values of all server placeholders by identifier, may block.
+     *                    Only the first given loader is used.
+     * @return Last known value, or empty if the value has not been loaded yet.
+     */
+    Optional<String> getCachedServerPlaceholderValue(String placeholder, Supplier<Map<String, String>> loader);
+
+    /**
+     * Get the last known value of a player placeholder.
+     * <p>
+     * Non-blocking operation. The values are loaded asynchronously with the loader, and refreshed periodically
+     * and when the player joins or leaves.
+     *
+     * @param placeholder Identifier of the placeholder.
+     * @param playerUUID  UUID of the player.
+     * @param loader      Function that loads the values of all placeholders of the player by identifier, may block.
+     *                    Only the first given loader is used.
+     * @return Last known value, or empty if the value has not been loaded yet.
+     */
+    Optional<String> getCachedPlayerPlaceholderValue(String placeholder, UUID playerUUID, Supplier<Map<String, String>> loader);
 }
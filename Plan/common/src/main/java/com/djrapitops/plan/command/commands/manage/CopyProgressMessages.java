@@ -0,0 +1,58 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.command.commands.manage;
+
+import com.djrapitops.plan.db.access.transactions.BackupCopyTransaction;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.locale.lang.ManageLang;
+import com.djrapitops.plugin.command.Sender;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the progress of a {@link BackupCopyTransaction} to the sender of a command.
+ * <p>
+ * A message is sent when copying of a table starts, and at most every 5 seconds while it is copied.
+ *
+ * @author Rsl1122
+ */
+class CopyProgressMessages implements BackupCopyTransaction.ProgressListener {
+
+    private static final long MESSAGE_INTERVAL = TimeUnit.SECONDS.toMillis(5L);
+
+    private final Locale locale;
+    private final Sender sender;
+
+    private String currentTable;
+    private long lastMessage;
+
+    CopyProgressMessages(Locale locale, Sender sender) {
+        this.locale = locale;
+        this.sender = sender;
+    }
+
+    @Override
+    public void onProgress(String tableName, long copiedRows, long totalRows) {
+        long now = System.currentTimeMillis();
+        if (tableName.equals(currentTable) && now - lastMessage < MESSAGE_INTERVAL) {
+            return;
+        }
+        currentTable = tableName;
+        lastMessage = now;
+        sender.sendMessage(locale.getString(ManageLang.PROGRESS_COPY, tableName, copiedRows, totalRows));
+    }
+}
\ No newline at end of file
@@ -115,7 +115,7 @@ public class ManageBackupCommand extends CommandNode {
                     sender.sendMessage(locale.getString(CommandLang.WARN_DATABASE_NOT_OPEN, dbState.name()));
                 }
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
-                createNewBackup(args[0], database);
+                createNewBackup(sender, args[0], database);
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
             } catch (Exception e) {
                 errorHandler.log(L.ERROR, ManageBackupCommand.class, e);
@@ -127,10 +127,11 @@ public class ManageBackupCommand extends CommandNode {
     /**
      * Creates a new backup sqlite file with the data of given database.
      *
+     * @param sender     Sender of the command, informed of the progress.
      * @param dbName     Name of database (mysql/sqlite)
      * @param copyFromDB Database you want to backup.
      */
-    private void createNewBackup(String dbName, Database copyFromDB) {
+    private void createNewBackup(Sender sender, String dbName, Database copyFromDB) {
         Integer userCount = copyFromDB.query(ServerAggregateQueries.baseUserCount());
         if (userCount <= 0) {
             return;
@@ -141,7 +142,7 @@ public class ManageBackupCommand extends CommandNode {
             String fileName = dbName + "-backup-" + timeStamp;
             backupDB = sqliteFactory.usingFileCalled(fileName);
             backupDB.init();
-            backupDB.executeTransaction(new BackupCopyTransaction(copyFromDB, backupDB)).get();
+            backupDB.executeTransaction(new BackupCopyTransaction(copyFromDB, backupDB, new CopyProgressMessages(locale, sender))).get();
         } catch (DBOpException | ExecutionException e) {
             errorHandler.log(L.ERROR, this.getClass(), e);
         } catch (InterruptedException e) {
@@ -21,6 +21,7 @@ import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.db.DBType;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.CmdHelpLang;
@@ -51,6 +52,7 @@ public class ManageClearCommand extends CommandNode {
     private final Locale locale;
     private final Processing processing;
     private final DBSystem dbSystem;
+    private final KnownEntityCache knownEntityCache;
     private final ErrorHandler errorHandler;
 
     @Inject
@@ -58,6 +60,7 @@ public class ManageClearCommand extends CommandNode {
             Locale locale,
             Processing processing,
             DBSystem dbSystem,
+            KnownEntityCache knownEntityCache,
             ErrorHandler errorHandler
     ) {
         super("clear", Permissions.MANAGE.getPermission(), CommandType.PLAYER_OR_ARGS);
@@ -65,6 +68,7 @@ public class ManageClearCommand extends CommandNode {
         this.locale = locale;
         this.processing = processing;
         this.dbSystem = dbSystem;
+        this.knownEntityCache = knownEntityCache;
         this.errorHandler = errorHandler;
 
         setArguments("<DB>", "[-a]");
@@ -103,6 +107,7 @@ public class ManageClearCommand extends CommandNode {
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
                 database.executeTransaction(new RemoveEverythingTransaction());
+                knownEntityCache.clear();
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
             } catch (DBOpException e) {
@@ -17,10 +17,10 @@
 package com.djrapitops.plan.command.commands.manage;
 
 import com.djrapitops.plan.db.Database;
-import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.export.HtmlExport;
 import com.djrapitops.plan.system.export.JSONExport;
+import com.djrapitops.plan.system.export.PlayerExporter;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.CmdHelpLang;
@@ -40,8 +40,6 @@ import com.djrapitops.plugin.utilities.Verify;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Arrays;
-import java.util.Map;
-import java.util.UUID;
 import java.util.function.Consumer;
 
 /**
@@ -59,6 +57,7 @@ public class ManageExportCommand extends CommandNode {
     private final ServerInfo serverInfo;
     private final HtmlExport htmlExport;
     private final JSONExport jsonExport;
+    private final PlayerExporter playerExporter;
     private final Processing processing;
 
     @Inject
@@ -70,7 +69,8 @@ public class ManageExportCommand extends CommandNode {
             ServerInfo serverInfo,
             Processing processing,
             HtmlExport htmlExport,
-            JSONExport jsonExport
+            JSONExport jsonExport,
+            PlayerExporter playerExporter
     ) {
         super("export", Permissions.MANAGE.getPermission(), CommandType.CONSOLE);
 
@@ -81,9 +81,10 @@ public class ManageExportCommand extends CommandNode {
         this.serverInfo = serverInfo;
         this.htmlExport = htmlExport;
         this.jsonExport = jsonExport;
+        this.playerExporter = playerExporter;
         this.processing = processing;
 
-        setArguments("<export_kind>/list");
+        setArguments("<export_kind>/list", "[-f]");
         setShortHelp(locale.getString(CmdHelpLang.MANAGE_EXPORT));
         setInDepthHelp(locale.getArray(DeepHelpLang.MANAGE_EXPORT));
     }
@@ -106,13 +107,13 @@ public class ManageExportCommand extends CommandNode {
             return;
         }
 
-        getExportFunction(exportArg).accept(sender);
+        getExportFunction(exportArg, Verify.contains("-f", args)).accept(sender);
     }
 
-    private Consumer<Sender> getExportFunction(String exportArg) {
+    private Consumer<Sender> getExportFunction(String exportArg, boolean force) {
         switch (exportArg) {
             case "players":
-                return this::exportPlayers;
+                return sender -> exportPlayers(sender, force);
             case "server_json":
                 return this::exportServerJSON;
             default:
@@ -128,29 +129,13 @@ public class ManageExportCommand extends CommandNode {
         });
     }
 
-    private void exportPlayers(Sender sender) {
+    private void exportPlayers(Sender sender, boolean force) {
         sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
         if (config.get(ExportSettings.PLAYERS_PAGE)) {
             processing.submitNonCritical(htmlExport::exportPlayersPage);
         }
-        Boolean exportPlayerJSON = config.get(ExportSettings.PLAYER_JSON);
-        Boolean exportPlayerHTML = config.get(ExportSettings.PLAYER_PAGES);
         processing.submitNonCritical(() -> {
-            Map<UUID, String> players = dbSystem.getDatabase().query(UserIdentifierQueries.fetchAllPlayerNames());
-            int size = players.size();
-            int i = 1;
-            for (Map.Entry<UUID, String> entry : players.entrySet()) {
-                if (exportPlayerJSON) {
-                    jsonExport.exportPlayerJSON(entry.getKey());
-                }
-                if (exportPlayerHTML) {
-                    htmlExport.exportPlayerPage(entry.getKey(), entry.getValue());
-                }
-                i++;
-                if (i % 1000 == 0) {
-                    sender.sendMessage(i + " / " + size + " processed..");
-                }
-            }
+            playerExporter.exportChangedPlayers(force, (exported, size) -> sender.sendMessage(exported + " / " + size + " processed.."));
             sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
         });
     }
@@ -20,6 +20,7 @@ import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
 import com.djrapitops.plan.db.access.transactions.commands.RemovePlayerTransaction;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.CmdHelpLang;
@@ -54,6 +55,7 @@ public class ManageRemoveCommand extends CommandNode {
     private final Locale locale;
     private final Processing processing;
     private final DBSystem dbSystem;
+    private final KnownEntityCache knownEntityCache;
     private final UUIDUtility uuidUtility;
     private final ErrorHandler errorHandler;
 
@@ -62,6 +64,7 @@ public class ManageRemoveCommand extends CommandNode {
             Locale locale,
             Processing processing,
             DBSystem dbSystem,
+            KnownEntityCache knownEntityCache,
             UUIDUtility uuidUtility,
             ErrorHandler errorHandler
     ) {
@@ -70,6 +73,7 @@ public class ManageRemoveCommand extends CommandNode {
         this.locale = locale;
         this.processing = processing;
         this.dbSystem = dbSystem;
+        this.knownEntityCache = knownEntityCache;
         this.uuidUtility = uuidUtility;
         this.errorHandler = errorHandler;
 
@@ -121,6 +125,7 @@ public class ManageRemoveCommand extends CommandNode {
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
                 db.executeTransaction(new RemovePlayerTransaction(playerUUID));
+                knownEntityCache.removePlayer(playerUUID);
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
             } catch (DBOpException e) {
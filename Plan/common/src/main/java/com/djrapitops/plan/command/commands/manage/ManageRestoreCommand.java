@@ -20,6 +20,7 @@ import com.djrapitops.plan.db.DBType;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.SQLiteDB;
 import com.djrapitops.plan.db.access.transactions.BackupCopyTransaction;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.locale.Locale;
@@ -51,6 +52,7 @@ public class ManageRestoreCommand extends CommandNode {
     private final Locale locale;
     private final Processing processing;
     private final DBSystem dbSystem;
+    private final KnownEntityCache knownEntityCache;
     private final ErrorHandler errorHandler;
     private final SQLiteDB.Factory sqliteFactory;
     private final PlanFiles files;
@@ -60,6 +62,7 @@ public class ManageRestoreCommand extends CommandNode {
             Locale locale,
             Processing processing,
             DBSystem dbSystem,
+            KnownEntityCache knownEntityCache,
             SQLiteDB.Factory sqliteFactory,
             PlanFiles files,
             ErrorHandler errorHandler
@@ -69,6 +72,7 @@ public class ManageRestoreCommand extends CommandNode {
         this.locale = locale;
         this.processing = processing;
         this.dbSystem = dbSystem;
+        this.knownEntityCache = knownEntityCache;
         this.sqliteFactory = sqliteFactory;
         this.files = files;
         this.errorHandler = errorHandler;
@@ -129,7 +133,8 @@ public class ManageRestoreCommand extends CommandNode {
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_START));
 
-                database.executeTransaction(new BackupCopyTransaction(backupDB, database)).get();
+                database.executeTransaction(new BackupCopyTransaction(backupDB, database, new CopyProgressMessages(locale, sender))).get();
+                knownEntityCache.clear();
 
                 sender.sendMessage(locale.getString(ManageLang.PROGRESS_SUCCESS));
             } catch (InterruptedException e) {
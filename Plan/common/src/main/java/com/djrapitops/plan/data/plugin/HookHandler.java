@@ -22,10 +22,16 @@ import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 import com.djrapitops.pluginbridge.plan.Bridge;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class responsible for hooking to other plugins and managing the %plugins%
@@ -36,6 +42,8 @@ import java.util.*;
 @Singleton
 public class HookHandler implements SubSystem {
 
+    private static final int SOURCE_THREADS = 4;
+
     private final List<PluginData> additionalDataSources;
 
     private final Bridge bridge;
@@ -43,6 +51,9 @@ public class HookHandler implements SubSystem {
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
 
+    private ThreadPoolExecutor sourceExecutor;
+    private int stuckSourceWorkers;
+
     @Inject
     public HookHandler(
             Bridge bridge,
@@ -56,10 +67,23 @@ public class HookHandler implements SubSystem {
         this.errorHandler = errorHandler;
 
         additionalDataSources = new ArrayList<>();
+        sourceExecutor = createSourceExecutor();
+    }
+
+    private ThreadPoolExecutor createSourceExecutor() {
+        return new ThreadPoolExecutor(SOURCE_THREADS, SOURCE_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("Plan PluginData-pool-%d").build());
     }
 
     @Override
     public void enable() {
+        synchronized (this) {
+            if (sourceExecutor.isShutdown()) {
+                sourceExecutor = createSourceExecutor();
+                resizeSourceExecutor();
+            }
+        }
         try {
             bridge.hook(this);
         } catch (Exception e) {
@@ -70,7 +94,7 @@ public class HookHandler implements SubSystem {
 
     @Override
     public void disable() {
-        // Nothing to disable
+        sourceExecutor.shutdownNow();
     }
 
     /**
@@ -114,6 +138,50 @@ public class HookHandler implements SubSystem {
         return additionalDataSources;
     }
 
+    /**
+     * Run a task that uses PluginData sources on the dedicated PluginData thread pool.
+     * <p>
+     * Sources can block on their own databases, so they are not run on shared thread pools.
+     *
+     * @param task Task to run.
+     * @param <T>  Type of the task result.
+     * @return Future for the task result.
+     */
+    public <T> Future<T> submitSourceTask(Callable<T> task) {
+        return sourceExecutor.submit(task);
+    }
+
+    /**
+     * Add a thread to the PluginData thread pool to replace a worker that is stuck on a timed out source.
+     * <p>
+     * Call {@link #removeSourceWorker()} when the stuck source finishes.
+     */
+    public synchronized void addSourceWorker() {
+        stuckSourceWorkers++;
+        resizeSourceExecutor();
+    }
+
+    /**
+     * Remove a thread added with {@link #addSourceWorker()} from the PluginData thread pool.
+     */
+    public synchronized void removeSourceWorker() {
+        stuckSourceWorkers--;
+        resizeSourceExecutor();
+    }
+
+    private void resizeSourceExecutor() {
+        // The worker may finish before it is replaced, so the count can be negative for a moment.
+        int size = SOURCE_THREADS + Math.max(0, stuckSourceWorkers);
+        ThreadPoolExecutor executor = sourceExecutor;
+        if (size > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(size);
+            executor.setCorePoolSize(size);
+        } else {
+            executor.setCorePoolSize(size);
+            executor.setMaximumPoolSize(size);
+        }
+    }
+
     public Map<PluginData, InspectContainer> getInspectContainersFor(UUID uuid) {
         List<PluginData> plugins = getAdditionalDataSources();
         Map<PluginData, InspectContainer> containers = new HashMap<>();
@@ -16,21 +16,29 @@
  */
 package com.djrapitops.plan.data.store;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
  * Caching layer between Supplier and caller.
  * <p>
  * Refreshes the value if 30 seconds have passed since the last call.
+ * <p>
+ * Thread safe, a thread calling {@link #get()} while another thread is resolving the value waits for that value.
+ * The wait is done with {@link CompletableFuture#join()}, which lets a {@link java.util.concurrent.ForkJoinPool}
+ * compensate for the blocked worker.
  *
  * @author Rsl1122
  */
 public class CachingSupplier<T> implements Supplier<T> {
 
     private final Supplier<T> original;
-    private T cachedValue;
-    private long cacheTime;
+    private final AtomicReference<Resolving<T>> resolving;
+    private volatile T cachedValue;
+    private volatile long cacheTime;
     private long timeToLive;
 
     public CachingSupplier(Supplier<T> original) {
@@ -41,16 +49,42 @@ public class CachingSupplier<T> implements Supplier<T> {
         this.original = original;
         this.timeToLive = timeToLive;
 
+        resolving = new AtomicReference<>();
         cacheTime = 0L;
     }
 
     @Override
     public T get() {
-        if (cachedValue == null || System.currentTimeMillis() - cacheTime > timeToLive) {
-            cachedValue = original.get();
+        while (true) {
+            T value = cachedValue;
+            if (value != null && System.currentTimeMillis() - cacheTime <= timeToLive) {
+                return value;
+            }
+
+            Resolving<T> current = resolving.get();
+            if (current != null) {
+                return current.await();
+            }
+            Resolving<T> resolve = new Resolving<>();
+            if (resolving.compareAndSet(null, resolve)) {
+                return resolve(resolve);
+            }
+        }
+    }
+
+    private T resolve(Resolving<T> resolve) {
+        try {
+            T value = original.get();
+            cachedValue = value;
             cacheTime = System.currentTimeMillis();
+            resolve.value.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            resolve.value.completeExceptionally(e);
+            throw e;
+        } finally {
+            resolving.set(null);
         }
-        return cachedValue;
     }
 
     public boolean isCached() {
@@ -60,4 +94,30 @@ public class CachingSupplier<T> implements Supplier<T> {
     public long getCacheTime() {
         return cacheTime;
     }
+
+    /**
+     * Value being resolved by a thread.
+     */
+    private static class Resolving<T> {
+        private final Thread resolver = Thread.currentThread();
+        private final CompletableFuture<T> value = new CompletableFuture<>();
+
+        T await() {
+            if (resolver == Thread.currentThread()) {
+                throw new IllegalStateException("Supplier depends on its own value");
+            }
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -16,14 +16,20 @@
  */
 package com.djrapitops.plan.data.store.containers;
 
+import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.Type;
 import com.djrapitops.plan.data.store.keys.AnalysisKeys;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.mutators.*;
 import com.djrapitops.plan.data.store.mutators.health.HealthInformation;
 import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
+import com.djrapitops.plan.system.cache.SessionCache;
+import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -61,7 +67,10 @@ import java.util.stream.Collectors;
  */
 public class AnalysisContainer extends DynamicDataContainer {
 
+    private static final Key<List<Session>> ACTIVE_SESSIONS = new Key<>(new Type<List<Session>>() {}, "ACTIVE_SESSIONS");
+
     private final ServerContainer serverContainer;
+    private final Database database;
 
     private final String version;
     private final Locale locale;
@@ -74,9 +83,12 @@ public class AnalysisContainer extends DynamicDataContainer {
     private final Accordions accordions;
     private final AnalysisPluginsTabContentCreator pluginsTabContentCreator;
     private TimeZone timeZone;
+    private boolean fixedOffsetTimeZone;
+    private boolean utcTimeZone;
 
     public AnalysisContainer(
             ServerContainer serverContainer,
+            Database database,
             String version,
             Locale locale,
             PlanConfig config,
@@ -89,6 +101,7 @@ public class AnalysisContainer extends DynamicDataContainer {
             AnalysisPluginsTabContentCreator pluginsTabContentCreator
     ) {
         this.serverContainer = serverContainer;
+        this.database = database;
         this.version = version;
         this.locale = locale;
         this.config = config;
@@ -101,6 +114,10 @@ public class AnalysisContainer extends DynamicDataContainer {
         this.pluginsTabContentCreator = pluginsTabContentCreator;
 
         timeZone = config.get(TimeSettings.USE_SERVER_TIME) ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT");
+        // Per day values can be grouped in SQL only if the offset is always the same, sessions are used in other time zones.
+        fixedOffsetTimeZone = timeZone.toZoneId().getRules().isFixedOffset();
+        // Daily aggregates are grouped by UTC days.
+        utcTimeZone = fixedOffsetTimeZone && timeZone.getRawOffset() == 0;
 
         addAnalysisSuppliers();
     }
@@ -113,6 +130,12 @@ public class AnalysisContainer extends DynamicDataContainer {
         putCachingSupplier(AnalysisKeys.SESSIONS_MUTATOR, () -> SessionsMutator.forContainer(serverContainer));
         putCachingSupplier(AnalysisKeys.TPS_MUTATOR, () -> TPSMutator.forContainer(serverContainer));
         putCachingSupplier(AnalysisKeys.PLAYERS_MUTATOR, () -> PlayersMutator.forContainer(serverContainer));
+        putCachingSupplier(AnalysisKeys.DAILY_AGGREGATES_MUTATOR, () -> DailyAggregatesMutator.forContainer(serverContainer));
+        putCachingSupplier(ACTIVE_SESSIONS, () -> {
+            UUID serverUUID = serverContainer.getUnsafe(ServerKeys.SERVER_UUID);
+            return new SessionsMutator(new ArrayList<>(SessionCache.getActiveSessions().values()))
+                    .filterPlayedOnServer(serverUUID).all();
+        });
 
         addConstants();
         addPlayerSuppliers();
@@ -192,7 +215,9 @@ public class AnalysisContainer extends DynamicDataContainer {
         );
         putSupplier(AnalysisKeys.OPERATORS, () -> serverContainer.getValue(ServerKeys.OPERATORS).map(List::size).orElse(0));
         putSupplier(AnalysisKeys.PLAYERS_TABLE, () ->
-                tables.playerTableForServerPage(getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).all()).parseHtml()
+                tables.playerTableForServerPage(
+                        getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).all(), getUnsafe(AnalysisKeys.ANALYSIS_TIME)
+                ).parseHtml()
         );
         putSupplier(AnalysisKeys.PING_TABLE, () ->
                 tables.pingTable(
@@ -208,9 +233,6 @@ public class AnalysisContainer extends DynamicDataContainer {
         Key<PlayersMutator> newDay = new Key<>(PlayersMutator.class, "NEW_DAY");
         Key<PlayersMutator> newWeek = new Key<>(PlayersMutator.class, "NEW_WEEK");
         Key<PlayersMutator> newMonth = new Key<>(PlayersMutator.class, "NEW_MONTH");
-        Key<PlayersMutator> uniqueDay = new Key<>(PlayersMutator.class, "UNIQUE_DAY");
-        Key<PlayersMutator> uniqueWeek = new Key<>(PlayersMutator.class, "UNIQUE_WEEK");
-        Key<PlayersMutator> uniqueMonth = new Key<>(PlayersMutator.class, "UNIQUE_MONTH");
         putCachingSupplier(newDay, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
                 .filterRegisteredBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
         );
@@ -220,29 +242,39 @@ public class AnalysisContainer extends DynamicDataContainer {
         putCachingSupplier(newMonth, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
                 .filterRegisteredBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
         );
-        putCachingSupplier(uniqueDay, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
+
+        putSupplier(AnalysisKeys.PLAYERS_NEW_DAY, () -> countNewPlayers(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO)));
+        putSupplier(AnalysisKeys.PLAYERS_NEW_WEEK, () -> countNewPlayers(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO)));
+        putSupplier(AnalysisKeys.PLAYERS_NEW_MONTH, () -> countNewPlayers(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO)));
+        putSupplier(AnalysisKeys.PLAYERS_DAY, () -> countUniquePlayers(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO)));
+        putSupplier(AnalysisKeys.PLAYERS_WEEK, () -> countUniquePlayers(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO)));
+        putSupplier(AnalysisKeys.PLAYERS_MONTH, () -> countUniquePlayers(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO)));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW, () -> MutatorFunctions.average(getUnsafe(AnalysisKeys.NEW_PLAYERS_PER_DAY)));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_DAY, () -> fixedOffsetTimeZone
+                ? MutatorFunctions.average(newPlayersPerDay(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO)))
+                : getUnsafe(newDay).averageNewPerDay(timeZone)
         );
-        putCachingSupplier(uniqueWeek, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_WEEK, () -> fixedOffsetTimeZone
+                ? MutatorFunctions.average(newPlayersPerDay(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO)))
+                : getUnsafe(newWeek).averageNewPerDay(timeZone)
         );
-        putCachingSupplier(uniqueMonth, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR)
-                .filterPlayedBetween(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO), getUnsafe(AnalysisKeys.ANALYSIS_TIME))
+        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, () -> fixedOffsetTimeZone
+                ? MutatorFunctions.average(newPlayersPerDay(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO)))
+                : getUnsafe(newMonth).averageNewPerDay(timeZone)
         );
 
-        putSupplier(AnalysisKeys.PLAYERS_NEW_DAY, () -> getUnsafe(newDay).count());
-        putSupplier(AnalysisKeys.PLAYERS_NEW_WEEK, () -> getUnsafe(newWeek).count());
-        putSupplier(AnalysisKeys.PLAYERS_NEW_MONTH, () -> getUnsafe(newMonth).count());
-        putSupplier(AnalysisKeys.PLAYERS_DAY, () -> getUnsafe(uniqueDay).count());
-        putSupplier(AnalysisKeys.PLAYERS_WEEK, () -> getUnsafe(uniqueWeek).count());
-        putSupplier(AnalysisKeys.PLAYERS_MONTH, () -> getUnsafe(uniqueMonth).count());
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).averageNewPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_DAY, () -> getUnsafe(newDay).averageNewPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_WEEK, () -> getUnsafe(newWeek).averageNewPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_NEW_MONTH, () -> getUnsafe(newMonth).averageNewPerDay(timeZone));
-
-        putSupplier(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).uniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.NEW_PLAYERS_PER_DAY, () -> getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).newPerDay(timeZone));
+        putCachingSupplier(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY, () -> {
+            if (utcTimeZone) {
+                return getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).uniqueJoinsPerDay();
+            }
+            return fixedOffsetTimeZone
+                    ? uniquePlayersPerDay(0L)
+                    : getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).uniqueJoinsPerDay(timeZone);
+        });
+        putCachingSupplier(AnalysisKeys.NEW_PLAYERS_PER_DAY, () -> fixedOffsetTimeZone
+                ? newPlayersPerDay(0L)
+                : getUnsafe(AnalysisKeys.PLAYERS_MUTATOR).newPerDay(timeZone)
+        );
         putSupplier(AnalysisKeys.UNIQUE_PLAYERS_SERIES, () -> graphs.line().lineGraph(
                 MutatorFunctions.toPointsWithRemovedOffset(getUnsafe(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY), timeZone)).toHighChartsSeries()
         );
@@ -304,8 +336,9 @@ public class AnalysisContainer extends DynamicDataContainer {
 
     private void addSessionSuppliers() {
         Key<SessionAccordion> sessionAccordion = new Key<>(SessionAccordion.class, "SESSION_ACCORDION");
+        // The accordion sorts the list, copy avoids modifying the list other suppliers might be reading.
         putCachingSupplier(sessionAccordion, () -> accordions.serverSessionAccordion(
-                getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).all(),
+                new ArrayList<>(getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).all()),
                 () -> Collections.singletonMap(
                         serverContainer.getUnsafe(ServerKeys.SERVER_UUID),
                         serverContainer.getValue(ServerKeys.NAME).orElse("This server")
@@ -324,13 +357,13 @@ public class AnalysisContainer extends DynamicDataContainer {
         );
 
         putSupplier(AnalysisKeys.AVERAGE_SESSION_LENGTH_F,
-                () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toAverageSessionLength())
+                () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).toAverageSessionLength())
         );
-        putSupplier(AnalysisKeys.SESSION_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).count());
-        putSupplier(AnalysisKeys.PLAYTIME_TOTAL, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlaytime());
-        putSupplier(AnalysisKeys.DEATHS, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toDeathCount());
-        putSupplier(AnalysisKeys.MOB_KILL_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toMobKillCount());
-        putSupplier(AnalysisKeys.PLAYER_KILL_COUNT, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toPlayerKillCount());
+        putSupplier(AnalysisKeys.SESSION_COUNT, () -> getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).toSessionCount());
+        putSupplier(AnalysisKeys.PLAYTIME_TOTAL, () -> getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).toPlaytime());
+        putSupplier(AnalysisKeys.DEATHS, () -> getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).toDeathCount());
+        putSupplier(AnalysisKeys.MOB_KILL_COUNT, () -> getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).toMobKillCount());
+        putSupplier(AnalysisKeys.PLAYER_KILL_COUNT, () -> getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).toPlayerKillCount());
         putSupplier(AnalysisKeys.PLAYTIME_F,
                 () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.PLAYTIME_TOTAL))
         );
@@ -342,7 +375,7 @@ public class AnalysisContainer extends DynamicDataContainer {
                 }
         );
         putSupplier(AnalysisKeys.AVERAGE_SESSION_LENGTH_F,
-                () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toAverageSessionLength())
+                () -> formatters.timeAmount().apply(getUnsafe(AnalysisKeys.DAILY_AGGREGATES_MUTATOR).toAverageSessionLength())
         );
 
         Key<SessionsMutator> sessionsDay = new Key<>(SessionsMutator.class, "SESSIONS_DAY");
@@ -359,10 +392,81 @@ public class AnalysisContainer extends DynamicDataContainer {
         );
 
         putSupplier(AnalysisKeys.PUNCHCARD_SERIES, () -> graphs.special().punchCard(getUnsafe(sessionsMonth).all()).toHighChartsSeries());
-        putSupplier(AnalysisKeys.AVG_PLAYERS, () -> getUnsafe(AnalysisKeys.SESSIONS_MUTATOR).toAverageUniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_DAY, () -> getUnsafe(sessionsDay).toAverageUniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_WEEK, () -> getUnsafe(sessionsWeek).toAverageUniqueJoinsPerDay(timeZone));
-        putSupplier(AnalysisKeys.AVG_PLAYERS_MONTH, () -> getUnsafe(sessionsMonth).toAverageUniqueJoinsPerDay(timeZone));
+        putSupplier(AnalysisKeys.AVG_PLAYERS, () -> MutatorFunctions.average(getUnsafe(AnalysisKeys.UNIQUE_PLAYERS_PER_DAY)));
+        putSupplier(AnalysisKeys.AVG_PLAYERS_DAY, () -> fixedOffsetTimeZone
+                ? MutatorFunctions.average(uniquePlayersPerDay(getUnsafe(AnalysisKeys.ANALYSIS_TIME_DAY_AGO)))
+                : getUnsafe(sessionsDay).toAverageUniqueJoinsPerDay(timeZone)
+        );
+        putSupplier(AnalysisKeys.AVG_PLAYERS_WEEK, () -> fixedOffsetTimeZone
+                ? MutatorFunctions.average(uniquePlayersPerDay(getUnsafe(AnalysisKeys.ANALYSIS_TIME_WEEK_AGO)))
+                : getUnsafe(sessionsWeek).toAverageUniqueJoinsPerDay(timeZone)
+        );
+        putSupplier(AnalysisKeys.AVG_PLAYERS_MONTH, () -> fixedOffsetTimeZone
+                ? MutatorFunctions.average(uniquePlayersPerDay(getUnsafe(AnalysisKeys.ANALYSIS_TIME_MONTH_AGO)))
+                : getUnsafe(sessionsMonth).toAverageUniqueJoinsPerDay(timeZone)
+        );
+    }
+
+    private int countNewPlayers(long after) {
+        UUID serverUUID = serverContainer.getUnsafe(ServerKeys.SERVER_UUID);
+        return database.query(ServerAggregateQueries.newPlayerCount(serverUUID, after, getUnsafe(AnalysisKeys.ANALYSIS_TIME)));
+    }
+
+    private TreeMap<Long, Integer> newPlayersPerDay(long after) {
+        UUID serverUUID = serverContainer.getUnsafe(ServerKeys.SERVER_UUID);
+        long before = getUnsafe(AnalysisKeys.ANALYSIS_TIME);
+        return MutatorFunctions.addMissingDays(database.query(
+                ServerAggregateQueries.newPlayerCountPerDay(serverUUID, after, before, timeZone.getRawOffset())
+        ));
+    }
+
+    private int countUniquePlayers(long after) {
+        UUID serverUUID = serverContainer.getUnsafe(ServerKeys.SERVER_UUID);
+        long before = getUnsafe(AnalysisKeys.ANALYSIS_TIME);
+        // Players with an ongoing session that started in the time range have played, the rest are counted in the database.
+        Set<UUID> activePlayers = new HashSet<>();
+        for (Session session : getUnsafe(ACTIVE_SESSIONS)) {
+            long start = session.getUnsafe(SessionKeys.START);
+            if (after <= start && start <= before) {
+                activePlayers.add(session.getUnsafe(SessionKeys.UUID));
+            }
+        }
+        return activePlayers.size() + database.query(
+                ServerAggregateQueries.uniquePlayerCount(serverUUID, after, before, activePlayers)
+        );
+    }
+
+    private TreeMap<Long, Integer> uniquePlayersPerDay(long after) {
+        UUID serverUUID = serverContainer.getUnsafe(ServerKeys.SERVER_UUID);
+        long before = getUnsafe(AnalysisKeys.ANALYSIS_TIME);
+        long offset = timeZone.getRawOffset();
+        long twentyFourHours = TimeUnit.DAYS.toMillis(1L);
+
+        TreeMap<Long, Integer> perDay = database.query(
+                ServerAggregateQueries.uniquePlayerCountPerDay(serverUUID, after, before, offset, Collections.emptySet())
+        );
+
+        // Ongoing sessions are counted on the day they started on, the rest of the players of that day are counted in the database.
+        Map<Long, Set<UUID>> activePlayersPerDay = new HashMap<>();
+        for (Session session : getUnsafe(ACTIVE_SESSIONS)) {
+            long start = session.getUnsafe(SessionKeys.START);
+            if (after <= start && start <= before) {
+                long startWithOffset = start + offset;
+                long day = startWithOffset - (startWithOffset % twentyFourHours);
+                activePlayersPerDay.computeIfAbsent(day, key -> new HashSet<>()).add(session.getUnsafe(SessionKeys.UUID));
+            }
+        }
+        for (Map.Entry<Long, Set<UUID>> entry : activePlayersPerDay.entrySet()) {
+            long day = entry.getKey();
+            Set<UUID> activePlayers = entry.getValue();
+            // Later days do not affect the count of this day, so the time range can start from this day.
+            long dayAfter = Math.max(after, day - offset);
+            int storedCount = database.query(
+                    ServerAggregateQueries.uniquePlayerCountPerDay(serverUUID, dayAfter, before, offset, activePlayers)
+            ).getOrDefault(day, 0);
+            perDay.put(day, storedCount + activePlayers.size());
+        }
+        return MutatorFunctions.addMissingDays(perDay);
     }
 
     private void addGraphSuppliers() {
@@ -508,6 +612,7 @@ public class AnalysisContainer extends DynamicDataContainer {
 
         private final String version;
         private final PlanConfig config;
+        private final DBSystem dbSystem;
         private final Locale locale;
         private final Theme theme;
         private final ServerProperties serverProperties;
@@ -521,6 +626,7 @@ public class AnalysisContainer extends DynamicDataContainer {
         public Factory(
                 @Named("currentVersion") String version,
                 PlanConfig config,
+                DBSystem dbSystem,
                 Locale locale,
                 Theme theme,
                 ServerProperties serverProperties,
@@ -532,6 +638,7 @@ public class AnalysisContainer extends DynamicDataContainer {
         ) {
             this.version = version;
             this.config = config;
+            this.dbSystem = dbSystem;
             this.locale = locale;
             this.theme = theme;
             this.serverProperties = serverProperties;
@@ -545,6 +652,7 @@ public class AnalysisContainer extends DynamicDataContainer {
         public AnalysisContainer forServerContainer(ServerContainer serverContainer) {
             return new AnalysisContainer(
                     serverContainer,
+                    dbSystem.getDatabase(),
                     version,
                     locale,
                     config,
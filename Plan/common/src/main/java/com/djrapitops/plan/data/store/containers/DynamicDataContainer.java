@@ -17,9 +17,11 @@
 package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plugin.benchmarking.Timings;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 /**
@@ -81,6 +83,18 @@ public class DynamicDataContainer implements DataContainer {
         }
     }
 
+    /**
+     * Resolve the values of all caching suppliers concurrently.
+     *
+     * @param pool         Pool to resolve the values in.
+     * @param timings      Timings to report the time each value took.
+     * @param debugChannel Debug channel the timings are reported to.
+     * @see SupplierDataContainer#resolveCachingSuppliers(ForkJoinPool, Timings, String)
+     */
+    public void resolveCachingSuppliers(ForkJoinPool pool, Timings timings, String debugChannel) {
+        supplierDataContainer.resolveCachingSuppliers(pool, timings, debugChannel);
+    }
+
     @Override
     public void putAll(DataContainer dataContainer) {
         if (dataContainer instanceof SupplierDataContainer) {
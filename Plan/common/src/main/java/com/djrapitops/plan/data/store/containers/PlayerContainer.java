@@ -18,6 +18,7 @@ package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.store.mutators.ActivityIndex;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.mutators.WeeklyActivity;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,14 +33,26 @@ import java.util.Map;
  */
 public class PlayerContainer extends DynamicDataContainer {
 
+    // Activity graph goes back 9 weeks, each activity index looks at 3 weeks.
+    private static final int ACTIVITY_WEEKS = 12;
+
     private Map<Long, ActivityIndex> activityIndexCache;
+    private WeeklyActivity weeklyActivity;
 
     public PlayerContainer() {
         activityIndexCache = new HashMap<>();
     }
 
-    public ActivityIndex getActivityIndex(long date, long playtimeMsThreshold, int loginThreshold) {
-        return activityIndexCache.computeIfAbsent(date, time -> new ActivityIndex(this, time, playtimeMsThreshold, loginThreshold));
+    public synchronized ActivityIndex getActivityIndex(long date, long playtimeMsThreshold, int loginThreshold) {
+        return activityIndexCache.computeIfAbsent(date, time -> {
+            // Dates are counted back from the anchor, so the latest requested date is used as the anchor.
+            if (weeklyActivity == null || !weeklyActivity.covers(time) && weeklyActivity.getAnchor() < time) {
+                weeklyActivity = new WeeklyActivity(this, time, ACTIVITY_WEEKS);
+            }
+            return weeklyActivity.covers(time)
+                    ? new ActivityIndex(weeklyActivity, time, playtimeMsThreshold, loginThreshold)
+                    : new ActivityIndex(this, time, playtimeMsThreshold, loginThreshold);
+        });
     }
 
     public boolean playedBetween(long after, long before) {
@@ -18,10 +18,12 @@ package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.store.CachingSupplier;
 import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plugin.benchmarking.Timings;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -51,7 +53,8 @@ public class SupplierDataContainer implements DataContainer {
      */
     public SupplierDataContainer(long timeToLive) {
         this.timeToLive = timeToLive;
-        map = new HashMap<>();
+        // Concurrent, values are resolved in parallel and suppliers may put values while others are read.
+        map = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -106,6 +109,44 @@ public class SupplierDataContainer implements DataContainer {
         return key.typeCast(supplier.get());
     }
 
+    /**
+     * Resolve the values of all {@link CachingSupplier}s in this container concurrently.
+     * <p>
+     * The values stay cached, so later getValue calls return without waiting.
+     * A supplier that needs the value of another supplier that is being resolved by another thread waits for it,
+     * since suppliers can not depend on themselves the waiting can not form a cycle.
+     * <p>
+     * Exceptions are not thrown here, they are thrown again when the value is requested.
+     *
+     * @param pool         Pool to resolve the values in, calling thread waits until every value is resolved.
+     * @param timings      Timings to report the time each value took.
+     * @param debugChannel Debug channel the timings are reported to.
+     */
+    public void resolveCachingSuppliers(ForkJoinPool pool, Timings timings, String debugChannel) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        // Copied before submitting, suppliers may put new values while they are resolved.
+        for (Map.Entry<Key, Supplier> entry : new ArrayList<>(map.entrySet())) {
+            Supplier supplier = entry.getValue();
+            if (!(supplier instanceof CachingSupplier)) {
+                continue;
+            }
+            String timingName = debugChannel + " " + entry.getKey().getKeyName();
+            tasks.add(pool.submit(() -> {
+                timings.start(timingName);
+                try {
+                    supplier.get();
+                } catch (RuntimeException ignored) {
+                    /* Thrown again when the value is requested */
+                } finally {
+                    timings.end(debugChannel, timingName);
+                }
+            }));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
     private void putAll(Map<Key, Supplier> toPut) {
         map.putAll(toPut);
     }
@@ -19,6 +19,7 @@ package com.djrapitops.plan.data.store.keys;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.PlaceholderKey;
 import com.djrapitops.plan.data.store.Type;
+import com.djrapitops.plan.data.store.mutators.DailyAggregatesMutator;
 import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.data.store.mutators.PlayersOnlineResolver;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
@@ -172,6 +173,7 @@ public class AnalysisKeys {
     public static final Key<SessionsMutator> SESSIONS_MUTATOR = CommonKeys.SESSIONS_MUTATOR;
     public static final Key<TPSMutator> TPS_MUTATOR = CommonKeys.TPS_MUTATOR;
     public static final Key<PlayersMutator> PLAYERS_MUTATOR = CommonKeys.PLAYERS_MUTATOR;
+    public static final Key<DailyAggregatesMutator> DAILY_AGGREGATES_MUTATOR = new Key<>(DailyAggregatesMutator.class, "DAILY_AGGREGATES_MUTATOR");
     public static final Key<PlayersOnlineResolver> PLAYERS_ONLINE_RESOLVER = new Key<>(PlayersOnlineResolver.class, "PLAYERS_ONLINE_RESOLVER");
     public static final Key<Long> PLAYTIME_TOTAL = new Key<>(Long.class, "PLAYTIME_TOTAL");
     public static final Key<Long> ANALYSIS_TIME = new Key<>(Long.class, "ANALYSIS_TIME");
@@ -61,6 +61,8 @@ public class PlayerKeys {
     public static final Key<Integer> DEATH_COUNT = CommonKeys.DEATH_COUNT;
     public static final Key<PerServerContainer> PER_SERVER = new Key<>(PerServerContainer.class, "per_server_data");
     public static final PlaceholderKey<Long> LAST_SEEN = CommonKeys.LAST_SEEN;
+    public static final Key<Long> PLAYTIME = new Key<>(Long.class, "playtime");
+    public static final Key<Integer> SESSION_COUNT = new Key<>(Integer.class, "session_count");
 
     public static final Key<Boolean> BANNED = CommonKeys.BANNED;
     public static final Key<Boolean> OPERATOR = CommonKeys.OPERATOR;
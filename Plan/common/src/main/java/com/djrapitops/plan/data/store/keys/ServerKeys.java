@@ -23,6 +23,7 @@ import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.Key;
 import com.djrapitops.plan.data.store.Type;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
 import com.djrapitops.plan.data.store.objects.DateObj;
 import com.djrapitops.plan.data.time.WorldTimes;
 import com.djrapitops.plan.extension.implementation.results.server.ExtensionServerData;
@@ -59,6 +60,7 @@ public class ServerKeys {
     public static final Key<Integer> PLAYER_KILL_COUNT = CommonKeys.PLAYER_KILL_COUNT;
     public static final Key<Integer> MOB_KILL_COUNT = CommonKeys.MOB_KILL_COUNT;
     public static final Key<Integer> DEATH_COUNT = CommonKeys.DEATH_COUNT;
+    public static final Key<List<DailyAggregate>> DAILY_AGGREGATES = new Key<>(new Type<List<DailyAggregate>>() {}, "daily_aggregates");
 
     public static final Key<List<TPS>> TPS = new Key<>(new Type<List<TPS>>() {}, "tps");
     public static final Key<DateObj<Integer>> ALL_TIME_PEAK_PLAYERS = new Key<>(new Type<DateObj<Integer>>() {}, "all_time_peak_players");
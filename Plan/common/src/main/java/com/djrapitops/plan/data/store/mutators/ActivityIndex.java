@@ -42,6 +42,23 @@ public class ActivityIndex {
         value = calculate(container, date);
     }
 
+    public ActivityIndex(
+            WeeklyActivity weeklyActivity, long date,
+            long playtimeMsThreshold, int loginThreshold
+    ) {
+        this.playtimeMsThreshold = playtimeMsThreshold;
+        this.loginThreshold = loginThreshold;
+
+        value = calculate(
+                weeklyActivity.getActivePlaytime(date, 0),
+                weeklyActivity.getActivePlaytime(date, 1),
+                weeklyActivity.getActivePlaytime(date, 2),
+                weeklyActivity.getSessionCount(date, 0),
+                weeklyActivity.getSessionCount(date, 1),
+                weeklyActivity.getSessionCount(date, 2)
+        );
+    }
+
     public static String[] getGroups() {
         return new String[]{"Very Active", "Active", "Regular", "Irregular", "Inactive"};
     }
@@ -52,9 +69,6 @@ public class ActivityIndex {
         long twoWeeksAgo = date - 2L * week;
         long threeWeeksAgo = date - 3L * week;
 
-        long activePlayThreshold = playtimeMsThreshold;
-        int activeLoginThreshold = loginThreshold;
-
         Optional<List<Session>> sessionsValue = container.getValue(PlayerKeys.SESSIONS);
         if (!sessionsValue.isPresent()) {
             return 0.0;
@@ -68,20 +82,30 @@ public class ActivityIndex {
         SessionsMutator weekTwo = sessionsMutator.filterSessionsBetween(twoWeeksAgo, weekAgo);
         SessionsMutator weekThree = sessionsMutator.filterSessionsBetween(threeWeeksAgo, twoWeeksAgo);
 
+        return calculate(
+                weekOne.toActivePlaytime(), weekTwo.toActivePlaytime(), weekThree.toActivePlaytime(),
+                weekOne.count(), weekTwo.count(), weekThree.count()
+        );
+    }
+
+    private double calculate(
+            long playtimeWeek, long playtimeWeek2, long playtimeWeek3,
+            int loginsWeek, int loginsWeek2, int loginsWeek3
+    ) {
+        long activePlayThreshold = playtimeMsThreshold;
+        int activeLoginThreshold = loginThreshold;
+
         // Playtime per week multipliers, max out to avoid too high values.
         double max = 4.0;
 
-        long playtimeWeek = weekOne.toActivePlaytime();
         double weekPlay = (playtimeWeek * 1.0 / activePlayThreshold);
         if (weekPlay > max) {
             weekPlay = max;
         }
-        long playtimeWeek2 = weekTwo.toActivePlaytime();
         double week2Play = (playtimeWeek2 * 1.0 / activePlayThreshold);
         if (week2Play > max) {
             week2Play = max;
         }
-        long playtimeWeek3 = weekThree.toActivePlaytime();
         double week3Play = (playtimeWeek3 * 1.0 / activePlayThreshold);
         if (week3Play > max) {
             week3Play = max;
@@ -105,9 +129,9 @@ public class ActivityIndex {
 
         double playAvg = (weekPlay + week2Play + week3Play) / 3.0;
 
-        double weekLogin = weekOne.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week2Login = weekTwo.count() >= activeLoginThreshold ? 1.0 : 0.5;
-        double week3Login = weekThree.count() >= activeLoginThreshold ? 1.0 : 0.5;
+        double weekLogin = loginsWeek >= activeLoginThreshold ? 1.0 : 0.5;
+        double week2Login = loginsWeek2 >= activeLoginThreshold ? 1.0 : 0.5;
+        double week3Login = loginsWeek3 >= activeLoginThreshold ? 1.0 : 0.5;
 
         double loginMultiplier = 1.0;
         double loginTotal = weekLogin + week2Login + week3Login;
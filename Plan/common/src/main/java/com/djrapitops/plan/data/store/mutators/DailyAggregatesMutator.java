@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Mutator for a list of DailyAggregates.
+ * <p>
+ * Gives the same totals as {@link SessionsMutator} without going through every session.
+ * Per day values are grouped by UTC days.
+ *
+ * @author Rsl1122
+ */
+public class DailyAggregatesMutator {
+
+    private final List<DailyAggregate> aggregates;
+
+    public DailyAggregatesMutator(List<DailyAggregate> aggregates) {
+        this.aggregates = aggregates;
+    }
+
+    public static DailyAggregatesMutator forContainer(DataContainer container) {
+        return new DailyAggregatesMutator(container.getValue(ServerKeys.DAILY_AGGREGATES).orElse(new ArrayList<>()));
+    }
+
+    public List<DailyAggregate> all() {
+        return aggregates;
+    }
+
+    public int toSessionCount() {
+        return aggregates.stream().mapToInt(DailyAggregate::getSessionCount).sum();
+    }
+
+    public long toPlaytime() {
+        return aggregates.stream().mapToLong(DailyAggregate::getPlaytime).sum();
+    }
+
+    public long toAverageSessionLength() {
+        int sessionCount = toSessionCount();
+        return sessionCount != 0 ? toPlaytime() / sessionCount : 0L;
+    }
+
+    public int toPlayerKillCount() {
+        return aggregates.stream().mapToInt(DailyAggregate::getPlayerKills).sum();
+    }
+
+    public int toMobKillCount() {
+        return aggregates.stream().mapToInt(DailyAggregate::getMobKills).sum();
+    }
+
+    public int toDeathCount() {
+        return aggregates.stream().mapToInt(DailyAggregate::getDeaths).sum();
+    }
+
+    public TreeMap<Long, Integer> uniqueJoinsPerDay() {
+        return perDay(DailyAggregate::getUniquePlayers);
+    }
+
+    public int toAverageUniqueJoinsPerDay() {
+        return MutatorFunctions.average(uniqueJoinsPerDay());
+    }
+
+    public TreeMap<Long, Integer> newPerDay() {
+        return perDay(DailyAggregate::getNewPlayers);
+    }
+
+    public int averageNewPerDay() {
+        return MutatorFunctions.average(newPerDay());
+    }
+
+    private TreeMap<Long, Integer> perDay(ToIntFunction<DailyAggregate> valueFunction) {
+        TreeMap<Long, Integer> perDay = new TreeMap<>();
+        for (DailyAggregate aggregate : aggregates) {
+            int value = valueFunction.applyAsInt(aggregate);
+            if (value > 0) {
+                perDay.put(aggregate.getDate(), value);
+            }
+        }
+        return MutatorFunctions.addMissingDays(perDay);
+    }
+}
@@ -18,10 +18,8 @@ package com.djrapitops.plan.data.store.mutators;
 
 import com.djrapitops.plan.utilities.html.graphs.line.Point;
 
-import java.util.List;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TimeZone;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class MutatorFunctions {
@@ -38,6 +36,26 @@ public class MutatorFunctions {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Add missing in-between dates to a map of values per day, same as {@link DateHoldersMutator#groupByStartOfDay(TimeZone)}.
+     *
+     * @param perDay Map: Start of day epoch ms - value, modified in place.
+     * @return the given map.
+     */
+    public static TreeMap<Long, Integer> addMissingDays(TreeMap<Long, Integer> perDay) {
+        // Empty map firstKey attempt causes NPE if not checked.
+        if (!perDay.isEmpty()) {
+            long twentyFourHours = TimeUnit.DAYS.toMillis(1L);
+            long start = perDay.firstKey();
+            long now = System.currentTimeMillis();
+            long end = now - (now % twentyFourHours);
+            for (long date = start; date < end; date += twentyFourHours) {
+                perDay.putIfAbsent(date, 0);
+            }
+        }
+        return perDay;
+    }
+
     public static int average(Map<Long, Integer> map) {
         return (int) map.values().stream()
                 .mapToInt(i -> i)
@@ -0,0 +1,142 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.DataContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plugin.api.TimeAmount;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Active playtime and session count of a player per week, counted backwards from an anchor date.
+ * <p>
+ * Week {@code k} contains the sessions that started or ended between
+ * {@code anchor - (k + 1) weeks} and {@code anchor - k weeks}, same as
+ * {@link SessionsMutator#filterSessionsBetween(long, long)} would.
+ * This allows calculating {@link ActivityIndex} for any date a whole number of weeks before the anchor
+ * without going through the sessions again.
+ *
+ * @author Rsl1122
+ */
+public class WeeklyActivity {
+
+    public static final long WEEK_MS = TimeAmount.WEEK.toMillis(1L);
+
+    private final long anchor;
+    private final long[] activePlaytime;
+    private final int[] sessionCount;
+
+    public WeeklyActivity(DataContainer container, long anchor, int weeks) {
+        this(container.getValue(PlayerKeys.SESSIONS).orElse(Collections.emptyList()), anchor, weeks);
+    }
+
+    public WeeklyActivity(List<Session> sessions, long anchor, int weeks) {
+        this.anchor = anchor;
+        activePlaytime = new long[weeks];
+        sessionCount = new int[weeks];
+
+        long now = System.currentTimeMillis();
+        for (Session session : sessions) {
+            long start = session.getUnsafe(SessionKeys.START);
+            long end = session.getValue(SessionKeys.END).orElse(now);
+            long activeTime = session.getValue(SessionKeys.ACTIVE_TIME).orElse(0L);
+
+            int startWeek = getWeek(start);
+            int endWeek = getWeek(end);
+            // Inclusive bounds: a date exactly on a week boundary belongs to both weeks.
+            int first = Math.min(isOnBoundary(end) ? endWeek - 1 : endWeek, startWeek);
+            int last = Math.max(startWeek, endWeek);
+            for (int week = Math.max(first, 0); week <= last && week < weeks; week++) {
+                if (containsDate(week, start) || containsDate(week, end)) {
+                    activePlaytime[week] += activeTime;
+                    sessionCount[week]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the date the weeks are counted back from.
+     *
+     * @return Epoch ms.
+     */
+    public long getAnchor() {
+        return anchor;
+    }
+
+    private int getWeek(long date) {
+        long sinceDate = anchor - date;
+        if (sinceDate < 0) {
+            return -1;
+        }
+        return (int) Math.min(sinceDate / WEEK_MS, Integer.MAX_VALUE);
+    }
+
+    private boolean isOnBoundary(long date) {
+        long sinceDate = anchor - date;
+        return sinceDate > 0 && sinceDate % WEEK_MS == 0;
+    }
+
+    private boolean containsDate(int week, long date) {
+        long before = anchor - week * WEEK_MS;
+        long after = before - WEEK_MS;
+        return after <= date && date <= before;
+    }
+
+    /**
+     * Check if the three weeks before the date are available.
+     *
+     * @param date Epoch ms of the date an activity index would be calculated for.
+     * @return true if {@link #getActivePlaytime(long, int)} and {@link #getSessionCount(long, int)} can be used.
+     */
+    public boolean covers(long date) {
+        long sinceDate = anchor - date;
+        return sinceDate >= 0
+                && sinceDate % WEEK_MS == 0
+                && sinceDate / WEEK_MS + 3 <= activePlaytime.length;
+    }
+
+    /**
+     * Get the active playtime of a week before the date.
+     *
+     * @param date     Epoch ms the weeks are counted back from, must be {@link #covers(long)} covered.
+     * @param weeksAgo 0 for the week before the date, 1 for the week before that, etc.
+     * @return Active playtime in ms.
+     */
+    public long getActivePlaytime(long date, int weeksAgo) {
+        return activePlaytime[weekIndex(date, weeksAgo)];
+    }
+
+    /**
+     * Get the amount of sessions in a week before the date.
+     *
+     * @param date     Epoch ms the weeks are counted back from, must be {@link #covers(long)} covered.
+     * @param weeksAgo 0 for the week before the date, 1 for the week before that, etc.
+     * @return Session count.
+     */
+    public int getSessionCount(long date, int weeksAgo) {
+        return sessionCount[weekIndex(date, weeksAgo)];
+    }
+
+    private int weekIndex(long date, int weeksAgo) {
+        return (int) ((anchor - date) / WEEK_MS) + weeksAgo;
+    }
+}
\ No newline at end of file
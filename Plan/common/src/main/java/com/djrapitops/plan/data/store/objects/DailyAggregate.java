@@ -0,0 +1,183 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.objects;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object storing totals of session data of a server for a single day.
+ * <p>
+ * Days start at midnight UTC.
+ *
+ * @author Rsl1122
+ */
+public class DailyAggregate implements DateHolder {
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+
+    private final long date;
+    private int sessionCount;
+    private long playtime;
+    private int playerKills;
+    private int mobKills;
+    private int deaths;
+    private int uniquePlayers;
+    private int newPlayers;
+
+    public DailyAggregate(long date) {
+        this.date = date;
+    }
+
+    public DailyAggregate(
+            long date, int sessionCount, long playtime,
+            int playerKills, int mobKills, int deaths,
+            int uniquePlayers, int newPlayers
+    ) {
+        this.date = date;
+        this.sessionCount = sessionCount;
+        this.playtime = playtime;
+        this.playerKills = playerKills;
+        this.mobKills = mobKills;
+        this.deaths = deaths;
+        this.uniquePlayers = uniquePlayers;
+        this.newPlayers = newPlayers;
+    }
+
+    /**
+     * Get the start of the day the given moment is on.
+     *
+     * @param epochMs Epoch ms.
+     * @return Epoch ms of the midnight (UTC) that starts the day.
+     */
+    public static long startOfDay(long epochMs) {
+        return epochMs - (epochMs % DAY_MS);
+    }
+
+    /**
+     * Add a session to the totals.
+     * <p>
+     * Does not affect unique player count, use {@link #addUniquePlayer()} for that.
+     *
+     * @param session Session that started on this day.
+     */
+    public void addSession(Session session) {
+        sessionCount++;
+        playtime += session.getLength();
+        playerKills += session.getValue(SessionKeys.PLAYER_KILLS).map(Collection::size).orElse(0);
+        mobKills += session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0);
+        deaths += session.getValue(SessionKeys.DEATH_COUNT).orElse(0);
+    }
+
+    public void addUniquePlayer() {
+        uniquePlayers++;
+    }
+
+    public void addNewPlayer() {
+        newPlayers++;
+    }
+
+    public void add(DailyAggregate other) {
+        sessionCount += other.sessionCount;
+        playtime += other.playtime;
+        playerKills += other.playerKills;
+        mobKills += other.mobKills;
+        deaths += other.deaths;
+        uniquePlayers += other.uniquePlayers;
+        newPlayers += other.newPlayers;
+    }
+
+    /**
+     * Create a copy with all totals negated, used for subtracting totals.
+     *
+     * @return new DailyAggregate for the same day.
+     */
+    public DailyAggregate negate() {
+        return new DailyAggregate(date, -sessionCount, -playtime, -playerKills, -mobKills, -deaths, -uniquePlayers, -newPlayers);
+    }
+
+    @Override
+    public long getDate() {
+        return date;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public int getPlayerKills() {
+        return playerKills;
+    }
+
+    public int getMobKills() {
+        return mobKills;
+    }
+
+    public int getDeaths() {
+        return deaths;
+    }
+
+    public int getUniquePlayers() {
+        return uniquePlayers;
+    }
+
+    public int getNewPlayers() {
+        return newPlayers;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DailyAggregate that = (DailyAggregate) o;
+        return date == that.date &&
+                sessionCount == that.sessionCount &&
+                playtime == that.playtime &&
+                playerKills == that.playerKills &&
+                mobKills == that.mobKills &&
+                deaths == that.deaths &&
+                uniquePlayers == that.uniquePlayers &&
+                newPlayers == that.newPlayers;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, sessionCount, playtime, playerKills, mobKills, deaths, uniquePlayers, newPlayers);
+    }
+
+    @Override
+    public String toString() {
+        return "DailyAggregate{" +
+                "date=" + date +
+                ", sessionCount=" + sessionCount +
+                ", playtime=" + playtime +
+                ", playerKills=" + playerKills +
+                ", mobKills=" + mobKills +
+                ", deaths=" + deaths +
+                ", uniquePlayers=" + uniquePlayers +
+                ", newPlayers=" + newPlayers +
+                '}';
+    }
+}
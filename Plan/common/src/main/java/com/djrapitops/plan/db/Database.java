@@ -20,7 +20,7 @@ import com.djrapitops.plan.api.exceptions.database.DBInitException;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for interacting with a Plan SQL database.
@@ -57,7 +57,7 @@ public interface Database {
      * @param transaction Transaction to execute.
      * @return Future that is finished when the transaction has been executed.
      */
-    Future<?> executeTransaction(Transaction transaction);
+    CompletableFuture<?> executeTransaction(Transaction transaction);
 
     /**
      * Used to get the {@code DBType} of the Database
@@ -29,6 +29,7 @@ import com.djrapitops.plan.db.patches.*;
 import com.djrapitops.plan.system.DebugChannels;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
 import com.djrapitops.plan.system.settings.paths.PluginSettings;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.utilities.java.ThrowableUtils;
@@ -42,10 +43,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -70,6 +68,11 @@ public abstract class SQLDB extends AbstractDatabase {
     private ExecutorService transactionExecutor;
 
     private final boolean devMode;
+    private final boolean groupCommit;
+    private final int maxTransactionsPerCommit;
+    private final BlockingQueue<QueuedTransaction> transactionQueue;
+    private final TransactionStatistics transactionStatistics;
+    private final ThreadLocal<Connection> transactionConnection;
 
     public SQLDB(
             Supplier<UUID> serverUUIDSupplier,
@@ -88,8 +91,17 @@ public abstract class SQLDB extends AbstractDatabase {
         this.errorHandler = errorHandler;
 
         devMode = config.get(PluginSettings.DEV_MODE);
-
-        this.transactionExecutorServiceProvider = () -> Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Plan " + getClass().getSimpleName() + "-transaction-thread-%d").build());
+        groupCommit = config.isTrue(DatabaseSettings.GROUP_COMMIT);
+        maxTransactionsPerCommit = config.getOrDefault(DatabaseSettings.GROUP_COMMIT_MAX_TRANSACTIONS, 50);
+        transactionQueue = new LinkedBlockingQueue<>();
+        transactionStatistics = new TransactionStatistics();
+        transactionConnection = new ThreadLocal<>();
+
+        this.transactionExecutorServiceProvider = () -> new ThreadPoolExecutor(1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("Plan " + getClass().getSimpleName() + "-transaction-thread-%d").build()
+        );
     }
 
     @Override
@@ -161,7 +173,8 @@ public abstract class SQLDB extends AbstractDatabase {
                 new IPAnonPatch(),
                 new BadAFKThresholdValuePatch(),
                 new DeleteIPHashesPatch(),
-                new ExtensionShowInPlayersTablePatch()
+                new ExtensionShowInPlayersTablePatch(),
+                new DailyAggregatesPatch()
         };
     }
 
@@ -212,8 +225,44 @@ public abstract class SQLDB extends AbstractDatabase {
 
     public abstract Connection getConnection() throws SQLException;
 
+    /**
+     * Get a connection for executing a {@link Query} outside of a transaction.
+     * <p>
+     * Override this method if queries can use different connections than transactions.
+     *
+     * @return Connection that can be used for reading, return it with {@link #returnToPool(Connection)}.
+     * @throws SQLException If a connection can not be opened.
+     */
+    public Connection getQueryConnection() throws SQLException {
+        return getConnection();
+    }
+
     public abstract void returnToPool(Connection connection);
 
+    /**
+     * Get the connection of the transaction that is executing on this thread.
+     * <p>
+     * Queries made while a transaction is executing use this connection to see the uncommitted changes.
+     *
+     * @return Connection of the transaction, or null if no transaction is executing on this thread.
+     */
+    public Connection getTransactionConnection() {
+        return transactionConnection.get();
+    }
+
+    /**
+     * Set the connection of the transaction that is executing on this thread.
+     *
+     * @param connection Connection of the transaction, null when the transaction has finished.
+     */
+    public void setTransactionConnection(Connection connection) {
+        if (connection != null) {
+            transactionConnection.set(connection);
+        } else {
+            transactionConnection.remove();
+        }
+    }
+
     @Override
     public <T> T query(Query<T> query) {
         accessLock.checkAccess();
@@ -221,24 +270,160 @@ public abstract class SQLDB extends AbstractDatabase {
     }
 
     @Override
-    public Future<?> executeTransaction(Transaction transaction) {
+    public CompletableFuture<?> executeTransaction(Transaction transaction) {
         if (getState() == State.CLOSED) {
             throw new DBOpException("Transaction tried to execute although database is closed.");
         }
 
         Exception origin = new Exception();
 
+        if (groupCommit) {
+            QueuedTransaction queued = new QueuedTransaction(transaction);
+            transactionQueue.add(queued);
+            getTransactionExecutor().submit(this::executeQueuedTransactions);
+            return queued.future.handle(errorHandler(origin));
+        }
+
         return CompletableFuture.supplyAsync(() -> {
-            accessLock.checkAccess(transaction);
-            if (devMode) {
-                logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing: " + transaction.getClass().getSimpleName());
-            }
-            transaction.executeTransaction(this);
+            executeSingleTransaction(transaction);
             return CompletableFuture.completedFuture(null);
         }, getTransactionExecutor()).handle(errorHandler(origin));
     }
 
-    private BiFunction<CompletableFuture<Object>, Throwable, CompletableFuture<Object>> errorHandler(Exception origin) {
+    private void executeSingleTransaction(Transaction transaction) {
+        accessLock.checkAccess(transaction);
+        logExecution(transaction);
+        long start = System.nanoTime();
+        try {
+            transaction.executeTransaction(this);
+        } catch (RuntimeException e) {
+            transactionStatistics.transactionFailed();
+            throw e;
+        }
+        transactionStatistics.commitFinished(1, System.nanoTime() - start);
+    }
+
+    private void logExecution(Transaction transaction) {
+        if (devMode) {
+            logger.getDebugLogger().logOn(DebugChannels.SQL, "Executing: " + transaction.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Executes transactions waiting in the queue, committing up to the configured amount of them at once.
+     * <p>
+     * A task is submitted to the transaction executor for each queued transaction,
+     * so tasks that find the queue empty were already handled by an earlier task.
+     */
+    private void executeQueuedTransactions() {
+        QueuedTransaction first = transactionQueue.poll();
+        if (first == null) {
+            return;
+        }
+        if (!first.transaction.canBeGroupCommitted()) {
+            try {
+                executeSingleTransaction(first.transaction);
+                first.future.complete(null);
+            } catch (Exception e) {
+                first.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        List<QueuedTransaction> group = new ArrayList<>();
+        group.add(first);
+        while (group.size() < maxTransactionsPerCommit) {
+            QueuedTransaction next = transactionQueue.peek();
+            if (next == null || !next.transaction.canBeGroupCommitted()) {
+                break;
+            }
+            group.add(transactionQueue.poll());
+        }
+        executeGroupCommit(group);
+    }
+
+    private void executeGroupCommit(List<QueuedTransaction> group) {
+        List<QueuedTransaction> executed = new ArrayList<>();
+        long start = System.nanoTime();
+        Connection connection = null;
+        try {
+            connection = getConnection();
+            for (QueuedTransaction queued : group) {
+                try {
+                    accessLock.checkAccess(queued.transaction);
+                    logExecution(queued.transaction);
+                    queued.transaction.executeAsPartOfGroup(this, connection);
+                    executed.add(queued);
+                } catch (Exception e) {
+                    // Operations of the transaction were rolled back to its savepoint, rest of the group is unaffected.
+                    transactionStatistics.transactionFailed();
+                    queued.future.completeExceptionally(e);
+                }
+            }
+            connection.commit();
+            transactionStatistics.commitFinished(executed.size(), System.nanoTime() - start);
+            for (QueuedTransaction queued : executed) {
+                completeCommitted(queued);
+            }
+        } catch (SQLException | DBOpException e) {
+            rollbackGroup(connection, e);
+            DBOpException commitFail = new DBOpException("Group commit of " + group.size() + " transactions failed: " + e.getMessage(), e);
+            for (QueuedTransaction queued : group) {
+                if (queued.future.completeExceptionally(commitFail)) {
+                    transactionStatistics.transactionFailed();
+                }
+            }
+        } finally {
+            returnToPool(connection);
+        }
+    }
+
+    private void completeCommitted(QueuedTransaction queued) {
+        try {
+            queued.transaction.runAfterCommitActions();
+            queued.future.complete(null);
+        } catch (RuntimeException e) {
+            queued.future.completeExceptionally(e);
+        }
+    }
+
+    private void rollbackGroup(Connection connection, Exception cause) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            // SQLite shares a single connection, changes of the failed group can not be left for the next commit.
+            connection.rollback();
+        } catch (SQLException rollbackFail) {
+            cause.addSuppressed(rollbackFail);
+        }
+    }
+
+    public boolean isGroupCommitEnabled() {
+        return groupCommit;
+    }
+
+    /**
+     * Get the amount of transactions waiting to be executed.
+     *
+     * @return Number of transactions in the queue.
+     */
+    public int getTransactionQueueSize() {
+        if (groupCommit) {
+            return transactionQueue.size();
+        }
+        ExecutorService executor = transactionExecutor;
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getQueue().size();
+        }
+        return 0;
+    }
+
+    public TransactionStatistics getTransactionStatistics() {
+        return transactionStatistics;
+    }
+
+    private <T> BiFunction<T, Throwable, CompletableFuture<Object>> errorHandler(Exception origin) {
         return (obj, throwable) -> {
             if (throwable == null) {
                 return CompletableFuture.completedFuture(null);
@@ -284,4 +469,14 @@ public abstract class SQLDB extends AbstractDatabase {
     public void setTransactionExecutorServiceProvider(Supplier<ExecutorService> transactionExecutorServiceProvider) {
         this.transactionExecutorServiceProvider = transactionExecutorServiceProvider;
     }
+
+    private static class QueuedTransaction {
+        private final Transaction transaction;
+        private final CompletableFuture<Object> future;
+
+        QueuedTransaction(Transaction transaction) {
+            this.transaction = transaction;
+            this.future = new CompletableFuture<>();
+        }
+    }
 }
@@ -24,6 +24,7 @@ import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.locale.lang.PluginLang;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.DatabaseSettings;
 import com.djrapitops.plan.utilities.MiscUtils;
 import com.djrapitops.plan.utilities.java.ThrowableUtils;
 import com.djrapitops.plugin.logging.L;
@@ -40,6 +41,12 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Rsl1122
@@ -50,6 +57,11 @@ public class SQLiteDB extends SQLDB {
     private final String dbName;
     private Connection connection;
     private PluginTask connectionPingTask;
+    private volatile boolean walEnabled;
+
+    private final int maxReadConnections;
+    private final BlockingQueue<Connection> availableReadConnections;
+    private final Set<Connection> readConnections;
 
     private SQLiteDB(
             File databaseFile,
@@ -64,11 +76,16 @@ public class SQLiteDB extends SQLDB {
         super(() -> serverInfo.get().getServerUUID(), locale, config, networkContainerFactory, runnableFactory, logger, errorHandler);
         dbName = databaseFile.getName();
         this.databaseFile = databaseFile;
+
+        maxReadConnections = config.getOrDefault(DatabaseSettings.SQLITE_READ_CONNECTIONS, 0);
+        availableReadConnections = new LinkedBlockingQueue<>();
+        readConnections = ConcurrentHashMap.newKeySet();
     }
 
     @Override
     public void setupDataSource() {
         try {
+            closeReadConnections();
             if (connection != null) connection.close();
 
             connection = getNewConnection(databaseFile);
@@ -96,13 +113,42 @@ public class SQLiteDB extends SQLDB {
 
     private Connection getConnectionFor(String dbFilePath) throws SQLException {
         try {
-            return DriverManager.getConnection("jdbc:sqlite:" + dbFilePath + "?journal_mode=WAL");
+            Connection walConnection = DriverManager.getConnection("jdbc:sqlite:" + dbFilePath + "?journal_mode=WAL");
+            walEnabled = true;
+            return walConnection;
         } catch (SQLException ignored) {
             logger.info(locale.getString(PluginLang.DB_NOTIFY_SQLITE_WAL));
+            walEnabled = false;
             return DriverManager.getConnection("jdbc:sqlite:" + dbFilePath);
         }
     }
 
+    /**
+     * Opens a new read-only connection if the read connection limit has not been reached.
+     *
+     * @return new read-only connection, or null if the limit has been reached.
+     * @throws SQLException If the connection could not be opened.
+     */
+    private synchronized Connection openReadConnection() throws SQLException {
+        if (readConnections.size() >= maxReadConnections) {
+            return null;
+        }
+        Properties properties = new Properties();
+        properties.setProperty("open_mode", "1"); // SQLITE_OPEN_READONLY
+        Connection readConnection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath(), properties);
+        readConnections.add(readConnection);
+        logger.debug("SQLite " + dbName + ": Opened a new read-only Connection (" + readConnections.size() + "/" + maxReadConnections + ")");
+        return readConnection;
+    }
+
+    private synchronized void closeReadConnections() {
+        for (Connection readConnection : readConnections) {
+            MiscUtils.close(readConnection);
+        }
+        readConnections.clear();
+        availableReadConnections.clear();
+    }
+
     private void startConnectionPingTask() {
         stopConnectionPingTask();
         try {
@@ -139,12 +185,42 @@ public class SQLiteDB extends SQLDB {
         return connection;
     }
 
+    /**
+     * Get a connection for a query.
+     * <p>
+     * Queries use read-only connections when they are enabled, so that they do not wait for
+     * transactions or each other. WAL journal mode allows reading while the database is written to.
+     *
+     * @return read-only connection, or the shared connection if read connections are not in use.
+     * @throws SQLException If a connection could not be opened.
+     */
+    @Override
+    public Connection getQueryConnection() throws SQLException {
+        if (maxReadConnections <= 0 || !walEnabled) {
+            return getConnection();
+        }
+        Connection readConnection = availableReadConnections.poll();
+        if (readConnection == null) {
+            readConnection = openReadConnection();
+        }
+        if (readConnection == null) {
+            try {
+                readConnection = availableReadConnections.poll(5L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // All read connections are in use, fall back to the shared connection.
+        return readConnection != null ? readConnection : getConnection();
+    }
+
     @Override
     public void close() {
         logger.debug("SQLite Connection close prompted by: " + ThrowableUtils.findCallerAfterClass(Thread.currentThread().getStackTrace(), SQLiteDB.class));
 
         super.close();
         stopConnectionPingTask();
+        closeReadConnections();
 
         if (connection != null) {
             logger.debug("SQLite " + dbName + ": Closed Connection");
@@ -154,7 +230,10 @@ public class SQLiteDB extends SQLDB {
 
     @Override
     public void returnToPool(Connection connection) {
-        // Connection pool not in use, no action required.
+        if (connection != null && readConnections.contains(connection)) {
+            availableReadConnections.offer(connection);
+        }
+        // The shared connection is not pooled, no action required.
     }
 
     @Override
@@ -0,0 +1,81 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Keeps track of commits performed by the transaction thread of a {@link SQLDB}.
+ *
+ * @author Rsl1122
+ */
+public class TransactionStatistics {
+
+    private final AtomicLong commits;
+    private final AtomicLong committedTransactions;
+    private final AtomicLong failedTransactions;
+    private final AtomicLong totalCommitTime;
+    private final LongAccumulator maxCommitTime;
+
+    public TransactionStatistics() {
+        commits = new AtomicLong();
+        committedTransactions = new AtomicLong();
+        failedTransactions = new AtomicLong();
+        totalCommitTime = new AtomicLong();
+        maxCommitTime = new LongAccumulator(Math::max, 0L);
+    }
+
+    /**
+     * Record a finished commit.
+     *
+     * @param transactionCount How many transactions were committed.
+     * @param timeNs           How long it took to execute and commit the transactions in nanoseconds.
+     */
+    public void commitFinished(int transactionCount, long timeNs) {
+        commits.incrementAndGet();
+        committedTransactions.addAndGet(transactionCount);
+        totalCommitTime.addAndGet(timeNs);
+        maxCommitTime.accumulate(timeNs);
+    }
+
+    public void transactionFailed() {
+        failedTransactions.incrementAndGet();
+    }
+
+    public long getCommitCount() {
+        return commits.get();
+    }
+
+    public long getCommittedTransactionCount() {
+        return committedTransactions.get();
+    }
+
+    public long getFailedTransactionCount() {
+        return failedTransactions.get();
+    }
+
+    public long getAverageCommitTimeMs() {
+        long commitCount = commits.get();
+        return commitCount != 0 ? TimeUnit.NANOSECONDS.toMillis(totalCommitTime.get() / commitCount) : 0L;
+    }
+
+    public long getMaxCommitTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxCommitTime.get());
+    }
+}
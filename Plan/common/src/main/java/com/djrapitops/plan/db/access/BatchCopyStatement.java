@@ -0,0 +1,85 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.LongConsumer;
+
+/**
+ * SQL query that copies the rows it reads into another database.
+ * <p>
+ * Rows are read with a cursor and written in batches of limited size, so the memory use does not depend
+ * on the size of the copied table. The destination is not committed, so the copy can still be rolled back.
+ * Columns of the select statement are given to the insert statement as parameters in the same order.
+ *
+ * @author Rsl1122
+ */
+public class BatchCopyStatement extends QueryAllStatement<Long> {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private final String insertSql;
+    private final Connection destination;
+    private final LongConsumer progressListener;
+
+    /**
+     * Create a new copy statement.
+     *
+     * @param selectSql        Select statement run against the source database.
+     * @param fetchSize        Fetch size for the cursor of the source database.
+     * @param insertSql        Insert statement run against the destination.
+     * @param destination      Connection to the destination.
+     * @param progressListener Given the number of rows copied so far after every batch and after the last row.
+     */
+    public BatchCopyStatement(String selectSql, int fetchSize, String insertSql, Connection destination, LongConsumer progressListener) {
+        super(selectSql, fetchSize);
+        this.insertSql = insertSql;
+        this.destination = destination;
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    public Long processResults(ResultSet set) throws SQLException {
+        int columnCount = set.getMetaData().getColumnCount();
+        long copied = 0;
+        try (PreparedStatement statement = destination.prepareStatement(insertSql)) {
+            int batched = 0;
+            while (set.next()) {
+                for (int i = 1; i <= columnCount; i++) {
+                    statement.setObject(i, set.getObject(i));
+                }
+                statement.addBatch();
+                batched++;
+                copied++;
+
+                if (batched == BATCH_SIZE) {
+                    statement.executeBatch();
+                    batched = 0;
+                    progressListener.accept(copied);
+                }
+            }
+            if (batched > 0) {
+                statement.executeBatch();
+            }
+        }
+        progressListener.accept(copied);
+        return copied;
+    }
+}
\ No newline at end of file
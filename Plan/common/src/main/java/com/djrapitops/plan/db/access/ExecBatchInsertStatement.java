@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL executing batch INSERT statement that reads the generated keys of the inserted rows.
+ * <p>
+ * Keys are available from {@link #getGeneratedKeys()} after execution, in the order the rows were added to the batch.
+ *
+ * @author Rsl1122
+ */
+public abstract class ExecBatchInsertStatement extends ExecBatchStatement {
+
+    private List<Integer> generatedKeys;
+
+    public ExecBatchInsertStatement(String sql) {
+        super(sql);
+        generatedKeys = Collections.emptyList();
+    }
+
+    @Override
+    protected PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        return connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+    }
+
+    @Override
+    protected boolean callExecute(PreparedStatement statement) throws SQLException {
+        int rowCount = statement.executeBatch().length;
+
+        List<Integer> keys = new ArrayList<>(rowCount);
+        try (ResultSet set = statement.getGeneratedKeys()) {
+            while (set.next()) {
+                keys.add(set.getInt(1));
+            }
+        }
+
+        if (keys.size() == 1 && rowCount > 1) {
+            // SQLite only returns the key of the last row of a batch.
+            // Rows of a batch get consecutive keys since the transaction holds the write lock.
+            int lastKey = keys.get(0);
+            keys.clear();
+            for (int i = rowCount - 1; i >= 0; i--) {
+                keys.add(lastKey - i);
+            }
+        }
+        if (keys.size() != rowCount) {
+            throw new SQLException("Inserted " + rowCount + " rows, but got " + keys.size() + " generated keys");
+        }
+
+        generatedKeys = keys;
+        return rowCount > 0;
+    }
+
+    public List<Integer> getGeneratedKeys() {
+        return generatedKeys;
+    }
+}
\ No newline at end of file
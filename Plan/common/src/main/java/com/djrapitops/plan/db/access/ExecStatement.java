@@ -38,7 +38,7 @@ public abstract class ExecStatement implements Executable {
     @Override
     public boolean execute(Connection connection) {
         try {
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            try (PreparedStatement preparedStatement = prepareStatement(connection, sql)) {
                 return execute(preparedStatement);
             }
         } catch (SQLException e) {
@@ -46,6 +46,10 @@ public abstract class ExecStatement implements Executable {
         }
     }
 
+    protected PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        return connection.prepareStatement(sql);
+    }
+
     public boolean execute(PreparedStatement statement) throws SQLException {
         try {
             prepare(statement);
@@ -45,12 +45,16 @@ public abstract class QueryStatement<T> implements Query<T> {
 
     @Override
     public T executeQuery(SQLDB db) {
+        Connection transactionConnection = db.getTransactionConnection();
+        if (transactionConnection != null) {
+            // Query is made inside a transaction, so its uncommitted changes need to be visible.
+            return executeQuery(transactionConnection);
+        }
+
         Connection connection = null;
         try {
-            connection = db.getConnection();
-            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-                return executeQuery(preparedStatement);
-            }
+            connection = db.getQueryConnection();
+            return executeQuery(connection);
         } catch (SQLException e) {
             throw DBOpException.forCause(sql, e);
         } finally {
@@ -58,6 +62,20 @@ public abstract class QueryStatement<T> implements Query<T> {
         }
     }
 
+    /**
+     * Execute the query with a connection that is managed by the caller.
+     *
+     * @param connection Connection to use, not returned to the pool.
+     * @return Results of the query.
+     */
+    public T executeQuery(Connection connection) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            return executeQuery(preparedStatement);
+        } catch (SQLException e) {
+            throw DBOpException.forCause(sql, e);
+        }
+    }
+
     public T executeQuery(PreparedStatement statement) throws SQLException {
         try {
             statement.setFetchSize(fetchSize);
@@ -0,0 +1,302 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.queries;
+
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.QueryAllStatement;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.sql.tables.DailyAggregatesTable;
+import com.djrapitops.plan.db.sql.tables.KillsTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
+/**
+ * Static method class for queries that use or calculate the per day aggregates of servers.
+ *
+ * @author Rsl1122
+ * @see DailyAggregatesTable
+ */
+public class DailyAggregateQueries {
+
+    private DailyAggregateQueries() {
+        /* Static method class */
+    }
+
+    private static String startOfDay(String column) {
+        return "(" + column + "-(" + column + "%" + TimeUnit.DAYS.toMillis(1L) + "))";
+    }
+
+    /**
+     * Query the stored per day aggregates of a server.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return List of DailyAggregates sorted by date.
+     */
+    public static Query<List<DailyAggregate>> fetchDailyAggregatesOfServer(UUID serverUUID) {
+        String sql = SELECT + "*" + FROM + DailyAggregatesTable.TABLE_NAME +
+                WHERE + DailyAggregatesTable.SERVER_UUID + "=?" +
+                ORDER_BY + DailyAggregatesTable.DATE;
+        return new QueryStatement<List<DailyAggregate>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public List<DailyAggregate> processResults(ResultSet set) throws SQLException {
+                List<DailyAggregate> aggregates = new ArrayList<>();
+                while (set.next()) {
+                    aggregates.add(extractDailyAggregate(set));
+                }
+                return aggregates;
+            }
+        };
+    }
+
+    /**
+     * Query the stored per day aggregates of all servers.
+     *
+     * @return Map: Server UUID - List of DailyAggregates
+     */
+    public static Query<Map<UUID, List<DailyAggregate>>> fetchAllDailyAggregates() {
+        String sql = SELECT + "*" + FROM + DailyAggregatesTable.TABLE_NAME;
+        return new QueryAllStatement<Map<UUID, List<DailyAggregate>>>(sql, 5000) {
+            @Override
+            public Map<UUID, List<DailyAggregate>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<DailyAggregate>> aggregates = new HashMap<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(DailyAggregatesTable.SERVER_UUID));
+                    aggregates.computeIfAbsent(serverUUID, key -> new ArrayList<>()).add(extractDailyAggregate(set));
+                }
+                return aggregates;
+            }
+        };
+    }
+
+    private static DailyAggregate extractDailyAggregate(ResultSet set) throws SQLException {
+        return new DailyAggregate(
+                set.getLong(DailyAggregatesTable.DATE),
+                set.getInt(DailyAggregatesTable.SESSION_COUNT),
+                set.getLong(DailyAggregatesTable.PLAYTIME),
+                set.getInt(DailyAggregatesTable.PLAYER_KILLS),
+                set.getInt(DailyAggregatesTable.MOB_KILLS),
+                set.getInt(DailyAggregatesTable.DEATHS),
+                set.getInt(DailyAggregatesTable.UNIQUE_PLAYERS),
+                set.getInt(DailyAggregatesTable.NEW_PLAYERS)
+        );
+    }
+
+    /**
+     * Calculate per day aggregates of all servers from the stored sessions, kills and user information.
+     *
+     * @return Map: Server UUID - List of DailyAggregates
+     */
+    public static Query<Map<UUID, List<DailyAggregate>>> aggregateAllData() {
+        return db -> {
+            // Executed without access lock checks so that this can be used during patching.
+            Map<UUID, Map<Long, DailyAggregate>> aggregates = new HashMap<>();
+            addSessionTotals(aggregates, sessionTotalsPerDay("").executeQuery(db));
+            addPlayerKills(aggregates, playerKillsPerDay("").executeQuery(db));
+            addNewPlayers(aggregates, newPlayersPerDay("").executeQuery(db));
+            return toLists(aggregates);
+        };
+    }
+
+    /**
+     * Calculate per day aggregates of a server from the stored sessions, kills and user information.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return List of DailyAggregates of the server.
+     */
+    public static Query<List<DailyAggregate>> aggregateServerData(UUID serverUUID) {
+        return db -> {
+            // Executed without access lock checks so that this can be used during patching.
+            Map<UUID, Map<Long, DailyAggregate>> aggregates = new HashMap<>();
+            addSessionTotals(aggregates, sessionTotalsPerDay(WHERE + SessionsTable.SERVER_UUID + "=?", serverUUID).executeQuery(db));
+            addPlayerKills(aggregates, playerKillsPerDay(WHERE + "s." + SessionsTable.SERVER_UUID + "=?", serverUUID).executeQuery(db));
+            addNewPlayers(aggregates, newPlayersPerDay(WHERE + UserInfoTable.SERVER_UUID + "=?", serverUUID).executeQuery(db));
+            return toLists(aggregates).getOrDefault(serverUUID, new ArrayList<>());
+        };
+    }
+
+    /**
+     * Calculate how much a player's data contributes to per day aggregates of each server.
+     * <p>
+     * Includes kills other players have made on the player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Map: Server UUID - List of DailyAggregates
+     */
+    public static Query<Map<UUID, List<DailyAggregate>>> aggregatePlayerData(UUID playerUUID) {
+        return db -> {
+            Map<UUID, Map<Long, DailyAggregate>> aggregates = new HashMap<>();
+            addSessionTotals(aggregates, sessionTotalsPerDay(WHERE + SessionsTable.USER_UUID + "=?", playerUUID).executeQuery(db));
+            addPlayerKills(aggregates, playerKillsPerDay(
+                    WHERE + "k." + KillsTable.KILLER_UUID + "=?" + OR + "k." + KillsTable.VICTIM_UUID + "=?", playerUUID, playerUUID
+            ).executeQuery(db));
+            addNewPlayers(aggregates, newPlayersPerDay(WHERE + UserInfoTable.USER_UUID + "=?", playerUUID).executeQuery(db));
+            return toLists(aggregates);
+        };
+    }
+
+    private static Map<UUID, List<DailyAggregate>> toLists(Map<UUID, Map<Long, DailyAggregate>> aggregates) {
+        Map<UUID, List<DailyAggregate>> lists = new HashMap<>();
+        for (Map.Entry<UUID, Map<Long, DailyAggregate>> entry : aggregates.entrySet()) {
+            lists.put(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+        }
+        return lists;
+    }
+
+    private static DailyAggregate getAggregate(Map<UUID, Map<Long, DailyAggregate>> aggregates, UUID serverUUID, long date) {
+        return aggregates.computeIfAbsent(serverUUID, key -> new TreeMap<>())
+                .computeIfAbsent(date, DailyAggregate::new);
+    }
+
+    private static void addSessionTotals(Map<UUID, Map<Long, DailyAggregate>> aggregates, Map<UUID, List<DailyAggregate>> sessionTotals) {
+        for (Map.Entry<UUID, List<DailyAggregate>> entry : sessionTotals.entrySet()) {
+            for (DailyAggregate totals : entry.getValue()) {
+                getAggregate(aggregates, entry.getKey(), totals.getDate()).add(totals);
+            }
+        }
+    }
+
+    private static void addPlayerKills(Map<UUID, Map<Long, DailyAggregate>> aggregates, Map<UUID, Map<Long, Integer>> killCounts) {
+        for (Map.Entry<UUID, Map<Long, Integer>> entry : killCounts.entrySet()) {
+            for (Map.Entry<Long, Integer> count : entry.getValue().entrySet()) {
+                long date = count.getKey();
+                getAggregate(aggregates, entry.getKey(), date)
+                        .add(new DailyAggregate(date, 0, 0L, count.getValue(), 0, 0, 0, 0));
+            }
+        }
+    }
+
+    private static void addNewPlayers(Map<UUID, Map<Long, DailyAggregate>> aggregates, Map<UUID, Map<Long, Integer>> newCounts) {
+        for (Map.Entry<UUID, Map<Long, Integer>> entry : newCounts.entrySet()) {
+            for (Map.Entry<Long, Integer> count : entry.getValue().entrySet()) {
+                long date = count.getKey();
+                getAggregate(aggregates, entry.getKey(), date)
+                        .add(new DailyAggregate(date, 0, 0L, 0, 0, 0, 0, count.getValue()));
+            }
+        }
+    }
+
+    private static Query<Map<UUID, List<DailyAggregate>>> sessionTotalsPerDay(String condition, UUID... parameters) {
+        String day = startOfDay(SessionsTable.SESSION_START);
+        String sql = SELECT + SessionsTable.SERVER_UUID + ", " +
+                day + " as d, " +
+                "COUNT(1) as session_count, " +
+                "SUM(" + SessionsTable.SESSION_END + "-" + SessionsTable.SESSION_START + ") as playtime, " +
+                "SUM(" + SessionsTable.MOB_KILLS + ") as mob_kills, " +
+                "SUM(" + SessionsTable.DEATHS + ") as deaths, " +
+                "COUNT(" + DISTINCT + SessionsTable.USER_UUID + ") as unique_players" +
+                FROM + SessionsTable.TABLE_NAME +
+                condition +
+                GROUP_BY + SessionsTable.SERVER_UUID + ", " + day;
+        return new QueryStatement<Map<UUID, List<DailyAggregate>>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setParameters(statement, parameters);
+            }
+
+            @Override
+            public Map<UUID, List<DailyAggregate>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<DailyAggregate>> totals = new HashMap<>();
+                while (set.next()) {
+                    UUID serverUUID = UUID.fromString(set.getString(SessionsTable.SERVER_UUID));
+                    totals.computeIfAbsent(serverUUID, key -> new ArrayList<>()).add(new DailyAggregate(
+                            set.getLong("d"),
+                            set.getInt("session_count"),
+                            set.getLong("playtime"),
+                            0,
+                            set.getInt("mob_kills"),
+                            set.getInt("deaths"),
+                            set.getInt("unique_players"),
+                            0
+                    ));
+                }
+                return totals;
+            }
+        };
+    }
+
+    private static Query<Map<UUID, Map<Long, Integer>>> playerKillsPerDay(String condition, UUID... parameters) {
+        String day = startOfDay("s." + SessionsTable.SESSION_START);
+        String sql = SELECT + "s." + SessionsTable.SERVER_UUID + ", " +
+                day + " as d, " +
+                "COUNT(1) as c" +
+                FROM + KillsTable.TABLE_NAME + " k" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on k." + KillsTable.SESSION_ID + "=s." + SessionsTable.ID +
+                condition +
+                GROUP_BY + "s." + SessionsTable.SERVER_UUID + ", " + day;
+        return new QueryStatement<Map<UUID, Map<Long, Integer>>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setParameters(statement, parameters);
+            }
+
+            @Override
+            public Map<UUID, Map<Long, Integer>> processResults(ResultSet set) throws SQLException {
+                return extractCountsPerDay(set, SessionsTable.SERVER_UUID);
+            }
+        };
+    }
+
+    private static Query<Map<UUID, Map<Long, Integer>>> newPlayersPerDay(String condition, UUID... parameters) {
+        String day = startOfDay(UserInfoTable.REGISTERED);
+        String sql = SELECT + UserInfoTable.SERVER_UUID + ", " +
+                day + " as d, " +
+                "COUNT(1) as c" +
+                FROM + UserInfoTable.TABLE_NAME +
+                condition +
+                GROUP_BY + UserInfoTable.SERVER_UUID + ", " + day;
+        return new QueryStatement<Map<UUID, Map<Long, Integer>>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setParameters(statement, parameters);
+            }
+
+            @Override
+            public Map<UUID, Map<Long, Integer>> processResults(ResultSet set) throws SQLException {
+                return extractCountsPerDay(set, UserInfoTable.SERVER_UUID);
+            }
+        };
+    }
+
+    private static void setParameters(PreparedStatement statement, UUID... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setString(i + 1, parameters[i].toString());
+        }
+    }
+
+    private static Map<UUID, Map<Long, Integer>> extractCountsPerDay(ResultSet set, String serverUUIDColumn) throws SQLException {
+        Map<UUID, Map<Long, Integer>> counts = new HashMap<>();
+        while (set.next()) {
+            UUID serverUUID = UUID.fromString(set.getString(serverUUIDColumn));
+            counts.computeIfAbsent(serverUUID, key -> new HashMap<>()).put(set.getLong("d"), set.getInt("c"));
+        }
+        return counts;
+    }
+}
@@ -21,17 +21,22 @@ import com.djrapitops.plan.data.container.Ping;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.container.TPS;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
 import com.djrapitops.plan.data.store.objects.Nickname;
-import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.db.access.ExecBatchStatement;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.Executable;
+import com.djrapitops.plan.db.access.HasMoreThanZeroQueryStatement;
+import com.djrapitops.plan.db.access.QueryStatement;
 import com.djrapitops.plan.db.sql.tables.*;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.UUID;
+import java.sql.Statement;
+import java.util.*;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
 /**
  * Static method class for single item store queries.
@@ -52,73 +57,129 @@ public class DataStoreQueries {
      * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
      */
     public static Executable storeUsedCommandInformation(UUID serverUUID, String commandName) {
+        return storeUsedCommandInformation(serverUUID, Collections.singletonMap(commandName, 1));
+    }
+
+    /**
+     * Add to the use counts of commands in the database.
+     * <p>
+     * Commands are updated in one batch, and commands that did not exist are inserted in another.
+     *
+     * @param serverUUID    UUID of the Plan server.
+     * @param commandCounts Map: Name of the command - How many times it was used.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storeUsedCommandInformation(UUID serverUUID, Map<String, Integer> commandCounts) {
+        if (Verify.isEmpty(commandCounts)) {
+            return Executable.empty();
+        }
         return connection -> {
-            if (!updateCommandUsage(serverUUID, commandName).execute(connection)) {
-                insertNewCommandUsage(serverUUID, commandName).execute(connection);
+            List<String> commands = new ArrayList<>(commandCounts.keySet());
+            int[] updatedRows = new int[commands.size()];
+            updateCommandUsage(serverUUID, commands, commandCounts, updatedRows).execute(connection);
+
+            Map<String, Integer> newCommands = new HashMap<>();
+            for (int i = 0; i < commands.size(); i++) {
+                String command = commands.get(i);
+                boolean updated = updatedRows[i] == Statement.SUCCESS_NO_INFO
+                        ? isCommandStored(serverUUID, command).executeQuery(connection)
+                        : updatedRows[i] > 0;
+                if (!updated) {
+                    newCommands.put(command, commandCounts.get(command));
+                }
+            }
+            return insertNewCommandUsage(serverUUID, newCommands).execute(connection);
+        };
+    }
+
+    private static Executable updateCommandUsage(UUID serverUUID, List<String> commands, Map<String, Integer> commandCounts, int[] updatedRows) {
+        return new ExecBatchStatement(CommandUseTable.UPDATE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (String command : commands) {
+                    statement.setInt(1, commandCounts.get(command));
+                    statement.setString(2, serverUUID.toString());
+                    statement.setString(3, command);
+                    statement.addBatch();
+                }
+            }
+
+            @Override
+            protected boolean callExecute(PreparedStatement statement) throws SQLException {
+                int[] results = statement.executeBatch();
+                // Some drivers give Statement.SUCCESS_NO_INFO instead of the amount of updated rows.
+                System.arraycopy(results, 0, updatedRows, 0, Math.min(results.length, updatedRows.length));
+                return results.length > 0;
             }
-            return false;
         };
     }
 
-    private static Executable updateCommandUsage(UUID serverUUID, String commandName) {
-        return new ExecStatement(CommandUseTable.UPDATE_STATEMENT) {
+    private static QueryStatement<Boolean> isCommandStored(UUID serverUUID, String command) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + CommandUseTable.TABLE_NAME +
+                WHERE + CommandUseTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
+                AND + CommandUseTable.COMMAND + "=?";
+        return new HasMoreThanZeroQueryStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, serverUUID.toString());
-                statement.setString(2, commandName);
+                statement.setString(2, command);
             }
         };
     }
 
-    private static Executable insertNewCommandUsage(UUID serverUUID, String commandName) {
-        return new ExecStatement(CommandUseTable.INSERT_STATEMENT) {
+    private static Executable insertNewCommandUsage(UUID serverUUID, Map<String, Integer> commandCounts) {
+        if (commandCounts.isEmpty()) {
+            return Executable.empty();
+        }
+        return new ExecBatchStatement(CommandUseTable.INSERT_STATEMENT) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, commandName);
-                statement.setInt(2, 1);
-                statement.setString(3, serverUUID.toString());
+                for (Map.Entry<String, Integer> commandCount : commandCounts.entrySet()) {
+                    statement.setString(1, commandCount.getKey());
+                    statement.setInt(2, commandCount.getValue());
+                    statement.setString(3, serverUUID.toString());
+                    statement.addBatch();
+                }
             }
         };
     }
 
     /**
-     * Store a finished session in the database.
+     * Add to the kick counts of players in the database.
      *
-     * @param session Session, of which {@link Session#endSession(long)} has been called.
+     * @param kickCounts Map: Player UUID - How many times the player was kicked.
      * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
-     * @throws IllegalArgumentException If {@link Session#endSession(long)} has not yet been called.
      */
-    public static Executable storeSession(Session session) {
-        Verify.isTrue(session.supports(SessionKeys.END), () -> new IllegalArgumentException("Attempted to save a session that has not ended."));
-        return connection -> {
-            storeSessionInformation(session).execute(connection);
-            storeSessionKills(session).execute(connection);
-            return storeSessionWorldTimes(session).execute(connection);
-        };
-    }
+    public static Executable storeKickCounts(Map<UUID, Integer> kickCounts) {
+        if (Verify.isEmpty(kickCounts)) {
+            return Executable.empty();
+        }
+        String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET "
+                + UsersTable.TIMES_KICKED + "=" + UsersTable.TIMES_KICKED + "+ ?" +
+                WHERE + UsersTable.USER_UUID + "=?";
 
-    private static Executable storeSessionInformation(Session session) {
-        return new ExecStatement(SessionsTable.INSERT_STATEMENT) {
+        return new ExecBatchStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, session.getUnsafe(SessionKeys.UUID).toString());
-                statement.setLong(2, session.getUnsafe(SessionKeys.START));
-                statement.setLong(3, session.getUnsafe(SessionKeys.END));
-                statement.setInt(4, session.getValue(SessionKeys.DEATH_COUNT).orElse(0));
-                statement.setInt(5, session.getValue(SessionKeys.MOB_KILL_COUNT).orElse(0));
-                statement.setLong(6, session.getValue(SessionKeys.AFK_TIME).orElse(0L));
-                statement.setString(7, session.getUnsafe(SessionKeys.SERVER_UUID).toString());
+                for (Map.Entry<UUID, Integer> kickCount : kickCounts.entrySet()) {
+                    statement.setInt(1, kickCount.getValue());
+                    statement.setString(2, kickCount.getKey().toString());
+                    statement.addBatch();
+                }
             }
         };
     }
 
-    private static Executable storeSessionKills(Session session) {
-        return new ExecBatchStatement(KillsTable.INSERT_STATEMENT) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                KillsTable.addSessionKillsToBatch(statement, session);
-            }
-        };
+    /**
+     * Store a finished session in the database.
+     *
+     * @param session Session, of which {@link Session#endSession(long)} has been called.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     * @throws IllegalArgumentException If {@link Session#endSession(long)} has not yet been called.
+     */
+    public static Executable storeSession(Session session) {
+        Verify.isTrue(session.supports(SessionKeys.END), () -> new IllegalArgumentException("Attempted to save a session that has not ended."));
+        return LargeStoreQueries.storeAllSessionsWithKillAndWorldData(Collections.singletonList(session));
     }
 
     public static Executable insertWorldName(UUID serverUUID, String worldName) {
@@ -131,18 +192,6 @@ public class DataStoreQueries {
         };
     }
 
-    private static Executable storeSessionWorldTimes(Session session) {
-        if (session.getValue(SessionKeys.WORLD_TIMES).map(times -> times.getWorldTimes().isEmpty()).orElse(true)) {
-            return Executable.empty();
-        }
-        return new ExecBatchStatement(WorldTimesTable.INSERT_STATEMENT) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                WorldTimesTable.addSessionWorldTimesToBatch(statement, session, GMTimes.getGMKeyArray());
-            }
-        };
-    }
-
     /**
      * Store player's Geo Information in the database.
      *
@@ -327,4 +376,46 @@ public class DataStoreQueries {
             }
         };
     }
+
+    /**
+     * Add totals to the per day aggregates of a server.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param totals     Totals to add to the day of {@link DailyAggregate#getDate()}, can be negative.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable addToDailyAggregate(UUID serverUUID, DailyAggregate totals) {
+        return connection -> {
+            if (!updateDailyAggregate(serverUUID, totals).execute(connection)) {
+                return insertDailyAggregate(serverUUID, totals).execute(connection);
+            }
+            return false;
+        };
+    }
+
+    private static Executable updateDailyAggregate(UUID serverUUID, DailyAggregate totals) {
+        return new ExecStatement(DailyAggregatesTable.UPDATE_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setInt(1, totals.getSessionCount());
+                statement.setLong(2, totals.getPlaytime());
+                statement.setInt(3, totals.getPlayerKills());
+                statement.setInt(4, totals.getMobKills());
+                statement.setInt(5, totals.getDeaths());
+                statement.setInt(6, totals.getUniquePlayers());
+                statement.setInt(7, totals.getNewPlayers());
+                statement.setString(8, serverUUID.toString());
+                statement.setLong(9, totals.getDate());
+            }
+        };
+    }
+
+    private static Executable insertDailyAggregate(UUID serverUUID, DailyAggregate totals) {
+        return new ExecStatement(DailyAggregatesTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                DailyAggregatesTable.setInsertValues(statement, serverUUID, totals);
+            }
+        };
+    }
 }
\ No newline at end of file
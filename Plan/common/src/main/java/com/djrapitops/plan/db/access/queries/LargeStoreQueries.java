@@ -16,19 +16,20 @@
  */
 package com.djrapitops.plan.db.access.queries;
 
-import com.djrapitops.plan.data.WebUser;
 import com.djrapitops.plan.data.container.*;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.data.time.GMTimes;
+import com.djrapitops.plan.db.access.ExecBatchInsertStatement;
 import com.djrapitops.plan.db.access.ExecBatchStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.sql.tables.*;
-import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plugin.utilities.Verify;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -147,68 +148,6 @@ public class LargeStoreQueries {
         };
     }
 
-    /**
-     * Execute a big batch of web user insert statements.
-     *
-     * @param users Collection of Plan WebUsers.
-     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
-     */
-    public static Executable storeAllPlanWebUsers(Collection<WebUser> users) {
-        if (Verify.isEmpty(users)) {
-            return Executable.empty();
-        }
-
-        return new ExecBatchStatement(SecurityTable.INSERT_STATEMENT) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                for (WebUser user : users) {
-                    String userName = user.getName();
-                    String pass = user.getSaltedPassHash();
-                    int permLvl = user.getPermLevel();
-
-                    statement.setString(1, userName);
-                    statement.setString(2, pass);
-                    statement.setInt(3, permLvl);
-                    statement.addBatch();
-                }
-            }
-        };
-    }
-
-    /**
-     * Execute a big batch of server infromation insert statements.
-     *
-     * @param servers Collection of Plan Servers.
-     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
-     */
-    public static Executable storeAllPlanServerInformation(Collection<Server> servers) {
-        if (Verify.isEmpty(servers)) {
-            return Executable.empty();
-        }
-
-        return new ExecBatchStatement(ServerTable.INSERT_STATEMENT) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                for (Server info : servers) {
-                    UUID uuid = info.getUuid();
-                    String name = info.getName();
-                    String webAddress = info.getWebAddress();
-
-                    if (uuid == null) {
-                        continue;
-                    }
-
-                    statement.setString(1, uuid.toString());
-                    statement.setString(2, name);
-                    statement.setString(3, webAddress);
-                    statement.setBoolean(4, true);
-                    statement.setInt(5, info.getMaxPlayers());
-                    statement.addBatch();
-                }
-            }
-        };
-    }
-
     /**
      * Execute a big batch of TPS insert statements.
      *
@@ -327,12 +266,32 @@ public class LargeStoreQueries {
         };
     }
 
-    public static Executable storeAllSessionsWithoutKillOrWorldData(Collection<Session> sessions) {
+    /**
+     * Store ended sessions with their kills and world times.
+     * <p>
+     * Sessions are inserted in one batch, and their generated IDs are used for the kill and world time rows.
+     *
+     * @param sessions Sessions, of which {@link Session#endSession(long)} has been called.
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storeAllSessionsWithKillAndWorldData(Collection<Session> sessions) {
         if (Verify.isEmpty(sessions)) {
             return Executable.empty();
         }
 
-        return new ExecBatchStatement(SessionsTable.INSERT_STATEMENT) {
+        return connection -> {
+            List<Session> storedSessions = new ArrayList<>(sessions);
+            ExecBatchInsertStatement insertSessions = insertSessionsWithGeneratedKeys(storedSessions);
+            insertSessions.execute(connection);
+            List<Integer> sessionIDs = insertSessions.getGeneratedKeys();
+
+            storeSessionKillData(storedSessions, sessionIDs).execute(connection);
+            return storeSessionWorldTimeData(storedSessions, sessionIDs).execute(connection);
+        };
+    }
+
+    private static ExecBatchInsertStatement insertSessionsWithGeneratedKeys(List<Session> sessions) {
+        return new ExecBatchInsertStatement(SessionsTable.INSERT_STATEMENT) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 for (Session session : sessions) {
@@ -349,31 +308,24 @@ public class LargeStoreQueries {
         };
     }
 
-    public static Executable storeAllSessionsWithKillAndWorldData(Collection<Session> sessions) {
-        return connection -> {
-            storeAllSessionsWithoutKillOrWorldData(sessions).execute(connection);
-            storeSessionKillData(sessions).execute(connection);
-            return storeSessionWorldTimeData(sessions).execute(connection);
-        };
-    }
-
-    private static Executable storeSessionKillData(Collection<Session> sessions) {
-        if (Verify.isEmpty(sessions)) {
+    private static Executable storeSessionKillData(List<Session> sessions, List<Integer> sessionIDs) {
+        if (sessions.stream().allMatch(session -> session.getPlayerKills().isEmpty())) {
             return Executable.empty();
         }
 
         return new ExecBatchStatement(KillsTable.INSERT_STATEMENT) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                for (Session session : sessions) {
-                    KillsTable.addSessionKillsToBatch(statement, session);
+                for (int i = 0; i < sessions.size(); i++) {
+                    KillsTable.addSessionKillsToBatch(statement, sessions.get(i), sessionIDs.get(i));
                 }
             }
         };
     }
 
-    private static Executable storeSessionWorldTimeData(Collection<Session> sessions) {
-        if (Verify.isEmpty(sessions)) {
+    private static Executable storeSessionWorldTimeData(List<Session> sessions, List<Integer> sessionIDs) {
+        if (sessions.stream().allMatch(session -> session.getValue(SessionKeys.WORLD_TIMES)
+                .map(times -> times.getWorldTimes().isEmpty()).orElse(true))) {
             return Executable.empty();
         }
 
@@ -382,37 +334,34 @@ public class LargeStoreQueries {
             public void prepare(PreparedStatement statement) throws SQLException {
                 String[] gms = GMTimes.getGMKeyArray();
 
-                for (Session session : sessions) {
-                    WorldTimesTable.addSessionWorldTimesToBatch(statement, session, gms);
+                for (int i = 0; i < sessions.size(); i++) {
+                    Session session = sessions.get(i);
+                    if (session.supports(SessionKeys.WORLD_TIMES)) {
+                        WorldTimesTable.addSessionWorldTimesToBatch(statement, session, sessionIDs.get(i), gms);
+                    }
                 }
             }
         };
     }
 
-    public static Executable storeAllPingData(Map<UUID, List<Ping>> ofUsers) {
-        if (Verify.isEmpty(ofUsers)) {
+    /**
+     * Execute a big batch of per day aggregate insert statements.
+     *
+     * @param ofServers Map: Server UUID - List of DailyAggregates
+     * @return Executable, use inside a {@link com.djrapitops.plan.db.access.transactions.Transaction}
+     */
+    public static Executable storeAllDailyAggregates(Map<UUID, List<DailyAggregate>> ofServers) {
+        if (Verify.isEmpty(ofServers)) {
             return Executable.empty();
         }
 
-        return new ExecBatchStatement(PingTable.INSERT_STATEMENT) {
+        return new ExecBatchStatement(DailyAggregatesTable.INSERT_STATEMENT) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                for (Map.Entry<UUID, List<Ping>> entry : ofUsers.entrySet()) {
-                    UUID uuid = entry.getKey();
-                    List<Ping> pings = entry.getValue();
-                    for (Ping ping : pings) {
-                        UUID serverUUID = ping.getServerUUID();
-                        long date = ping.getDate();
-                        int minPing = ping.getMin();
-                        int maxPing = ping.getMax();
-                        double avgPing = ping.getAverage();
-
-                        statement.setString(1, uuid.toString());
-                        statement.setString(2, serverUUID.toString());
-                        statement.setLong(3, date);
-                        statement.setInt(4, minPing);
-                        statement.setInt(5, maxPing);
-                        statement.setDouble(6, avgPing);
+                for (Map.Entry<UUID, List<DailyAggregate>> entry : ofServers.entrySet()) {
+                    UUID serverUUID = entry.getKey();
+                    for (DailyAggregate aggregate : entry.getValue()) {
+                        DailyAggregatesTable.setInsertValues(statement, serverUUID, aggregate);
                         statement.addBatch();
                     }
                 }
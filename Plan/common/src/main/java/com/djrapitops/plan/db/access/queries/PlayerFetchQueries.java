@@ -19,6 +19,7 @@ package com.djrapitops.plan.db.access.queries;
 import com.djrapitops.plan.db.access.HasMoreThanZeroQueryStatement;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
 import com.djrapitops.plan.db.sql.tables.UserInfoTable;
 import com.djrapitops.plan.db.sql.tables.UsersTable;
 
@@ -104,4 +105,30 @@ public class PlayerFetchQueries {
         };
     }
 
+    /**
+     * Check if the player has a stored session on a server that started between two dates.
+     *
+     * @param playerUUID UUID of the player.
+     * @param serverUUID UUID of the Plan server.
+     * @param after      Epoch ms, sessions started at or after this date are included.
+     * @param before     Epoch ms, sessions started before this date are included.
+     * @return true if such a session exists.
+     */
+    public static Query<Boolean> hasSessionStartedBetween(UUID playerUUID, UUID serverUUID, long after, long before) {
+        String sql = "SELECT COUNT(1) as c FROM " + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.USER_UUID + "=?" +
+                AND + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_START + ">=?" +
+                AND + SessionsTable.SESSION_START + "<?";
+        return new HasMoreThanZeroQueryStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+                statement.setString(2, serverUUID.toString());
+                statement.setLong(3, after);
+                statement.setLong(4, before);
+            }
+        };
+    }
+
 }
\ No newline at end of file
@@ -24,9 +24,8 @@ import com.djrapitops.plan.db.sql.tables.*;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
@@ -160,4 +159,179 @@ public class ServerAggregateQueries {
             }
         };
     }
-}
+
+    /**
+     * Count how many players played on a server between two dates.
+     * <p>
+     * A player has played between the dates if one of their sessions started or ended between them.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param after           Epoch ms, sessions that started or ended after this date are included.
+     * @param before          Epoch ms, sessions that started or ended before this date are included.
+     * @param excludedPlayers UUIDs of players to leave out of the count, for example players whose ongoing session is counted separately.
+     * @return Count of unique players.
+     */
+    public static Query<Integer> uniquePlayerCount(UUID serverUUID, long after, long before, Collection<UUID> excludedPlayers) {
+        String sql = SELECT + "COUNT(" + DISTINCT + SessionsTable.USER_UUID + ") as c" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + playedBetween() +
+                excludePlayers(SessionsTable.USER_UUID, excludedPlayers);
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                setPlayedBetween(statement, 2, after, before);
+                setExcludedPlayers(statement, 6, excludedPlayers);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
+    /**
+     * Count how many players played on a server each day between two dates.
+     * <p>
+     * Sessions are grouped by the day they started on, like {@link com.djrapitops.plan.data.store.mutators.SessionsMutator#uniqueJoinsPerDay(java.util.TimeZone)}.
+     * Days without any sessions are not included.
+     *
+     * @param serverUUID      UUID of the Plan server.
+     * @param after           Epoch ms, sessions that started or ended after this date are included.
+     * @param before          Epoch ms, sessions that started or ended before this date are included.
+     * @param timeZoneOffset  Offset of the time zone in ms, added to the dates before grouping.
+     * @param excludedPlayers UUIDs of players to leave out of the counts, for example players whose ongoing session is counted separately.
+     * @return Map: Start of day epoch ms (with offset) - Count of unique players
+     */
+    public static Query<TreeMap<Long, Integer>> uniquePlayerCountPerDay(UUID serverUUID, long after, long before, long timeZoneOffset, Collection<UUID> excludedPlayers) {
+        String day = startOfDay(SessionsTable.SESSION_START, timeZoneOffset);
+        String sql = SELECT + day + " as d, " +
+                "COUNT(" + DISTINCT + SessionsTable.USER_UUID + ") as c" +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + playedBetween() +
+                excludePlayers(SessionsTable.USER_UUID, excludedPlayers) +
+                GROUP_BY + day;
+        return new QueryStatement<TreeMap<Long, Integer>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                setPlayedBetween(statement, 2, after, before);
+                setExcludedPlayers(statement, 6, excludedPlayers);
+            }
+
+            @Override
+            public TreeMap<Long, Integer> processResults(ResultSet set) throws SQLException {
+                return extractCountsPerDay(set);
+            }
+        };
+    }
+
+    /**
+     * Count how many players registered on a server between two dates.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param after      Epoch ms, players registered after this date are included.
+     * @param before     Epoch ms, players registered before this date are included.
+     * @return Count of new players.
+     */
+    public static Query<Integer> newPlayerCount(UUID serverUUID, long after, long before) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " i on u." + UsersTable.USER_UUID + "=i." + UserInfoTable.USER_UUID +
+                WHERE + "i." + UserInfoTable.SERVER_UUID + "=?" +
+                AND + "u." + UsersTable.REGISTERED + ">=?" +
+                AND + "u." + UsersTable.REGISTERED + "<=?";
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
+    /**
+     * Count how many players registered on a server each day between two dates.
+     * <p>
+     * Days without any new players are not included.
+     *
+     * @param serverUUID     UUID of the Plan server.
+     * @param after          Epoch ms, players registered after this date are included.
+     * @param before         Epoch ms, players registered before this date are included.
+     * @param timeZoneOffset Offset of the time zone in ms, added to the dates before grouping.
+     * @return Map: Start of day epoch ms (with offset) - Count of new players
+     */
+    public static Query<TreeMap<Long, Integer>> newPlayerCountPerDay(UUID serverUUID, long after, long before, long timeZoneOffset) {
+        String day = startOfDay("u." + UsersTable.REGISTERED, timeZoneOffset);
+        String sql = SELECT + day + " as d, " +
+                "COUNT(1) as c" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " i on u." + UsersTable.USER_UUID + "=i." + UserInfoTable.USER_UUID +
+                WHERE + "i." + UserInfoTable.SERVER_UUID + "=?" +
+                AND + "u." + UsersTable.REGISTERED + ">=?" +
+                AND + "u." + UsersTable.REGISTERED + "<=?" +
+                GROUP_BY + day;
+        return new QueryStatement<TreeMap<Long, Integer>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public TreeMap<Long, Integer> processResults(ResultSet set) throws SQLException {
+                return extractCountsPerDay(set);
+            }
+        };
+    }
+
+    private static String startOfDay(String column, long timeZoneOffset) {
+        String withOffset = "(" + column + "+" + timeZoneOffset + ")";
+        return "(" + withOffset + "-(" + withOffset + "%" + TimeUnit.DAYS.toMillis(1L) + "))";
+    }
+
+    private static String playedBetween() {
+        return "((" + SessionsTable.SESSION_START + ">=?" + AND + SessionsTable.SESSION_START + "<=?)" +
+                OR + "(" + SessionsTable.SESSION_END + ">=?" + AND + SessionsTable.SESSION_END + "<=?))";
+    }
+
+    private static void setPlayedBetween(PreparedStatement statement, int index, long after, long before) throws SQLException {
+        statement.setLong(index, after);
+        statement.setLong(index + 1, before);
+        statement.setLong(index + 2, after);
+        statement.setLong(index + 3, before);
+    }
+
+    private static String excludePlayers(String column, Collection<UUID> excludedPlayers) {
+        if (excludedPlayers.isEmpty()) {
+            return "";
+        }
+        return AND + column + " NOT IN (" + String.join(",", Collections.nCopies(excludedPlayers.size(), "?")) + ")";
+    }
+
+    private static void setExcludedPlayers(PreparedStatement statement, int index, Collection<UUID> excludedPlayers) throws SQLException {
+        int i = index;
+        for (UUID playerUUID : excludedPlayers) {
+            statement.setString(i, playerUUID.toString());
+            i++;
+        }
+    }
+
+    private static TreeMap<Long, Integer> extractCountsPerDay(ResultSet set) throws SQLException {
+        TreeMap<Long, Integer> countsPerDay = new TreeMap<>();
+        while (set.next()) {
+            countsPerDay.put(set.getLong("d"), set.getInt("c"));
+        }
+        return countsPerDay;
+    }
+}
\ No newline at end of file
@@ -84,6 +84,8 @@ public class PlayerContainerQuery implements Query<PlayerContainer> {
         });
 
         container.putSupplier(PlayerKeys.LAST_SEEN, () -> SessionsMutator.forContainer(container).toLastSeen());
+        container.putSupplier(PlayerKeys.PLAYTIME, () -> SessionsMutator.forContainer(container).toPlaytime());
+        container.putSupplier(PlayerKeys.SESSION_COUNT, () -> SessionsMutator.forContainer(container).count());
 
         container.putSupplier(PlayerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
         container.putSupplier(PlayerKeys.PLAYER_DEATHS, () -> SessionsMutator.forContainer(container).toPlayerDeathList());
@@ -19,22 +19,24 @@ package com.djrapitops.plan.db.access.queries.containers;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.ServerContainer;
 import com.djrapitops.plan.data.store.keys.ServerKeys;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.mutators.DailyAggregatesMutator;
 import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
 import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.queries.DailyAggregateQueries;
 import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
 import com.djrapitops.plan.db.access.queries.objects.TPSQueries;
 import com.djrapitops.plan.db.access.queries.objects.WorldTimesQueries;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerDataQuery;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.info.server.Server;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -92,12 +94,51 @@ public class ServerContainerQuery implements Query<ServerContainer> {
             return sessions;
         });
         container.putCachingSupplier(ServerKeys.PLAYER_KILLS, () -> SessionsMutator.forContainer(container).toPlayerKillList());
-        container.putCachingSupplier(ServerKeys.PLAYER_KILL_COUNT, () -> container.getUnsafe(ServerKeys.PLAYER_KILLS).size());
-        container.putCachingSupplier(ServerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-        container.putCachingSupplier(ServerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+        container.putCachingSupplier(ServerKeys.DAILY_AGGREGATES, () -> {
+            List<DailyAggregate> aggregates = db.query(DailyAggregateQueries.fetchDailyAggregatesOfServer(serverUUID));
+            if (serverUUID.equals(serverInfo.get().getUuid())) {
+                return addActiveSessions(db, aggregates);
+            }
+            return aggregates;
+        });
+        container.putCachingSupplier(ServerKeys.PLAYER_KILL_COUNT, () -> DailyAggregatesMutator.forContainer(container).toPlayerKillCount());
+        container.putCachingSupplier(ServerKeys.MOB_KILL_COUNT, () -> DailyAggregatesMutator.forContainer(container).toMobKillCount());
+        container.putCachingSupplier(ServerKeys.DEATH_COUNT, () -> DailyAggregatesMutator.forContainer(container).toDeathCount());
 
         container.putCachingSupplier(ServerKeys.EXTENSION_DATA, () -> db.query(new ExtensionServerDataQuery(serverUUID)));
 
         return container;
     }
+
+    private List<DailyAggregate> addActiveSessions(SQLDB db, List<DailyAggregate> storedAggregates) {
+        List<Session> activeSessions = new ArrayList<>();
+        for (Session session : SessionCache.getActiveSessions().values()) {
+            if (session.getValue(SessionKeys.SERVER_UUID).map(serverUUID::equals).orElse(false)) {
+                activeSessions.add(session);
+            }
+        }
+        if (activeSessions.isEmpty()) {
+            return storedAggregates;
+        }
+
+        long dayMs = TimeUnit.DAYS.toMillis(1L);
+        TreeMap<Long, DailyAggregate> byDay = new TreeMap<>();
+        for (DailyAggregate aggregate : storedAggregates) {
+            byDay.put(aggregate.getDate(), aggregate);
+        }
+        Map<Long, Set<UUID>> playedOnDay = new HashMap<>();
+        for (Session session : activeSessions) {
+            long day = DailyAggregate.startOfDay(session.getUnsafe(SessionKeys.START));
+            DailyAggregate aggregate = byDay.computeIfAbsent(day, DailyAggregate::new);
+            aggregate.addSession(session);
+
+            Set<UUID> played = playedOnDay.computeIfAbsent(day, date ->
+                    db.query(SessionQueries.fetchPlayersWithSessionsStartedBetween(serverUUID, date, date + dayMs))
+            );
+            if (played.add(session.getUnsafe(SessionKeys.UUID))) {
+                aggregate.addUniquePlayer();
+            }
+        }
+        return new ArrayList<>(byDay.values());
+    }
 }
\ No newline at end of file
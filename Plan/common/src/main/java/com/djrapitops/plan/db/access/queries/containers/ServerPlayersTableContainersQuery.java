@@ -16,67 +16,292 @@
  */
 package com.djrapitops.plan.db.access.queries.containers;
 
-import com.djrapitops.plan.data.container.BaseUser;
 import com.djrapitops.plan.data.container.GeoInfo;
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.db.SQLDB;
 import com.djrapitops.plan.db.access.Query;
-import com.djrapitops.plan.db.access.queries.objects.BaseUserQueries;
-import com.djrapitops.plan.db.access.queries.objects.GeoInfoQueries;
-import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
-import com.djrapitops.plan.db.access.queries.objects.UserInfoQueries;
+import com.djrapitops.plan.db.access.QueryStatement;
+import com.djrapitops.plan.db.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+import com.djrapitops.plan.db.sql.tables.UsersTable;
+import com.djrapitops.plugin.api.TimeAmount;
+import com.google.common.collect.Lists;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
 
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
+
 /**
  * Optimized version of {@link ServerPlayerContainersQuery} for /server page Players table.
+ * <p>
+ * Only the players on the requested page of the table are queried, sorted and limited in the database.
+ * Playtime, session count and last seen date are counted in the database,
+ * {@link PlayerKeys#SESSIONS} only contains the sessions of the last 3 weeks needed for the activity index.
+ * Geolocations and sessions are queried for the UUIDs of the page, {@link #UUIDS_PER_QUERY} at a time.
  *
  * @author Rsl1122
  * @see com.djrapitops.plan.utilities.html.tables.PlayersTableJSONParser For what needs to be included.
  */
 public class ServerPlayersTableContainersQuery implements Query<List<PlayerContainer>> {
 
+    // Stays below the default limit of 999 parameters in a SQLite statement.
+    private static final int UUIDS_PER_QUERY = 500;
+
+    /**
+     * Columns of the players table that can be sorted in the database.
+     */
+    public enum OrderBy {
+        NAME("name"),
+        PLAYTIME("playtime"),
+        SESSIONS("session_count"),
+        REGISTERED("registered"),
+        LAST_SEEN("last_seen");
+
+        private final String column;
+
+        OrderBy(String column) {
+            this.column = column;
+        }
+    }
+
     private final UUID serverUUID;
+    private final OrderBy orderBy;
+    private final boolean descending;
+    private final String nameSearch;
+    private final int offset;
+    private final int limit;
 
-    public ServerPlayersTableContainersQuery(UUID serverUUID) {
+    /**
+     * Query the most recently seen players of a server.
+     *
+     * @param serverUUID         UUID of the Plan server.
+     * @param xMostRecentPlayers How many players to include.
+     */
+    public ServerPlayersTableContainersQuery(UUID serverUUID, int xMostRecentPlayers) {
+        this(serverUUID, OrderBy.LAST_SEEN, true, null, 0, xMostRecentPlayers);
+    }
+
+    /**
+     * Query a page of players of a server.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param orderBy    Column to sort the players by.
+     * @param descending Should the order be descending.
+     * @param nameSearch Part of the player name to search for (case insensitive), null or empty for all players.
+     * @param offset     How many players to skip.
+     * @param limit      How many players to include.
+     */
+    public ServerPlayersTableContainersQuery(
+            UUID serverUUID,
+            OrderBy orderBy, boolean descending,
+            String nameSearch,
+            int offset, int limit
+    ) {
         this.serverUUID = serverUUID;
+        this.orderBy = orderBy;
+        this.descending = descending;
+        this.nameSearch = nameSearch != null && !nameSearch.isEmpty() ? nameSearch : null;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Count how many players of a server match a name search.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param nameSearch Part of the player name to search for (case insensitive).
+     * @return Count of matching players.
+     */
+    public static Query<Integer> countPlayersMatching(UUID serverUUID, String nameSearch) {
+        String sql = SELECT + "COUNT(1) as c" +
+                FROM + UserInfoTable.TABLE_NAME + " ui" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=ui." + UserInfoTable.USER_UUID +
+                WHERE + "ui." + UserInfoTable.SERVER_UUID + "=?" +
+                AND + "LOWER(u." + UsersTable.USER_NAME + ") LIKE ? ESCAPE '!'";
+        return new QueryStatement<Integer>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setString(2, toLikeParameter(nameSearch));
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("c") : 0;
+            }
+        };
+    }
+
+    // Lowercase parameter for LIKE ? ESCAPE '!' that matches names containing the search.
+    private static String toLikeParameter(String nameSearch) {
+        String escaped = nameSearch.toLowerCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return '%' + escaped + '%';
     }
 
     @Override
     public List<PlayerContainer> executeQuery(SQLDB db) {
-        List<PlayerContainer> containers = new ArrayList<>();
+        Map<UUID, PlayerContainer> containers = db.query(fetchPlayers());
+        if (containers.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        Collection<BaseUser> baseUsers = db.query(BaseUserQueries.fetchServerBaseUsers(serverUUID));
+        long threeWeeksAgo = System.currentTimeMillis() - TimeAmount.WEEK.toMillis(3L);
+        Map<UUID, List<GeoInfo>> geoInformation = new HashMap<>();
+        Map<UUID, List<Session>> sessions = new HashMap<>();
+        for (List<UUID> playerUUIDs : Lists.partition(new ArrayList<>(containers.keySet()), UUIDS_PER_QUERY)) {
+            geoInformation.putAll(db.query(fetchGeoInformation(playerUUIDs)));
+            sessions.putAll(db.query(fetchSessionsEndedAfter(playerUUIDs, threeWeeksAgo)));
+        }
 
-        Map<UUID, List<GeoInfo>> geoInformation = db.query(GeoInfoQueries.fetchServerGeoInformation(serverUUID));
-        Map<UUID, List<Session>> sessions = db.query(SessionQueries.fetchSessionsOfServer(serverUUID));
-        Set<UUID> bannedUsers = db.query(UserInfoQueries.fetchBannedUUIDsOfServer(serverUUID));
+        for (Map.Entry<UUID, PlayerContainer> entry : containers.entrySet()) {
+            UUID playerUUID = entry.getKey();
+            PlayerContainer container = entry.getValue();
+            container.putRawData(PlayerKeys.GEO_INFO, geoInformation.getOrDefault(playerUUID, new ArrayList<>()));
+            container.putRawData(PlayerKeys.SESSIONS, sessions.getOrDefault(playerUUID, new ArrayList<>()));
+        }
+        return new ArrayList<>(containers.values());
+    }
 
-        for (BaseUser user : baseUsers) {
-            PlayerContainer container = new PlayerContainer();
+    private String selectPlayersSql() {
+        return SELECT +
+                "u." + UsersTable.USER_UUID + " as uuid," +
+                "u." + UsersTable.USER_NAME + " as name," +
+                "u." + UsersTable.REGISTERED + " as registered," +
+                "ui." + UserInfoTable.BANNED + " as banned," +
+                "COUNT(s." + SessionsTable.ID + ") as session_count," +
+                "COALESCE(SUM(s." + SessionsTable.SESSION_END + "-s." + SessionsTable.SESSION_START + "),0) as playtime," +
+                "COALESCE(MAX(s." + SessionsTable.SESSION_END + "),0) as last_seen" +
+                FROM + UserInfoTable.TABLE_NAME + " ui" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=ui." + UserInfoTable.USER_UUID +
+                LEFT_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.USER_UUID + "=ui." + UserInfoTable.USER_UUID +
+                AND + "s." + SessionsTable.SERVER_UUID + "=ui." + UserInfoTable.SERVER_UUID +
+                WHERE + "ui." + UserInfoTable.SERVER_UUID + "=?" +
+                (nameSearch != null ? AND + "LOWER(u." + UsersTable.USER_NAME + ") LIKE ? ESCAPE '!'" : "") +
+                GROUP_BY + "u." + UsersTable.USER_UUID + ",u." + UsersTable.USER_NAME + ",u." + UsersTable.REGISTERED + ",ui." + UserInfoTable.BANNED +
+                ORDER_BY + orderBy.column + (descending ? " DESC" : " ASC") + ",u." + UsersTable.USER_UUID +
+                " LIMIT ? OFFSET ?";
+    }
 
-            // BaseUser
-            UUID uuid = user.getUuid();
-            container.putRawData(PlayerKeys.UUID, uuid);
-            container.putRawData(PlayerKeys.NAME, user.getName());
-            container.putRawData(PlayerKeys.REGISTERED, user.getRegistered());
-            container.putRawData(PlayerKeys.BANNED, bannedUsers.contains(uuid));
+    private static String inPlayers(String column, List<UUID> playerUUIDs) {
+        return column + " IN (" + String.join(",", Collections.nCopies(playerUUIDs.size(), "?")) + ")";
+    }
+
+    private static int setPlayerParameters(PreparedStatement statement, int index, List<UUID> playerUUIDs) throws SQLException {
+        int i = index;
+        for (UUID playerUUID : playerUUIDs) {
+            statement.setString(i++, playerUUID.toString());
+        }
+        return i;
+    }
 
-            // GeoInfo
-            container.putRawData(PlayerKeys.GEO_INFO, geoInformation.getOrDefault(uuid, new ArrayList<>()));
+    private Query<Map<UUID, PlayerContainer>> fetchPlayers() {
+        return new QueryStatement<Map<UUID, PlayerContainer>>(selectPlayersSql(), 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int i = 1;
+                statement.setString(i++, serverUUID.toString());
+                if (nameSearch != null) {
+                    statement.setString(i++, toLikeParameter(nameSearch));
+                }
+                statement.setInt(i++, limit);
+                statement.setInt(i, offset);
+            }
 
-            container.putCachingSupplier(PlayerKeys.SESSIONS, () -> {
-                        List<Session> playerSessions = sessions.getOrDefault(uuid, new ArrayList<>());
-                        container.getValue(PlayerKeys.ACTIVE_SESSION).ifPresent(playerSessions::add);
-                        return playerSessions;
+            @Override
+            public Map<UUID, PlayerContainer> processResults(ResultSet set) throws SQLException {
+                Map<UUID, PlayerContainer> containers = new LinkedHashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString("uuid"));
+                    PlayerContainer container = new PlayerContainer();
+                    container.putRawData(PlayerKeys.UUID, playerUUID);
+                    container.putRawData(PlayerKeys.NAME, set.getString("name"));
+                    container.putRawData(PlayerKeys.REGISTERED, set.getLong("registered"));
+                    container.putRawData(PlayerKeys.BANNED, set.getBoolean("banned"));
+                    container.putRawData(PlayerKeys.SESSION_COUNT, set.getInt("session_count"));
+                    container.putRawData(PlayerKeys.PLAYTIME, set.getLong("playtime"));
+                    long lastSeen = set.getLong("last_seen");
+                    if (lastSeen != 0L) {
+                        container.putRawData(PlayerKeys.LAST_SEEN, lastSeen);
                     }
-            );
+                    containers.put(playerUUID, container);
+                }
+                return containers;
+            }
+        };
+    }
 
-            containers.add(container);
-        }
-        return containers;
+    private Query<Map<UUID, List<GeoInfo>>> fetchGeoInformation(List<UUID> playerUUIDs) {
+        String sql = SELECT +
+                "g." + GeoInfoTable.USER_UUID + " as uuid," +
+                "g." + GeoInfoTable.IP + " as ip," +
+                "g." + GeoInfoTable.GEOLOCATION + " as geolocation," +
+                "g." + GeoInfoTable.LAST_USED + " as last_used" +
+                FROM + GeoInfoTable.TABLE_NAME + " g" +
+                WHERE + inPlayers("g." + GeoInfoTable.USER_UUID, playerUUIDs);
+        return new QueryStatement<Map<UUID, List<GeoInfo>>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setPlayerParameters(statement, 1, playerUUIDs);
+            }
+
+            @Override
+            public Map<UUID, List<GeoInfo>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<GeoInfo>> geoInformation = new HashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString("uuid"));
+                    geoInformation.computeIfAbsent(playerUUID, uuid -> new ArrayList<>())
+                            .add(new GeoInfo(set.getString("ip"), set.getString("geolocation"), set.getLong("last_used")));
+                }
+                return geoInformation;
+            }
+        };
+    }
+
+    private Query<Map<UUID, List<Session>>> fetchSessionsEndedAfter(List<UUID> playerUUIDs, long after) {
+        String sql = SELECT +
+                SessionsTable.ID + ',' +
+                SessionsTable.USER_UUID + ',' +
+                SessionsTable.SESSION_START + ',' +
+                SessionsTable.SESSION_END + ',' +
+                SessionsTable.MOB_KILLS + ',' +
+                SessionsTable.DEATHS + ',' +
+                SessionsTable.AFK_TIME +
+                FROM + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                AND + SessionsTable.SESSION_END + ">=?" +
+                AND + inPlayers(SessionsTable.USER_UUID, playerUUIDs);
+        return new QueryStatement<Map<UUID, List<Session>>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                setPlayerParameters(statement, 3, playerUUIDs);
+            }
+
+            @Override
+            public Map<UUID, List<Session>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, List<Session>> sessions = new HashMap<>();
+                while (set.next()) {
+                    UUID playerUUID = UUID.fromString(set.getString(SessionsTable.USER_UUID));
+                    sessions.computeIfAbsent(playerUUID, uuid -> new ArrayList<>()).add(new Session(
+                            set.getInt(SessionsTable.ID), playerUUID, serverUUID,
+                            set.getLong(SessionsTable.SESSION_START), set.getLong(SessionsTable.SESSION_END),
+                            set.getInt(SessionsTable.MOB_KILLS), set.getInt(SessionsTable.DEATHS),
+                            set.getLong(SessionsTable.AFK_TIME)
+                    ));
+                }
+                return sessions;
+            }
+        };
     }
 
 }
\ No newline at end of file
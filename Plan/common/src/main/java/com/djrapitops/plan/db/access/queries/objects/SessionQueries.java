@@ -185,6 +185,60 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for players who have a session on a server that started between two dates.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param after      Epoch ms, sessions started at or after this date are included.
+     * @param before     Epoch ms, sessions started before this date are included.
+     * @return Set of Player UUIDs.
+     */
+    public static Query<Set<UUID>> fetchPlayersWithSessionsStartedBetween(UUID serverUUID, long after, long before) {
+        String sql = "SELECT DISTINCT " + SessionsTable.USER_UUID +
+                " FROM " + SessionsTable.TABLE_NAME +
+                WHERE + SessionsTable.SERVER_UUID + "=?" +
+                " AND " + SessionsTable.SESSION_START + ">=?" +
+                " AND " + SessionsTable.SESSION_START + "<?";
+        return new QueryStatement<Set<UUID>>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public Set<UUID> processResults(ResultSet set) throws SQLException {
+                Set<UUID> playerUUIDs = new HashSet<>();
+                while (set.next()) {
+                    playerUUIDs.add(UUID.fromString(set.getString(SessionsTable.USER_UUID)));
+                }
+                return playerUUIDs;
+            }
+        };
+    }
+
+    /**
+     * Query the database for the last time each player was seen on any server.
+     *
+     * @return Map: Player UUID - Last seen epoch ms.
+     */
+    public static Query<Map<UUID, Long>> lastSeenOfAllPlayers() {
+        String sql = "SELECT " + SessionsTable.USER_UUID + ", MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                " FROM " + SessionsTable.TABLE_NAME +
+                " GROUP BY " + SessionsTable.USER_UUID;
+        return new QueryAllStatement<Map<UUID, Long>>(sql, 10000) {
+            @Override
+            public Map<UUID, Long> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Long> lastSeen = new HashMap<>();
+                while (set.next()) {
+                    lastSeen.put(UUID.fromString(set.getString(SessionsTable.USER_UUID)), set.getLong("last_seen"));
+                }
+                return lastSeen;
+            }
+        };
+    }
+
     private static List<Session> extractDataFromSessionSelectStatement(ResultSet set) throws SQLException {
         // Server UUID - Player UUID - Session Start - Session
         Map<UUID, Map<UUID, SortedMap<Long, Session>>> tempSessionMap = new HashMap<>();
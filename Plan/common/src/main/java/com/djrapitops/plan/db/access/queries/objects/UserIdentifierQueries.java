@@ -71,7 +71,7 @@ public class UserIdentifierQueries {
      */
     public static Query<Set<UUID>> fetchPlayerUUIDsOfServer(UUID serverUUID) {
         String sql = SELECT +
-                UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + ", " +
+                UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID +
                 FROM + UsersTable.TABLE_NAME +
                 INNER_JOIN + UserInfoTable.TABLE_NAME + " on " +
                 UsersTable.TABLE_NAME + "." + UsersTable.USER_UUID + "=" + UserInfoTable.TABLE_NAME + "." + UserInfoTable.USER_UUID +
@@ -0,0 +1,75 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.transactions;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
+import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction that adds sessions to the per day aggregates of their servers.
+ * <p>
+ * Needs to be executed before the sessions are stored, so that players who already
+ * have a session on the same day are not counted as unique players again.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.sql.tables.DailyAggregatesTable
+ */
+public class AggregateSessionsTransaction extends Transaction {
+
+    private final Collection<Session> sessions;
+
+    public AggregateSessionsTransaction(Collection<Session> sessions) {
+        this.sessions = sessions;
+    }
+
+    @Override
+    protected void performOperations() {
+        long dayMs = TimeUnit.DAYS.toMillis(1L);
+        Map<UUID, Map<Long, DailyAggregate>> totalsOfServers = new HashMap<>();
+        Map<UUID, Map<Long, Set<UUID>>> countedPlayers = new HashMap<>();
+
+        for (Session session : sessions) {
+            UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
+            UUID playerUUID = session.getUnsafe(SessionKeys.UUID);
+            long day = DailyAggregate.startOfDay(session.getUnsafe(SessionKeys.START));
+
+            DailyAggregate totals = totalsOfServers.computeIfAbsent(serverUUID, key -> new HashMap<>())
+                    .computeIfAbsent(day, DailyAggregate::new);
+            totals.addSession(session);
+
+            boolean notCountedYet = countedPlayers.computeIfAbsent(serverUUID, key -> new HashMap<>())
+                    .computeIfAbsent(day, key -> new HashSet<>())
+                    .add(playerUUID);
+            if (notCountedYet && !query(PlayerFetchQueries.hasSessionStartedBetween(playerUUID, serverUUID, day, day + dayMs))) {
+                totals.addUniquePlayer();
+            }
+        }
+
+        for (Map.Entry<UUID, Map<Long, DailyAggregate>> entry : totalsOfServers.entrySet()) {
+            UUID serverUUID = entry.getKey();
+            for (DailyAggregate totals : entry.getValue().values()) {
+                execute(DataStoreQueries.addToDailyAggregate(serverUUID, totals));
+            }
+        }
+    }
+}
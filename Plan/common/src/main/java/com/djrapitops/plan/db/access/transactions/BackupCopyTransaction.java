@@ -16,18 +16,23 @@
  */
 package com.djrapitops.plan.db.access.transactions;
 
+import com.djrapitops.plan.db.DBType;
 import com.djrapitops.plan.db.Database;
-import com.djrapitops.plan.db.access.Executable;
-import com.djrapitops.plan.db.access.Query;
-import com.djrapitops.plan.db.access.queries.LargeFetchQueries;
-import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
-import com.djrapitops.plan.db.access.queries.objects.*;
+import com.djrapitops.plan.db.access.BatchCopyStatement;
+import com.djrapitops.plan.db.access.QueryAllStatement;
 import com.djrapitops.plan.db.access.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.db.sql.tables.*;
 
-import java.util.function.Function;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Tables are streamed from the source database in batches. Everything is written in this transaction,
+ * so a failed copy is rolled back and leaves the current database as it was.
  *
  * @author Rsl1122
  */
@@ -35,10 +40,16 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
     private final Database sourceDB;
     private final Database destinationDB;
+    private final ProgressListener progressListener;
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, (tableName, copiedRows, totalRows) -> { /* Progress not reported */ });
+    }
+
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, ProgressListener progressListener) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -62,54 +73,194 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
         copySessionsWithKillAndWorldData();
         copyPerServerUserInformation();
         copyPingData();
+        copyDailyAggregates();
     }
 
-    private <T> void copy(Function<T, Executable> executableCreator, Query<T> dataQuery) {
-        // Creates a new Executable from the queried data of the source database
-        execute(executableCreator.apply(sourceDB.query(dataQuery)));
+    private void copy(String tableName, String selectSql, String insertSql) {
+        long totalRows = sourceDB.query(new QueryAllStatement<Long>("SELECT COUNT(1) as c FROM " + tableName) {
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getLong("c") : 0L;
+            }
+        });
+        progressListener.onProgress(tableName, 0L, totalRows);
+
+        // MySQL driver reads the whole result set into memory unless fetch size is Integer.MIN_VALUE.
+        int fetchSize = sourceDB.getType() == DBType.MYSQL ? Integer.MIN_VALUE : BatchCopyStatement.BATCH_SIZE;
+        execute(connection -> {
+            // Reads the rows of the source database, writing them to the connection of this transaction.
+            sourceDB.query(new BatchCopyStatement(selectSql, fetchSize, insertSql, connection,
+                    copiedRows -> progressListener.onProgress(tableName, copiedRows, totalRows)
+            ));
+            return true;
+        });
     }
 
     private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
+        copy(PingTable.TABLE_NAME, SELECT +
+                PingTable.USER_UUID + ", " +
+                PingTable.SERVER_UUID + ", " +
+                PingTable.DATE + ", " +
+                PingTable.MIN_PING + ", " +
+                PingTable.MAX_PING + ", " +
+                PingTable.AVG_PING +
+                FROM + PingTable.TABLE_NAME, PingTable.INSERT_STATEMENT);
+    }
+
+    private void copyDailyAggregates() {
+        copy(DailyAggregatesTable.TABLE_NAME, SELECT +
+                DailyAggregatesTable.SERVER_UUID + ", " +
+                DailyAggregatesTable.DATE + ", " +
+                DailyAggregatesTable.SESSION_COUNT + ", " +
+                DailyAggregatesTable.PLAYTIME + ", " +
+                DailyAggregatesTable.PLAYER_KILLS + ", " +
+                DailyAggregatesTable.MOB_KILLS + ", " +
+                DailyAggregatesTable.DEATHS + ", " +
+                DailyAggregatesTable.UNIQUE_PLAYERS + ", " +
+                DailyAggregatesTable.NEW_PLAYERS +
+                FROM + DailyAggregatesTable.TABLE_NAME, DailyAggregatesTable.INSERT_STATEMENT);
     }
 
     private void copyCommandUsageData() {
-        copy(LargeStoreQueries::storeAllCommandUsageData, LargeFetchQueries.fetchAllCommandUsageData());
+        copy(CommandUseTable.TABLE_NAME, SELECT +
+                "c." + CommandUseTable.COMMAND + ", " +
+                "c." + CommandUseTable.TIMES_USED + ", " +
+                "s." + ServerTable.SERVER_UUID +
+                FROM + CommandUseTable.TABLE_NAME + " c" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " s on c." + CommandUseTable.SERVER_ID + "=s." + ServerTable.SERVER_ID,
+                CommandUseTable.INSERT_STATEMENT);
     }
 
     private void copyGeoInformation() {
-        copy(LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries.fetchAllGeoInformation());
+        copy(GeoInfoTable.TABLE_NAME, SELECT +
+                GeoInfoTable.USER_UUID + ", " +
+                GeoInfoTable.IP + ", " +
+                GeoInfoTable.GEOLOCATION + ", " +
+                GeoInfoTable.LAST_USED +
+                FROM + GeoInfoTable.TABLE_NAME, GeoInfoTable.INSERT_STATEMENT);
     }
 
     private void copyNicknameData() {
-        copy(LargeStoreQueries::storeAllNicknameData, NicknameQueries.fetchAllNicknameData());
+        copy(NicknamesTable.TABLE_NAME, SELECT +
+                NicknamesTable.USER_UUID + ", " +
+                NicknamesTable.SERVER_UUID + ", " +
+                NicknamesTable.NICKNAME + ", " +
+                NicknamesTable.LAST_USED +
+                FROM + NicknamesTable.TABLE_NAME, NicknamesTable.INSERT_STATEMENT);
     }
 
     private void copyPlanWebUsers() {
-        copy(LargeStoreQueries::storeAllPlanWebUsers, WebUserQueries.fetchAllPlanWebUsers());
+        copy(SecurityTable.TABLE_NAME, SELECT +
+                SecurityTable.USERNAME + ", " +
+                SecurityTable.SALT_PASSWORD_HASH + ", " +
+                SecurityTable.PERMISSION_LEVEL +
+                FROM + SecurityTable.TABLE_NAME, SecurityTable.INSERT_STATEMENT);
     }
 
     private void copyPlanServerInformation() {
-        copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchPlanServerInformationCollection());
+        copy(ServerTable.TABLE_NAME, SELECT +
+                ServerTable.SERVER_UUID + ", " +
+                ServerTable.NAME + ", " +
+                ServerTable.WEB_ADDRESS + ", " +
+                ServerTable.INSTALLED + ", " +
+                ServerTable.MAX_PLAYERS +
+                FROM + ServerTable.TABLE_NAME, ServerTable.INSERT_STATEMENT);
     }
 
     private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
+        copy(TPSTable.TABLE_NAME, SELECT +
+                "s." + ServerTable.SERVER_UUID + ", " +
+                "t." + TPSTable.DATE + ", " +
+                "t." + TPSTable.TPS + ", " +
+                "t." + TPSTable.PLAYERS_ONLINE + ", " +
+                "t." + TPSTable.CPU_USAGE + ", " +
+                "t." + TPSTable.RAM_USAGE + ", " +
+                "t." + TPSTable.ENTITIES + ", " +
+                "t." + TPSTable.CHUNKS + ", " +
+                "t." + TPSTable.FREE_DISK +
+                FROM + TPSTable.TABLE_NAME + " t" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " s on t." + TPSTable.SERVER_ID + "=s." + ServerTable.SERVER_ID,
+                TPSTable.INSERT_STATEMENT);
     }
 
     private void copyPerServerUserInformation() {
-        copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
+        copy(UserInfoTable.TABLE_NAME, SELECT +
+                UserInfoTable.USER_UUID + ", " +
+                UserInfoTable.REGISTERED + ", " +
+                UserInfoTable.SERVER_UUID + ", " +
+                UserInfoTable.BANNED + ", " +
+                UserInfoTable.OP +
+                FROM + UserInfoTable.TABLE_NAME, UserInfoTable.INSERT_STATEMENT);
     }
 
     private void copyWorldNames() {
-        copy(LargeStoreQueries::storeAllWorldNames, LargeFetchQueries.fetchAllWorldNames());
+        copy(WorldTable.TABLE_NAME, SELECT +
+                WorldTable.NAME + ", " +
+                WorldTable.SERVER_UUID +
+                FROM + WorldTable.TABLE_NAME, WorldTable.INSERT_STATEMENT);
     }
 
     private void copyCommonUserInformation() {
-        copy(LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries.fetchAllBaseUsers());
+        copy(UsersTable.TABLE_NAME, SELECT +
+                UsersTable.USER_UUID + ", " +
+                UsersTable.USER_NAME + ", " +
+                UsersTable.REGISTERED + ", " +
+                UsersTable.TIMES_KICKED +
+                FROM + UsersTable.TABLE_NAME, UsersTable.INSERT_STATEMENT);
     }
 
     private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+        copy(SessionsTable.TABLE_NAME, SELECT +
+                SessionsTable.USER_UUID + ", " +
+                SessionsTable.SESSION_START + ", " +
+                SessionsTable.SESSION_END + ", " +
+                SessionsTable.DEATHS + ", " +
+                SessionsTable.MOB_KILLS + ", " +
+                SessionsTable.AFK_TIME + ", " +
+                SessionsTable.SERVER_UUID +
+                FROM + SessionsTable.TABLE_NAME, SessionsTable.INSERT_STATEMENT);
+
+        // Session IDs are different in the destination, so the session is selected with the parameters of SELECT_SESSION_ID_STATEMENT.
+        String sessionIdParameters = "s." + SessionsTable.USER_UUID + ", " +
+                "s." + SessionsTable.SERVER_UUID + ", " +
+                "s." + SessionsTable.SESSION_START + ", " +
+                "s." + SessionsTable.SESSION_END + ", ";
+        copy(KillsTable.TABLE_NAME, SELECT + sessionIdParameters +
+                "k." + KillsTable.KILLER_UUID + ", " +
+                "k." + KillsTable.VICTIM_UUID + ", " +
+                "k." + KillsTable.SERVER_UUID + ", " +
+                "k." + KillsTable.DATE + ", " +
+                "k." + KillsTable.WEAPON +
+                FROM + KillsTable.TABLE_NAME + " k" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on k." + KillsTable.SESSION_ID + "=s." + SessionsTable.ID,
+                KillsTable.INSERT_SELECTING_SESSION_ID_STATEMENT);
+        copy(WorldTimesTable.TABLE_NAME, SELECT + sessionIdParameters +
+                "w." + WorldTable.NAME + ", " +
+                "w." + WorldTable.SERVER_UUID + ", " +
+                "wt." + WorldTimesTable.USER_UUID + ", " +
+                "wt." + WorldTimesTable.SERVER_UUID + ", " +
+                "wt." + WorldTimesTable.SURVIVAL + ", " +
+                "wt." + WorldTimesTable.CREATIVE + ", " +
+                "wt." + WorldTimesTable.ADVENTURE + ", " +
+                "wt." + WorldTimesTable.SPECTATOR +
+                FROM + WorldTimesTable.TABLE_NAME + " wt" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on wt." + WorldTimesTable.SESSION_ID + "=s." + SessionsTable.ID +
+                INNER_JOIN + WorldTable.TABLE_NAME + " w on wt." + WorldTimesTable.WORLD_ID + "=w." + WorldTable.ID,
+                WorldTimesTable.INSERT_SELECTING_SESSION_ID_STATEMENT);
+    }
+
+    /**
+     * Listener for the progress of the copy.
+     */
+    public interface ProgressListener {
+
+        /**
+         * Called when copying of a table starts, and periodically while its rows are copied.
+         *
+         * @param tableName  Name of the table that is being copied.
+         * @param copiedRows Number of rows copied from the table so far.
+         * @param totalRows  Number of rows in the table of the source database.
+         */
+        void onProgress(String tableName, long copiedRows, long totalRows);
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.access.transactions;
+
+import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.queries.DailyAggregateQueries;
+import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
+import com.djrapitops.plan.db.sql.tables.DailyAggregatesTable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * Transaction that calculates the per day aggregates of a server again from its stored data.
+ * <p>
+ * Used when data has been stored without updating the aggregates, for example by an older
+ * version of Plan on the same database or by an importer.
+ *
+ * @author Rsl1122
+ * @see com.djrapitops.plan.db.sql.tables.DailyAggregatesTable
+ */
+public class RebuildDailyAggregatesTransaction extends Transaction {
+
+    private final UUID serverUUID;
+
+    public RebuildDailyAggregatesTransaction(UUID serverUUID) {
+        this.serverUUID = serverUUID;
+    }
+
+    @Override
+    protected void performOperations() {
+        String sql = "DELETE FROM " + DailyAggregatesTable.TABLE_NAME + " WHERE " + DailyAggregatesTable.SERVER_UUID + "=?";
+        execute(new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+        });
+        execute(LargeStoreQueries.storeAllDailyAggregates(
+                Collections.singletonMap(serverUUID, query(DailyAggregateQueries.aggregateServerData(serverUUID)))
+        ));
+    }
+}
\ No newline at end of file
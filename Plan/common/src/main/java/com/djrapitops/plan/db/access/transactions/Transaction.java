@@ -28,6 +28,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -45,6 +47,8 @@ public abstract class Transaction {
 
     protected boolean success;
 
+    private final List<Runnable> afterCommitActions = new ArrayList<>();
+
     protected Transaction() {
         success = false;
     }
@@ -63,7 +67,7 @@ public abstract class Transaction {
 
         try {
             initializeTransaction(db);
-            performOperations();
+            performOperationsOnConnection();
             if (connection != null) connection.commit();
             success = true;
         } catch (Exception statementFail) {
@@ -71,9 +75,47 @@ public abstract class Transaction {
         } finally {
             db.returnToPool(connection);
         }
+        runAfterCommitActions();
+    }
+
+    /**
+     * Execute the transaction as a part of a group of transactions that are committed together.
+     * <p>
+     * If the transaction fails only its own operations are rolled back.
+     * Committing and returning the connection to the pool is the responsibility of the caller,
+     * who should call {@link #runAfterCommitActions()} once the group has been committed.
+     *
+     * @param db         Database the transaction is executed against.
+     * @param connection Connection shared by the group of transactions.
+     */
+    public void executeAsPartOfGroup(SQLDB db, Connection connection) {
+        Verify.nullCheck(db, () -> new IllegalArgumentException("Given database was null"));
+        Verify.nullCheck(connection, () -> new IllegalArgumentException("Given connection was null"));
+        Verify.isFalse(success, () -> new IllegalStateException("Transaction has already been executed"));
+
+        this.db = db;
+        this.dbType = db.getType();
+
+        if (!shouldBeExecuted()) {
+            success = true;
+            return;
+        }
+
+        try {
+            this.connection = connection;
+            this.savepoint = connection.setSavepoint();
+            performOperationsOnConnection();
+            success = true;
+        } catch (Exception statementFail) {
+            manageFailure(statementFail); // Throws a DBOpException.
+        } finally {
+            this.connection = null;
+            this.savepoint = null;
+        }
     }
 
     private void manageFailure(Exception statementFail) {
+        afterCommitActions.clear();
         String failMsg = getClass().getSimpleName() + " failed: " + statementFail.getMessage();
         try {
             if (Verify.notNull(connection, savepoint)) {
@@ -97,11 +139,32 @@ public abstract class Transaction {
         return true;
     }
 
+    /**
+     * Override this method to prevent the transaction from being committed together with other transactions.
+     * <p>
+     * Transactions that modify the schema or touch every table should be committed on their own.
+     *
+     * @return false if the transaction should not be a part of a group commit.
+     */
+    public boolean canBeGroupCommitted() {
+        return true;
+    }
+
     /**
      * Implement this method for transaction execution.
      */
     protected abstract void performOperations();
 
+    private void performOperationsOnConnection() {
+        // Queries made during the operations, including queries inside other queries, use the transaction connection.
+        db.setTransactionConnection(connection);
+        try {
+            performOperations();
+        } finally {
+            db.setTransactionConnection(null);
+        }
+    }
+
     private void initializeTransaction(SQLDB db) {
         try {
             this.connection = db.getConnection();
@@ -144,11 +207,36 @@ public abstract class Transaction {
         transaction.dbType = dbType;
         transaction.connection = this.connection;
         transaction.performOperations();
+        afterCommitActions.addAll(transaction.afterCommitActions);
+        transaction.afterCommitActions.clear();
         transaction.connection = null;
         transaction.dbType = null;
         transaction.db = null;
     }
 
+    /**
+     * Run an action after the changes of this transaction have been committed.
+     * <p>
+     * Use for updating in-memory state that should not see the changes if the transaction is rolled back.
+     *
+     * @param action Action to run, not run if the transaction fails.
+     */
+    protected void runAfterCommit(Runnable action) {
+        afterCommitActions.add(action);
+    }
+
+    /**
+     * Run the actions given to {@link #runAfterCommit(Runnable)}.
+     * <p>
+     * Called by the transaction itself, or by the database after committing a group of transactions.
+     */
+    public void runAfterCommitActions() {
+        for (Runnable action : afterCommitActions) {
+            action.run();
+        }
+        afterCommitActions.clear();
+    }
+
     protected UUID getServerUUID() {
         return db.getServerUUIDSupplier().get();
     }
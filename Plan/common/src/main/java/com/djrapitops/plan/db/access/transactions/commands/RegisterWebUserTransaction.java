@@ -20,6 +20,7 @@ import com.djrapitops.plan.data.WebUser;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.SecurityTable;
+import com.djrapitops.plan.system.webserver.cache.AuthenticationCache;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -47,5 +48,6 @@ public class RegisterWebUserTransaction extends Transaction {
                 statement.setInt(3, webUser.getPermLevel());
             }
         });
+        runAfterCommit(AuthenticationCache::clearCache);
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.djrapitops.plan.db.access.transactions.commands;
 
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.*;
+import com.djrapitops.plan.system.webserver.cache.AuthenticationCache;
 
 /**
  * Transaction that removes everything from the database.
@@ -26,6 +27,11 @@ import com.djrapitops.plan.db.sql.tables.*;
  */
 public class RemoveEverythingTransaction extends Transaction {
 
+    @Override
+    public boolean canBeGroupCommitted() {
+        return false;
+    }
+
     @Override
     protected void performOperations() {
         // Delete statements are run in a specific order as some tables have foreign keys,
@@ -36,6 +42,7 @@ public class RemoveEverythingTransaction extends Transaction {
         clearTable(KillsTable.TABLE_NAME);
         clearTable(WorldTimesTable.TABLE_NAME);
         clearTable(SessionsTable.TABLE_NAME);
+        clearTable(DailyAggregatesTable.TABLE_NAME);
         clearTable(WorldTable.TABLE_NAME);
         clearTable(PingTable.TABLE_NAME);
         clearTable(UserInfoTable.TABLE_NAME);
@@ -53,6 +60,7 @@ public class RemoveEverythingTransaction extends Transaction {
         clearTable(ExtensionTabTable.TABLE_NAME);
         clearTable(ExtensionPluginTable.TABLE_NAME);
         clearTable(ExtensionIconTable.TABLE_NAME);
+        runAfterCommit(AuthenticationCache::clearCache);
     }
 
     private void clearTable(String tableName) {
@@ -16,13 +16,18 @@
  */
 package com.djrapitops.plan.db.access.transactions.commands;
 
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
 import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.queries.DailyAggregateQueries;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.*;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -47,6 +52,8 @@ public class RemovePlayerTransaction extends Transaction {
     protected void performOperations() {
         query(PlayerFetchQueries.playerUserName(playerUUID)).ifPresent(this::deleteWebUser);
 
+        subtractFromDailyAggregates();
+
         deleteFromTable(GeoInfoTable.TABLE_NAME);
         deleteFromTable(NicknamesTable.TABLE_NAME);
         deleteFromKillsTable();
@@ -61,6 +68,15 @@ public class RemovePlayerTransaction extends Transaction {
         executeOther(new RemoveWebUserTransaction(username));
     }
 
+    private void subtractFromDailyAggregates() {
+        Map<UUID, List<DailyAggregate>> contributions = query(DailyAggregateQueries.aggregatePlayerData(playerUUID));
+        for (Map.Entry<UUID, List<DailyAggregate>> entry : contributions.entrySet()) {
+            for (DailyAggregate contribution : entry.getValue()) {
+                execute(DataStoreQueries.addToDailyAggregate(entry.getKey(), contribution.negate()));
+            }
+        }
+    }
+
     private void deleteFromTable(String tableName) {
         execute(new ExecStatement("DELETE FROM " + tableName + " WHERE uuid=?") {
             @Override
@@ -19,6 +19,7 @@ package com.djrapitops.plan.db.access.transactions.commands;
 import com.djrapitops.plan.db.access.ExecStatement;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 import com.djrapitops.plan.db.sql.tables.SecurityTable;
+import com.djrapitops.plan.system.webserver.cache.AuthenticationCache;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -46,5 +47,6 @@ public class RemoveWebUserTransaction extends Transaction {
                 statement.setString(1, username);
             }
         });
+        runAfterCommit(AuthenticationCache::clearCache);
     }
 }
\ No newline at end of file
@@ -19,6 +19,9 @@ package com.djrapitops.plan.db.access.transactions.events;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -29,23 +32,37 @@ import java.util.UUID;
 public class CommandStoreTransaction extends Transaction {
 
     private final UUID serverUUID;
-    private final String commandName;
+    private final Map<String, Integer> commandCounts;
 
     public CommandStoreTransaction(
             UUID serverUUID,
             String commandName
+    ) {
+        this(serverUUID, Collections.singletonMap(commandName, 1));
+    }
+
+    /**
+     * Store multiple uses of commands at once.
+     *
+     * @param serverUUID    UUID of the server the commands were used on.
+     * @param commandCounts Map: Name of the command - How many times it was used.
+     */
+    public CommandStoreTransaction(
+            UUID serverUUID,
+            Map<String, Integer> commandCounts
     ) {
         this.serverUUID = serverUUID;
-        this.commandName = commandName;
+        this.commandCounts = new HashMap<>(commandCounts);
+        this.commandCounts.keySet().removeIf(commandName -> commandName.length() > 20);
     }
 
     @Override
     protected boolean shouldBeExecuted() {
-        return commandName.length() <= 20;
+        return !commandCounts.isEmpty();
     }
 
     @Override
     protected void performOperations() {
-        execute(DataStoreQueries.storeUsedCommandInformation(serverUUID, commandName));
+        execute(DataStoreQueries.storeUsedCommandInformation(serverUUID, commandCounts));
     }
 }
\ No newline at end of file
@@ -16,16 +16,14 @@
  */
 package com.djrapitops.plan.db.access.transactions.events;
 
-import com.djrapitops.plan.db.access.ExecStatement;
+import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
-import com.djrapitops.plan.db.sql.tables.UsersTable;
 
-import java.sql.PreparedStatement;
-import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
-import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
-
 /**
  * Transaction to store information in the database when a player is kicked from the server.
  *
@@ -33,23 +31,28 @@ import static com.djrapitops.plan.db.sql.parsing.Sql.WHERE;
  */
 public class KickStoreTransaction extends Transaction {
 
-    private final UUID playerUUID;
+    private final Map<UUID, Integer> kickCounts;
 
     public KickStoreTransaction(UUID playerUUID) {
-        this.playerUUID = playerUUID;
+        this(Collections.singletonMap(playerUUID, 1));
+    }
+
+    /**
+     * Store multiple kicks at once.
+     *
+     * @param kickCounts Map: Player UUID - How many times the player was kicked.
+     */
+    public KickStoreTransaction(Map<UUID, Integer> kickCounts) {
+        this.kickCounts = new HashMap<>(kickCounts);
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !kickCounts.isEmpty();
     }
 
     @Override
     protected void performOperations() {
-        String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET "
-                + UsersTable.TIMES_KICKED + "=" + UsersTable.TIMES_KICKED + "+ 1" +
-                WHERE + UsersTable.USER_UUID + "=?";
-
-        execute(new ExecStatement(sql) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
-            }
-        });
+        execute(DataStoreQueries.storeKickCounts(kickCounts));
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 
 /**
@@ -33,11 +34,26 @@ public class NicknameStoreTransaction extends Transaction {
     private final UUID playerUUID;
     private final Nickname nickname;
     private final BiPredicate<UUID, String> isNicknameCachedCheck;
+    private final BiConsumer<UUID, String> nicknameStored;
 
     public NicknameStoreTransaction(UUID playerUUID, Nickname nickname, BiPredicate<UUID, String> isNicknameCachedCheck) {
+        this(playerUUID, nickname, isNicknameCachedCheck, (uuid, name) -> {
+        });
+    }
+
+    /**
+     * Store the nickname unless it is known to be the last stored nickname of the player.
+     *
+     * @param playerUUID            UUID of the player.
+     * @param nickname              Nickname of the player.
+     * @param isNicknameCachedCheck Returns true if the nickname is known to be stored, the nickname is not stored again.
+     * @param nicknameStored        Called with the player's UUID and nickname after the transaction has committed.
+     */
+    public NicknameStoreTransaction(UUID playerUUID, Nickname nickname, BiPredicate<UUID, String> isNicknameCachedCheck, BiConsumer<UUID, String> nicknameStored) {
         this.playerUUID = playerUUID;
         this.nickname = nickname;
         this.isNicknameCachedCheck = isNicknameCachedCheck;
+        this.nicknameStored = nicknameStored;
     }
 
     @Override
@@ -48,5 +64,6 @@ public class NicknameStoreTransaction extends Transaction {
     @Override
     protected void performOperations() {
         execute(DataStoreQueries.storePlayerNickname(playerUUID, nickname));
+        runAfterCommit(() -> nicknameStored.accept(playerUUID, nickname.getName()));
     }
 }
\ No newline at end of file
@@ -32,7 +32,7 @@ public class PlayerRegisterTransaction extends Transaction {
 
     protected final UUID playerUUID;
     protected final LongSupplier registered;
-    private final String playerName;
+    protected final String playerName;
 
     public PlayerRegisterTransaction(UUID playerUUID, LongSupplier registered, String playerName) {
         this.playerUUID = playerUUID;
@@ -16,11 +16,14 @@
  */
 package com.djrapitops.plan.db.access.transactions.events;
 
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
 import com.djrapitops.plan.db.access.queries.PlayerFetchQueries;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 
 /**
  * Transaction for registering player's BaseUser and UserInfo to the database.
@@ -30,17 +33,63 @@ import java.util.function.LongSupplier;
 public class PlayerServerRegisterTransaction extends PlayerRegisterTransaction {
 
     private final UUID serverUUID;
+    private final Predicate<UUID> isRegisteredCheck;
+    private final Consumer<UUID> playerRegistered;
 
     public PlayerServerRegisterTransaction(UUID playerUUID, LongSupplier registered, String playerName, UUID serverUUID) {
+        this(playerUUID, registered, playerName, serverUUID, uuid -> false);
+    }
+
+    /**
+     * Register the player unless they are known to be registered on the server.
+     *
+     * @param playerUUID        UUID of the player.
+     * @param registered        Supplier for the registration date.
+     * @param playerName        Name of the player.
+     * @param serverUUID        UUID of the server.
+     * @param isRegisteredCheck Returns true if the player is known to be registered on the server, the database is checked otherwise.
+     */
+    public PlayerServerRegisterTransaction(UUID playerUUID, LongSupplier registered, String playerName, UUID serverUUID, Predicate<UUID> isRegisteredCheck) {
+        this(playerUUID, registered, playerName, serverUUID, isRegisteredCheck, uuid -> {
+        });
+    }
+
+    /**
+     * Register the player unless they are known to be registered on the server.
+     *
+     * @param playerUUID        UUID of the player.
+     * @param registered        Supplier for the registration date.
+     * @param playerName        Name of the player.
+     * @param serverUUID        UUID of the server.
+     * @param isRegisteredCheck Returns true if the player is known to be registered on the server, the database is checked otherwise.
+     * @param playerRegistered  Called with the player's UUID after the transaction has committed.
+     */
+    public PlayerServerRegisterTransaction(UUID playerUUID, LongSupplier registered, String playerName, UUID serverUUID, Predicate<UUID> isRegisteredCheck, Consumer<UUID> playerRegistered) {
         super(playerUUID, registered, playerName);
         this.serverUUID = serverUUID;
+        this.isRegisteredCheck = isRegisteredCheck;
+        this.playerRegistered = playerRegistered;
     }
 
     @Override
     protected void performOperations() {
+        // A known player has both BaseUser and UserInfo, only the name might have changed.
+        // If no name was updated the player was removed, possibly by another server, and is registered again.
+        if (!isRegisteredCheck.test(playerUUID) || !execute(DataStoreQueries.updatePlayerName(playerUUID, playerName))) {
+            registerPlayer();
+        }
+        runAfterCommit(() -> playerRegistered.accept(playerUUID));
+    }
+
+    private void registerPlayer() {
         super.performOperations();
         if (!query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID))) {
-            execute(DataStoreQueries.registerUserInfo(playerUUID, registered.getAsLong(), serverUUID));
+            long registerDate = registered.getAsLong();
+            execute(DataStoreQueries.registerUserInfo(playerUUID, registerDate, serverUUID));
+
+            DailyAggregate newPlayer = new DailyAggregate(DailyAggregate.startOfDay(registerDate));
+            newPlayer.addNewPlayer();
+            execute(DataStoreQueries.addToDailyAggregate(serverUUID, newPlayer));
         }
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.djrapitops.plan.db.access.transactions.events;
 
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.db.access.queries.LargeStoreQueries;
+import com.djrapitops.plan.db.access.transactions.AggregateSessionsTransaction;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
 import java.util.Collection;
@@ -37,6 +38,7 @@ public class ServerShutdownTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
+        executeOther(new AggregateSessionsTransaction(unsavedSessions));
         execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unsavedSessions));
     }
 }
\ No newline at end of file
@@ -18,8 +18,11 @@ package com.djrapitops.plan.db.access.transactions.events;
 
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.db.access.queries.DataStoreQueries;
+import com.djrapitops.plan.db.access.transactions.AggregateSessionsTransaction;
 import com.djrapitops.plan.db.access.transactions.Transaction;
 
+import java.util.Collections;
+
 /**
  * Transaction for storing a session after a session has ended.
  *
@@ -35,6 +38,7 @@ public class SessionEndTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
+        executeOther(new AggregateSessionsTransaction(Collections.singletonList(session)));
         execute(DataStoreQueries.storeSession(session));
     }
 }
\ No newline at end of file
@@ -24,6 +24,8 @@ import com.djrapitops.plan.db.sql.tables.WorldTable;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Transaction to store world name after an event.
@@ -34,15 +36,43 @@ public class WorldNameStoreTransaction extends Transaction {
 
     private final UUID serverUUID;
     private final String worldName;
+    private final Predicate<String> isWorldNameStoredCheck;
+    private final Consumer<String> worldNameStored;
 
     public WorldNameStoreTransaction(UUID serverUUID, String worldName) {
+        this(serverUUID, worldName, name -> false);
+    }
+
+    /**
+     * Store the world name unless it is known to be stored.
+     *
+     * @param serverUUID             UUID of the server the world is on.
+     * @param worldName              Name of the world.
+     * @param isWorldNameStoredCheck Returns true if the world name is known to be in the database, the database is checked otherwise.
+     */
+    public WorldNameStoreTransaction(UUID serverUUID, String worldName, Predicate<String> isWorldNameStoredCheck) {
+        this(serverUUID, worldName, isWorldNameStoredCheck, name -> {
+        });
+    }
+
+    /**
+     * Store the world name unless it is known to be stored.
+     *
+     * @param serverUUID             UUID of the server the world is on.
+     * @param worldName              Name of the world.
+     * @param isWorldNameStoredCheck Returns true if the world name is known to be in the database, the database is checked otherwise.
+     * @param worldNameStored        Called with the world name after the transaction has committed, if the database was checked.
+     */
+    public WorldNameStoreTransaction(UUID serverUUID, String worldName, Predicate<String> isWorldNameStoredCheck, Consumer<String> worldNameStored) {
         this.serverUUID = serverUUID;
         this.worldName = worldName;
+        this.isWorldNameStoredCheck = isWorldNameStoredCheck;
+        this.worldNameStored = worldNameStored;
     }
 
     @Override
     protected boolean shouldBeExecuted() {
-        return doesWorldNameNotExist();
+        return !isWorldNameStoredCheck.test(worldName);
     }
 
     private boolean doesWorldNameNotExist() {
@@ -60,6 +90,9 @@ public class WorldNameStoreTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
-        execute(DataStoreQueries.insertWorldName(serverUUID, worldName));
+        if (doesWorldNameNotExist()) {
+            execute(DataStoreQueries.insertWorldName(serverUUID, worldName));
+        }
+        runAfterCommit(() -> worldNameStored.accept(worldName));
     }
 }
\ No newline at end of file
@@ -29,6 +29,12 @@ import org.apache.commons.text.TextStringBuilder;
  */
 public class CreateIndexTransaction extends Transaction {
 
+    @Override
+    public boolean canBeGroupCommitted() {
+        // MySQL commits implicitly when an index is created.
+        return false;
+    }
+
     @Override
     protected void performOperations() {
         createIndex(UsersTable.TABLE_NAME, "plan_users_uuid_index",
@@ -36,4 +36,9 @@ public abstract class OperationCriticalTransaction extends Transaction {
             throw new FatalDBException(getClass().getSimpleName() + " failed to execute and database can not be opened.");
         }
     }
+
+    @Override
+    public boolean canBeGroupCommitted() {
+        return false;
+    }
 }
\ No newline at end of file
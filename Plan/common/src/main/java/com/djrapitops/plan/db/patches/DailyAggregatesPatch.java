@@ -0,0 +1,89 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.patches;
+
+import com.djrapitops.plan.db.access.QueryAllStatement;
+import com.djrapitops.plan.db.access.transactions.RebuildDailyAggregatesTransaction;
+import com.djrapitops.plan.db.sql.tables.DailyAggregatesTable;
+import com.djrapitops.plan.db.sql.tables.SessionsTable;
+import com.djrapitops.plan.db.sql.tables.UserInfoTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Patch that calculates the per day aggregates from the data stored before they were introduced.
+ * <p>
+ * The aggregates are checked separately for each server, and rebuilt for servers whose session or
+ * new player totals do not match the stored data. This way servers on a shared MySQL database that
+ * stored data with an older version of Plan get their aggregates rebuilt on the next start.
+ *
+ * @author Rsl1122
+ * @see DailyAggregatesTable
+ */
+public class DailyAggregatesPatch extends Patch {
+
+    private Set<UUID> outdatedServers;
+
+    @Override
+    public boolean hasBeenApplied() {
+        Map<UUID, Long> sessionCounts = countPerServer(SessionsTable.TABLE_NAME, SessionsTable.SERVER_UUID, "COUNT(1)");
+        Map<UUID, Long> newPlayerCounts = countPerServer(UserInfoTable.TABLE_NAME, UserInfoTable.SERVER_UUID, "COUNT(1)");
+        Map<UUID, Long> aggregatedSessions = countPerServer(DailyAggregatesTable.TABLE_NAME, DailyAggregatesTable.SERVER_UUID,
+                "SUM(" + DailyAggregatesTable.SESSION_COUNT + ")");
+        Map<UUID, Long> aggregatedNewPlayers = countPerServer(DailyAggregatesTable.TABLE_NAME, DailyAggregatesTable.SERVER_UUID,
+                "SUM(" + DailyAggregatesTable.NEW_PLAYERS + ")");
+
+        Set<UUID> serverUUIDs = new HashSet<>();
+        serverUUIDs.addAll(sessionCounts.keySet());
+        serverUUIDs.addAll(newPlayerCounts.keySet());
+        serverUUIDs.addAll(aggregatedSessions.keySet());
+
+        outdatedServers = new HashSet<>();
+        for (UUID serverUUID : serverUUIDs) {
+            boolean sessionsMatch = sessionCounts.getOrDefault(serverUUID, 0L).equals(aggregatedSessions.getOrDefault(serverUUID, 0L));
+            boolean newPlayersMatch = newPlayerCounts.getOrDefault(serverUUID, 0L).equals(aggregatedNewPlayers.getOrDefault(serverUUID, 0L));
+            if (!sessionsMatch || !newPlayersMatch) {
+                outdatedServers.add(serverUUID);
+            }
+        }
+        return outdatedServers.isEmpty();
+    }
+
+    private Map<UUID, Long> countPerServer(String tableName, String serverUUIDColumn, String function) {
+        String sql = "SELECT " + serverUUIDColumn + ", " + function + " as c FROM " + tableName +
+                " GROUP BY " + serverUUIDColumn;
+        return query(new QueryAllStatement<Map<UUID, Long>>(sql, 100) {
+            @Override
+            public Map<UUID, Long> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Long> counts = new HashMap<>();
+                while (set.next()) {
+                    counts.put(UUID.fromString(set.getString(serverUUIDColumn)), set.getLong("c"));
+                }
+                return counts;
+            }
+        });
+    }
+
+    @Override
+    protected void applyPatch() {
+        for (UUID serverUUID : outdatedServers) {
+            executeOther(new RebuildDailyAggregatesTransaction(serverUUID));
+        }
+    }
+}
\ No newline at end of file
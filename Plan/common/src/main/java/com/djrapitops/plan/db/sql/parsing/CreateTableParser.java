@@ -110,6 +110,16 @@ public class CreateTableParser {
         return this;
     }
 
+    public CreateTableParser unique(String... columns) {
+        finalizeColumn();
+        if (constraintCount > 0) {
+            keyConstraints.append(", ");
+        }
+        keyConstraints.append("UNIQUE (").append(String.join(", ", columns)).append(")");
+        constraintCount++;
+        return this;
+    }
+
     private void primaryKey(String column) {
         finalizeColumn();
         if (constraintCount > 0) {
@@ -44,7 +44,7 @@ public class CommandUseTable {
             + ") VALUES (?, ?, " + ServerTable.STATEMENT_SELECT_SERVER_ID + ")";
 
     public static final String UPDATE_STATEMENT = "UPDATE " + CommandUseTable.TABLE_NAME + " SET "
-            + CommandUseTable.TIMES_USED + "=" + CommandUseTable.TIMES_USED + "+ 1" +
+            + CommandUseTable.TIMES_USED + "=" + CommandUseTable.TIMES_USED + "+ ?" +
             " WHERE " + CommandUseTable.SERVER_ID + "=" + ServerTable.STATEMENT_SELECT_SERVER_ID +
             " AND " + CommandUseTable.COMMAND + "=?";
 
@@ -0,0 +1,109 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.db.sql.tables;
+
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
+import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.patches.DailyAggregatesPatch;
+import com.djrapitops.plan.db.sql.parsing.CreateTableParser;
+import com.djrapitops.plan.db.sql.parsing.Sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Table information about 'plan_daily_aggregates'.
+ * <p>
+ * Contains running totals of session data for each server and day (UTC), so that analysis
+ * does not need to go through every session to calculate them.
+ * <p>
+ * Patches related to this table:
+ * {@link DailyAggregatesPatch}
+ *
+ * @author Rsl1122
+ */
+public class DailyAggregatesTable {
+
+    public static final String TABLE_NAME = "plan_daily_aggregates";
+
+    public static final String ID = "id";
+    public static final String SERVER_UUID = "server_uuid";
+    public static final String DATE = "date";
+    public static final String SESSION_COUNT = "session_count";
+    public static final String PLAYTIME = "playtime";
+    public static final String PLAYER_KILLS = "player_kills";
+    public static final String MOB_KILLS = "mob_kills";
+    public static final String DEATHS = "deaths";
+    public static final String UNIQUE_PLAYERS = "unique_players";
+    public static final String NEW_PLAYERS = "new_players";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + SERVER_UUID + ", "
+            + DATE + ", "
+            + SESSION_COUNT + ", "
+            + PLAYTIME + ", "
+            + PLAYER_KILLS + ", "
+            + MOB_KILLS + ", "
+            + DEATHS + ", "
+            + UNIQUE_PLAYERS + ", "
+            + NEW_PLAYERS
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public static final String UPDATE_STATEMENT = "UPDATE " + TABLE_NAME + " SET "
+            + SESSION_COUNT + "=" + SESSION_COUNT + "+?, "
+            + PLAYTIME + "=" + PLAYTIME + "+?, "
+            + PLAYER_KILLS + "=" + PLAYER_KILLS + "+?, "
+            + MOB_KILLS + "=" + MOB_KILLS + "+?, "
+            + DEATHS + "=" + DEATHS + "+?, "
+            + UNIQUE_PLAYERS + "=" + UNIQUE_PLAYERS + "+?, "
+            + NEW_PLAYERS + "=" + NEW_PLAYERS + "+?"
+            + " WHERE " + SERVER_UUID + "=?"
+            + " AND " + DATE + "=?";
+
+    private DailyAggregatesTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableParser.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(SESSION_COUNT, Sql.INT).notNull()
+                .column(PLAYTIME, Sql.LONG).notNull()
+                .column(PLAYER_KILLS, Sql.INT).notNull()
+                .column(MOB_KILLS, Sql.INT).notNull()
+                .column(DEATHS, Sql.INT).notNull()
+                .column(UNIQUE_PLAYERS, Sql.INT).notNull()
+                .column(NEW_PLAYERS, Sql.INT).notNull()
+                .unique(SERVER_UUID, DATE)
+                .toString();
+    }
+
+    public static void setInsertValues(PreparedStatement statement, UUID serverUUID, DailyAggregate aggregate) throws SQLException {
+        statement.setString(1, serverUUID.toString());
+        statement.setLong(2, aggregate.getDate());
+        statement.setInt(3, aggregate.getSessionCount());
+        statement.setLong(4, aggregate.getPlaytime());
+        statement.setInt(5, aggregate.getPlayerKills());
+        statement.setInt(6, aggregate.getMobKills());
+        statement.setInt(7, aggregate.getDeaths());
+        statement.setInt(8, aggregate.getUniquePlayers());
+        statement.setInt(9, aggregate.getNewPlayers());
+    }
+}
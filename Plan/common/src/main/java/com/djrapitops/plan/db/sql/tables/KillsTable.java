@@ -53,6 +53,20 @@ public class KillsTable {
     public static final String DATE = "date";
 
     public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + SESSION_ID + ", "
+            + KILLER_UUID + ", "
+            + VICTIM_UUID + ", "
+            + SERVER_UUID + ", "
+            + DATE + ", "
+            + WEAPON
+            + ") VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Insert statement that selects the session ID with the parameters of {@link SessionsTable#SELECT_SESSION_ID_STATEMENT}.
+     * <p>
+     * Used when the ID of the stored session is not known.
+     */
+    public static final String INSERT_SELECTING_SESSION_ID_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
             + SESSION_ID + ", "
             + KILLER_UUID + ", "
             + VICTIM_UUID + ", "
@@ -78,24 +92,18 @@ public class KillsTable {
                 .toString();
     }
 
-    public static void addSessionKillsToBatch(PreparedStatement statement, Session session) throws SQLException {
+    public static void addSessionKillsToBatch(PreparedStatement statement, Session session, int sessionID) throws SQLException {
         UUID uuid = session.getUnsafe(SessionKeys.UUID);
         UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
 
         for (PlayerKill kill : session.getPlayerKills()) {
-            // Session ID select statement parameters
-            statement.setString(1, uuid.toString());
-            statement.setString(2, serverUUID.toString());
-            statement.setLong(3, session.getUnsafe(SessionKeys.START));
-            statement.setLong(4, session.getUnsafe(SessionKeys.END));
-
-            // Kill data
-            statement.setString(5, uuid.toString());
-            statement.setString(6, kill.getVictim().toString());
-            statement.setString(7, serverUUID.toString());
-            statement.setLong(8, kill.getDate());
-            statement.setString(9, kill.getWeapon());
+            statement.setInt(1, sessionID);
+            statement.setString(2, uuid.toString());
+            statement.setString(3, kill.getVictim().toString());
+            statement.setString(4, serverUUID.toString());
+            statement.setLong(5, kill.getDate());
+            statement.setString(6, kill.getWeapon());
             statement.addBatch();
         }
     }
-}
+}
\ No newline at end of file
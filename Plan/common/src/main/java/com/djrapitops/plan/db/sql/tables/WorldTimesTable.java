@@ -58,6 +58,24 @@ public class WorldTimesTable {
     public static final String SPECTATOR = "spectator_time";
 
     public static final String INSERT_STATEMENT = "INSERT INTO " + WorldTimesTable.TABLE_NAME + " (" +
+            WorldTimesTable.SESSION_ID + ", " +
+            WorldTimesTable.WORLD_ID + ", " +
+            WorldTimesTable.USER_UUID + ", " +
+            WorldTimesTable.SERVER_UUID + ", " +
+            WorldTimesTable.SURVIVAL + ", " +
+            WorldTimesTable.CREATIVE + ", " +
+            WorldTimesTable.ADVENTURE + ", " +
+            WorldTimesTable.SPECTATOR +
+            ") VALUES (?, " +
+            WorldTable.SELECT_WORLD_ID_STATEMENT + ", " +
+            "?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Insert statement that selects the session ID with the parameters of {@link SessionsTable#SELECT_SESSION_ID_STATEMENT}.
+     * <p>
+     * Used when the ID of the stored session is not known.
+     */
+    public static final String INSERT_SELECTING_SESSION_ID_STATEMENT = "INSERT INTO " + WorldTimesTable.TABLE_NAME + " (" +
             WorldTimesTable.SESSION_ID + ", " +
             WorldTimesTable.WORLD_ID + ", " +
             WorldTimesTable.USER_UUID + ", " +
@@ -91,7 +109,7 @@ public class WorldTimesTable {
                 .toString();
     }
 
-    public static void addSessionWorldTimesToBatch(PreparedStatement statement, Session session, String[] gms) throws SQLException {
+    public static void addSessionWorldTimesToBatch(PreparedStatement statement, Session session, int sessionID, String[] gms) throws SQLException {
         UUID uuid = session.getUnsafe(SessionKeys.UUID);
         UUID serverUUID = session.getUnsafe(SessionKeys.SERVER_UUID);
         Map<String, GMTimes> worldTimes = session.getUnsafe(SessionKeys.WORLD_TIMES).getWorldTimes();
@@ -99,23 +117,19 @@ public class WorldTimesTable {
             String worldName = worldTimesEntry.getKey();
             GMTimes gmTimes = worldTimesEntry.getValue();
 
-            // Session ID select statement
-            statement.setString(1, uuid.toString());
-            statement.setString(2, serverUUID.toString());
-            statement.setLong(3, session.getUnsafe(SessionKeys.START));
-            statement.setLong(4, session.getUnsafe(SessionKeys.END));
+            statement.setInt(1, sessionID);
 
             // World ID select statement
-            statement.setString(5, worldName);
-            statement.setString(6, serverUUID.toString());
+            statement.setString(2, worldName);
+            statement.setString(3, serverUUID.toString());
 
-            statement.setString(7, uuid.toString());
-            statement.setString(8, serverUUID.toString());
-            statement.setLong(9, gmTimes.getTime(gms[0]));
-            statement.setLong(10, gmTimes.getTime(gms[1]));
-            statement.setLong(11, gmTimes.getTime(gms[2]));
-            statement.setLong(12, gmTimes.getTime(gms[3]));
+            statement.setString(4, uuid.toString());
+            statement.setString(5, serverUUID.toString());
+            statement.setLong(6, gmTimes.getTime(gms[0]));
+            statement.setLong(7, gmTimes.getTime(gms[1]));
+            statement.setLong(8, gmTimes.getTime(gms[2]));
+            statement.setLong(9, gmTimes.getTime(gms[3]));
             statement.addBatch();
         }
     }
-}
+}
\ No newline at end of file
@@ -26,6 +26,7 @@ import com.djrapitops.plan.db.access.transactions.init.RemoveOldSampledDataTrans
 import com.djrapitops.plan.db.sql.tables.SessionsTable;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveUnsatisfiedConditionalPlayerResultsTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveUnsatisfiedConditionalServerResultsTransaction;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.locale.Locale;
@@ -57,6 +58,7 @@ public class DBCleanTask extends AbsRunnable {
 
     private final Locale locale;
     private final DBSystem dbSystem;
+    private final KnownEntityCache knownEntityCache;
     private final PlanConfig config;
     private final ServerInfo serverInfo;
     private final PluginLogger logger;
@@ -67,6 +69,7 @@ public class DBCleanTask extends AbsRunnable {
             PlanConfig config,
             Locale locale,
             DBSystem dbSystem,
+            KnownEntityCache knownEntityCache,
             ServerInfo serverInfo,
             PluginLogger logger,
             ErrorHandler errorHandler
@@ -74,6 +77,7 @@ public class DBCleanTask extends AbsRunnable {
         this.locale = locale;
 
         this.dbSystem = dbSystem;
+        this.knownEntityCache = knownEntityCache;
         this.config = config;
         this.serverInfo = serverInfo;
         this.logger = logger;
@@ -112,6 +116,7 @@ public class DBCleanTask extends AbsRunnable {
         List<UUID> inactivePlayers = database.query(fetchInactivePlayerUUIDs(keepActiveAfter));
         for (UUID uuid : inactivePlayers) {
             database.executeTransaction(new RemovePlayerTransaction(uuid));
+            knownEntityCache.removePlayer(uuid);
         }
         return inactivePlayers.size();
     }
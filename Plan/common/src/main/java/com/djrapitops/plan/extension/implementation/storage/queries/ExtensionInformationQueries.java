@@ -21,9 +21,11 @@ import com.djrapitops.plan.db.access.QueryAllStatement;
 import com.djrapitops.plan.db.access.QueryStatement;
 import com.djrapitops.plan.db.sql.tables.ExtensionIconTable;
 import com.djrapitops.plan.db.sql.tables.ExtensionPluginTable;
+import com.djrapitops.plan.db.sql.tables.ExtensionProviderTable;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.icon.Family;
 import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.results.ExtensionDescriptive;
 import com.djrapitops.plan.extension.implementation.results.ExtensionInformation;
 
 import java.sql.PreparedStatement;
@@ -73,6 +75,52 @@ public class ExtensionInformationQueries {
         };
     }
 
+    /**
+     * Query the providers of a server that have their values shown in the players table.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @return List of descriptives of the providers, one for each column.
+     */
+    public static Query<List<ExtensionDescriptive>> playersTableProvidersOfServer(UUID serverUUID) {
+        String sql = SELECT + "DISTINCT " +
+                "p1." + ExtensionProviderTable.PROVIDER_NAME + " as provider_name," +
+                "p1." + ExtensionProviderTable.TEXT + " as text," +
+                "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
+                "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
+                FROM + ExtensionProviderTable.TABLE_NAME + " p1" +
+                INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
+                LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
+                WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
+                AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?";
+
+        return new QueryStatement<List<ExtensionDescriptive>>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setBoolean(2, true);  // Select only providers that should be shown
+                statement.setBoolean(3, false); // Player name Strings are not shown
+            }
+
+            @Override
+            public List<ExtensionDescriptive> processResults(ResultSet set) throws SQLException {
+                List<ExtensionDescriptive> descriptives = new ArrayList<>();
+                Set<String> foundNames = new HashSet<>();
+                while (set.next()) {
+                    String name = set.getString("provider_name");
+                    if (!foundNames.add(name)) {
+                        continue;
+                    }
+                    String iconName = set.getString("provider_icon_name");
+                    Family family = Family.getByName(set.getString("provider_icon_family")).orElse(Family.SOLID);
+                    Icon icon = new Icon(family, iconName, Color.NONE);
+                    descriptives.add(new ExtensionDescriptive(name, set.getString("text"), null, icon, 0));
+                }
+                return descriptives;
+            }
+        };
+    }
+
     private static ExtensionInformation extractExtensionInformationFromQuery(ResultSet set) throws SQLException {
         int id = set.getInt("id");
         String pluginName = set.getString("plugin_name");
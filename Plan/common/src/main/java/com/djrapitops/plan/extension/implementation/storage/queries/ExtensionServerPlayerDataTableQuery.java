@@ -29,15 +29,13 @@ import com.djrapitops.plan.extension.implementation.results.*;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.db.sql.parsing.Sql.*;
 
 /**
- * Query Extension data of x most recent players on a server.
+ * Query Extension data of x most recent players or specific players on a server.
  * <p>
  * Returns Map: Player UUID - ExtensionTabData (container for provider based data)
  *
@@ -47,14 +45,31 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
 
     private final UUID serverUUID;
     private final int xMostRecentPlayers;
+    private final Collection<UUID> playerUUIDs;
 
     public ExtensionServerPlayerDataTableQuery(UUID serverUUID, int xMostRecentPlayers) {
         this.serverUUID = serverUUID;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.playerUUIDs = null;
+    }
+
+    /**
+     * Query Extension data of specific players, such as a page of the players table.
+     *
+     * @param serverUUID  UUID of the Plan server.
+     * @param playerUUIDs UUIDs of the players, keep the amount small as each is a query parameter.
+     */
+    public ExtensionServerPlayerDataTableQuery(UUID serverUUID, Collection<UUID> playerUUIDs) {
+        this.serverUUID = serverUUID;
+        this.xMostRecentPlayers = playerUUIDs.size();
+        this.playerUUIDs = playerUUIDs;
     }
 
     @Override
     public Map<UUID, ExtensionTabData> executeQuery(SQLDB db) {
+        if (playerUUIDs != null && playerUUIDs.isEmpty()) {
+            return new HashMap<>();
+        }
         return db.query(fetchIncompletePlayerDataByPluginID());
     }
 
@@ -80,21 +95,30 @@ public class ExtensionServerPlayerDataTableQuery implements Query<Map<UUID, Exte
                 "i1." + ExtensionIconTable.ICON_NAME + " as provider_icon_name," +
                 "i1." + ExtensionIconTable.FAMILY + " as provider_icon_family" +
                 FROM + ExtensionPlayerValueTable.TABLE_NAME + " v1" +
-                INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.uuid=v1." + ExtensionPlayerValueTable.USER_UUID +
+                (playerUUIDs == null ? INNER_JOIN + '(' + selectLimitedNumberOfPlayerUUIDsByLastSeenDate + ") as last_seen_q on last_seen_q.uuid=v1." + ExtensionPlayerValueTable.USER_UUID : "") +
                 INNER_JOIN + ExtensionProviderTable.TABLE_NAME + " p1 on p1." + ExtensionProviderTable.ID + "=v1." + ExtensionPlayerValueTable.PROVIDER_ID +
                 INNER_JOIN + ExtensionPluginTable.TABLE_NAME + " e1 on e1." + ExtensionPluginTable.ID + "=p1." + ExtensionProviderTable.PLUGIN_ID +
                 LEFT_JOIN + ExtensionIconTable.TABLE_NAME + " i1 on i1." + ExtensionIconTable.ID + "=p1." + ExtensionProviderTable.ICON_ID +
                 WHERE + "e1." + ExtensionPluginTable.SERVER_UUID + "=?" +
                 AND + "p1." + ExtensionProviderTable.SHOW_IN_PLAYERS_TABLE + "=?" +
-                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?";
+                AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?" +
+                (playerUUIDs != null ? AND + "v1." + ExtensionPlayerValueTable.USER_UUID + " IN (" + String.join(",", Collections.nCopies(playerUUIDs.size(), "?")) + ")" : "");
 
         return new QueryStatement<Map<UUID, ExtensionTabData>>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, xMostRecentPlayers);       // Limit to x most recently seen players
-                statement.setString(2, serverUUID.toString());
-                statement.setBoolean(3, true);                  // Select only values that should be shown
-                statement.setBoolean(4, false);                 // Don't select player_name String values
+                int index = 1;
+                if (playerUUIDs == null) {
+                    statement.setInt(index++, xMostRecentPlayers); // Limit to x most recently seen players
+                }
+                statement.setString(index++, serverUUID.toString());
+                statement.setBoolean(index++, true);                // Select only values that should be shown
+                statement.setBoolean(index++, false);               // Don't select player_name String values
+                if (playerUUIDs != null) {
+                    for (UUID playerUUID : playerUUIDs) {
+                        statement.setString(index++, playerUUID.toString());
+                    }
+                }
             }
 
             @Override
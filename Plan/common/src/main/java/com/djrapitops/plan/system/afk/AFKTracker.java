@@ -21,74 +21,112 @@ import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 
-import java.util.*;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Thread safe, actions can be reported from async events like chat.
+ * No objects are allocated for actions of players that are already tracked.
  *
  * @author Rsl1122
  */
 public class AFKTracker {
 
-    private final Set<UUID> usedAFKCommand;
-    private final Map<UUID, Long> lastMovement;
-    private final PlanConfig config;
+    private static final long IGNORED = -1L;
+
+    private final Map<UUID, PlayerState> players;
+    private final long afkThresholdMs;
 
     public AFKTracker(PlanConfig config) {
-        this.config = config;
-        usedAFKCommand = new HashSet<>();
-        lastMovement = new HashMap<>();
+        this(config.get(TimeSettings.AFK_THRESHOLD));
+    }
+
+    AFKTracker(long afkThresholdMs) {
+        this.afkThresholdMs = afkThresholdMs;
+        players = new ConcurrentHashMap<>();
+    }
+
+    private PlayerState getState(UUID uuid, long time) {
+        PlayerState state = players.get(uuid);
+        if (state == null) {
+            PlayerState created = new PlayerState(time);
+            state = players.putIfAbsent(uuid, created);
+            if (state == null) {
+                state = created;
+            }
+        }
+        return state;
     }
 
     public void hasIgnorePermission(UUID uuid) {
-        lastMovement.put(uuid, -1L);
+        PlayerState state = getState(uuid, IGNORED);
+        synchronized (state) {
+            state.lastMovement = IGNORED;
+        }
     }
 
     public void usedAfkCommand(UUID uuid, long time) {
-        usedAFKCommand.add(uuid);
-        lastMovement.put(uuid, time - config.get(TimeSettings.AFK_THRESHOLD));
+        PlayerState state = getState(uuid, time);
+        synchronized (state) {
+            state.usedAFKCommand = true;
+            state.lastMovement = time - afkThresholdMs;
+        }
     }
 
     public void performedAction(UUID uuid, long time) {
-        Long lastMoved = lastMovement.getOrDefault(uuid, time);
-        if (lastMoved == -1) {
-            return;
-        }
-        lastMovement.put(uuid, time);
-
-        try {
-            if (time - lastMoved < config.get(TimeSettings.AFK_THRESHOLD)) {
-                // Threshold not crossed, no action required.
+        PlayerState state = getState(uuid, time);
+        long timeAFK;
+        synchronized (state) {
+            long lastMoved = state.lastMovement;
+            if (lastMoved == IGNORED) {
                 return;
             }
+            state.lastMovement = time;
 
-            long removeAfkCommandEffect = usedAFKCommand.contains(uuid) ? config.get(TimeSettings.AFK_THRESHOLD) : 0;
-            long timeAFK = time - lastMoved - removeAfkCommandEffect;
-
-            Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
-            if (!cachedSession.isPresent()) {
+            boolean usedAFKCommand = state.usedAFKCommand;
+            state.usedAFKCommand = false;
+            if (time - lastMoved < afkThresholdMs) {
+                // Threshold not crossed, no action required.
                 return;
             }
-            Session session = cachedSession.get();
-            session.addAFKTime(timeAFK);
-        } finally {
-            usedAFKCommand.remove(uuid);
+
+            long removeAfkCommandEffect = usedAFKCommand ? afkThresholdMs : 0;
+            timeAFK = time - lastMoved - removeAfkCommandEffect;
         }
+
+        Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
+        cachedSession.ifPresent(session -> session.addAFKTime(timeAFK));
     }
 
     public void loggedOut(UUID uuid, long time) {
         performedAction(uuid, time);
-        lastMovement.remove(uuid);
-        usedAFKCommand.remove(uuid);
+        players.remove(uuid);
     }
 
     public boolean isAfk(UUID uuid) {
         long time = System.currentTimeMillis();
 
-        Long lastMoved = lastMovement.get(uuid);
-        if (lastMoved == null || lastMoved == -1) {
+        PlayerState state = players.get(uuid);
+        if (state == null) {
             return false;
         }
-        return time - lastMoved > config.get(TimeSettings.AFK_THRESHOLD);
+        long lastMoved = state.lastMovement;
+        if (lastMoved == IGNORED) {
+            return false;
+        }
+        return time - lastMoved > afkThresholdMs;
+    }
+
+    private static class PlayerState {
+        private volatile long lastMovement;
+        private boolean usedAFKCommand;
+
+        PlayerState(long lastMovement) {
+            this.lastMovement = lastMovement;
+        }
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.system.cache;
 
 import com.djrapitops.plan.api.exceptions.EnableException;
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.system.SubSystem;
 
 import javax.inject.Inject;
@@ -33,27 +34,44 @@ public class CacheSystem implements SubSystem {
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
     private final GeolocationCache geolocationCache;
+    private final EventCountCache eventCountCache;
+    private final KnownEntityCache knownEntityCache;
+    private final PlaceholderValueCache placeholderValueCache;
 
     @Inject
     public CacheSystem(
             SessionCache sessionCache,
             NicknameCache nicknameCache,
-            GeolocationCache geolocationCache
+            GeolocationCache geolocationCache,
+            EventCountCache eventCountCache,
+            KnownEntityCache knownEntityCache,
+            PlaceholderValueCache placeholderValueCache
     ) {
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
         this.geolocationCache = geolocationCache;
+        this.eventCountCache = eventCountCache;
+        this.knownEntityCache = knownEntityCache;
+        this.placeholderValueCache = placeholderValueCache;
     }
 
     @Override
     public void enable() throws EnableException {
         nicknameCache.enable();
         geolocationCache.enable();
+        knownEntityCache.enable();
     }
 
     @Override
     public void disable() {
         geolocationCache.clearCache();
+        knownEntityCache.disable();
+        placeholderValueCache.clear();
+        try {
+            eventCountCache.saveCounts();
+        } catch (DBOpException ignore) {
+            /* Database was closed before the counts could be saved */
+        }
     }
 
     public NicknameCache getNicknameCache() {
@@ -67,4 +85,16 @@ public class CacheSystem implements SubSystem {
     public SessionCache getSessionCache() {
         return sessionCache;
     }
+
+    public EventCountCache getEventCountCache() {
+        return eventCountCache;
+    }
+
+    public KnownEntityCache getKnownEntityCache() {
+        return knownEntityCache;
+    }
+
+    public PlaceholderValueCache getPlaceholderValueCache() {
+        return placeholderValueCache;
+    }
 }
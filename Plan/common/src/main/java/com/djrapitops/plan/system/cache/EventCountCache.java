@@ -0,0 +1,178 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.db.access.transactions.events.CommandStoreTransaction;
+import com.djrapitops.plan.db.access.transactions.events.KickStoreTransaction;
+import com.djrapitops.plan.system.database.DBSystem;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Used for counting command uses and kicks in memory before they are saved to the database.
+ * <p>
+ * Counts are saved periodically by {@link com.djrapitops.plan.system.tasks.server.EventCountSaveTask}
+ * and when the plugin is disabled. Counts of a failed save are kept for the next save.
+ * Command uses that have not been saved yet are available with {@link #addUnsavedCommandUses(UUID, Map)}
+ * so that the server page can show them.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class EventCountCache {
+
+    private final DBSystem dbSystem;
+
+    private Map<UUID, Map<String, Integer>> commandCounts;
+    private Map<UUID, Integer> kickCounts;
+    private final Map<UUID, Map<String, Integer>> uncommittedCommandCounts;
+
+    @Inject
+    public EventCountCache(DBSystem dbSystem) {
+        this.dbSystem = dbSystem;
+        commandCounts = new HashMap<>();
+        kickCounts = new HashMap<>();
+        uncommittedCommandCounts = new HashMap<>();
+    }
+
+    /**
+     * Count a use of a command.
+     *
+     * @param serverUUID  UUID of the server the command was used on.
+     * @param commandName Name of the command, commands longer than 20 characters are not stored.
+     */
+    public synchronized void commandUsed(UUID serverUUID, String commandName) {
+        if (commandName.length() > 20) {
+            return;
+        }
+        addCommandCounts(commandCounts, serverUUID, Collections.singletonMap(commandName, 1));
+        addCommandCounts(uncommittedCommandCounts, serverUUID, Collections.singletonMap(commandName, 1));
+    }
+
+    /**
+     * Count a kick of a player.
+     *
+     * @param playerUUID UUID of the kicked player.
+     */
+    public synchronized void playerKicked(UUID playerUUID) {
+        kickCounts.merge(playerUUID, 1, Integer::sum);
+    }
+
+    private static void addCommandCounts(Map<UUID, Map<String, Integer>> to, UUID serverUUID, Map<String, Integer> counts) {
+        Map<String, Integer> serverCounts = to.computeIfAbsent(serverUUID, key -> new HashMap<>());
+        for (Map.Entry<String, Integer> count : counts.entrySet()) {
+            serverCounts.merge(count.getKey(), count.getValue(), (one, two) -> one + two == 0 ? null : one + two);
+        }
+        if (serverCounts.isEmpty()) {
+            to.remove(serverUUID);
+        }
+    }
+
+    /**
+     * Add the command uses that have not been committed to the database yet to stored counts.
+     *
+     * @param serverUUID   UUID of the server the commands were used on.
+     * @param storedCounts Map: Name of the command - Use count in the database.
+     * @return New Map: Name of the command - Use count including the uncommitted uses.
+     */
+    public synchronized Map<String, Integer> addUnsavedCommandUses(UUID serverUUID, Map<String, Integer> storedCounts) {
+        Map<String, Integer> counts = new HashMap<>(storedCounts);
+        for (Map.Entry<String, Integer> unsaved : uncommittedCommandCounts.getOrDefault(serverUUID, Collections.emptyMap()).entrySet()) {
+            counts.merge(unsaved.getKey().toLowerCase(), unsaved.getValue(), Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Save the current counts to the database.
+     *
+     * @return Future that is finished when the counts have been saved, or returned to this cache if saving failed.
+     */
+    public CompletableFuture<?> saveCounts() {
+        Map<UUID, Map<String, Integer>> commandsToSave;
+        Map<UUID, Integer> kicksToSave;
+        synchronized (this) {
+            if (commandCounts.isEmpty() && kickCounts.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            commandsToSave = commandCounts;
+            kicksToSave = kickCounts;
+            commandCounts = new HashMap<>();
+            kickCounts = new HashMap<>();
+        }
+
+        Database database = dbSystem.getDatabase();
+        CountStoreTransaction transaction = new CountStoreTransaction(commandsToSave, kicksToSave);
+        try {
+            return database.executeTransaction(transaction).whenComplete((done, throwable) -> {
+                if (!transaction.committed) {
+                    returnUnsavedCounts(commandsToSave, kicksToSave);
+                }
+            });
+        } catch (DBOpException e) {
+            returnUnsavedCounts(commandsToSave, kicksToSave);
+            throw e;
+        }
+    }
+
+    private synchronized void countsCommitted(Map<UUID, Map<String, Integer>> commands) {
+        for (Map.Entry<UUID, Map<String, Integer>> serverCommands : commands.entrySet()) {
+            Map<String, Integer> committed = new HashMap<>();
+            serverCommands.getValue().forEach((command, count) -> committed.put(command, -count));
+            addCommandCounts(uncommittedCommandCounts, serverCommands.getKey(), committed);
+        }
+    }
+
+    private synchronized void returnUnsavedCounts(Map<UUID, Map<String, Integer>> commands, Map<UUID, Integer> kicks) {
+        for (Map.Entry<UUID, Map<String, Integer>> serverCommands : commands.entrySet()) {
+            addCommandCounts(commandCounts, serverCommands.getKey(), serverCommands.getValue());
+        }
+        for (Map.Entry<UUID, Integer> kickCount : kicks.entrySet()) {
+            kickCounts.merge(kickCount.getKey(), kickCount.getValue(), Integer::sum);
+        }
+    }
+
+    private class CountStoreTransaction extends Transaction {
+
+        private final Map<UUID, Map<String, Integer>> commands;
+        private final Map<UUID, Integer> kicks;
+        private volatile boolean committed = false;
+
+        CountStoreTransaction(Map<UUID, Map<String, Integer>> commands, Map<UUID, Integer> kicks) {
+            this.commands = commands;
+            this.kicks = kicks;
+            runAfterCommit(() -> {
+                committed = true;
+                countsCommitted(commands);
+            });
+        }
+
+        @Override
+        protected void performOperations() {
+            for (Map.Entry<UUID, Map<String, Integer>> serverCommands : commands.entrySet()) {
+                executeOther(new CommandStoreTransaction(serverCommands.getKey(), serverCommands.getValue()));
+            }
+            executeOther(new KickStoreTransaction(kicks));
+        }
+    }
+}
\ No newline at end of file
@@ -25,7 +25,11 @@ import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.DataGatheringSettings;
 import com.djrapitops.plugin.logging.L;
 import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.exception.AddressNotFoundException;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.Country;
@@ -43,27 +47,34 @@ import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.zip.GZIPInputStream;
 
 /**
  * This class contains the geolocation cache.
  * <p>
- * It caches all IPs with their matching country.
+ * It caches IPs with their matching country, up to {@link #MAX_CACHED_IPS} most recently used IPs.
+ * The GeoIP database is read to memory once and read again if the file changes.
  *
  * @author Fuzzlemann
  */
 @Singleton
 public class GeolocationCache implements SubSystem {
 
+    private static final int MAX_CACHED_IPS = 10000;
+
     private final Locale locale;
     private final PlanFiles files;
     private final PlanConfig config;
     private final PluginLogger logger;
-    private final Map<String, String> cached;
+    private final Cache<String, String> cached;
+    private final ReadWriteLock readerLock;
 
     private File geolocationDB;
+    private volatile DatabaseReader reader;
+    private volatile long readerLastModified;
 
     @Inject
     public GeolocationCache(
@@ -77,7 +88,11 @@ public class GeolocationCache implements SubSystem {
         this.config = config;
         this.logger = logger;
 
-        this.cached = new HashMap<>();
+        this.cached = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_IPS)
+                .recordStats()
+                .build();
+        readerLock = new ReentrantReadWriteLock();
     }
 
     @Override
@@ -109,26 +124,8 @@ public class GeolocationCache implements SubSystem {
      * @see #getUnCachedCountry(String)
      */
     public String getCountry(String ipAddress) {
-        String country = getCachedCountry(ipAddress);
-
-        if (country != null) {
-            return country;
-        } else {
-            country = getUnCachedCountry(ipAddress);
-            cached.put(ipAddress, country);
-
-            return country;
-        }
-    }
-
-    /**
-     * Returns the cached country
-     *
-     * @param ipAddress The IP Address which is retrieved out of the cache
-     * @return The cached country, {@code null} if the country is not cached
-     */
-    private String getCachedCountry(String ipAddress) {
-        return cached.get(ipAddress);
+        // Failed lookups are not cached so that they are retried.
+        return Optional.ofNullable(cached.get(ipAddress, this::getUnCachedCountry)).orElse("Not Known");
     }
 
     /**
@@ -138,10 +135,8 @@ public class GeolocationCache implements SubSystem {
      * <a href="http://www.maxmind.com">http://www.maxmind.com</a>.
      *
      * @param ipAddress The IP Address from which the country is retrieved
-     * @return The name of the country in full length.
-     * <p>
-     * An exception from that rule is when the country is unknown or the retrieval of the country failed in any way,
-     * if that happens, "Not Known" will be returned.
+     * @return The name of the country in full length, "Not Known" if the address is not in the database,
+     * or null if the retrieval of the country failed.
      * @see <a href="http://maxmind.com">http://maxmind.com</a>
      * @see #getCountry(String)
      */
@@ -150,24 +145,73 @@ public class GeolocationCache implements SubSystem {
             return "Local Machine";
         }
         try {
-            checkDB();
+            InetAddress inetAddress = InetAddress.getByName(ipAddress);
+            openReader();
 
+            readerLock.readLock().lock();
+            try {
+                if (reader == null) {
+                    return null;
+                }
+                CountryResponse response = reader.country(inetAddress);
+                Country country = response.getCountry();
+                return country.getName();
+            } finally {
+                readerLock.readLock().unlock();
+            }
+        } catch (AddressNotFoundException e) {
+            return "Not Known";
+        } catch (IOException | GeoIp2Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Open the reader for the GeoIP database if it is not open or the database file has been modified.
+     * <p>
+     * The reader is thread safe and shared between lookups, lookups hold the read lock while using it.
+     *
+     * @throws IOException If the database could not be downloaded or opened.
+     */
+    private void openReader() throws IOException {
+        if (reader != null && geolocationDB.lastModified() == readerLastModified) {
+            return;
+        }
+        readerLock.writeLock().lock();
+        try {
+            checkDB();
+            long lastModified = geolocationDB.lastModified();
+            if (reader != null && lastModified == readerLastModified) {
+                return;
+            }
+            closeReader();
             try (
                     // See https://github.com/maxmind/MaxMind-DB-Reader-java#file-lock-on-windows
                     // for why InputStream is being used here instead.
-                    InputStream in = Files.newInputStream(geolocationDB.toPath());
-                    DatabaseReader reader = new DatabaseReader.Builder(in).build()
+                    InputStream in = Files.newInputStream(geolocationDB.toPath())
             ) {
-                InetAddress inetAddress = InetAddress.getByName(ipAddress);
-
-                CountryResponse response = reader.country(inetAddress);
-                Country country = response.getCountry();
-
-                return country.getName();
+                reader = new DatabaseReader.Builder(in).build();
             }
+            readerLastModified = lastModified;
+        } finally {
+            readerLock.writeLock().unlock();
+        }
+    }
 
-        } catch (IOException | GeoIp2Exception e) {
-            return "Not Known";
+    private void closeReader() {
+        readerLock.writeLock().lock();
+        try {
+            if (reader == null) {
+                return;
+            }
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+                // Closing failed, the reader is not used anymore.
+            }
+            reader = null;
+        } finally {
+            readerLock.writeLock().unlock();
         }
     }
 
@@ -199,18 +243,38 @@ public class GeolocationCache implements SubSystem {
      * @return true if the IP Address is cached
      */
     boolean isCached(String ipAddress) {
-        return cached.containsKey(ipAddress);
+        // Does not count as a hit or miss in the statistics.
+        return cached.asMap().containsKey(ipAddress);
     }
 
     @Override
     public void disable() {
-        cached.clear();
+        cached.invalidateAll();
+        closeReader();
     }
 
     /**
      * Clears the cache
      */
     public void clearCache() {
-        cached.clear();
+        cached.invalidateAll();
+    }
+
+    /**
+     * Get the amount of IPs currently in the cache.
+     *
+     * @return Approximate amount of cached IPs.
+     */
+    public long getCacheSize() {
+        return cached.estimatedSize();
+    }
+
+    /**
+     * Get the hit and miss statistics of the cache.
+     *
+     * @return Snapshot of the statistics.
+     */
+    public CacheStats getCacheStatistics() {
+        return cached.stats();
     }
 }
@@ -0,0 +1,182 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.data.store.objects.Nickname;
+import com.djrapitops.plan.db.access.Query;
+import com.djrapitops.plan.db.access.queries.LargeFetchQueries;
+import com.djrapitops.plan.db.access.queries.objects.NicknameQueries;
+import com.djrapitops.plan.db.access.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.system.SubSystem;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the world names, registered players and nicknames already stored for this server.
+ * <p>
+ * Used by the join, world change and chat listeners so that returning players do not need any
+ * database reads to check if something needs to be stored. Unknown entries are still checked
+ * from the database by the transactions, and are added here only after the transaction commits.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class KnownEntityCache implements SubSystem {
+
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final ErrorHandler errorHandler;
+
+    private final Set<String> worldNames;
+    private final Set<UUID> registeredPlayers;
+    private final Map<UUID, String> nicknames;
+
+    @Inject
+    public KnownEntityCache(
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            ErrorHandler errorHandler
+    ) {
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.errorHandler = errorHandler;
+
+        worldNames = ConcurrentHashMap.newKeySet();
+        registeredPlayers = ConcurrentHashMap.newKeySet();
+        nicknames = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void enable() {
+        try {
+            dbSystem.getDatabase().query(warmUpQuery(serverInfo.getServerUUID()));
+        } catch (DBOpException e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private Query<Void> warmUpQuery(UUID serverUUID) {
+        return db -> {
+            worldNames.addAll(db.query(LargeFetchQueries.fetchAllWorldNames())
+                    .getOrDefault(serverUUID, Collections.emptyList()));
+            registeredPlayers.addAll(db.query(UserIdentifierQueries.fetchPlayerUUIDsOfServer(serverUUID)));
+            for (Map.Entry<UUID, List<Nickname>> entry : db.query(NicknameQueries.fetchNicknameDataOfServer(serverUUID)).entrySet()) {
+                entry.getValue().stream()
+                        .max(Comparator.comparingLong(Nickname::getDate))
+                        .ifPresent(lastUsed -> nicknames.put(entry.getKey(), lastUsed.getName()));
+            }
+            return null;
+        };
+    }
+
+    @Override
+    public void disable() {
+        clear();
+    }
+
+    /**
+     * Check if a world name of this server is known to be stored.
+     *
+     * @param worldName Name of the world.
+     * @return true if the world name is in the database.
+     */
+    public boolean isWorldNameStored(String worldName) {
+        return worldNames.contains(worldName);
+    }
+
+    /**
+     * Remember a stored world name of this server.
+     * <p>
+     * Call after the transaction storing the world name has committed.
+     *
+     * @param worldName Name of the world.
+     */
+    public void addWorldName(String worldName) {
+        worldNames.add(worldName);
+    }
+
+    /**
+     * Check if a player is known to be registered on this server.
+     *
+     * @param playerUUID UUID of the player.
+     * @return true if the player is registered, unless removed from the database by another server.
+     */
+    public boolean isPlayerRegistered(UUID playerUUID) {
+        return registeredPlayers.contains(playerUUID);
+    }
+
+    /**
+     * Remember that a player is registered on this server.
+     * <p>
+     * Call after the transaction registering the player has committed.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void addRegisteredPlayer(UUID playerUUID) {
+        registeredPlayers.add(playerUUID);
+    }
+
+    /**
+     * Check if a nickname is known to be the last stored nickname of a player on this server.
+     *
+     * @param playerUUID UUID of the player.
+     * @param nickname   Nickname of the player.
+     * @return true if the nickname does not need to be stored.
+     */
+    public boolean isNicknameStored(UUID playerUUID, String nickname) {
+        return nickname.equals(nicknames.get(playerUUID));
+    }
+
+    /**
+     * Remember the last stored nickname of a player on this server.
+     * <p>
+     * Call after the transaction storing the nickname has committed.
+     *
+     * @param playerUUID UUID of the player.
+     * @param nickname   Nickname of the player.
+     */
+    public void updateNickname(UUID playerUUID, String nickname) {
+        nicknames.put(playerUUID, nickname);
+    }
+
+    /**
+     * Forget a player, used when the player's data is removed from the database.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void removePlayer(UUID playerUUID) {
+        registeredPlayers.remove(playerUUID);
+        nicknames.remove(playerUUID);
+    }
+
+    /**
+     * Forget everything, used when the contents of the database are replaced or removed.
+     */
+    public void clear() {
+        worldNames.clear();
+        registeredPlayers.clear();
+        nicknames.clear();
+    }
+}
\ No newline at end of file
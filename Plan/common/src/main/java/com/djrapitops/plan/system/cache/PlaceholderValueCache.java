@@ -0,0 +1,261 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import com.djrapitops.plan.system.processing.Processing;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the last known values of placeholders so that placeholder requests never wait for the database.
+ * <p>
+ * All server values are loaded together by one loader, and all values of a player by one loader of that player,
+ * so that a refresh loads the data once instead of once per placeholder.
+ * Values are loaded asynchronously on first request, refreshed periodically by
+ * {@link com.djrapitops.plan.system.tasks.server.PlaceholderRefreshTask} and when a session of a player
+ * starts or ends. Values that have not been requested for {@link #EXPIRY_MS} are forgotten.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PlaceholderValueCache {
+
+    static final long EXPIRY_MS = TimeUnit.MINUTES.toMillis(10L);
+    static final long SERVER_REFRESH_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10L);
+
+    static final String SERVER_VALUES = "Server placeholders";
+    static final String PLAYER_VALUES = "Player placeholders";
+
+    private final Processing processing;
+    private final ErrorHandler errorHandler;
+
+    private final AtomicReference<CachedValues> serverValues;
+    private final Map<UUID, CachedValues> playerValues;
+    private final Map<String, RefreshCost> refreshCosts;
+
+    @Inject
+    public PlaceholderValueCache(
+            Processing processing,
+            ErrorHandler errorHandler
+    ) {
+        this.processing = processing;
+        this.errorHandler = errorHandler;
+
+        serverValues = new AtomicReference<>();
+        playerValues = new ConcurrentHashMap<>();
+        refreshCosts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the last known value of a server placeholder.
+     * <p>
+     * Does not block, the values are loaded asynchronously with the loader if they are not known yet.
+     *
+     * @param placeholder Identifier of the placeholder, eg. "players_total".
+     * @param loader      Loads the values of all server placeholders, may block. Only the first given loader is used.
+     * @return Last known value, or empty if the value has not been loaded yet.
+     */
+    public Optional<String> getServerValue(String placeholder, Supplier<Map<String, String>> loader) {
+        CachedValues values = serverValues.updateAndGet(
+                cached -> cached != null ? cached : new CachedValues(SERVER_VALUES, loader)
+        );
+        return getValue(values, placeholder);
+    }
+
+    /**
+     * Get the last known value of a player placeholder.
+     * <p>
+     * Does not block, the values are loaded asynchronously with the loader if they are not known yet.
+     *
+     * @param placeholder Identifier of the placeholder, eg. "playtime".
+     * @param playerUUID  UUID of the player the value is for.
+     * @param loader      Loads the values of all placeholders of the player, may block. Only the first given loader is used.
+     * @return Last known value, or empty if the value has not been loaded yet.
+     */
+    public Optional<String> getPlayerValue(String placeholder, UUID playerUUID, Supplier<Map<String, String>> loader) {
+        return getValue(playerValues.computeIfAbsent(playerUUID, key -> new CachedValues(PLAYER_VALUES, loader)), placeholder);
+    }
+
+    private Optional<String> getValue(CachedValues cached, String placeholder) {
+        cached.lastRequested = System.currentTimeMillis();
+        if (!cached.loadAttempted) {
+            scheduleRefresh(cached);
+        }
+        return Optional.ofNullable(cached.values.get(placeholder));
+    }
+
+    /**
+     * Refresh the values affected by a session of a player starting or ending.
+     * <p>
+     * The values of the player are refreshed. Server values are refreshed at most once per
+     * {@link #SERVER_REFRESH_INTERVAL_MS}, so that many players joining or leaving at once do not load the
+     * server data for each player. Later changes are picked up by the periodic refresh.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void sessionChanged(UUID playerUUID) {
+        CachedValues server = serverValues.get();
+        if (server != null && server.lastRefreshed < System.currentTimeMillis() - SERVER_REFRESH_INTERVAL_MS) {
+            scheduleRefresh(server);
+        }
+        CachedValues valuesOfPlayer = playerValues.get(playerUUID);
+        if (valuesOfPlayer != null) {
+            scheduleRefresh(valuesOfPlayer);
+        }
+    }
+
+    /**
+     * Refresh the values affected by a session of a player after the session data has been stored.
+     *
+     * @param playerUUID UUID of the player.
+     * @param stored     Future of the transaction that stores the session data, refreshed when it completes.
+     */
+    public void sessionChanged(UUID playerUUID, CompletableFuture<?> stored) {
+        // Refreshed even if the transaction failed, the failure is logged elsewhere.
+        stored.whenComplete((done, failure) -> sessionChanged(playerUUID));
+    }
+
+    /**
+     * Forget values that have not been requested recently and refresh the rest.
+     */
+    public void refreshAll() {
+        long expired = System.currentTimeMillis() - EXPIRY_MS;
+        CachedValues server = serverValues.updateAndGet(
+                cached -> cached != null && cached.lastRequested >= expired ? cached : null
+        );
+        if (server != null) {
+            scheduleRefresh(server);
+        }
+        playerValues.values().removeIf(cached -> cached.lastRequested < expired);
+        for (CachedValues valuesOfPlayer : playerValues.values()) {
+            scheduleRefresh(valuesOfPlayer);
+        }
+    }
+
+    private void scheduleRefresh(CachedValues cached) {
+        // Only one refresh of the values is queued at a time, requests during the refresh queue the next one.
+        if (cached.refreshQueued.compareAndSet(false, true)) {
+            processing.submitNonCritical(() -> refresh(cached));
+        }
+    }
+
+    private void refresh(CachedValues cached) {
+        cached.refreshQueued.set(false);
+        cached.lastRefreshed = System.currentTimeMillis();
+        long start = System.nanoTime();
+        try {
+            Map<String, String> loaded = cached.loader.get();
+            if (loaded != null) {
+                cached.values = loaded;
+            }
+        } catch (RuntimeException e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        } finally {
+            cached.loadAttempted = true;
+            refreshCosts.computeIfAbsent(cached.name, key -> new RefreshCost())
+                    .record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get the cost of refreshing the server values and the values of players.
+     *
+     * @return Map: Name of the values - Refresh cost, for all players if they are player values.
+     */
+    public Map<String, RefreshCost> getRefreshCosts() {
+        return new TreeMap<>(refreshCosts);
+    }
+
+    /**
+     * Get how many values are currently cached.
+     *
+     * @return Number of server and player values.
+     */
+    public int getCacheSize() {
+        CachedValues server = serverValues.get();
+        int size = server != null ? server.values.size() : 0;
+        for (CachedValues valuesOfPlayer : playerValues.values()) {
+            size += valuesOfPlayer.values.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        serverValues.set(null);
+        playerValues.clear();
+        refreshCosts.clear();
+    }
+
+    private static class CachedValues {
+        private final String name;
+        private final Supplier<Map<String, String>> loader;
+        private final AtomicBoolean refreshQueued;
+
+        private volatile Map<String, String> values;
+        private volatile boolean loadAttempted;
+        private volatile long lastRequested;
+        private volatile long lastRefreshed;
+
+        CachedValues(String name, Supplier<Map<String, String>> loader) {
+            this.name = name;
+            this.loader = loader;
+            refreshQueued = new AtomicBoolean(false);
+            values = Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Statistics about how long refreshing a placeholder has taken.
+     */
+    public static class RefreshCost {
+        private long refreshes;
+        private long totalNs;
+        private long maxNs;
+        private long lastNs;
+
+        synchronized void record(long ns) {
+            refreshes++;
+            totalNs += ns;
+            maxNs = Math.max(maxNs, ns);
+            lastNs = ns;
+        }
+
+        public synchronized long getRefreshes() {
+            return refreshes;
+        }
+
+        public synchronized double getAverageMs() {
+            return refreshes > 0 ? totalNs / 1000000.0 / refreshes : 0.0;
+        }
+
+        public synchronized double getMaxMs() {
+            return maxNs / 1000000.0;
+        }
+
+        public synchronized double getLastMs() {
+            return lastNs / 1000000.0;
+        }
+    }
+}
\ No newline at end of file
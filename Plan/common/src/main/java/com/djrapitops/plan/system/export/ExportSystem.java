@@ -38,6 +38,7 @@ public class ExportSystem implements SubSystem {
     private final ServerInfo serverInfo;
     private final Processing processing;
     private final HtmlExport htmlExport;
+    private final PlayerExporter playerExporter;
     private final ConnectionSystem connectionSystem;
 
     @Inject
@@ -46,17 +47,20 @@ public class ExportSystem implements SubSystem {
             ServerInfo serverInfo,
             Processing processing,
             HtmlExport htmlExport,
+            PlayerExporter playerExporter,
             ConnectionSystem connectionSystem
     ) {
         this.config = config;
         this.serverInfo = serverInfo;
         this.processing = processing;
         this.htmlExport = htmlExport;
+        this.playerExporter = playerExporter;
         this.connectionSystem = connectionSystem;
     }
 
     @Override
     public void enable() {
+        playerExporter.enable();
         if (serverInfo.getServer().isNotProxy() && connectionSystem.isServerAvailable()) {
             return;
         }
@@ -81,6 +85,6 @@ public class ExportSystem implements SubSystem {
 
     @Override
     public void disable() {
-        // Nothing to disable
+        playerExporter.disable();
     }
 }
\ No newline at end of file
@@ -47,7 +47,7 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.net.URLEncoder;
 import java.util.*;
 
 /**
@@ -93,6 +93,12 @@ public class HtmlExport extends SpecificExport {
         return config.get(ExportSettings.HTML_EXPORT_PATH);
     }
 
+    @Override
+    File getPlayerExportFile(String playerName) throws IOException {
+        File htmlLocation = new File(getPlayerFolder(), URLEncoder.encode(playerName, "UTF-8").replace(".", "%2E"));
+        return new File(htmlLocation, "index.html");
+    }
+
     public void exportServer(UUID serverUUID) {
         if (serverInfo.getServer().isNotProxy() && connectionSystem.isServerAvailable()) {
             return;
@@ -108,17 +114,32 @@ public class HtmlExport extends SpecificExport {
                 });
     }
 
-    public void exportPlayerPage(UUID playerUUID) {
+    /**
+     * Export the page of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return true if the page was written, false if the export failed and the failure was logged.
+     */
+    public boolean exportPlayerPage(UUID playerUUID) {
         Optional<String> name = dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID));
-        exportPlayerPage(playerUUID, name.orElse("Unknown"));
+        return exportPlayerPage(playerUUID, name.orElse("Unknown"));
     }
 
-    public void exportPlayerPage(UUID playerUUID, String playerName) {
+    /**
+     * Export the page of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @param playerName Name of the player.
+     * @return true if the page was written, false if the export failed and the failure was logged.
+     */
+    public boolean exportPlayerPage(UUID playerUUID, String playerName) {
         InspectPage playerPage = pageFactory.inspectPage(playerUUID);
         try {
             exportPlayerPage(playerName, playerPage.toHtml());
+            return true;
         } catch (ParseException | IOException e) {
             errorHandler.log(L.ERROR, this.getClass(), e);
+            return false;
         }
     }
 
@@ -292,13 +313,6 @@ public class HtmlExport extends SpecificExport {
         Verify.isTrue(locationFolder.exists() && locationFolder.isDirectory() || locationFolder.mkdirs(),
                 () -> new FileNotFoundException("Output folder could not be created at" + locationFolder.getAbsolutePath()));
 
-        if (to.exists()) {
-            Files.delete(to.toPath());
-            if (!to.createNewFile()) {
-                return;
-            }
-        }
-
         export(to, lines);
     }
 }
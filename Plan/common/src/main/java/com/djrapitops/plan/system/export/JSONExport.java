@@ -72,21 +72,39 @@ public class JSONExport extends SpecificExport {
         return config.get(ExportSettings.JSON_EXPORT_PATH);
     }
 
-    public void exportPlayerJSON(UUID playerUUID) {
-        String json = responseFactory.rawPlayerPageResponse(playerUUID).getContent();
+    @Override
+    File getPlayerExportFile(String playerName) throws IOException {
+        return new File(getPlayerFolder(), URLEncoder.encode(playerName, "UTF-8") + ".json");
+    }
 
-        dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID))
-                .ifPresent(playerName -> {
-                    try {
-                        File htmlLocation = getPlayerFolder();
-                        htmlLocation.mkdirs();
-                        File exportFile = new File(htmlLocation, URLEncoder.encode(playerName, "UTF-8") + ".json");
+    /**
+     * Export the JSON of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return true if the JSON was written, false if the player is unknown or the export failed and was logged.
+     */
+    public boolean exportPlayerJSON(UUID playerUUID) {
+        return dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID))
+                .map(playerName -> exportPlayerJSON(playerUUID, playerName))
+                .orElse(false);
+    }
 
-                        export(exportFile, Collections.singletonList(json));
-                    } catch (IOException e) {
-                        errorHandler.log(L.WARN, this.getClass(), e);
-                    }
-                });
+    /**
+     * Export the JSON of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @param playerName Name of the player.
+     * @return true if the JSON was written, false if the export failed and the failure was logged.
+     */
+    public boolean exportPlayerJSON(UUID playerUUID, String playerName) {
+        String json = responseFactory.rawPlayerPageResponse(playerUUID).getContent();
+        try {
+            export(getPlayerExportFile(playerName), Collections.singletonList(json));
+            return true;
+        } catch (IOException e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+            return false;
+        }
     }
 
     public void exportServerJSON(UUID serverUUID) {
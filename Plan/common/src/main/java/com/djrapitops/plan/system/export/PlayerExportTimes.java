@@ -0,0 +1,153 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.export;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times of the data that the exported JSON and pages of each player were generated from.
+ * <p>
+ * The times are stored in a file with the fingerprint of the export on the first line and
+ * {@code uuid json_time html_time} on the other lines. The times are forgotten when the fingerprint changes.
+ * Time 0 means that the player has not been exported since the last change.
+ *
+ * @author Rsl1122
+ */
+class PlayerExportTimes {
+
+    private final File file;
+    private final Map<UUID, Long> jsonTimes;
+    private final Map<UUID, Long> htmlTimes;
+    private volatile String fingerprint;
+
+    PlayerExportTimes(File file) {
+        this.file = file;
+        jsonTimes = new ConcurrentHashMap<>();
+        htmlTimes = new ConcurrentHashMap<>();
+        fingerprint = "";
+    }
+
+    /**
+     * Read the times from the file, a missing or broken file is read as no exports.
+     */
+    synchronized void load() {
+        jsonTimes.clear();
+        htmlTimes.clear();
+        fingerprint = "";
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            if (lines.isEmpty()) {
+                return;
+            }
+            for (String line : lines.subList(1, lines.size())) {
+                String[] split = line.split(" ");
+                UUID playerUUID = UUID.fromString(split[0]);
+                jsonTimes.put(playerUUID, Long.parseLong(split[1]));
+                htmlTimes.put(playerUUID, Long.parseLong(split[2]));
+            }
+            fingerprint = lines.get(0);
+        } catch (IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            jsonTimes.clear();
+            htmlTimes.clear();
+        }
+    }
+
+    synchronized void save() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(fingerprint);
+        for (UUID playerUUID : union()) {
+            lines.add(playerUUID + " " + jsonTimes.getOrDefault(playerUUID, 0L) + " " + htmlTimes.getOrDefault(playerUUID, 0L));
+        }
+
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        try {
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private List<UUID> union() {
+        List<UUID> playerUUIDs = new ArrayList<>(jsonTimes.keySet());
+        for (UUID playerUUID : htmlTimes.keySet()) {
+            if (!jsonTimes.containsKey(playerUUID)) {
+                playerUUIDs.add(playerUUID);
+            }
+        }
+        return playerUUIDs;
+    }
+
+    /**
+     * Set the fingerprint of the exports, forgetting all times if it changed.
+     *
+     * @param fingerprint Fingerprint of everything other than player data that the exports depend on.
+     */
+    synchronized void useFingerprint(String fingerprint) {
+        if (!this.fingerprint.equals(fingerprint)) {
+            jsonTimes.clear();
+            htmlTimes.clear();
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Forget all times, so that every player is exported again.
+     */
+    void clear() {
+        jsonTimes.clear();
+        htmlTimes.clear();
+    }
+
+    long getJSONTime(UUID playerUUID) {
+        return jsonTimes.getOrDefault(playerUUID, 0L);
+    }
+
+    long getHTMLTime(UUID playerUUID) {
+        return htmlTimes.getOrDefault(playerUUID, 0L);
+    }
+
+    void jsonExported(UUID playerUUID, long dataTime) {
+        jsonTimes.put(playerUUID, dataTime);
+    }
+
+    void htmlExported(UUID playerUUID, long dataTime) {
+        htmlTimes.put(playerUUID, dataTime);
+    }
+
+    /**
+     * Mark the player as not exported, so that the next export of changed players exports the player.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    void markNotExported(UUID playerUUID) {
+        jsonTimes.put(playerUUID, 0L);
+        htmlTimes.put(playerUUID, 0L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.export;
+
+import com.djrapitops.plan.api.exceptions.database.DBOpException;
+import com.djrapitops.plan.data.container.BaseUser;
+import com.djrapitops.plan.data.plugin.HookHandler;
+import com.djrapitops.plan.data.plugin.PluginData;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.db.access.queries.objects.SessionQueries;
+import com.djrapitops.plan.extension.implementation.results.ExtensionInformation;
+import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionInformationQueries;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.file.PlanFiles;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.locale.Message;
+import com.djrapitops.plan.system.locale.lang.Lang;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.ExportSettings;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.settings.theme.ThemeVal;
+import com.djrapitops.plugin.logging.L;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Exports player pages and JSON so that only players with changes are exported.
+ * <p>
+ * Exports on join and leave are delayed by {@link #COALESCE_WINDOW_MS} so that a player who joins and leaves
+ * multiple times within the window is exported once.
+ * <p>
+ * The time of the data each export was generated from is kept in {@link PlayerExportTimes}. The times are
+ * forgotten when the Plan version, locale, theme or extensions change, as those change every page.
+ * A player is marked as not exported when an export is scheduled, so that an export that is pending or interrupted
+ * when Plan disables is done by the next export of changed players instead.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PlayerExporter {
+
+    static final long COALESCE_WINDOW_MS = TimeUnit.SECONDS.toMillis(30L);
+    private static final int EXPORT_THREADS = 4;
+
+    private final String currentVersion;
+    private final PlanConfig config;
+    private final Locale locale;
+    private final Theme theme;
+    private final DBSystem dbSystem;
+    private final HookHandler hookHandler;
+    private final HtmlExport htmlExport;
+    private final JSONExport jsonExport;
+    private final PluginLogger logger;
+    private final ErrorHandler errorHandler;
+    private final long coalesceWindowMs;
+
+    private final PlayerExportTimes exportTimes;
+    private final Set<UUID> scheduled;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public PlayerExporter(
+            @Named("currentVersion") String currentVersion,
+            PlanFiles files,
+            PlanConfig config,
+            Locale locale,
+            Theme theme,
+            DBSystem dbSystem,
+            HookHandler hookHandler,
+            HtmlExport htmlExport,
+            JSONExport jsonExport,
+            PluginLogger logger,
+            ErrorHandler errorHandler
+    ) {
+        this(currentVersion, new PlayerExportTimes(files.getFileFromPluginFolder("exported_players.txt")),
+                config, locale, theme, dbSystem, hookHandler, htmlExport, jsonExport, logger, errorHandler,
+                COALESCE_WINDOW_MS);
+    }
+
+    PlayerExporter(
+            String currentVersion,
+            PlayerExportTimes exportTimes,
+            PlanConfig config,
+            Locale locale,
+            Theme theme,
+            DBSystem dbSystem,
+            HookHandler hookHandler,
+            HtmlExport htmlExport,
+            JSONExport jsonExport,
+            PluginLogger logger,
+            ErrorHandler errorHandler,
+            long coalesceWindowMs
+    ) {
+        this.currentVersion = currentVersion;
+        this.exportTimes = exportTimes;
+        this.config = config;
+        this.locale = locale;
+        this.theme = theme;
+        this.dbSystem = dbSystem;
+        this.hookHandler = hookHandler;
+        this.htmlExport = htmlExport;
+        this.jsonExport = jsonExport;
+        this.logger = logger;
+        this.errorHandler = errorHandler;
+        this.coalesceWindowMs = coalesceWindowMs;
+
+        scheduled = ConcurrentHashMap.newKeySet();
+        scheduler = createScheduler();
+    }
+
+    private ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("Plan Export-scheduler-%d").build()
+        );
+    }
+
+    public void enable() {
+        if (scheduler.isShutdown()) {
+            scheduler = createScheduler();
+        }
+        exportTimes.load();
+    }
+
+    /**
+     * Stop scheduling exports and save the times, with the players waiting for an export marked as not exported.
+     */
+    public void disable() {
+        scheduler.shutdownNow();
+        scheduled.clear();
+        saveExportTimes();
+    }
+
+    private void saveExportTimes() {
+        try {
+            exportTimes.save();
+        } catch (IOException e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    /**
+     * Export a player after the coalesce window, unless an export of the player is already waiting.
+     *
+     * @param playerUUID UUID of the player.
+     */
+    public void scheduleExport(UUID playerUUID) {
+        if (!scheduled.add(playerUUID)) {
+            return;
+        }
+        exportTimes.markNotExported(playerUUID);
+        try {
+            scheduler.schedule(() -> {
+                if (scheduled.remove(playerUUID)) {
+                    exportPlayer(playerUUID);
+                }
+            }, coalesceWindowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            scheduled.remove(playerUUID); // Plan is disabling
+        }
+    }
+
+    private void exportPlayer(UUID playerUUID) {
+        long dataTime = System.currentTimeMillis();
+        try {
+            if (config.get(ExportSettings.PLAYER_JSON)) {
+                if (jsonExport.exportPlayerJSON(playerUUID)) {
+                    exportTimes.jsonExported(playerUUID, dataTime);
+                }
+            }
+            if (config.get(ExportSettings.PLAYER_PAGES)) {
+                if (htmlExport.exportPlayerPage(playerUUID)) {
+                    exportTimes.htmlExported(playerUUID, dataTime);
+                }
+            }
+        } catch (DBOpException e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    /**
+     * Export players that have been seen or registered after their last export.
+     * <p>
+     * Pages are generated on a pool of {@link #EXPORT_THREADS} threads and this method returns when all are done.
+     *
+     * @param all      Export all players, even the ones without changes.
+     * @param progress Called with (exported, total) after every 1000 exported players.
+     * @return How many players were exported.
+     */
+    public int exportChangedPlayers(boolean all, BiConsumer<Integer, Integer> progress) {
+        boolean exportJSON = config.get(ExportSettings.PLAYER_JSON);
+        boolean exportHTML = config.get(ExportSettings.PLAYER_PAGES);
+
+        Database database = dbSystem.getDatabase();
+        exportTimes.useFingerprint(createFingerprint(database));
+        if (all) {
+            exportTimes.clear();
+        }
+        Collection<BaseUser> users = database.query(BaseUserQueries.fetchAllBaseUsers());
+        Map<UUID, Long> lastSeen = database.query(SessionQueries.lastSeenOfAllPlayers());
+
+        ThreadPoolExecutor exportPool = new ThreadPoolExecutor(
+                EXPORT_THREADS, EXPORT_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPORT_THREADS * 4),
+                new ThreadFactoryBuilder().setNameFormat("Plan Export-pool-%d").build(),
+                // Keeps the queue short when there are a lot of players.
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        int total = users.size();
+        AtomicInteger exported = new AtomicInteger();
+        try {
+            for (BaseUser user : users) {
+                UUID playerUUID = user.getUuid();
+                String playerName = user.getName();
+                long lastChange = Math.max(user.getRegistered(), lastSeen.getOrDefault(playerUUID, 0L));
+
+                boolean outdatedJSON = exportJSON &&
+                        isOutdated(jsonExport, playerName, exportTimes.getJSONTime(playerUUID), lastChange);
+                boolean outdatedHTML = exportHTML &&
+                        isOutdated(htmlExport, playerName, exportTimes.getHTMLTime(playerUUID), lastChange);
+                if (!outdatedJSON && !outdatedHTML) {
+                    continue;
+                }
+                exportPool.execute(() -> {
+                    long dataTime = System.currentTimeMillis();
+                    try {
+                        if (outdatedJSON && jsonExport.exportPlayerJSON(playerUUID, playerName)) {
+                            exportTimes.jsonExported(playerUUID, dataTime);
+                        }
+                        if (outdatedHTML && htmlExport.exportPlayerPage(playerUUID, playerName)) {
+                            exportTimes.htmlExported(playerUUID, dataTime);
+                        }
+                    } catch (DBOpException e) {
+                        errorHandler.log(L.WARN, this.getClass(), e);
+                    }
+                    int count = exported.incrementAndGet();
+                    if (count % 1000 == 0) {
+                        progress.accept(count, total);
+                    }
+                });
+            }
+        } finally {
+            exportPool.shutdown();
+        }
+        try {
+            exportPool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            exportPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        saveExportTimes();
+        logger.debug("Exported " + exported.get() + " / " + total + " players, others had no changes.");
+        return exported.get();
+    }
+
+    private boolean isOutdated(SpecificExport export, String playerName, long exportedDataTime, long lastChange) {
+        if (exportedDataTime < lastChange) {
+            return true;
+        }
+        try {
+            return !export.getPlayerExportFile(playerName).exists();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Create a fingerprint of everything other than the player data that is shown on every exported player.
+     */
+    private String createFingerprint(Database database) {
+        StringBuilder shared = new StringBuilder();
+
+        shared.append(locale.getLangCode());
+        Map<String, String> messages = new TreeMap<>();
+        for (Map.Entry<Lang, Message> entry : locale.entrySet()) {
+            messages.put(entry.getKey().getIdentifier(), entry.getValue().toString());
+        }
+        shared.append(messages);
+
+        for (ThemeVal themeValue : ThemeVal.values()) {
+            shared.append(theme.getValue(themeValue));
+        }
+
+        Set<String> extensions = new TreeSet<>();
+        for (List<ExtensionInformation> ofServer : database.query(ExtensionInformationQueries.allExtensions()).values()) {
+            for (ExtensionInformation extension : ofServer) {
+                extensions.add(extension.getPluginName());
+            }
+        }
+        for (PluginData source : hookHandler.getAdditionalDataSources()) {
+            extensions.add(source.getSourcePlugin());
+        }
+        shared.append(extensions);
+
+        return currentVersion + " " + Integer.toHexString(shared.toString().hashCode());
+    }
+}
\ No newline at end of file
@@ -27,9 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -75,8 +73,29 @@ public abstract class SpecificExport {
 
     protected abstract String getPath();
 
+    /**
+     * Get the file the export of a player is written to.
+     *
+     * @param playerName Name of the player.
+     * @return File in the export folder, might not exist.
+     * @throws IOException If the name can not be encoded.
+     */
+    abstract File getPlayerExportFile(String playerName) throws IOException;
+
     protected void export(File to, List<String> lines) throws IOException {
-        Files.write(to.toPath(), lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+        // Written to a temporary file that replaces the old file, so that a web server never serves a half written file.
+        Path target = to.toPath();
+        Path temp = target.resolveSibling(to.getName() + '.' + Thread.currentThread().getId() + ".tmp");
+        try {
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
     }
 
     File getServerFolder() {
@@ -94,9 +113,8 @@ public abstract class SpecificExport {
     void exportPlayerPage(String playerName, String html) throws IOException {
         List<String> lines = Arrays.asList(html.replace("../", "../../").split("\n"));
 
-        File htmlLocation = new File(getPlayerFolder(), URLEncoder.encode(playerName, "UTF-8").replace(".", "%2E"));
-        htmlLocation.mkdirs();
-        File exportFile = new File(htmlLocation, "index.html");
+        File exportFile = getPlayerExportFile(playerName);
+        exportFile.getParentFile().mkdirs();
 
         export(exportFile, lines);
     }
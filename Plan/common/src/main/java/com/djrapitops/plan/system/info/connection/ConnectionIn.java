@@ -21,19 +21,20 @@ import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
 import com.djrapitops.plan.system.info.request.InfoRequest;
+import com.djrapitops.plan.system.info.request.InfoRequestWithVariables;
 import com.djrapitops.plan.system.info.request.SetupRequest;
 import com.djrapitops.plan.system.webserver.Request;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plugin.utilities.Verify;
+import com.google.common.io.ByteStreams;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class ConnectionIn {
 
@@ -42,6 +43,8 @@ public class ConnectionIn {
     private final Database database;
     private final ConnectionSystem connectionSystem;
 
+    private long receivedBytes;
+
     public ConnectionIn(
             Request httpRequest, InfoRequest infoRequest,
             Database database,
@@ -51,15 +54,28 @@ public class ConnectionIn {
         this.connectionSystem = connectionSystem;
         Verify.nullCheck(httpRequest, infoRequest);
 
-        this.variables = readVariables(httpRequest);
         this.infoRequest = infoRequest;
 
-        checkAuthentication();
+        Optional<String> sender = httpRequest.getHeader(InfoRequestBody.SENDER_HEADER);
+        if (sender.isPresent()) {
+            // The sender is authenticated before the body is read.
+            UUID serverUUID = parseServerUUID(sender.get());
+            checkAuthentication(serverUUID);
+            this.variables = readVariables(httpRequest);
+            if (!serverUUID.equals(getServerUUID())) {
+                throw new BadRequestException("Sender ('sender') variable did not match the " + InfoRequestBody.SENDER_HEADER + " header.");
+            }
+        } else {
+            // Older versions only send the sender in the legacy format body.
+            if (isBinaryFormat(httpRequest)) {
+                throw new BadRequestException(InfoRequestBody.SENDER_HEADER + " header is required for the binary format.");
+            }
+            this.variables = readVariables(httpRequest);
+            checkAuthentication(getServerUUID());
+        }
     }
 
-    private void checkAuthentication() throws WebException {
-        UUID serverUUID = getServerUUID();
-
+    private void checkAuthentication(UUID serverUUID) throws WebException {
         try {
             if (database.query(ServerQueries.fetchServerMatchingIdentifier(serverUUID)).isPresent()) {
                 return;
@@ -80,7 +96,10 @@ public class ConnectionIn {
     private UUID getServerUUID() throws BadRequestException {
         String sender = variables.get("sender");
         Verify.nullCheck(sender, () -> new BadRequestException("Sender ('sender') variable not supplied in the request."));
+        return parseServerUUID(sender);
+    }
 
+    private UUID parseServerUUID(String sender) throws BadRequestException {
         try {
             return UUID.fromString(sender);
         } catch (IllegalArgumentException e) {
@@ -88,34 +107,52 @@ public class ConnectionIn {
         }
     }
 
+    private boolean isBinaryFormat(Request request) {
+        return request.getHeader(InfoRequestBody.FORMAT_HEADER)
+                .map(InfoRequestBody.BINARY_FORMAT::equals)
+                .orElse(false);
+    }
+
     private Map<String, String> readVariables(Request request) throws WebException {
-        String requestBody = readRequestBody(request.getRequestBody());
-        String[] bodyVariables = requestBody.split(";&variable;");
+        byte[] requestBody = readRequestBody(request.getRequestBody());
+        receivedBytes = requestBody.length;
 
-        return Arrays.stream(bodyVariables)
-                .map(variable -> variable.split("=", 2))
-                .filter(splitVariables -> splitVariables.length == 2)
-                .collect(Collectors.toMap(splitVariables -> splitVariables[0], splitVariables -> splitVariables[1], (a, b) -> b));
+        try {
+            if (isBinaryFormat(request)) {
+                return InfoRequestBody.readBinary(requestBody);
+            }
+            Collection<String> base64Variables = infoRequest instanceof InfoRequestWithVariables
+                    ? ((InfoRequestWithVariables) infoRequest).getBase64Variables()
+                    : Collections.emptySet();
+            return InfoRequestBody.readLegacy(requestBody, base64Variables);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadRequestException("Request body could not be read: " + e.getMessage());
+        }
     }
 
     public Response handleRequest() throws WebException {
         return infoRequest.handleRequest(variables);
     }
 
-    private String readRequestBody(InputStream in) throws WebFailException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            byte[] bytes;
-
-            byte[] buf = new byte[4096];
-            for (int n = in.read(buf); n > 0; n = in.read(buf)) {
-                out.write(buf, 0, n);
-            }
-
-            bytes = out.toByteArray();
-
-            return new String(bytes, StandardCharsets.UTF_8);
+    private byte[] readRequestBody(InputStream in) throws WebException {
+        byte[] body;
+        try {
+            body = ByteStreams.toByteArray(ByteStreams.limit(in, InfoRequestBody.MAX_BODY_LENGTH + 1L));
         } catch (IOException e) {
             throw new WebFailException("Exception while reading Request.", e);
         }
+        if (body.length > InfoRequestBody.MAX_BODY_LENGTH) {
+            throw new BadRequestException("Request body is longer than " + InfoRequestBody.MAX_BODY_LENGTH + " bytes.");
+        }
+        return body;
+    }
+
+    /**
+     * Get the size of the request body.
+     *
+     * @return Number of bytes received.
+     */
+    public long getReceivedBytes() {
+        return receivedBytes;
     }
-}
+}
\ No newline at end of file
@@ -24,9 +24,9 @@ import com.djrapitops.plugin.logging.debug.DebugLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class responsible for logging what {@link ConnectionOut} and {@link ConnectionIn} objects get as response.
@@ -39,49 +39,108 @@ public class ConnectionLog {
     private final DebugLogger debugLogger;
 
     private final Map<String, Map<String, Entry>> log;
+    private final Map<String, Totals> totals;
 
     @Inject
     public ConnectionLog(DebugLogger debugLogger) {
         this.debugLogger = debugLogger;
-        log = new HashMap<>();
+        log = new ConcurrentHashMap<>();
+        totals = new ConcurrentHashMap<>();
     }
 
     public void logConnectionTo(Server server, InfoRequest request, int responseCode) {
+        logConnectionTo(server, request, responseCode, 0, 0, 0);
+    }
+
+    /**
+     * Log an outbound connection.
+     *
+     * @param server        Server the request was sent to.
+     * @param request       Request that was sent.
+     * @param responseCode  Response code of the response, 0 for timeout or -1 for failed connection.
+     * @param latencyMs     Time from sending the request to reading the response.
+     * @param sentBytes     Size of the sent request body.
+     * @param receivedBytes Size of the received response body.
+     */
+    public void logConnectionTo(Server server, InfoRequest request, int responseCode, long latencyMs, long sentBytes, long receivedBytes) {
         String requestName = request.getClass().getSimpleName();
         String address = server.getWebAddress();
-        logConnection(address, "Out: " + requestName, responseCode);
-        debugLogger.logOn(DebugChannels.CONNECTIONS, "ConnectionOut: " + requestName + " to " + address);
+        logConnection(address, "Out: " + requestName, new Entry(responseCode, System.currentTimeMillis(), latencyMs, sentBytes, receivedBytes));
+        debugLogger.logOn(DebugChannels.CONNECTIONS, "ConnectionOut: " + requestName + " to " + address + " (" + latencyMs + "ms, " + sentBytes + " bytes)");
     }
 
     public void logConnectionFrom(String server, String requestTarget, int responseCode) {
-        logConnection(server, "In:  " + requestTarget, responseCode);
-        debugLogger.logOn(DebugChannels.CONNECTIONS, "ConnectionIn: " + requestTarget + " from " + server);
+        logConnectionFrom(server, requestTarget, responseCode, 0, 0);
+    }
+
+    /**
+     * Log an inbound connection.
+     *
+     * @param server        Address of the server that sent the request.
+     * @param requestTarget Target of the request.
+     * @param responseCode  Response code of the response.
+     * @param latencyMs     Time it took to handle the request.
+     * @param receivedBytes Size of the received request body.
+     */
+    public void logConnectionFrom(String server, String requestTarget, int responseCode, long latencyMs, long receivedBytes) {
+        logConnection(server, "In:  " + requestTarget, new Entry(responseCode, System.currentTimeMillis(), latencyMs, 0, receivedBytes));
+        debugLogger.logOn(DebugChannels.CONNECTIONS, "ConnectionIn: " + requestTarget + " from " + server + " (" + latencyMs + "ms, " + receivedBytes + " bytes)");
     }
 
-    private void logConnection(String address, String infoRequestName, int responseCode) {
-        Map<String, Entry> requestMap = log.getOrDefault(address, new HashMap<>());
-        requestMap.put(infoRequestName, new Entry(responseCode, System.currentTimeMillis()));
-        log.put(address, requestMap);
+    private void logConnection(String address, String infoRequestName, Entry entry) {
+        log.computeIfAbsent(address, key -> new ConcurrentHashMap<>()).put(infoRequestName, entry);
+        totals.computeIfAbsent(address, key -> new Totals()).add(entry);
     }
 
     public Map<String, Map<String, Entry>> getLogEntries() {
         return log;
     }
 
+    /**
+     * Get totals of all connections to and from each address.
+     *
+     * @return Map: Address - Totals.
+     */
+    public Map<String, Totals> getTotals() {
+        return totals;
+    }
+
     public static class Entry implements Comparable<Entry>, DateHolder {
 
         private final int responseCode;
         private final long date;
+        private final long latencyMs;
+        private final long sentBytes;
+        private final long receivedBytes;
 
         public Entry(int responseCode, long date) {
+            this(responseCode, date, 0, 0, 0);
+        }
+
+        public Entry(int responseCode, long date, long latencyMs, long sentBytes, long receivedBytes) {
             this.responseCode = responseCode;
             this.date = date;
+            this.latencyMs = latencyMs;
+            this.sentBytes = sentBytes;
+            this.receivedBytes = receivedBytes;
         }
 
         public int getResponseCode() {
             return responseCode;
         }
 
+        public long getLatencyMs() {
+            return latencyMs;
+        }
+
+        public long getSentBytes() {
+            return sentBytes;
+        }
+
+        public long getReceivedBytes() {
+            return receivedBytes;
+        }
+
         @Override
         public long getDate() {
             return date;
@@ -104,13 +163,48 @@ public class ConnectionLog {
             if (!(o instanceof Entry)) return false;
             Entry entry = (Entry) o;
             return responseCode == entry.responseCode &&
-                    date == entry.date;
+                    date == entry.date &&
+                    latencyMs == entry.latencyMs &&
+                    sentBytes == entry.sentBytes &&
+                    receivedBytes == entry.receivedBytes;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(responseCode, date);
+            return Objects.hash(responseCode, date, latencyMs, sentBytes, receivedBytes);
         }
     }
 
+    /**
+     * Running totals of the connections to and from an address.
+     */
+    public static class Totals {
+        private long connections;
+        private long latencyMs;
+        private long sentBytes;
+        private long receivedBytes;
+
+        synchronized void add(Entry entry) {
+            connections++;
+            latencyMs += entry.latencyMs;
+            sentBytes += entry.sentBytes;
+            receivedBytes += entry.receivedBytes;
+        }
+
+        public synchronized long getConnections() {
+            return connections;
+        }
+
+        public synchronized long getAverageLatencyMs() {
+            return connections > 0 ? latencyMs / connections : 0;
+        }
+
+        public synchronized long getSentBytes() {
+            return sentBytes;
+        }
+
+        public synchronized long getReceivedBytes() {
+            return receivedBytes;
+        }
+    }
 }
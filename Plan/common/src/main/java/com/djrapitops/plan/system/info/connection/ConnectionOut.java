@@ -22,25 +22,22 @@ import com.djrapitops.plan.system.info.request.InfoRequestWithVariables;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.utilities.MiscUtils;
 import com.djrapitops.plugin.utilities.Verify;
+import com.google.common.io.ByteStreams;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustAllStrategy;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.ssl.SSLContextBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.SocketTimeoutException;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
-import java.util.Map;
-import java.util.Properties;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -68,6 +65,7 @@ public class ConnectionOut {
     }
 
     private final ConnectionLog connectionLog;
+    private final InfoRequestHttpClient httpClient;
 
     /**
      * Constructor.
@@ -76,12 +74,15 @@ public class ConnectionOut {
      * @param serverUUID    UUID of server this outbound connection.
      * @param infoRequest   Type of the action this connection wants to be performed.
      * @param connectionLog Where the connection should be logged.
+     * @param httpClient    Shared client used for sending the request.
      */
     public ConnectionOut(
             Server toServer, UUID serverUUID, InfoRequest infoRequest,
-            ConnectionLog connectionLog
+            ConnectionLog connectionLog,
+            InfoRequestHttpClient httpClient
     ) {
         this.connectionLog = connectionLog;
+        this.httpClient = httpClient;
         Verify.nullCheck(toServer, serverUUID, infoRequest);
         this.toServer = toServer;
         this.serverUUID = serverUUID;
@@ -90,24 +91,37 @@ public class ConnectionOut {
 
     public void sendRequest() throws WebException {
         String address = getAddress();
+        boolean binaryFormat = httpClient.acceptsBinaryFormat(address);
+        int responseCode = sendRequest(address, binaryFormat);
 
-        CloseableHttpClient client = null;
-        HttpPost post = null;
+        // The server no longer accepts the binary format (Plan was downgraded), send again in the legacy format.
+        if (binaryFormat && responseCode == 400 && !httpClient.acceptsBinaryFormat(address)) {
+            responseCode = sendRequest(address, false);
+        }
+        handleResult(address, responseCode);
+    }
+
+    private int sendRequest(String address, boolean binaryFormat) throws WebException {
         CloseableHttpResponse response = null;
         long start = System.currentTimeMillis();
         try {
-            client = getHttpClient(address);
-            String url = address + "/info/" + infoRequest.getClass().getSimpleName().toLowerCase();
-
-            post = new HttpPost(url);
-            String parameters = parseVariables();
-            prepareRequest(post, parameters);
+            CloseableHttpClient client = httpClient.getClient();
+            HttpPost post = new HttpPost(getURL(address));
+            byte[] body = prepareRequest(post, binaryFormat);
 
             // Send request
             response = client.execute(post);
             int responseCode = response.getStatusLine().getStatusCode();
+            // The response has to be read fully for the connection to be reused.
+            long received = readResponse(response);
+
+            Header supportedFormats = response.getFirstHeader(InfoRequestBody.SUPPORTED_FORMATS_HEADER);
+            httpClient.setAcceptsBinaryFormat(address,
+                    supportedFormats != null && supportedFormats.getValue().contains(InfoRequestBody.BINARY_FORMAT));
 
-            handleResult(url, parameters, responseCode);
+            connectionLog.logConnectionTo(toServer, infoRequest, responseCode,
+                    System.currentTimeMillis() - start, body.length, received);
+            return responseCode;
         } catch (SocketTimeoutException e) {
             connectionLog.logConnectionTo(toServer, infoRequest, 0);
             long seconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - start);
@@ -116,23 +130,33 @@ public class ConnectionOut {
             connectionLog.logConnectionTo(toServer, infoRequest, -1);
             throw new ConnectionFailException("Connection failed to address: " + address + " - Make sure the server is online.", e);
         } finally {
-            if (post != null) {
-                post.releaseConnection();
-            }
             MiscUtils.close(response);
-            MiscUtils.close(client);
         }
     }
 
-    private void handleResult(String url, String parameters, int responseCode) throws WebException {
-        connectionLog.logConnectionTo(toServer, infoRequest, responseCode);
+    private long readResponse(CloseableHttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return 0;
+        }
+        try (InputStream in = entity.getContent()) {
+            return ByteStreams.exhaust(in);
+        }
+    }
+
+    private String getURL(String address) {
+        return address + "/info/" + infoRequest.getClass().getSimpleName().toLowerCase();
+    }
+
+    private void handleResult(String address, int responseCode) throws WebException {
+        String url = getURL(address);
         switch (responseCode) {
             case 200:
                 return;
             case 400:
-                throw new BadRequestException("Bad Request: " + url + " | " + parameters);
+                throw new BadRequestException("Bad Request: " + url + " | " + getVariables().keySet());
             case 403:
-                throw new ForbiddenException(url + " returned 403 | " + parameters);
+                throw new ForbiddenException(url + " returned 403 | " + getVariables().keySet());
             case 404:
                 throw new NotFoundException(url + " returned a 404, ensure that your server is connected to an up to date Plan server.");
             case 412:
@@ -146,7 +170,7 @@ public class ConnectionOut {
         }
     }
 
-    private void prepareRequest(HttpPost post, String parameters) {
+    private byte[] prepareRequest(HttpPost post, boolean binaryFormat) throws IOException {
         RequestConfig requestConfig = RequestConfig.custom()
                 .setConnectionRequestTimeout(5000)
                 .setSocketTimeout(10000)
@@ -156,24 +180,21 @@ public class ConnectionOut {
                 .setContentCompressionEnabled(true)
                 .build();
         post.setConfig(requestConfig);
-
-        post.setHeader("Content-Type", "application/x-www-form-urlencoded");
-        post.setHeader("charset", "UTF-8");
-        post.setHeader("Connection", "close");
-
-        byte[] toSend = parameters.getBytes();
-        post.setEntity(new ByteArrayEntity(toSend));
-    }
-
-    private CloseableHttpClient getHttpClient(String address) throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
-        if (address.startsWith("https")) {
-            SSLContextBuilder builder = new SSLContextBuilder();
-            builder.loadTrustMaterial(null, new TrustAllStrategy());
-            SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(builder.build(), NoopHostnameVerifier.INSTANCE);
-            return HttpClients.custom().setSSLSocketFactory(sslsf).build();
+        // Lets the receiver authenticate this server before reading the body, ignored by older versions.
+        post.setHeader(InfoRequestBody.SENDER_HEADER, serverUUID.toString());
+
+        byte[] toSend;
+        if (binaryFormat) {
+            post.setHeader("Content-Type", "application/octet-stream");
+            post.setHeader(InfoRequestBody.FORMAT_HEADER, InfoRequestBody.BINARY_FORMAT);
+            toSend = InfoRequestBody.writeBinary(getVariables());
         } else {
-            return HttpClients.createDefault();
+            post.setHeader("Content-Type", "application/x-www-form-urlencoded");
+            post.setHeader("charset", "UTF-8");
+            toSend = InfoRequestBody.writeLegacy(getVariables(), getBase64Variables());
         }
+        post.setEntity(new ByteArrayEntity(toSend));
+        return toSend;
     }
 
     private String getAddress() {
@@ -185,17 +206,20 @@ public class ConnectionOut {
         return address;
     }
 
-    private String parseVariables() {
-        StringBuilder parameters = new StringBuilder("sender=" + serverUUID + ";&variable;" +
-                "type=" + infoRequest.getClass().getSimpleName());
-
+    private Map<String, String> getVariables() {
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("sender", serverUUID.toString());
+        variables.put("type", infoRequest.getClass().getSimpleName());
         if (infoRequest instanceof InfoRequestWithVariables) {
-            Map<String, String> variables = ((InfoRequestWithVariables) infoRequest).getVariables();
-            for (Map.Entry<String, String> entry : variables.entrySet()) {
-                parameters.append(";&variable;").append(entry.getKey()).append("=").append(entry.getValue());
-            }
+            variables.putAll(((InfoRequestWithVariables) infoRequest).getVariables());
         }
+        return variables;
+    }
 
-        return parameters.toString();
+    private Collection<String> getBase64Variables() {
+        if (infoRequest instanceof InfoRequestWithVariables) {
+            return ((InfoRequestWithVariables) infoRequest).getBase64Variables();
+        }
+        return Collections.emptySet();
     }
-}
+}
\ No newline at end of file
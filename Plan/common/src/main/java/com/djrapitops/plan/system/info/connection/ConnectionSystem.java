@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.system.info.connection;
 
+import com.djrapitops.plan.api.exceptions.connection.ConnectionFailException;
 import com.djrapitops.plan.api.exceptions.connection.NoServersException;
 import com.djrapitops.plan.api.exceptions.connection.WebException;
 import com.djrapitops.plan.system.SubSystem;
@@ -25,9 +26,11 @@ import com.djrapitops.plan.system.info.request.InfoRequests;
 import com.djrapitops.plan.system.info.request.WideRequest;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import dagger.Lazy;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * ConnectionSystem manages out- and inbound InfoRequest connections.
@@ -38,26 +41,42 @@ import java.util.*;
  */
 public abstract class ConnectionSystem implements SubSystem {
 
+    private static final int WIDE_REQUEST_THREADS = 8;
+    private static final long WIDE_REQUEST_DEADLINE_MS = TimeUnit.SECONDS.toMillis(5L);
+
     protected final ConnectionLog connectionLog;
+    protected final InfoRequestHttpClient httpClient;
+    protected final ServerCircuitBreaker circuitBreaker;
     protected final InfoRequests infoRequests;
     protected final Lazy<InfoSystem> infoSystem;
     protected final ServerInfo serverInfo;
 
     protected Map<UUID, Server> dataServers;
     private boolean setupAllowed;
+    private ExecutorService wideRequestExecutor;
 
     public ConnectionSystem(
             ConnectionLog connectionLog,
+            InfoRequestHttpClient httpClient,
+            ServerCircuitBreaker circuitBreaker,
             InfoRequests infoRequests,
             Lazy<InfoSystem> infoSystem,
             ServerInfo serverInfo
     ) {
         this.connectionLog = connectionLog;
+        this.httpClient = httpClient;
+        this.circuitBreaker = circuitBreaker;
         this.infoSystem = infoSystem;
         this.serverInfo = serverInfo;
         setupAllowed = false;
         dataServers = new HashMap<>();
         this.infoRequests = infoRequests;
+        wideRequestExecutor = createWideRequestExecutor();
+    }
+
+    private ExecutorService createWideRequestExecutor() {
+        return Executors.newFixedThreadPool(WIDE_REQUEST_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("Plan WideRequest-pool-%d").build());
     }
 
     public InfoRequest getInfoRequest(String name) {
@@ -84,7 +103,60 @@ public abstract class ConnectionSystem implements SubSystem {
         if (serverUUID.equals(toServer.getUuid())) {
             infoSystem.get().runLocally(infoRequest);
         } else {
-            new ConnectionOut(toServer, serverUUID, infoRequest, connectionLog).sendRequest();
+            sendInfoRequestTo(infoRequest, toServer, serverUUID);
+        }
+    }
+
+    private void sendInfoRequestTo(InfoRequest infoRequest, Server toServer, UUID serverUUID) throws WebException {
+        UUID toServerUUID = toServer.getUuid();
+        try {
+            new ConnectionOut(toServer, serverUUID, infoRequest, connectionLog, httpClient).sendRequest();
+            circuitBreaker.requestSucceeded(toServerUUID);
+        } catch (ConnectionFailException e) {
+            circuitBreaker.requestFailed(toServerUUID);
+            throw e;
+        } catch (WebException e) {
+            // The server responded, so it can be reached.
+            circuitBreaker.requestSucceeded(toServerUUID);
+            throw e;
+        }
+    }
+
+    /**
+     * Send a WideRequest to multiple servers at the same time.
+     * <p>
+     * Returns when all servers have responded or {@link #WIDE_REQUEST_DEADLINE_MS} has passed, requests that
+     * have not finished by then are left to finish in the background. Servers that have been failing to connect
+     * are skipped, see {@link ServerCircuitBreaker}.
+     *
+     * @param infoRequest        Request to send.
+     * @param servers            Servers to send the request to.
+     * @param webExceptionLogger Used for logging failed requests.
+     */
+    protected void sendWideInfoRequest(WideRequest infoRequest, Collection<Server> servers, WebExceptionLogger webExceptionLogger) {
+        CompletionService<Server> completionService = new ExecutorCompletionService<>(wideRequestExecutor);
+        int sent = 0;
+        for (Server server : servers) {
+            if (!circuitBreaker.allowRequest(server.getUuid())) {
+                continue;
+            }
+            completionService.submit(() -> {
+                webExceptionLogger.logIfOccurs(this.getClass(), () -> sendInfoRequest(infoRequest, server));
+                return server;
+            });
+            sent++;
+        }
+
+        long deadline = System.currentTimeMillis() + WIDE_REQUEST_DEADLINE_MS;
+        try {
+            for (int i = 0; i < sent; i++) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 || completionService.poll(remaining, TimeUnit.MILLISECONDS) == null) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -105,6 +177,9 @@ public abstract class ConnectionSystem implements SubSystem {
     @Override
     public void enable() {
         infoRequests.initializeRequests();
+        if (wideRequestExecutor.isShutdown()) {
+            wideRequestExecutor = createWideRequestExecutor();
+        }
     }
 
     @Override
@@ -112,5 +187,8 @@ public abstract class ConnectionSystem implements SubSystem {
         setupAllowed = false;
         dataServers.clear();
         infoRequests.clear();
+        wideRequestExecutor.shutdownNow();
+        httpClient.close();
+        circuitBreaker.clear();
     }
 }
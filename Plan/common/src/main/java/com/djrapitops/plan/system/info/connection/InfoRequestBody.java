@@ -0,0 +1,141 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import com.djrapitops.plan.utilities.Base64Util;
+import com.google.common.io.ByteStreams;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes the variables in the body of InfoRequests sent between servers.
+ * <p>
+ * Legacy format is a UTF-8 string of {@code key=value} pairs separated by {@code ;&variable;}, with some variables
+ * Base64 encoded. It is understood by all versions.
+ * <p>
+ * Binary format is gzip compressed length-prefixed UTF-8 keys and values. It is only sent to servers that have
+ * listed it in the {@link #SUPPORTED_FORMATS_HEADER} of an earlier response, and the request is marked with
+ * the {@link #FORMAT_HEADER}.
+ * <p>
+ * Senders also add the {@link #SENDER_HEADER} so that the sender can be authenticated before the body is read.
+ * Bodies are limited to {@link #MAX_BODY_LENGTH} bytes, after decompression for the binary format.
+ *
+ * @author Rsl1122
+ */
+public class InfoRequestBody {
+
+    public static final String FORMAT_HEADER = "X-Plan-Body-Format";
+    public static final String SUPPORTED_FORMATS_HEADER = "X-Plan-Body-Formats";
+    public static final String BINARY_FORMAT = "binary-gzip-1";
+    public static final String SENDER_HEADER = "X-Plan-Sender";
+    public static final int MAX_BODY_LENGTH = 64 * 1024 * 1024;
+
+    private static final String LEGACY_SEPARATOR = ";&variable;";
+    private static final int MAX_VARIABLES = 1024;
+
+    /**
+     * Constructor used to hide the public constructor
+     */
+    private InfoRequestBody() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static byte[] writeLegacy(Map<String, String> variables, Collection<String> base64Variables) {
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            if (body.length() > 0) {
+                body.append(LEGACY_SEPARATOR);
+            }
+            String key = entry.getKey();
+            String value = base64Variables.contains(key) ? Base64Util.encode(entry.getValue()) : entry.getValue();
+            body.append(key).append('=').append(value);
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Map<String, String> readLegacy(byte[] body, Collection<String> base64Variables) {
+        Map<String, String> variables = new HashMap<>();
+        for (String variable : new String(body, StandardCharsets.UTF_8).split(LEGACY_SEPARATOR)) {
+            String[] keyAndValue = variable.split("=", 2);
+            if (keyAndValue.length != 2) {
+                continue;
+            }
+            String key = keyAndValue[0];
+            variables.put(key, base64Variables.contains(key) ? Base64Util.decode(keyAndValue[1]) : keyAndValue[1]);
+        }
+        return variables;
+    }
+
+    public static byte[] writeBinary(Map<String, String> variables) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(variables.size());
+            for (Map.Entry<String, String> entry : variables.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    public static Map<String, String> readBinary(byte[] body) throws IOException {
+        // Inflated size is limited so that a small compressed body can not use up the memory.
+        byte[] inflated;
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            inflated = ByteStreams.toByteArray(ByteStreams.limit(gzip, MAX_BODY_LENGTH + 1L));
+        }
+        if (inflated.length > MAX_BODY_LENGTH) {
+            throw new IOException("Decompressed body is longer than " + MAX_BODY_LENGTH + " bytes");
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflated))) {
+            int count = in.readInt();
+            if (count < 0 || count > MAX_VARIABLES) {
+                throw new IOException("Invalid variable count " + count);
+            }
+            Map<String, String> variables = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                variables.put(readString(in), readString(in));
+            }
+            return variables;
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_BODY_LENGTH) {
+            throw new IOException("Invalid variable length " + length);
+        }
+        // Read without allocating the given length up front, the length might be larger than the body.
+        byte[] bytes = ByteStreams.toByteArray(ByteStreams.limit(in, length));
+        if (bytes.length != length) {
+            throw new EOFException("Variable ended after " + bytes.length + "/" + length + " bytes");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
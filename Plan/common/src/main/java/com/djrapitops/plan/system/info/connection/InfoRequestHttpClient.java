@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import com.djrapitops.plan.utilities.MiscUtils;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared HTTP client used by {@link ConnectionOut} to send InfoRequests to other servers.
+ * <p>
+ * Connections are pooled per server address and kept alive between requests, so that a TLS handshake is not
+ * needed for every request. Also remembers which servers accept the binary {@link InfoRequestBody} format.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class InfoRequestHttpClient {
+
+    private static final int MAX_CONNECTIONS_PER_SERVER = 4;
+    private static final int MAX_CONNECTIONS = 100;
+
+    private final Set<String> binaryFormatAddresses;
+
+    private CloseableHttpClient client;
+
+    @Inject
+    public InfoRequestHttpClient() {
+        binaryFormatAddresses = ConcurrentHashMap.newKeySet();
+    }
+
+    public synchronized CloseableHttpClient getClient() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        if (client == null) {
+            client = HttpClients.custom()
+                    .setConnectionManager(createConnectionManager())
+                    .evictExpiredConnections()
+                    .evictIdleConnections(30L, TimeUnit.SECONDS)
+                    .build();
+        }
+        return client;
+    }
+
+    private PoolingHttpClientConnectionManager createConnectionManager() throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException {
+        SSLContextBuilder builder = new SSLContextBuilder();
+        builder.loadTrustMaterial(null, new TrustAllStrategy());
+        SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(builder.build(), NoopHostnameVerifier.INSTANCE);
+
+        Registry<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslsf)
+                .build();
+
+        PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(socketFactories);
+        manager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_SERVER);
+        manager.setMaxTotal(MAX_CONNECTIONS);
+        manager.setValidateAfterInactivity((int) TimeUnit.SECONDS.toMillis(5L));
+        return manager;
+    }
+
+    public boolean acceptsBinaryFormat(String address) {
+        return binaryFormatAddresses.contains(address);
+    }
+
+    public void setAcceptsBinaryFormat(String address, boolean accepts) {
+        if (accepts) {
+            binaryFormatAddresses.add(address);
+        } else {
+            binaryFormatAddresses.remove(address);
+        }
+    }
+
+    /**
+     * Close pooled connections and forget what the servers accept, as they might be updated while disabled.
+     */
+    public synchronized void close() {
+        MiscUtils.close(client);
+        client = null;
+        binaryFormatAddresses.clear();
+    }
+}
\ No newline at end of file
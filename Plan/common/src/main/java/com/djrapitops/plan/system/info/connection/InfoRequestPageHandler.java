@@ -64,6 +64,8 @@ public class InfoRequestPageHandler implements PageHandler {
     @Override
     public Response getResponse(Request request, RequestTarget target) throws WebException {
         int responseCode = 200;
+        long start = System.currentTimeMillis();
+        ConnectionIn connectionIn = null;
 
         try {
             if (target.isEmpty()) {
@@ -74,18 +76,26 @@ public class InfoRequestPageHandler implements PageHandler {
                 return new BadRequestResponse("POST should be used for Info calls.");
             }
 
+            // Tells the sender that following requests can be sent in the binary format.
+            request.setResponseHeader(InfoRequestBody.SUPPORTED_FORMATS_HEADER, InfoRequestBody.BINARY_FORMAT);
+
             String requestName = target.get(0);
             InfoRequest infoRequest = connectionSystem.getInfoRequest(requestName);
 
             Verify.nullCheck(infoRequest, () -> new NotFoundException("Info Request has not been registered."));
 
             logger.debug("ConnectionIn: " + infoRequest.getClass().getSimpleName());
-            return new ConnectionIn(request, infoRequest, dbSystem.getDatabase(), connectionSystem).handleRequest();
+            connectionIn = new ConnectionIn(request, infoRequest, dbSystem.getDatabase(), connectionSystem);
+            return connectionIn.handleRequest();
         } catch (WebException e) {
             responseCode = getResponseCodeFor(e);
             throw e;
         } finally {
-            connectionSystem.getConnectionLog().logConnectionFrom(request.getRemoteAddress(), request.getTargetString(), responseCode);
+            long receivedBytes = connectionIn != null ? connectionIn.getReceivedBytes() : 0;
+            connectionSystem.getConnectionLog().logConnectionFrom(
+                    request.getRemoteAddress(), request.getTargetString(), responseCode,
+                    System.currentTimeMillis() - start, receivedBytes
+            );
         }
     }
 
@@ -56,13 +56,15 @@ public class ProxyConnectionSystem extends ConnectionSystem {
             DBSystem dbSystem,
             Lazy<WebServer> webServer,
             ConnectionLog connectionLog,
+            InfoRequestHttpClient httpClient,
+            ServerCircuitBreaker circuitBreaker,
             InfoRequests infoRequests,
             Lazy<InfoSystem> infoSystem,
             ServerInfo serverInfo,
             ErrorHandler errorHandler,
             WebExceptionLogger webExceptionLogger
     ) {
-        super(connectionLog, infoRequests, infoSystem, serverInfo);
+        super(connectionLog, httpClient, circuitBreaker, infoRequests, infoSystem, serverInfo);
         this.dbSystem = dbSystem;
         this.webServer = webServer;
         this.errorHandler = errorHandler;
@@ -108,9 +110,7 @@ public class ProxyConnectionSystem extends ConnectionSystem {
         if (dataServers.isEmpty()) {
             throw new NoServersException("No Servers available to make wide-request: " + infoRequest.getClass().getSimpleName());
         }
-        for (Server server : dataServers.values()) {
-            webExceptionLogger.logIfOccurs(this.getClass(), () -> sendInfoRequest(infoRequest, server));
-        }
+        sendWideInfoRequest(infoRequest, dataServers.values(), webExceptionLogger);
         // Quick hack for Bungee Plugins Tab
         if (infoRequest instanceof GenerateInspectPluginsTabRequest) {
             webExceptionLogger.logIfOccurs(this.getClass(), infoRequest::runLocally);
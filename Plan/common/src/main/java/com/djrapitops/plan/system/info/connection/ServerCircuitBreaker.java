@@ -0,0 +1,109 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of servers that keep failing to connect, so that WideRequests can skip them.
+ * <p>
+ * After {@link #FAILURE_THRESHOLD} connection failures in a row the server is skipped for a while. After that
+ * a single request is let through, if it fails the server is skipped for twice as long, up to {@link #MAX_OPEN_MS}.
+ * Any response from the server, even an error response, closes the breaker again.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class ServerCircuitBreaker {
+
+    static final int FAILURE_THRESHOLD = 3;
+    static final long OPEN_MS = TimeUnit.MINUTES.toMillis(1L);
+    static final long MAX_OPEN_MS = TimeUnit.MINUTES.toMillis(10L);
+
+    private final Map<UUID, State> states;
+
+    @Inject
+    public ServerCircuitBreaker() {
+        states = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Check if a request should be sent to a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return false if the server has been failing and should be skipped.
+     */
+    public boolean allowRequest(UUID serverUUID) {
+        return allowRequest(serverUUID, System.currentTimeMillis());
+    }
+
+    boolean allowRequest(UUID serverUUID, long now) {
+        State state = states.get(serverUUID);
+        return state == null || state.allowRequest(now);
+    }
+
+    public void requestSucceeded(UUID serverUUID) {
+        states.remove(serverUUID);
+    }
+
+    public void requestFailed(UUID serverUUID) {
+        requestFailed(serverUUID, System.currentTimeMillis());
+    }
+
+    void requestFailed(UUID serverUUID, long now) {
+        states.computeIfAbsent(serverUUID, key -> new State()).failed(now);
+    }
+
+    public void clear() {
+        states.clear();
+    }
+
+    private static class State {
+        private int failures;
+        private long openMs;
+        private long openUntil;
+        private long trialSentAt;
+
+        synchronized boolean allowRequest(long now) {
+            if (failures < FAILURE_THRESHOLD) {
+                return true;
+            }
+            // The trial is let through again if its result was never reported.
+            if (now < openUntil || now - trialSentAt < OPEN_MS) {
+                return false;
+            }
+            // Let a single request through to check if the server is back.
+            trialSentAt = now;
+            return true;
+        }
+
+        synchronized void failed(long now) {
+            failures++;
+            if (failures < FAILURE_THRESHOLD) {
+                return;
+            }
+            openMs = openMs == 0 ? OPEN_MS : Math.min(openMs * 2, MAX_OPEN_MS);
+            openUntil = now + openMs;
+            trialSentAt = 0;
+        }
+    }
+}
\ No newline at end of file
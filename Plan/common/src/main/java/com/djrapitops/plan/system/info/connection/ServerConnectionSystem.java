@@ -16,7 +16,6 @@
  */
 package com.djrapitops.plan.system.info.connection;
 
-import com.djrapitops.plan.api.exceptions.connection.ConnectionFailException;
 import com.djrapitops.plan.api.exceptions.connection.NoServersException;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
@@ -70,13 +69,15 @@ public class ServerConnectionSystem extends ConnectionSystem {
             DBSystem dbSystem,
             Lazy<WebServer> webServer,
             ConnectionLog connectionLog,
+            InfoRequestHttpClient httpClient,
+            ServerCircuitBreaker circuitBreaker,
             InfoRequests infoRequests,
             Lazy<InfoSystem> infoSystem,
             ServerInfo serverInfo,
             PluginLogger pluginLogger,
             WebExceptionLogger webExceptionLogger
     ) {
-        super(connectionLog, infoRequests, infoSystem, serverInfo);
+        super(connectionLog, httpClient, circuitBreaker, infoRequests, infoSystem, serverInfo);
         this.locale = locale;
         this.config = config;
         this.processing = processing;
@@ -132,15 +133,7 @@ public class ServerConnectionSystem extends ConnectionSystem {
         if (dataServers.isEmpty()) {
             throw new NoServersException("No Servers available to make wide-request: " + infoRequest.getClass().getSimpleName());
         }
-        for (Server server : dataServers.values()) {
-            webExceptionLogger.logIfOccurs(this.getClass(), () -> {
-                try {
-                    sendInfoRequest(infoRequest, server);
-                } catch (ConnectionFailException ignored) {
-                    /* Wide Requests are used when at least one result is wanted. */
-                }
-            });
-        }
+        sendWideInfoRequest(infoRequest, dataServers.values(), webExceptionLogger);
     }
 
     @Override
@@ -28,9 +28,10 @@ import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.response.DefaultResponses;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.pages.AnalysisPageResponse;
-import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plugin.utilities.Verify;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
 
@@ -81,23 +82,28 @@ public class CacheAnalysisPageRequest extends InfoRequestWithVariables implement
 
         Verify.nullCheck(serverUUID, html);
         this.serverUUID = serverUUID;
-        variables.put("html", Base64Util.encode(html));
+        variables.put("html", html);
         this.html = html;
     }
 
     @Override
     public Response handleRequest(Map<String, String> variables) throws WebException {
-        // Available variables: sender, html (Base64)
+        // Available variables: sender, html
 
         UUID sender = UUID.fromString(variables.get("sender"));
 
         String sentHtml = variables.get("html");
         Verify.nullCheck(sentHtml, () -> new BadRequestException("HTML 'html' variable not supplied in the request"));
 
-        cache(sender, Base64Util.decode(sentHtml));
+        cache(sender, sentHtml);
         return DefaultResponses.SUCCESS.get();
     }
 
+    @Override
+    public Collection<String> getBase64Variables() {
+        return Collections.singleton("html");
+    }
+
     private void cache(UUID serverUUID, String html) {
         ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> new AnalysisPageResponse(html));
         if (!networkUUID.equals(serverUUID)) {
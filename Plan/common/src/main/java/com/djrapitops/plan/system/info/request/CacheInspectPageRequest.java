@@ -29,10 +29,10 @@ import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.response.DefaultResponses;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.pages.InspectPageResponse;
-import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plugin.utilities.Verify;
 import org.apache.commons.text.StringSubstitutor;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
@@ -83,14 +83,14 @@ public class CacheInspectPageRequest extends InfoRequestWithVariables implements
 
         Verify.nullCheck(player, html);
         variables.put("player", player.toString());
-        variables.put("html", Base64Util.encode(html));
+        variables.put("html", html);
         this.player = player;
         this.html = html;
     }
 
     @Override
     public Response handleRequest(Map<String, String> variables) throws WebException {
-        // Available variables: sender, player, html (Base64)
+        // Available variables: sender, player, html
 
         String player = variables.get("player");
         Verify.nullCheck(player, () -> new BadRequestException("Player UUID 'player' variable not supplied in the request."));
@@ -100,18 +100,25 @@ public class CacheInspectPageRequest extends InfoRequestWithVariables implements
         Verify.nullCheck(html, () -> new BadRequestException("HTML 'html' variable not supplied in the request"));
 
         Map<String, String> replace = Collections.singletonMap("networkName", serverInfo.getServer().getName());
-        cache(uuid, StringSubstitutor.replace(Base64Util.decode(html), replace));
+        cache(uuid, StringSubstitutor.replace(html, replace));
 
         return DefaultResponses.SUCCESS.get();
     }
 
+    @Override
+    public Collection<String> getBase64Variables() {
+        return Collections.singleton("html");
+    }
+
     private void cache(UUID playerUUID, String html) {
         ResponseCache.cacheResponse(PageId.PLAYER.of(playerUUID), () -> new InspectPageResponse(playerUUID, html));
         if (config.get(ExportSettings.PLAYER_PAGES)) {
             processing.submitNonCritical(() -> htmlExport.exportCachedPlayerPage(playerUUID));
         }
         if (config.get(ExportSettings.PLAYER_JSON)) {
-            processing.submitNonCritical(() -> jsonExport.exportPlayerJSON(playerUUID));
+            processing.submitNonCritical(() -> {
+                jsonExport.exportPlayerJSON(playerUUID);
+            });
         }
     }
 
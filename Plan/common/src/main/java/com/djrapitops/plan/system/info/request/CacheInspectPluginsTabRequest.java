@@ -23,9 +23,10 @@ import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.system.webserver.response.DefaultResponses;
 import com.djrapitops.plan.system.webserver.response.Response;
 import com.djrapitops.plan.system.webserver.response.pages.parts.InspectPagePluginsContent;
-import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plugin.utilities.Verify;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
 
@@ -48,7 +49,7 @@ public class CacheInspectPluginsTabRequest extends InfoRequestWithVariables impl
         Verify.nullCheck(player, nav);
         variables.put("player", player.toString());
         variables.put("nav", nav);
-        variables.put("html", Base64Util.encode(html));
+        variables.put("html", html);
         this.player = player;
         this.html = html;
     }
@@ -68,10 +69,15 @@ public class CacheInspectPluginsTabRequest extends InfoRequestWithVariables impl
 
         InspectPagePluginsContent pluginsTab = getPluginsTab(uuid);
 
-        pluginsTab.addTab(nav, Base64Util.decode(html));
+        pluginsTab.addTab(nav, html);
         return DefaultResponses.SUCCESS.get();
     }
 
+    @Override
+    public Collection<String> getBase64Variables() {
+        return Collections.singleton("html");
+    }
+
     private InspectPagePluginsContent getPluginsTab(UUID uuid) {
         return (InspectPagePluginsContent) ResponseCache.loadResponse(PageId.PLAYER_PLUGINS_TAB.of(uuid), InspectPagePluginsContent::new);
     }
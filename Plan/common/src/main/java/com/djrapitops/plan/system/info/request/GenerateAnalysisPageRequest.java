@@ -99,11 +99,15 @@ public class GenerateAnalysisPageRequest extends InfoRequestWithVariables implem
             throw new BadRequestException("Requested Analysis page from wrong server.");
         }
 
-        if (!runningAnalysis.get()) {
-            runningAnalysis.set(true);
-            processing.submitNonCritical(() ->
-                    webExceptionLogger.logIfOccurs(GenerateAnalysisPageRequest.class, () -> generateAndCache(serverUUID))
-            );
+        // Only one analysis at a time, released after the page has been cached.
+        if (runningAnalysis.compareAndSet(false, true)) {
+            processing.submitNonCritical(() -> {
+                try {
+                    webExceptionLogger.logIfOccurs(GenerateAnalysisPageRequest.class, () -> generateAndCache(serverUUID));
+                } finally {
+                    runningAnalysis.set(false);
+                }
+            });
         }
 
         return DefaultResponses.SUCCESS.get();
@@ -128,8 +132,6 @@ public class GenerateAnalysisPageRequest extends InfoRequestWithVariables implem
             return pageFactory.analysisPage(serverUUID).toHtml();
         } catch (Exception e) {
             throw new InternalErrorException("Analysis failed due to exception", e);
-        } finally {
-            runningAnalysis.set(false);
         }
     }
 
@@ -16,6 +16,8 @@
  */
 package com.djrapitops.plan.system.info.request;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,4 +39,16 @@ public abstract class InfoRequestWithVariables implements InfoRequest {
     public Map<String, String> getVariables() {
         return variables;
     }
+
+    /**
+     * Get names of the variables that are Base64 encoded in the legacy request body format.
+     * <p>
+     * Older versions decode these variables themselves. The variables given to
+     * {@link #handleRequest(Map)} are always decoded.
+     *
+     * @return Names of the variables.
+     */
+    public Collection<String> getBase64Variables() {
+        return Collections.emptySet();
+    }
 }
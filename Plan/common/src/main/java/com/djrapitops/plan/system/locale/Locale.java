@@ -19,16 +19,14 @@ package com.djrapitops.plan.system.locale;
 import com.djrapitops.plan.system.file.FileResource;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.locale.lang.*;
+import com.djrapitops.plan.utilities.formatting.MultiReplacer;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Represents loaded language information.
@@ -42,6 +40,8 @@ public class Locale extends HashMap<Lang, Message> {
     }
 
     private LangCode langCode;
+    // Compiled from the current messages on first use, reset when messages change.
+    private transient volatile MultiReplacer htmlReplacer;
 
     public Locale() {
         this(LangCode.EN);
@@ -99,8 +99,15 @@ public class Locale extends HashMap<Lang, Message> {
             return from;
         }
 
-        String replaced = from;
+        MultiReplacer replacer = htmlReplacer;
+        if (replacer == null) {
+            replacer = createHtmlReplacer();
+            htmlReplacer = replacer;
+        }
+        return replacer.apply(from);
+    }
 
+    private MultiReplacer createHtmlReplacer() {
         Lang[][] langs = new Lang[][]{
                 NetworkPageLang.values(),
                 PlayerPageLang.values(),
@@ -108,23 +115,39 @@ public class Locale extends HashMap<Lang, Message> {
                 CommonHtmlLang.values()
         };
 
-        List<Entry<Lang, Message>> entries = Arrays.stream(langs)
-                .flatMap(Arrays::stream)
-                .collect(Collectors.toMap(Function.identity(), this::get))
-                .entrySet().stream()
-                // Longest first so that entries that contain each other don't partially replace.
-                .sorted((one, two) -> Integer.compare(
-                        two.getKey().getIdentifier().length(),
-                        one.getKey().getIdentifier().length()
-                )).collect(Collectors.toList());
-
-        for (Entry<Lang, Message> entry : entries) {
-            String defaultValue = entry.getKey().getDefault();
-            String replacement = entry.getValue().toString();
-
-            replaced = replaced.replace(defaultValue, replacement);
+        Map<String, String> replacements = new HashMap<>();
+        for (Lang[] langGroup : langs) {
+            for (Lang lang : langGroup) {
+                replacements.put(lang.getDefault(), getString(lang));
+            }
         }
-        return replaced;
+        return new MultiReplacer(replacements);
+    }
+
+    @Override
+    public Message put(Lang key, Message value) {
+        Message previous = super.put(key, value);
+        htmlReplacer = null;
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends Lang, ? extends Message> m) {
+        super.putAll(m);
+        htmlReplacer = null;
+    }
+
+    @Override
+    public Message remove(Object key) {
+        Message removed = super.remove(key);
+        htmlReplacer = null;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        htmlReplacer = null;
     }
 
     @Override
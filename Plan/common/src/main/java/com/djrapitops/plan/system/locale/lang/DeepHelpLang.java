@@ -41,7 +41,7 @@ public enum DeepHelpLang implements Lang {
     MANAGE_CON("In Depth Help - /plan manage con ?", "> §2Connection Debug Subcommand\\  Used to debug connections in the network.\\  Sends a request to each server in the database."),
     MANAGE_DISABLE("In Depth Help - /plan manage disable ?", "> §2Disable Subcommand\\  Can disable parts of the plugin until next reload.\\  Accepted arguments:\\    §2kickcount §fDisables kick counts in case /kickall is used on shutdown macro."),
     MANAGE_IMPORT("In Depth Help - /plan manage import ?", "> §2Import Subcommand\\  Import data from other sources.\\  Accepted Arguments:\\    §2offline §fBukkit player data, only register date and name."),
-    MANAGE_EXPORT("In Depth Help - /plan manage export ?", "> §2Export Subcommand\\  Trigger export to result folders.\\  Accepted Arguments:\\    §2list §fList possible arguments.\\    §2players §fExport /players, /player pages + /player/raw json depending on config values.\\    §2server_json §fExport /server/raw JSON if enabled in config."),
+    MANAGE_EXPORT("In Depth Help - /plan manage export ?", "> §2Export Subcommand\\  Trigger export to result folders.\\  Accepted Arguments:\\    §2list §fList possible arguments.\\    §2players §fExport /players, /player pages + /player/raw json depending on config values.\\    §2players -f §fExport all players, not only the ones with changes.\\    §2server_json §fExport /server/raw JSON if enabled in config."),
     MANAGE_MOVE("In Depth Help - /plan manage move ?", "> §2Move Subcommand\\  Move data from SQLite to MySQL or other way around.\\  Target database is cleared before transfer."),
     MANAGE_REMOVE("In Depth Help - /plan manage remove ?", "> §2Remove Subcommand\\  Remove player's data from the active database."),
     MANAGE_RESTORE("In Depth Help - /plan manage restore ?", "> §2Restore Subcommand\\  Restore a previous backup SQLite database (.db file)\\  You can also restore database.db from another server to MySQL.\\  Target database is cleared before transfer."),
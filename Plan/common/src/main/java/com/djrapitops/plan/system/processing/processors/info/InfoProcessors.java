@@ -16,8 +16,7 @@
  */
 package com.djrapitops.plan.system.processing.processors.info;
 
-import com.djrapitops.plan.system.export.HtmlExport;
-import com.djrapitops.plan.system.export.JSONExport;
+import com.djrapitops.plan.system.export.PlayerExporter;
 import com.djrapitops.plan.system.info.InfoSystem;
 import com.djrapitops.plan.system.info.connection.WebExceptionLogger;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -38,22 +37,19 @@ import java.util.function.BiConsumer;
 public class InfoProcessors {
 
     private final Lazy<PlanConfig> config;
-    private final Lazy<HtmlExport> htmlExport;
-    private final Lazy<JSONExport> jsonExport;
+    private final Lazy<PlayerExporter> playerExporter;
     private final Lazy<InfoSystem> infoSystem;
     private final Lazy<WebExceptionLogger> webExceptionLogger;
 
     @Inject
     public InfoProcessors(
             Lazy<PlanConfig> config,
-            Lazy<HtmlExport> htmlExport,
-            Lazy<JSONExport> jsonExport,
+            Lazy<PlayerExporter> playerExporter,
             Lazy<InfoSystem> infoSystem,
             Lazy<WebExceptionLogger> webExceptionLogger
     ) {
         this.config = config;
-        this.htmlExport = htmlExport;
-        this.jsonExport = jsonExport;
+        this.playerExporter = playerExporter;
         this.infoSystem = infoSystem;
         this.webExceptionLogger = webExceptionLogger;
     }
@@ -70,6 +66,6 @@ public class InfoProcessors {
     }
 
     public PlayerPageUpdateProcessor playerPageUpdateProcessor(UUID uuid) {
-        return new PlayerPageUpdateProcessor(uuid, config.get(), htmlExport.get(), jsonExport.get());
+        return new PlayerPageUpdateProcessor(uuid, config.get(), playerExporter.get());
     }
 }
\ No newline at end of file
@@ -16,8 +16,7 @@
  */
 package com.djrapitops.plan.system.processing.processors.info;
 
-import com.djrapitops.plan.system.export.HtmlExport;
-import com.djrapitops.plan.system.export.JSONExport;
+import com.djrapitops.plan.system.export.PlayerExporter;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.ExportSettings;
 import com.djrapitops.plan.system.webserver.cache.PageId;
@@ -30,32 +29,25 @@ public class PlayerPageUpdateProcessor implements Runnable {
     private final UUID playerUUID;
 
     private final PlanConfig config;
-    private final HtmlExport htmlExport;
-    private final JSONExport jsonExport;
+    private final PlayerExporter playerExporter;
 
     PlayerPageUpdateProcessor(
             UUID playerUUID,
             PlanConfig config,
-            HtmlExport htmlExport,
-            JSONExport jsonExport
+            PlayerExporter playerExporter
     ) {
         this.playerUUID = playerUUID;
         this.config = config;
-        this.htmlExport = htmlExport;
-        this.jsonExport = jsonExport;
+        this.playerExporter = playerExporter;
     }
 
     @Override
     public void run() {
         ResponseCache.clearResponse(PageId.PLAYER.of(playerUUID));
 
-        if (config.get(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)) {
-            if (config.get(ExportSettings.PLAYER_JSON)) {
-                jsonExport.exportPlayerJSON(playerUUID);
-            }
-            if (config.get(ExportSettings.PLAYER_PAGES)) {
-                htmlExport.exportPlayerPage(playerUUID);
-            }
+        if (config.get(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE)
+                && (config.get(ExportSettings.PLAYER_JSON) || config.get(ExportSettings.PLAYER_PAGES))) {
+            playerExporter.scheduleExport(playerUUID);
         }
     }
 }
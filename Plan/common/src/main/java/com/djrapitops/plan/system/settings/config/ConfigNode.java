@@ -62,6 +62,17 @@ public class ConfigNode {
         parent = newParent;
     }
 
+    /**
+     * Called when a value or a node in the tree below this node changes.
+     * <p>
+     * The root of the tree can override this to invalidate anything derived from the values.
+     */
+    protected void changed() {
+        if (parent != null) {
+            parent.changed();
+        }
+    }
+
     public Optional<ConfigNode> getNode(String path) {
         String[] parts = splitPathInTwo(path);
         String key = parts[0];
@@ -75,11 +86,11 @@ public class ConfigNode {
     }
 
     private String[] splitPathInTwo(String path) {
-        String[] split = path.split("\\.", 2);
-        if (split.length <= 1) {
-            return new String[]{split[0], ""};
+        int firstDot = path.indexOf('.');
+        if (firstDot == -1) {
+            return new String[]{path, ""};
         }
-        return split;
+        return new String[]{path.substring(0, firstDot), path.substring(firstDot + 1)};
     }
 
     public boolean contains(String path) {
@@ -126,6 +137,7 @@ public class ConfigNode {
         }
         parent.childNodes.remove(key);
         parent.nodeOrder.remove(key);
+        parent.changed();
         updateParent(null);
 
         // Remove children recursively to avoid memory leaks
@@ -148,6 +160,7 @@ public class ConfigNode {
         childNodes.put(child.key, child);
         nodeOrder.add(child.key);
         child.updateParent(this);
+        changed();
         return child;
     }
 
@@ -228,6 +241,7 @@ public class ConfigNode {
         } else {
             ConfigValueParser<T> parser = ConfigValueParser.getParserFor(value.getClass());
             this.value = parser.decompose(value);
+            changed();
         }
     }
 
@@ -303,6 +317,7 @@ public class ConfigNode {
         // Override value conditionally
         if (Verify.isEmpty(value) && from.value != null) {
             value = from.value;
+            changed();
         }
 
         // Copy all nodes from 'from'
@@ -319,6 +334,7 @@ public class ConfigNode {
         // Override comment and value unconditionally.
         comment = from.comment;
         value = from.value;
+        changed();
 
         // Copy all nodes from 'from'
         for (String key : from.nodeOrder) {
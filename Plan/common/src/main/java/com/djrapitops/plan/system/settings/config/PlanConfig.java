@@ -27,12 +27,17 @@ import javax.inject.Named;
 import javax.inject.Singleton;
 import java.io.File;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Plan configuration file.
+ * <p>
+ * Resolved values of {@link Setting}s are kept until the config changes,
+ * so that frequent lookups do not need to traverse the config tree or parse the value again.
  *
  * @author Rsl1122
  */
@@ -43,6 +48,9 @@ public class PlanConfig extends Config {
     private final WorldAliasSettings worldAliasSettings;
     private final PluginLogger logger;
 
+    // Replaced instead of cleared, so that values resolved during a change are not stored in the new map.
+    private volatile Map<Setting, Object> resolvedSettings;
+
     @Inject
     public PlanConfig(
             @Named("configFile") File file,
@@ -51,6 +59,7 @@ public class PlanConfig extends Config {
     ) {
         super(file);
 
+        this.resolvedSettings = new ConcurrentHashMap<>();
         this.worldAliasSettings = worldAliasSettings;
         this.logger = logger;
 
@@ -67,13 +76,36 @@ public class PlanConfig extends Config {
     }
 
     public <T> T get(Setting<T> setting) {
+        Map<Setting, Object> resolved = resolvedSettings;
+        if (resolved != null) {
+            Object cached = resolved.get(setting);
+            if (cached != null) {
+                return (T) cached;
+            }
+        }
+
         T value = setting.getValueFrom(this);
         Verify.isTrue(setting.isValid(value), () -> new IllegalStateException(
                 "Config value for " + setting.getPath() + " has a bad value: '" + value + "'"
         ));
+        if (resolved != null && isImmutable(value)) {
+            resolved.put(setting, value);
+        }
         return value;
     }
 
+    private boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+
+    @Override
+    protected void changed() {
+        // Called by the super constructor before the map is created.
+        if (resolvedSettings != null) {
+            resolvedSettings = new ConcurrentHashMap<>();
+        }
+    }
+
     public <T> T getOrDefault(Setting<T> setting, T defaultValue) {
         try {
             return get(setting);
@@ -17,6 +17,8 @@
 package com.djrapitops.plan.system.settings.paths;
 
 import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.system.settings.paths.key.BooleanSetting;
+import com.djrapitops.plan.system.settings.paths.key.IntegerSetting;
 import com.djrapitops.plan.system.settings.paths.key.Setting;
 import com.djrapitops.plan.system.settings.paths.key.StringSetting;
 import org.apache.commons.lang3.math.NumberUtils;
@@ -35,6 +37,9 @@ public class DatabaseSettings {
     public static final Setting<String> MYSQL_PASS = new StringSetting("Database.MySQL.Password");
     public static final Setting<String> MYSQL_DATABASE = new StringSetting("Database.MySQL.Database");
     public static final Setting<String> MYSQL_LAUNCH_OPTIONS = new StringSetting("Database.MySQL.Launch_options");
+    public static final Setting<Integer> SQLITE_READ_CONNECTIONS = new IntegerSetting("Database.SQLite.Read_connections", value -> value >= 0);
+    public static final Setting<Boolean> GROUP_COMMIT = new BooleanSetting("Database.Group_commit.Enabled");
+    public static final Setting<Integer> GROUP_COMMIT_MAX_TRANSACTIONS = new IntegerSetting("Database.Group_commit.Max_transactions_per_commit", value -> value > 0);
 
     private DatabaseSettings() {
         /* static variable class */
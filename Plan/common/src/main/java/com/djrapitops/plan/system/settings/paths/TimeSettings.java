@@ -42,6 +42,8 @@ public class TimeSettings {
     public static final Setting<Long> EXTENSION_DATA_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Extension_data_refresh_every");
     public static final Setting<Long> CLEAN_CACHE_PERIOD = new TimeSetting("Time.Periodic_tasks.Clean_caches_every");
     public static final Setting<Long> CLEAN_DATABASE_PERIOD = new TimeSetting("Time.Periodic_tasks.Clean_Database_every");
+    public static final Setting<Long> EVENT_COUNT_SAVE_PERIOD = new TimeSetting("Time.Periodic_tasks.Save_command_and_kick_counts_every");
+    public static final Setting<Long> PLACEHOLDER_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Refresh_placeholder_values_every");
     public static final Setting<Long> CONFIG_UPDATE_INTERVAL = new TimeSetting("Time.Periodic_tasks.Check_DB_for_server_config_files_every");
 
     private TimeSettings() {
@@ -36,6 +36,9 @@ public class WebserverSettings {
     public static final Setting<String> CERTIFICATE_KEYPASS = new StringSetting("Webserver.Security.SSL_certificate.Key_pass");
     public static final Setting<String> CERTIFICATE_STOREPASS = new StringSetting("Webserver.Security.SSL_certificate.Store_pass");
     public static final Setting<String> CERTIFICATE_ALIAS = new StringSetting("Webserver.Security.SSL_certificate.Alias");
+    public static final Setting<Integer> CORE_THREADS = new IntegerSetting("Webserver.Request_threads.Core", value -> value > 0);
+    public static final Setting<Integer> MAX_THREADS = new IntegerSetting("Webserver.Request_threads.Max", value -> value > 0);
+    public static final Setting<Integer> REQUEST_QUEUE_SIZE = new IntegerSetting("Webserver.Request_threads.Queue_size", value -> value > 0);
     public static final Setting<Boolean> DISABLED = new BooleanSetting("Webserver.Disable_Webserver");
     public static final Setting<String> EXTERNAL_LINK = new StringSetting("Webserver.External_Webserver_address");
 
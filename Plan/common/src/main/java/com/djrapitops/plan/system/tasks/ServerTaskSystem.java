@@ -19,7 +19,9 @@ package com.djrapitops.plan.system.tasks;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.tasks.server.BootAnalysisTask;
+import com.djrapitops.plan.system.tasks.server.EventCountSaveTask;
 import com.djrapitops.plan.system.tasks.server.PeriodicAnalysisTask;
+import com.djrapitops.plan.system.tasks.server.PlaceholderRefreshTask;
 import com.djrapitops.plugin.api.TimeAmount;
 import com.djrapitops.plugin.task.RunnableFactory;
 
@@ -37,6 +39,8 @@ public abstract class ServerTaskSystem extends TaskSystem {
     private final PeriodicAnalysisTask periodicAnalysisTask;
     private final LogsFolderCleanTask logsFolderCleanTask;
     private final PlayersPageRefreshTask playersPageRefreshTask;
+    private final EventCountSaveTask eventCountSaveTask;
+    private final PlaceholderRefreshTask placeholderRefreshTask;
 
     public ServerTaskSystem(
             RunnableFactory runnableFactory,
@@ -45,13 +49,17 @@ public abstract class ServerTaskSystem extends TaskSystem {
             BootAnalysisTask bootAnalysisTask,
             PeriodicAnalysisTask periodicAnalysisTask,
             LogsFolderCleanTask logsFolderCleanTask,
-            PlayersPageRefreshTask playersPageRefreshTask) {
+            PlayersPageRefreshTask playersPageRefreshTask,
+            EventCountSaveTask eventCountSaveTask,
+            PlaceholderRefreshTask placeholderRefreshTask) {
         super(runnableFactory, tpsCountTimer);
         this.config = config;
         this.bootAnalysisTask = bootAnalysisTask;
         this.periodicAnalysisTask = periodicAnalysisTask;
         this.logsFolderCleanTask = logsFolderCleanTask;
         this.playersPageRefreshTask = playersPageRefreshTask;
+        this.eventCountSaveTask = eventCountSaveTask;
+        this.placeholderRefreshTask = placeholderRefreshTask;
     }
 
     @Override
@@ -75,5 +83,15 @@ public abstract class ServerTaskSystem extends TaskSystem {
         registerTask(logsFolderCleanTask).runTaskLaterAsynchronously(TimeAmount.toTicks(30L, TimeUnit.SECONDS));
         registerTask(playersPageRefreshTask)
                 .runTaskTimerAsynchronously(TimeAmount.toTicks(5L, TimeUnit.MINUTES), TimeAmount.toTicks(5L, TimeUnit.MINUTES));
+
+        long eventCountSavePeriod = TimeAmount.toTicks(config.get(TimeSettings.EVENT_COUNT_SAVE_PERIOD), TimeUnit.MILLISECONDS);
+        if (eventCountSavePeriod > 0) {
+            registerTask(eventCountSaveTask).runTaskTimerAsynchronously(eventCountSavePeriod, eventCountSavePeriod);
+        }
+
+        long placeholderRefreshPeriod = TimeAmount.toTicks(config.get(TimeSettings.PLACEHOLDER_REFRESH_PERIOD), TimeUnit.MILLISECONDS);
+        if (placeholderRefreshPeriod > 0) {
+            registerTask(placeholderRefreshTask).runTaskTimerAsynchronously(placeholderRefreshPeriod, placeholderRefreshPeriod);
+        }
     }
 }
\ No newline at end of file
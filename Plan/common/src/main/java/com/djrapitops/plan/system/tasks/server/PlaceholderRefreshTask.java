@@ -0,0 +1,44 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.tasks.server;
+
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
+import com.djrapitops.plugin.task.AbsRunnable;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Task for refreshing the placeholder values in {@link PlaceholderValueCache}.
+ *
+ * @author Rsl1122
+ */
+@Singleton
+public class PlaceholderRefreshTask extends AbsRunnable {
+
+    private final PlaceholderValueCache placeholderValueCache;
+
+    @Inject
+    public PlaceholderRefreshTask(PlaceholderValueCache placeholderValueCache) {
+        this.placeholderValueCache = placeholderValueCache;
+    }
+
+    @Override
+    public void run() {
+        placeholderValueCache.refreshAll();
+    }
+}
\ No newline at end of file
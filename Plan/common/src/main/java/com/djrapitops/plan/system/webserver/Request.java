@@ -76,6 +76,14 @@ public class Request {
         return exchange.getRequestBody();
     }
 
+    public Optional<String> getHeader(String key) {
+        return Optional.ofNullable(exchange.getRequestHeaders().getFirst(key));
+    }
+
+    public void setResponseHeader(String key, String value) {
+        exchange.getResponseHeaders().set(key, value);
+    }
+
     @Override
     public String toString() {
         return "Request:" + requestMethod + " " + requestURI.getPath();
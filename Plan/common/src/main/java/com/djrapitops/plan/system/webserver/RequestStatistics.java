@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Keeps track of requests handled by the request thread pool of the {@link WebServer}.
+ *
+ * @author Rsl1122
+ */
+public class RequestStatistics {
+
+    private final AtomicLong handledRequests;
+    private final AtomicLong rejectedRequests;
+    private final AtomicLong totalWaitTime;
+    private final AtomicLong totalRequestTime;
+    private final LongAccumulator maxRequestTime;
+    private final LongAccumulator maxQueueSize;
+
+    public RequestStatistics() {
+        handledRequests = new AtomicLong();
+        rejectedRequests = new AtomicLong();
+        totalWaitTime = new AtomicLong();
+        totalRequestTime = new AtomicLong();
+        maxRequestTime = new LongAccumulator(Math::max, 0L);
+        maxQueueSize = new LongAccumulator(Math::max, 0L);
+    }
+
+    /**
+     * Record a queued request.
+     *
+     * @param queueSize How many requests are waiting for a thread, including this one.
+     */
+    public void requestQueued(int queueSize) {
+        maxQueueSize.accumulate(queueSize);
+    }
+
+    /**
+     * Record a finished request.
+     *
+     * @param waitTimeNs    How long the request waited for a thread in nanoseconds.
+     * @param requestTimeNs How long it took to handle the request in nanoseconds.
+     */
+    public void requestHandled(long waitTimeNs, long requestTimeNs) {
+        handledRequests.incrementAndGet();
+        totalWaitTime.addAndGet(waitTimeNs);
+        totalRequestTime.addAndGet(requestTimeNs);
+        maxRequestTime.accumulate(waitTimeNs + requestTimeNs);
+    }
+
+    public void requestRejected() {
+        rejectedRequests.incrementAndGet();
+    }
+
+    public long getHandledRequestCount() {
+        return handledRequests.get();
+    }
+
+    public long getRejectedRequestCount() {
+        return rejectedRequests.get();
+    }
+
+    public long getAverageWaitTimeMs() {
+        long requestCount = handledRequests.get();
+        return requestCount != 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitTime.get() / requestCount) : 0L;
+    }
+
+    public long getAverageRequestTimeMs() {
+        long requestCount = handledRequests.get();
+        return requestCount != 0 ? TimeUnit.NANOSECONDS.toMillis(totalRequestTime.get() / requestCount) : 0L;
+    }
+
+    public long getMaxRequestTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxRequestTime.get());
+    }
+
+    public long getMaxQueueSize() {
+        return maxQueueSize.get();
+    }
+}
\ No newline at end of file
@@ -66,9 +66,12 @@ public class WebServer implements SubSystem {
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
 
+    private final RequestStatistics requestStatistics;
+
     private int port;
     private boolean enabled = false;
     private HttpServer server;
+    private ThreadPoolExecutor executor;
 
     private boolean usingHttps = false;
 
@@ -91,6 +94,8 @@ public class WebServer implements SubSystem {
 
         this.logger = logger;
         this.errorHandler = errorHandler;
+
+        this.requestStatistics = new RequestStatistics();
     }
 
     @Override
@@ -141,11 +146,14 @@ public class WebServer implements SubSystem {
             }
             server.createContext("/", requestHandler);
 
-            ExecutorService executor = new ThreadPoolExecutor(
-                    4, 8, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100),
+            int coreThreads = config.get(WebserverSettings.CORE_THREADS);
+            int maxThreads = Math.max(coreThreads, config.get(WebserverSettings.MAX_THREADS));
+            executor = new ThreadPoolExecutor(
+                    coreThreads, maxThreads, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(config.get(WebserverSettings.REQUEST_QUEUE_SIZE)),
                     new ThreadFactoryBuilder().setNameFormat("Plan WebServer Thread-%d").build()
             );
-            server.setExecutor(executor);
+            server.setExecutor(this::executeRequest);
             server.start();
 
             enabled = true;
@@ -157,6 +165,24 @@ public class WebServer implements SubSystem {
         }
     }
 
+    private void executeRequest(Runnable request) {
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    request.run();
+                } finally {
+                    requestStatistics.requestHandled(startedAt - queuedAt, System.nanoTime() - startedAt);
+                }
+            });
+            requestStatistics.requestQueued(executor.getQueue().size());
+        } catch (RejectedExecutionException e) {
+            requestStatistics.requestRejected();
+            throw e;
+        }
+    }
+
     private boolean startHttpsServer() {
         String keyStorePath = config.get(WebserverSettings.CERTIFICATE_PATH);
 
@@ -254,13 +280,11 @@ public class WebServer implements SubSystem {
 
     private void shutdown() {
         server.stop(0);
-        Executor executor = server.getExecutor();
-        if (executor instanceof ExecutorService) {
-            ExecutorService service = (ExecutorService) executor;
-            service.shutdown();
+        if (executor != null) {
+            executor.shutdown();
             try {
-                if (!service.awaitTermination(5, TimeUnit.SECONDS)) {
-                    service.shutdownNow();
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
                 }
             } catch (InterruptedException e) {
                 logger.error("WebServer ExecutorService shutdown thread interrupted on disable: " + e.getMessage());
@@ -269,6 +293,24 @@ public class WebServer implements SubSystem {
         }
     }
 
+    public RequestStatistics getRequestStatistics() {
+        return requestStatistics;
+    }
+
+    /**
+     * @return How many requests are currently being handled.
+     */
+    public int getActiveRequestCount() {
+        return executor != null ? executor.getActiveCount() : 0;
+    }
+
+    /**
+     * @return How many requests are waiting for a thread.
+     */
+    public int getQueuedRequestCount() {
+        return executor != null ? executor.getQueue().size() : 0;
+    }
+
     public String getProtocol() {
         return usingHttps ? "https" : "http";
     }
@@ -18,6 +18,7 @@ package com.djrapitops.plan.system.webserver;
 
 import com.djrapitops.plan.api.exceptions.EnableException;
 import com.djrapitops.plan.system.SubSystem;
+import com.djrapitops.plan.system.webserver.cache.AuthenticationCache;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plugin.benchmarking.Timings;
 
@@ -51,6 +52,7 @@ public class WebServerSystem implements SubSystem {
     @Override
     public void disable() {
         ResponseCache.clearCache();
+        AuthenticationCache.clearCache();
         webServer.disable();
     }
 
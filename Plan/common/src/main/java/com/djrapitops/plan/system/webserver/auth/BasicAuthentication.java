@@ -22,9 +22,12 @@ import com.djrapitops.plan.api.exceptions.database.DBOpException;
 import com.djrapitops.plan.data.WebUser;
 import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.queries.objects.WebUserQueries;
+import com.djrapitops.plan.system.webserver.cache.AuthenticationCache;
 import com.djrapitops.plan.utilities.Base64Util;
 import com.djrapitops.plan.utilities.PassEncryptUtil;
 
+import java.util.Optional;
+
 /**
  * Authentication handling for Basic Auth.
  * <p>
@@ -45,6 +48,12 @@ public class BasicAuthentication implements Authentication {
 
     @Override
     public WebUser getWebUser() throws WebUserAuthException {
+        Optional<WebUser> verifiedUser = AuthenticationCache.getVerifiedUser(authenticationString);
+        if (verifiedUser.isPresent()) {
+            return verifiedUser.get();
+        }
+        long cacheVersion = AuthenticationCache.getVersion();
+
         String decoded = Base64Util.decode(authenticationString);
 
         String[] userInfo = decoded.split(":");
@@ -68,6 +77,7 @@ public class BasicAuthentication implements Authentication {
             if (!correctPass) {
                 throw new WebUserAuthException(FailReason.USER_PASS_MISMATCH, user);
             }
+            AuthenticationCache.cacheVerifiedUser(authenticationString, webUser, cacheVersion);
             return webUser;
         } catch (DBOpException | PassEncryptException e) {
             throw new WebUserAuthException(e);
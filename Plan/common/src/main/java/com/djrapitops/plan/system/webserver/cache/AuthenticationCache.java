@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.data.WebUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class contains the recently verified Basic Authentication credentials.
+ * <p>
+ * Verifying a password is intentionally slow, and a single page view makes many requests with the same credentials.
+ * Credentials are stored as SHA-256 digests so that the passwords are not kept in memory.
+ *
+ * @author Rsl1122
+ */
+public class AuthenticationCache {
+
+    private static final Cache<String, WebUser> cache = Caffeine.newBuilder()
+            .expireAfterWrite(2, TimeUnit.MINUTES)
+            .maximumSize(100)
+            .build();
+
+    private static long version = 0L;
+
+    /**
+     * Constructor used to hide the public constructor
+     */
+    private AuthenticationCache() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Get the user that was recently verified with the given credentials.
+     *
+     * @param authenticationString Base64 encoded user:password
+     * @return The verified WebUser or empty if the credentials have not been verified recently.
+     */
+    public static Optional<WebUser> getVerifiedUser(String authenticationString) {
+        return Optional.ofNullable(cache.getIfPresent(digest(authenticationString)));
+    }
+
+    /**
+     * Get the current version of the cache, to give to {@link #cacheVerifiedUser(String, WebUser, long)}.
+     *
+     * @return Number that changes every time the cache is cleared.
+     */
+    public static synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Store a verified user.
+     * <p>
+     * The user is not stored if the cache has been cleared since the verification started.
+     *
+     * @param authenticationString Base64 encoded user:password
+     * @param webUser              User the credentials were verified for.
+     * @param versionAtStart       {@link #getVersion()} before the user was fetched from the database.
+     */
+    public static synchronized void cacheVerifiedUser(String authenticationString, WebUser webUser, long versionAtStart) {
+        if (version == versionAtStart) {
+            cache.put(digest(authenticationString), webUser);
+        }
+    }
+
+    /**
+     * Clears the cache from all its contents.
+     * <p>
+     * Called when web users are added or removed.
+     */
+    public static synchronized void clearCache() {
+        version++;
+        cache.invalidateAll();
+    }
+
+    private static String digest(String authenticationString) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(authenticationString.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
\ No newline at end of file
@@ -35,8 +35,15 @@ import java.util.function.Supplier;
  */
 public class ResponseCache {
 
+    /**
+     * Limit for the estimated size of cached responses in kilobytes, 1/16th of the heap but at least 16 MB.
+     */
+    private static final long MAX_WEIGHT_KB = Math.max(16L * 1024L, Runtime.getRuntime().maxMemory() / 16L / 1024L);
+
     private static final Cache<String, Response> cache = Caffeine.newBuilder()
             .expireAfterWrite(5, TimeUnit.MINUTES)
+            .maximumWeight(MAX_WEIGHT_KB)
+            .weigher(ResponseCache::weighInKilobytes)
             .build();
 
     /**
@@ -59,7 +66,13 @@ public class ResponseCache {
      * @return The Response that was cached or created by the the {@link Response} {@link Supplier}
      */
     public static Response loadResponse(String identifier, Supplier<Response> loader) {
-        return cache.get(identifier, k -> loader.get());
+        return cache.get(identifier, k -> {
+            Response response = loader.get();
+            if (response != null) {
+                response.setCacheIdentifier(identifier);
+            }
+            return response;
+        });
     }
 
     /**
@@ -83,10 +96,23 @@ public class ResponseCache {
     public static void cacheResponse(String identifier, Supplier<Response> loader) {
         Response response = loader.get();
         if (response != null) {
+            response.setCacheIdentifier(identifier);
             cache.put(identifier, response);
         }
     }
 
+    /**
+     * Weigh a cached response again after its estimated size has changed.
+     * <p>
+     * The entry is only updated if the response is still cached with the identifier.
+     *
+     * @param identifier The identifier of the page
+     * @param response   The cached {@link Response}
+     */
+    public static void updateWeight(String identifier, Response response) {
+        cache.asMap().replace(identifier, response, response);
+    }
+
     /**
      * Checks if the page is cached.
      *
@@ -112,7 +138,25 @@ public class ResponseCache {
         return cache.estimatedSize();
     }
 
+    /**
+     * Get the estimated memory used by the cached responses.
+     *
+     * @return Sum of the entry weights in kilobytes.
+     */
+    public static long getWeightedSizeKB() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    public static long getMaximumWeightKB() {
+        return MAX_WEIGHT_KB;
+    }
+
     public static void clearResponse(String identifier) {
         cache.invalidate(identifier);
     }
+
+    private static int weighInKilobytes(String identifier, Response response) {
+        long kilobytes = response.getEstimatedSize() / 1024L;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, kilobytes));
+    }
 }
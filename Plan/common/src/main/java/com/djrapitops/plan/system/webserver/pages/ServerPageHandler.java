@@ -39,7 +39,9 @@ import com.djrapitops.plan.system.webserver.response.ResponseFactory;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * PageHandler for /server and /network pages.
@@ -55,6 +57,8 @@ public class ServerPageHandler implements PageHandler {
     private final ServerInfo serverInfo;
     private final InfoSystem infoSystem;
 
+    private final Set<UUID> refreshing;
+
     @Inject
     public ServerPageHandler(
             Processing processing,
@@ -68,6 +72,8 @@ public class ServerPageHandler implements PageHandler {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.infoSystem = infoSystem;
+
+        refreshing = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -102,15 +108,20 @@ public class ServerPageHandler implements PageHandler {
 
     // TODO Split responsibility so that this method does not call system to refresh and also render a refresh page.
     private Response refreshNow(UUID serverUUID) {
-        processing.submitNonCritical(() -> {
-            try {
-                infoSystem.generateAnalysisPage(serverUUID);
-            } catch (NoServersException | ConnectionFailException e) {
-                ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> responseFactory.notFound404(e.getMessage()));
-            } catch (WebException e) {
-                ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> responseFactory.internalErrorResponse(e, "Failed to generate Analysis Page"));
-            }
-        });
+        // Concurrent viewers share one refresh, the refreshing page reloads until the result is cached.
+        if (refreshing.add(serverUUID)) {
+            processing.submitNonCritical(() -> {
+                try {
+                    infoSystem.generateAnalysisPage(serverUUID);
+                } catch (NoServersException | ConnectionFailException e) {
+                    ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> responseFactory.notFound404(e.getMessage()));
+                } catch (WebException e) {
+                    ResponseCache.cacheResponse(PageId.SERVER.of(serverUUID), () -> responseFactory.internalErrorResponse(e, "Failed to generate Analysis Page"));
+                } finally {
+                    refreshing.remove(serverUUID);
+                }
+            });
+        }
         return responseFactory.refreshingAnalysisResponse();
     }
 
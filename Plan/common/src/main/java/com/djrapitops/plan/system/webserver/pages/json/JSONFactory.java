@@ -16,8 +16,12 @@
  */
 package com.djrapitops.plan.system.webserver.pages.json;
 
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
 import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
 import com.djrapitops.plan.db.access.queries.containers.ServerPlayersTableContainersQuery;
+import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionInformationQueries;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerPlayerDataTableQuery;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -28,7 +32,10 @@ import com.djrapitops.plan.utilities.html.tables.PlayersTableJSONParser;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Factory with different JSON parsing placed to a single class.
@@ -62,10 +69,66 @@ public class JSONFactory {
         Database database = dbSystem.getDatabase();
 
         return new PlayersTableJSONParser(
-                database.query(new ServerPlayersTableContainersQuery(serverUUID)),
+                database.query(new ServerPlayersTableContainersQuery(serverUUID, xMostRecentPlayers)),
                 database.query(new ExtensionServerPlayerDataTableQuery(serverUUID, xMostRecentPlayers)),
                 xMostRecentPlayers, playtimeThreshold, loginThreshold, openPlayerLinksInNewTab,
                 formatters
         ).toJSONString();
     }
+
+    /**
+     * Create JSON with only the columns of the players table, for jQuery Datatables server-side processing.
+     *
+     * @param serverUUID UUID of the server.
+     * @return JSON with the column headers.
+     */
+    public String serverPlayersTableColumnsJSON(UUID serverUUID) {
+        return PlayersTableJSONParser.toColumnsJSONString(
+                dbSystem.getDatabase().query(ExtensionInformationQueries.playersTableProvidersOfServer(serverUUID))
+        );
+    }
+
+    /**
+     * Create JSON for a page of the players table, for jQuery Datatables server-side processing.
+     *
+     * @param serverUUID UUID of the server.
+     * @param draw       Draw counter of the request.
+     * @param orderBy    Column to sort by.
+     * @param descending Should the order be descending.
+     * @param nameSearch Part of a player name to search for, null or empty for no search.
+     * @param start      Index of the first player on the page.
+     * @param length     How many players to show on the page.
+     * @return JSON with the players on the page.
+     */
+    public String serverPlayersTablePageJSON(
+            UUID serverUUID, int draw,
+            ServerPlayersTableContainersQuery.OrderBy orderBy, boolean descending,
+            String nameSearch, int start, int length
+    ) {
+        Integer loginThreshold = config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD);
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        Boolean openPlayerLinksInNewTab = config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+
+        Database database = dbSystem.getDatabase();
+
+        List<PlayerContainer> players = database.query(new ServerPlayersTableContainersQuery(
+                serverUUID, orderBy, descending, nameSearch, start, length
+        ));
+        List<UUID> playerUUIDs = players.stream()
+                .map(player -> player.getValue(PlayerKeys.UUID).orElse(null))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        int recordsTotal = database.query(ServerAggregateQueries.serverUserCount(serverUUID));
+        int recordsFiltered = nameSearch != null && !nameSearch.isEmpty()
+                ? database.query(ServerPlayersTableContainersQuery.countPlayersMatching(serverUUID, nameSearch))
+                : recordsTotal;
+
+        return new PlayersTableJSONParser(
+                players,
+                database.query(new ExtensionServerPlayerDataTableQuery(serverUUID, playerUUIDs)),
+                length, playtimeThreshold, loginThreshold, openPlayerLinksInNewTab,
+                formatters
+        ).toPageJSONString(draw, recordsTotal, recordsFiltered);
+    }
 }
\ No newline at end of file
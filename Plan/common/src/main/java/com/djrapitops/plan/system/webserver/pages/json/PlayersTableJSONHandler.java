@@ -19,6 +19,7 @@ package com.djrapitops.plan.system.webserver.pages.json;
 import com.djrapitops.plan.api.exceptions.WebUserAuthException;
 import com.djrapitops.plan.api.exceptions.connection.BadRequestException;
 import com.djrapitops.plan.api.exceptions.connection.WebException;
+import com.djrapitops.plan.db.access.queries.containers.ServerPlayersTableContainersQuery;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.Server;
@@ -36,6 +37,11 @@ import java.util.UUID;
 
 /**
  * JSON handler for different Player table JSON requests.
+ * <p>
+ * Requests with a {@code draw} parameter are jQuery Datatables server-side processing requests for a page of the table,
+ * see https://datatables.net/manual/server-side
+ * <p>
+ * Requests with a {@code columns} parameter only get the columns of the table, used before the pages are requested.
  *
  * @author Rsl1122
  * @see com.djrapitops.plan.utilities.html.tables.PlayersTableJSONParser For JSON parsing of /server players table.
@@ -43,6 +49,8 @@ import java.util.UUID;
 @Singleton
 public class PlayersTableJSONHandler implements PageHandler {
 
+    private static final int MAX_PAGE_LENGTH = 100;
+
     private final DBSystem dbSystem;
     private final JSONFactory jsonFactory;
 
@@ -58,9 +66,60 @@ public class PlayersTableJSONHandler implements PageHandler {
     @Override
     public Response getResponse(Request request, RequestTarget target) throws WebException {
         UUID serverUUID = getServerUUID(target); // Can throw BadRequestException
+        if (target.getParameter("draw").isPresent()) {
+            return getPageResponse(serverUUID, target);
+        }
+        if (target.getParameter("columns").isPresent()) {
+            return new JSONResponse(jsonFactory.serverPlayersTableColumnsJSON(serverUUID));
+        }
         return new JSONResponse(jsonFactory.serverPlayersTableJSON(serverUUID));
     }
 
+    private Response getPageResponse(UUID serverUUID, RequestTarget target) throws BadRequestException {
+        int draw = getIntParameter(target, "draw", 0);
+        int start = Math.max(0, getIntParameter(target, "start", 0));
+        int length = getIntParameter(target, "length", 10);
+        if (length <= 0 || length > MAX_PAGE_LENGTH) {
+            length = MAX_PAGE_LENGTH;
+        }
+        ServerPlayersTableContainersQuery.OrderBy orderBy = getOrderBy(getIntParameter(target, "order[0][column]", 5));
+        boolean descending = !target.getParameter("order[0][dir]").map("asc"::equalsIgnoreCase).orElse(false);
+        // Query parameters are form encoded, player names can not contain spaces or '+'
+        String nameSearch = target.getParameter("search[value]").map(search -> search.replace('+', ' ').trim()).orElse(null);
+
+        return new JSONResponse(jsonFactory.serverPlayersTablePageJSON(
+                serverUUID, draw, orderBy, descending, nameSearch, start, length
+        ));
+    }
+
+    private ServerPlayersTableContainersQuery.OrderBy getOrderBy(int column) {
+        // Column order of PlayersTableJSONParser, activity index and geolocation can not be sorted in the database.
+        switch (column) {
+            case 0:
+                return ServerPlayersTableContainersQuery.OrderBy.NAME;
+            case 2:
+                return ServerPlayersTableContainersQuery.OrderBy.PLAYTIME;
+            case 3:
+                return ServerPlayersTableContainersQuery.OrderBy.SESSIONS;
+            case 4:
+                return ServerPlayersTableContainersQuery.OrderBy.REGISTERED;
+            default:
+                return ServerPlayersTableContainersQuery.OrderBy.LAST_SEEN;
+        }
+    }
+
+    private int getIntParameter(RequestTarget target, String key, int defaultValue) throws BadRequestException {
+        Optional<String> value = target.getParameter(key);
+        if (!value.isPresent()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.get());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'" + key + "' was not a number: " + value.get());
+        }
+    }
+
     private UUID getServerUUID(RequestTarget target) throws BadRequestException {
         Optional<String> serverUUID = target.getParameter("serverUUID");
         if (serverUUID.isPresent()) {
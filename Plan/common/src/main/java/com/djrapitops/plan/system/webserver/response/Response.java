@@ -18,14 +18,18 @@ package com.djrapitops.plan.system.webserver.response;
 
 import com.djrapitops.plan.system.locale.Locale;
 import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPOutputStream;
 
 /**
@@ -36,6 +40,8 @@ public abstract class Response {
     private String type;
     private String header;
     private String content;
+    private volatile CompressedContent compressedContent;
+    private volatile String cacheIdentifier;
 
     protected Headers responseHeaders;
 
@@ -81,6 +87,7 @@ public abstract class Response {
 
     public void setContent(String content) {
         this.content = content;
+        this.compressedContent = null;
     }
 
     public int getCode() {
@@ -110,26 +117,126 @@ public abstract class Response {
     }
 
     public void send(HttpExchange exchange, Locale locale, Theme theme) throws IOException {
+        CompressedContent sent = getCompressedContent(locale, theme);
+
         responseHeaders.set("Content-Type", type);
         responseHeaders.set("Content-Encoding", "gzip");
-        exchange.sendResponseHeaders(getCode(), 0);
 
-        String sentContent = getContent();
-        // TODO Smell
-        if (!(this instanceof JavaScriptResponse)) {
-            sentContent = locale.replaceMatchingLanguage(sentContent);
+        int code = getCode();
+        if (code == 200) {
+            responseHeaders.set("ETag", sent.eTag);
+            if (sent.matchesAny(exchange.getRequestHeaders().get("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        if ("HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(code, -1);
+            return;
+        }
+
+        exchange.sendResponseHeaders(code, sent.gzipped.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(sent.gzipped);
+        }
+    }
+
+    /**
+     * Get the content with language and theme replaced, gzip compressed.
+     * <p>
+     * The result is kept so that responses stored in {@link ResponseCache} are only replaced and compressed once,
+     * or again when {@link #getContent()} changes.
+     * The cache is cleared on disable, before Locale and Theme can be reloaded.
+     *
+     * @param locale Locale to replace html language with.
+     * @param theme  Theme to replace colors with.
+     * @return Compressed content and its ETag.
+     * @throws IOException If compression fails.
+     */
+    private CompressedContent getCompressedContent(Locale locale, Theme theme) throws IOException {
+        String rawContent = getContent();
+        CompressedContent compressed = compressedContent;
+        if (compressed == null || !compressed.isCompressedFrom(rawContent)) {
+            String sentContent = rawContent;
+            // TODO Smell
+            if (!(this instanceof JavaScriptResponse)) {
+                sentContent = locale.replaceMatchingLanguage(sentContent);
+            }
+            sentContent = theme.replaceThemeColors(sentContent);
+            compressed = new CompressedContent(rawContent, sentContent.getBytes(StandardCharsets.UTF_8));
+            compressedContent = compressed;
+
+            String identifier = cacheIdentifier;
+            if (identifier != null) {
+                // Weight of the cache entry changed.
+                ResponseCache.updateWeight(identifier, this);
+            }
+        }
+        return compressed;
+    }
+
+    /**
+     * Called by {@link ResponseCache} when this response is cached, so that the weight of
+     * the cache entry can be updated when the content has been compressed.
+     *
+     * @param identifier Identifier of the cache entry.
+     */
+    public void setCacheIdentifier(String identifier) {
+        this.cacheIdentifier = identifier;
+    }
+
+    /**
+     * Estimate the memory used by this response, used for weighing {@link ResponseCache} entries.
+     *
+     * @return Approximate size of the content and its compressed form in bytes.
+     */
+    public long getEstimatedSize() {
+        long size = content != null ? content.length() * 2L : 0L;
+        CompressedContent compressed = compressedContent;
+        if (compressed != null) {
+            size += compressed.gzipped.length;
+            if (compressed.source != content) {
+                size += compressed.source.length() * 2L;
+            }
+        }
+        return size;
+    }
+
+    private static class CompressedContent {
+        private final String source;
+        private final byte[] gzipped;
+        private final String eTag;
+
+        CompressedContent(String source, byte[] content) throws IOException {
+            this.source = source;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                out.write(content);
+            }
+            gzipped = bytes.toByteArray();
+
+            CRC32 checksum = new CRC32();
+            checksum.update(gzipped);
+            eTag = "\"" + Long.toHexString(checksum.getValue()) + '-' + Integer.toHexString(gzipped.length) + "\"";
         }
-        sentContent = theme.replaceThemeColors(sentContent);
-
-        try (
-                GZIPOutputStream out = new GZIPOutputStream(exchange.getResponseBody());
-                ByteArrayInputStream bis = new ByteArrayInputStream(sentContent.getBytes(StandardCharsets.UTF_8))
-        ) {
-            byte[] buffer = new byte[2048];
-            int count;
-            while ((count = bis.read(buffer)) != -1) {
-                out.write(buffer, 0, count);
+
+        boolean isCompressedFrom(String content) {
+            return source == content || source.equals(content);
+        }
+
+        boolean matchesAny(List<String> ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String header : ifNoneMatch) {
+                for (String tag : header.split(",")) {
+                    String trimmed = tag.trim();
+                    if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                        return true;
+                    }
+                }
             }
+            return false;
         }
     }
 
@@ -0,0 +1,103 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.formatting;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Formatter that replaces many literal strings in a single pass over the text.
+ * <p>
+ * The replacements are compiled into a character trie once, so each apply only walks the text once
+ * instead of once per replaced string. When multiple strings match at the same position the longest
+ * one wins, and replaced text is never matched again.
+ *
+ * @author Rsl1122
+ */
+public class MultiReplacer implements Formatter<String> {
+
+    private final Node root;
+
+    /**
+     * Compile the replacements.
+     *
+     * @param replacements Map of string to find, replacement. Empty and unchanged entries are ignored.
+     */
+    public MultiReplacer(Map<String, String> replacements) {
+        root = new Node();
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            String find = entry.getKey();
+            String replacement = entry.getValue();
+            if (find == null || find.isEmpty() || replacement == null || find.equals(replacement)) {
+                continue;
+            }
+            Node node = root;
+            for (char character : find.toCharArray()) {
+                node = node.children.computeIfAbsent(character, c -> new Node());
+            }
+            node.replacement = replacement;
+        }
+    }
+
+    @Override
+    public String apply(String text) {
+        if (text == null || root.children.isEmpty()) {
+            return text;
+        }
+
+        StringBuilder builder = null;
+        int length = text.length();
+        int copiedUntil = 0;
+        int index = 0;
+        while (index < length) {
+            String replacement = null;
+            int matchEnd = index;
+
+            Node node = root.children.get(text.charAt(index));
+            int position = index;
+            while (node != null) {
+                position++;
+                if (node.replacement != null) {
+                    replacement = node.replacement;
+                    matchEnd = position;
+                }
+                node = position < length ? node.children.get(text.charAt(position)) : null;
+            }
+
+            if (replacement == null) {
+                index++;
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(length + length / 8);
+            }
+            builder.append(text, copiedUntil, index).append(replacement);
+            copiedUntil = matchEnd;
+            index = matchEnd;
+        }
+
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, copiedUntil, length).toString();
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private String replacement;
+    }
+}
\ No newline at end of file
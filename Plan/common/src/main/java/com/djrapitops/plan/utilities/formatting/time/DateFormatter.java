@@ -23,21 +23,32 @@ import com.djrapitops.plan.system.settings.paths.FormatSettings;
 import com.djrapitops.plan.system.settings.paths.PluginSettings;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.utilities.formatting.Formatter;
+import org.apache.commons.lang3.time.FastDateFormat;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract formatter for a timestamp.
+ * <p>
+ * Thread safe formats are reused for each pattern, until the locale or time zone settings change.
  *
  * @author Rsl1122
  */
 public abstract class DateFormatter implements Formatter<Long> {
 
+    private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
     protected final PlanConfig config;
     protected final Locale locale;
 
+    private volatile DateFormats dateFormats;
+
     public DateFormatter(PlanConfig config, Locale locale) {
         this.config = config;
         this.locale = locale;
@@ -46,16 +57,20 @@ public abstract class DateFormatter implements Formatter<Long> {
     @Override
     public abstract String apply(Long value);
 
-    protected String format(long epochMs, String format) {
+    private DateFormats getDateFormats() {
         boolean useServerTime = config.isTrue(TimeSettings.USE_SERVER_TIME);
         String localeSetting = config.get(PluginSettings.LOCALE);
-        java.util.Locale usedLocale = "default".equalsIgnoreCase(localeSetting)
-                ? java.util.Locale.ENGLISH
-                : java.util.Locale.forLanguageTag(localeSetting);
-        SimpleDateFormat dateFormat = new SimpleDateFormat(format, usedLocale);
-        TimeZone timeZone = useServerTime ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT");
-        dateFormat.setTimeZone(timeZone);
-        return dateFormat.format(epochMs);
+
+        DateFormats formats = dateFormats;
+        if (formats == null || !formats.isFor(useServerTime, localeSetting)) {
+            formats = new DateFormats(useServerTime, localeSetting);
+            dateFormats = formats;
+        }
+        return formats;
+    }
+
+    protected String format(long epochMs, String format) {
+        return getDateFormats().getFormat(format).format(epochMs);
     }
 
     protected String replaceRecentDays(long epochMs, String format) {
@@ -64,16 +79,12 @@ public abstract class DateFormatter implements Formatter<Long> {
 
     protected String replaceRecentDays(long epochMs, String format, String pattern) {
         long now = System.currentTimeMillis();
+        DateFormats formats = getDateFormats();
+        long startOfToday = formats.getStartOfDay(now);
 
-        boolean useServerTime = config.isTrue(TimeSettings.USE_SERVER_TIME);
-        TimeZone timeZone = useServerTime ? TimeZone.getDefault() : TimeZone.getTimeZone("GMT");
-        int offset = timeZone.getOffset(epochMs);
-
-        // Time since Start of day: UTC + Timezone % 24 hours
-        long fromStartOfDay = (now + offset) % TimeUnit.DAYS.toMillis(1L);
-        if (epochMs > now - fromStartOfDay) {
+        if (epochMs > startOfToday) {
             format = format.replace(pattern, locale.getString(GenericLang.TODAY));
-        } else if (epochMs > now - TimeUnit.DAYS.toMillis(1L) - fromStartOfDay) {
+        } else if (epochMs > formats.getStartOfYesterday(now)) {
             format = format.replace(pattern, locale.getString(GenericLang.YESTERDAY));
         } else if (epochMs > now - TimeUnit.DAYS.toMillis(5L)) {
             format = format.replace(pattern, "EEEE");
@@ -81,4 +92,72 @@ public abstract class DateFormatter implements Formatter<Long> {
         return format;
     }
 
+    /**
+     * Formats and the start of the current day for one locale and time zone setting.
+     * <p>
+     * Days are computed in the time zone, so days with a daylight saving time change are 23 or 25 hours long.
+     */
+    static class DateFormats {
+        private final boolean useServerTime;
+        private final String localeSetting;
+        private final TimeZone timeZone;
+        private final ZoneId zone;
+        private final java.util.Locale usedLocale;
+        private final Map<String, FastDateFormat> formats;
+
+        // {start of yesterday, start of day, start of next day}, replaced when the day changes.
+        private volatile long[] day;
+
+        DateFormats(boolean useServerTime, String localeSetting) {
+            this.useServerTime = useServerTime;
+            this.localeSetting = localeSetting;
+            timeZone = useServerTime ? TimeZone.getDefault() : GMT;
+            zone = timeZone.toZoneId();
+            usedLocale = "default".equalsIgnoreCase(localeSetting)
+                    ? java.util.Locale.ENGLISH
+                    : java.util.Locale.forLanguageTag(localeSetting);
+            formats = new ConcurrentHashMap<>();
+            day = new long[]{0L, 0L, 0L};
+        }
+
+        boolean isFor(boolean useServerTime, String localeSetting) {
+            return this.useServerTime == useServerTime && this.localeSetting.equals(localeSetting);
+        }
+
+        FastDateFormat getFormat(String pattern) {
+            FastDateFormat format = formats.get(pattern);
+            if (format == null) {
+                format = FastDateFormat.getInstance(pattern, timeZone, usedLocale);
+                formats.put(pattern, format);
+            }
+            return format;
+        }
+
+        long getStartOfDay(long now) {
+            return getDay(now)[1];
+        }
+
+        long getStartOfYesterday(long now) {
+            return getDay(now)[0];
+        }
+
+        private long[] getDay(long now) {
+            long[] current = day;
+            if (current[1] <= now && now < current[2]) {
+                return current;
+            }
+            LocalDate today = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+            current = new long[]{
+                    startOf(today.minusDays(1L)),
+                    startOf(today),
+                    startOf(today.plusDays(1L))
+            };
+            day = current;
+            return current;
+        }
+
+        private long startOf(LocalDate date) {
+            return date.atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+    }
 }
\ No newline at end of file
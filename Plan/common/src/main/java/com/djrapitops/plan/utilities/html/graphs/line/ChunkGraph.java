@@ -26,7 +26,7 @@ import com.djrapitops.plan.data.store.mutators.TPSMutator;
  */
 class ChunkGraph extends LineGraph {
 
-    ChunkGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.chunkPoints(), displayGaps);
+    ChunkGraph(TPSMutator mutator, boolean displayGaps, int maxPoints) {
+        super(mutator.chunkPoints(), displayGaps, maxPoints);
     }
 }
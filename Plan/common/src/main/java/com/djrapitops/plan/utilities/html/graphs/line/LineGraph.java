@@ -17,56 +17,108 @@
 package com.djrapitops.plan.utilities.html.graphs.line;
 
 import com.djrapitops.plan.utilities.html.graphs.HighChart;
+import com.djrapitops.plan.utilities.html.graphs.line.alg.LargestTriangleThreeBuckets;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * This is a LineGraph for any set of Points, thus it is Abstract.
+ * <p>
+ * Lines with more points than the limit are reduced with {@link LargestTriangleThreeBuckets}.
  *
  * @author Rsl1122
  */
 public class LineGraph implements HighChart {
 
+    private static final long GAP_MS = TimeUnit.MINUTES.toMillis(3L);
+
     private final boolean displayGaps;
-    private List<Point> points;
+    private final int maxPoints;
+    private final long[] x;
+    private final double[] y;
 
     public LineGraph(List<Point> points, boolean displayGaps) {
-        this.points = points;
-        this.displayGaps = displayGaps;
+        this(points, displayGaps, 0);
     }
 
-    @Override
-    public String toHighChartsSeries() {
-        StringBuilder arrayBuilder = new StringBuilder("[");
+    /**
+     * Create a new LineGraph.
+     *
+     * @param points      Points of the line in ascending x order.
+     * @param displayGaps Should gaps in the data be displayed.
+     * @param maxPoints   Maximum number of points to send to the browser, 0 or less for all points.
+     */
+    public LineGraph(List<Point> points, boolean displayGaps, int maxPoints) {
+        this.displayGaps = displayGaps;
+        this.maxPoints = maxPoints;
 
         int size = points.size();
-        Long lastX = null;
+        x = new long[size];
+        y = new double[size];
         for (int i = 0; i < size; i++) {
             Point point = points.get(i);
-            Double y = point.getY();
-            long date = (long) point.getX();
+            Double value = point.getY();
+            x[i] = (long) point.getX();
+            y[i] = value != null ? value : Double.NaN;
+        }
+    }
 
-            if (displayGaps && lastX != null && date - lastX > TimeUnit.MINUTES.toMillis(3L)) {
-                addMissingPoints(arrayBuilder, lastX, date);
-            }
-            lastX = date;
+    @Override
+    public String toHighChartsSeries() {
+        int size = x.length;
+        StringBuilder arrayBuilder = new StringBuilder(size * 24 + 2).append('[');
 
-            arrayBuilder.append("[").append(date).append(",").append(y).append("]");
-            if (i < size - 1) {
-                arrayBuilder.append(",");
+        if (!displayGaps) {
+            appendPoints(arrayBuilder, 0, size, getMaxPoints(size, size));
+            return arrayBuilder.append(']').toString();
+        }
+
+        // Each part between gaps is reduced separately so that the reduced line does not have new gaps.
+        int partStart = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i < size && x[i] - x[i - 1] <= GAP_MS) {
+                continue;
+            }
+            if (partStart > 0) {
+                arrayBuilder.append(',');
+                addMissingPoints(arrayBuilder, x[partStart - 1], x[partStart]);
             }
+            appendPoints(arrayBuilder, partStart, i, getMaxPoints(i - partStart, size));
+            partStart = i;
+        }
+        return arrayBuilder.append(']').toString();
+    }
+
+    private int getMaxPoints(int partSize, int size) {
+        if (maxPoints <= 0 || size == 0) {
+            return partSize;
         }
+        return (int) Math.max(2L, (long) maxPoints * partSize / size);
+    }
 
-        arrayBuilder.append("]");
-        return arrayBuilder.toString();
+    private void appendPoints(StringBuilder arrayBuilder, int from, int to, int maxPartPoints) {
+        int[] selected = LargestTriangleThreeBuckets.selectPoints(x, y, from, to, maxPartPoints);
+        for (int i = 0; i < selected.length; i++) {
+            int index = selected[i];
+            if (i > 0) {
+                arrayBuilder.append(',');
+            }
+            arrayBuilder.append('[').append(x[index]).append(',');
+            if (Double.isNaN(y[index])) {
+                arrayBuilder.append("null");
+            } else {
+                arrayBuilder.append(y[index]);
+            }
+            arrayBuilder.append(']');
+        }
     }
 
-    private void addMissingPoints(StringBuilder arrayBuilder, Long lastX, long date) {
+    private void addMissingPoints(StringBuilder arrayBuilder, long lastX, long date) {
         long iterate = lastX + TimeUnit.MINUTES.toMillis(1L);
         while (iterate < date) {
             arrayBuilder.append("[").append(iterate).append(",null],");
             iterate += TimeUnit.MINUTES.toMillis(30L);
         }
     }
-}
+}
\ No newline at end of file
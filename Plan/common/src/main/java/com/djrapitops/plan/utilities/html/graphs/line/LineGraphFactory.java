@@ -43,42 +43,46 @@ public class LineGraphFactory {
     }
 
     public LineGraph lineGraph(List<Point> points) {
-        return new LineGraph(points, shouldDisplayGapsInData());
+        return new LineGraph(points, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public LineGraph chunkGraph(TPSMutator mutator) {
-        return new ChunkGraph(mutator, shouldDisplayGapsInData());
+        return new ChunkGraph(mutator, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public LineGraph cpuGraph(TPSMutator mutator) {
-        return new CPUGraph(mutator, shouldDisplayGapsInData());
+        return new CPUGraph(mutator, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public LineGraph entityGraph(TPSMutator mutator) {
-        return new EntityGraph(mutator, shouldDisplayGapsInData());
+        return new EntityGraph(mutator, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public LineGraph playersOnlineGraph(TPSMutator mutator) {
-        return new PlayersOnlineGraph(mutator, shouldDisplayGapsInData());
+        return new PlayersOnlineGraph(mutator, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public PingGraph pingGraph(List<Ping> pingList) {
-        return new PingGraph(pingList, shouldDisplayGapsInData());
+        return new PingGraph(pingList, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public LineGraph ramGraph(TPSMutator mutator) {
-        return new RamGraph(mutator, shouldDisplayGapsInData());
+        return new RamGraph(mutator, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public LineGraph tpsGraph(TPSMutator mutator) {
-        return new TPSGraph(mutator, shouldDisplayGapsInData());
+        return new TPSGraph(mutator, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     public LineGraph diskGraph(TPSMutator mutator) {
-        return new DiskGraph(mutator, shouldDisplayGapsInData());
+        return new DiskGraph(mutator, shouldDisplayGapsInData(), getMaxPoints());
     }
 
     private boolean shouldDisplayGapsInData() {
         return config.isTrue(DisplaySettings.GAPS_IN_GRAPH_DATA);
     }
+
+    private int getMaxPoints() {
+        return config.get(DisplaySettings.GRAPH_MAX_POINTS);
+    }
 }
\ No newline at end of file
@@ -33,8 +33,9 @@ public class PingGraph {
      * @param pings       List of Ping values:
      *                    List should be filtered so that only a single entry for each date exists.
      * @param displayGaps Should data gaps be displayed.
+     * @param maxPoints   Maximum number of points per line, 0 or less for all points.
      */
-    PingGraph(List<Ping> pings, boolean displayGaps) {
+    PingGraph(List<Ping> pings, boolean displayGaps, int maxPoints) {
         List<Point> max = new ArrayList<>();
         List<Point> min = new ArrayList<>();
         List<Point> avg = new ArrayList<>();
@@ -47,9 +48,9 @@ public class PingGraph {
             avg.add(new Point(date, ping.getAverage()));
         }
 
-        maxGraph = new LineGraph(max, displayGaps);
-        minGraph = new LineGraph(min, displayGaps);
-        avgGraph = new LineGraph(avg, displayGaps);
+        maxGraph = new LineGraph(max, displayGaps, maxPoints);
+        minGraph = new LineGraph(min, displayGaps, maxPoints);
+        avgGraph = new LineGraph(avg, displayGaps, maxPoints);
     }
 
     public String toMaxSeries() {
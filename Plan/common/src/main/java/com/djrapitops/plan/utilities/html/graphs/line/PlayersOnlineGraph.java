@@ -26,7 +26,7 @@ import com.djrapitops.plan.data.store.mutators.TPSMutator;
  */
 class PlayersOnlineGraph extends LineGraph {
 
-    PlayersOnlineGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.playersOnlinePoints(), displayGaps);
+    PlayersOnlineGraph(TPSMutator mutator, boolean displayGaps, int maxPoints) {
+        super(mutator.playersOnlinePoints(), displayGaps, maxPoints);
     }
 }
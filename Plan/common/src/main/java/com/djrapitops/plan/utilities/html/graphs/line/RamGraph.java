@@ -26,7 +26,7 @@ import com.djrapitops.plan.data.store.mutators.TPSMutator;
  */
 class RamGraph extends LineGraph {
 
-    RamGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.ramUsagePoints(), displayGaps);
+    RamGraph(TPSMutator mutator, boolean displayGaps, int maxPoints) {
+        super(mutator.ramUsagePoints(), displayGaps, maxPoints);
     }
 }
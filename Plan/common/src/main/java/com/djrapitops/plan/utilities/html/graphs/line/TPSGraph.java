@@ -26,7 +26,7 @@ import com.djrapitops.plan.data.store.mutators.TPSMutator;
  */
 class TPSGraph extends LineGraph {
 
-    TPSGraph(TPSMutator mutator, boolean displayGaps) {
-        super(mutator.tpsPoints(), displayGaps);
+    TPSGraph(TPSMutator mutator, boolean displayGaps, int maxPoints) {
+        super(mutator.tpsPoints(), displayGaps, maxPoints);
     }
 }
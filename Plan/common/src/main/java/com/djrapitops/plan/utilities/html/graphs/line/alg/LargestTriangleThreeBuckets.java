@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.graphs.line.alg;
+
+/**
+ * Largest-Triangle-Three-Buckets Point Reduction Algorithm Implementation for reducing points from graphs.
+ * <p>
+ * Points between the first and last point are split into buckets, from each bucket the point that forms the
+ * largest triangle with the previously selected point and the average of the next bucket is selected.
+ * <p>
+ * https://skemman.is/bitstream/1946/15343/3/SS_MSthesis.pdf
+ *
+ * @author Rsl1122
+ */
+public class LargestTriangleThreeBuckets {
+
+    /**
+     * Constructor used to hide the public constructor
+     */
+    private LargestTriangleThreeBuckets() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Select the points to keep from a part of a line.
+     *
+     * @param x         X values of the line in ascending order.
+     * @param y         Y values of the line, NaN values are never selected unless they are the first or last point.
+     * @param from      Index of the first point of the part (inclusive).
+     * @param to        Index of the last point of the part (exclusive).
+     * @param threshold Maximum number of points to keep.
+     * @return Indexes of the kept points in ascending order.
+     */
+    public static int[] selectPoints(long[] x, double[] y, int from, int to, int threshold) {
+        int size = to - from;
+        if (size <= threshold || size <= 2) {
+            int[] all = new int[Math.max(size, 0)];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = from + i;
+            }
+            return all;
+        }
+        if (threshold < 3) {
+            return new int[]{from, to - 1};
+        }
+
+        int[] selected = new int[threshold];
+        int selectedCount = 0;
+        selected[selectedCount++] = from;
+
+        // X values are relative to the first point to keep the products small.
+        long x0 = x[from];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = from;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int bucketStart = from + (int) (bucket * bucketSize) + 1;
+            int bucketEnd = from + (int) ((bucket + 1) * bucketSize) + 1;
+
+            // Average of the next bucket, the last point for the last bucket.
+            int nextStart = bucketEnd;
+            int nextEnd = Math.min(from + (int) ((bucket + 2) * bucketSize) + 1, to);
+            double averageX = 0;
+            double averageY = 0;
+            int averaged = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                if (Double.isNaN(y[i])) {
+                    continue;
+                }
+                averageX += x[i] - x0;
+                averageY += y[i];
+                averaged++;
+            }
+            if (averaged > 0) {
+                averageX /= averaged;
+                averageY /= averaged;
+            } else {
+                averageX = x[to - 1] - x0;
+                averageY = y[to - 1];
+            }
+
+            double previousX = x[previous] - x0;
+            double previousY = y[previous];
+            double maxArea = -1;
+            int maxAreaIndex = bucketStart;
+            for (int i = bucketStart; i < bucketEnd; i++) {
+                // Twice the area of the triangle, the comparison does not need the real area.
+                double area = Math.abs(
+                        (previousX - averageX) * (y[i] - previousY)
+                                - (previousX - (x[i] - x0)) * (averageY - previousY)
+                );
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxAreaIndex = i;
+                }
+            }
+
+            selected[selectedCount++] = maxAreaIndex;
+            previous = maxAreaIndex;
+        }
+
+        selected[selectedCount] = to - 1;
+        return selected;
+    }
+}
\ No newline at end of file
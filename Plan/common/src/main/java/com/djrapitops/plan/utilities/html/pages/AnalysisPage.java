@@ -27,6 +27,7 @@ import com.djrapitops.plan.utilities.formatting.PlaceholderReplacer;
 import com.djrapitops.plugin.benchmarking.Timings;
 
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.djrapitops.plan.data.store.keys.AnalysisKeys.*;
 
@@ -38,6 +39,8 @@ import static com.djrapitops.plan.data.store.keys.AnalysisKeys.*;
 public class AnalysisPage implements Page {
 
     private static final String CHANNEL = DebugChannels.ANALYSIS;
+    // Leave a core for the server thread.
+    private static final int PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
 
     private final AnalysisContainer analysisContainer;
 
@@ -66,6 +69,7 @@ public class AnalysisPage implements Page {
     @Override
     public String toHtml() throws ParseException {
         timings.start("Analysis");
+        resolveValues();
         PlaceholderReplacer placeholderReplacer = new PlaceholderReplacer();
         placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
                 VERSION, SERVER_NAME, TIME_ZONE,
@@ -103,6 +107,17 @@ public class AnalysisPage implements Page {
         }
     }
 
+    private void resolveValues() {
+        timings.start(CHANNEL + " Resolve values");
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        try {
+            analysisContainer.resolveCachingSuppliers(pool, timings, CHANNEL);
+        } finally {
+            pool.shutdown();
+            timings.end(CHANNEL, CHANNEL + " Resolve values");
+        }
+    }
+
     private void serverHealth(PlaceholderReplacer placeholderReplacer) {
         timings.start(CHANNEL + " Server Health");
         placeholderReplacer.addAllPlaceholdersFrom(analysisContainer,
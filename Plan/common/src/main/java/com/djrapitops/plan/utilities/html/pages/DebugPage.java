@@ -20,6 +20,10 @@ import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.data.store.keys.SessionKeys;
 import com.djrapitops.plan.data.store.objects.DateHolder;
 import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.SQLDB;
+import com.djrapitops.plan.db.TransactionStatistics;
+import com.djrapitops.plan.system.cache.GeolocationCache;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.file.FileResource;
 import com.djrapitops.plan.system.info.connection.ConnectionLog;
@@ -27,6 +31,8 @@ import com.djrapitops.plan.system.info.connection.ConnectionSystem;
 import com.djrapitops.plan.system.info.server.Server;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.info.server.properties.ServerProperties;
+import com.djrapitops.plan.system.webserver.RequestStatistics;
+import com.djrapitops.plan.system.webserver.WebServer;
 import com.djrapitops.plan.system.webserver.cache.ResponseCache;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 import com.djrapitops.plan.utilities.formatting.Formatters;
@@ -44,6 +50,7 @@ import com.djrapitops.plugin.logging.debug.MemoryDebugLogger;
 import com.djrapitops.plugin.logging.error.DefaultErrorHandler;
 import com.djrapitops.plugin.logging.error.ErrorHandler;
 import com.djrapitops.plugin.logging.error.FolderTimeStampErrorFileLogger;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import java.io.IOException;
 import java.util.*;
@@ -58,6 +65,9 @@ public class DebugPage implements Page {
     private final Database database;
     private final ServerInfo serverInfo;
     private final ConnectionSystem connectionSystem;
+    private final WebServer webServer;
+    private final GeolocationCache geolocationCache;
+    private final PlaceholderValueCache placeholderValueCache;
     private final CombineDebugLogger debugLogger;
     private final Timings timings;
     private final ErrorHandler errorHandler;
@@ -69,6 +79,9 @@ public class DebugPage implements Page {
             Database database,
             ServerInfo serverInfo,
             ConnectionSystem connectionSystem,
+            WebServer webServer,
+            GeolocationCache geolocationCache,
+            PlaceholderValueCache placeholderValueCache,
             Formatters formatters,
             DebugLogger debugLogger,
             Timings timings,
@@ -77,6 +90,9 @@ public class DebugPage implements Page {
         this.database = database;
         this.serverInfo = serverInfo;
         this.connectionSystem = connectionSystem;
+        this.webServer = webServer;
+        this.geolocationCache = geolocationCache;
+        this.placeholderValueCache = placeholderValueCache;
         this.debugLogger = (CombineDebugLogger) debugLogger;
         this.timings = timings;
         this.errorHandler = errorHandler;
@@ -111,12 +127,16 @@ public class DebugPage implements Page {
         StringBuilder content = new StringBuilder();
         appendResponseCache(content);
         appendSessionCache(content);
+        appendGeolocationCache(content);
+        appendPlaceholderValueCache(content);
         return content.toString();
     }
 
     private void appendResponseCache(StringBuilder content) {
         try {
             content.append("<pre>### Cached Responses:<br><br>");
+            content.append("Estimated size: ").append(ResponseCache.getWeightedSizeKB())
+                    .append(" / ").append(ResponseCache.getMaximumWeightKB()).append(" KB<br><br>");
             List<String> cacheKeys = new ArrayList<>(ResponseCache.getCacheKeys());
             if (cacheKeys.isEmpty()) {
                 content.append("Empty");
@@ -151,6 +171,46 @@ public class DebugPage implements Page {
         }
     }
 
+    private void appendGeolocationCache(StringBuilder content) {
+        try {
+            CacheStats stats = geolocationCache.getCacheStatistics();
+            content.append("<pre>### Geolocation Cache:<br><br>")
+                    .append("**Cached IPs:** ").append(geolocationCache.getCacheSize()).append("<br>")
+                    .append("**Hits:** ").append(stats.hitCount()).append("<br>")
+                    .append("**Misses:** ").append(stats.missCount()).append("<br>")
+                    .append("**Hit rate:** ").append(String.format("%.1f", stats.hitRate() * 100.0)).append("%<br>")
+                    .append("**Average lookup time:** ").append(String.format("%.3f", stats.averageLoadPenalty() / 1000000.0)).append(" ms")
+                    .append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
+    private void appendPlaceholderValueCache(StringBuilder content) {
+        try {
+            Map<String, PlaceholderValueCache.RefreshCost> refreshCosts = placeholderValueCache.getRefreshCosts();
+            content.append("<pre>### Placeholder Value Cache:<br><br>")
+                    .append("**Cached values:** ").append(placeholderValueCache.getCacheSize()).append("<br><br>");
+            if (refreshCosts.isEmpty()) {
+                content.append("No placeholders refreshed");
+            } else {
+                content.append("Values | Refreshes | Average | Max | Last<br>")
+                        .append("-- | -- | -- | -- | --<br>");
+                for (Map.Entry<String, PlaceholderValueCache.RefreshCost> entry : refreshCosts.entrySet()) {
+                    PlaceholderValueCache.RefreshCost cost = entry.getValue();
+                    content.append(entry.getKey()).append(" | ")
+                            .append(cost.getRefreshes()).append(" | ")
+                            .append(String.format("%.3f", cost.getAverageMs())).append(" ms | ")
+                            .append(String.format("%.3f", cost.getMaxMs())).append(" ms | ")
+                            .append(String.format("%.3f", cost.getLastMs())).append(" ms<br>");
+                }
+            }
+            content.append("</pre>");
+        } catch (Exception e) {
+            errorHandler.log(L.WARN, this.getClass(), e);
+        }
+    }
+
     private String createDebugLogContent() {
         StringBuilder content = new StringBuilder();
         appendDebugLog(content);
@@ -178,8 +238,8 @@ public class DebugPage implements Page {
             Map<String, Map<String, ConnectionLog.Entry>> logEntries = connectionSystem.getConnectionLog().getLogEntries();
 
             content.append("<pre>### Connection Log:<br><br>");
-            content.append("Server Address | Request Type | Response | Sent<br>")
-                    .append("-- | -- | -- | --<br>");
+            content.append("Server Address | Request Type | Response | Latency | Sent bytes | Received bytes | Sent<br>")
+                    .append("-- | -- | -- | -- | -- | -- | --<br>");
 
             if (logEntries.isEmpty()) {
                 content.append("**No Connections Logged**<br>");
@@ -194,10 +254,27 @@ public class DebugPage implements Page {
                     content.append(address).append(" | ")
                             .append(infoRequest).append(" | ")
                             .append(logEntry.getResponseCode()).append(" | ")
+                            .append(logEntry.getLatencyMs()).append(" ms | ")
+                            .append(logEntry.getSentBytes()).append(" | ")
+                            .append(logEntry.getReceivedBytes()).append(" | ")
                             .append(secondFormatter.apply(logEntry)).append("<br>");
                 }
 
             }
+
+            Map<String, ConnectionLog.Totals> totals = connectionSystem.getConnectionLog().getTotals();
+            if (!totals.isEmpty()) {
+                content.append("<br>Server Address | Connections | Average latency | Sent bytes | Received bytes<br>")
+                        .append("-- | -- | -- | -- | --<br>");
+                for (Map.Entry<String, ConnectionLog.Totals> entry : totals.entrySet()) {
+                    ConnectionLog.Totals addressTotals = entry.getValue();
+                    content.append(entry.getKey()).append(" | ")
+                            .append(addressTotals.getConnections()).append(" | ")
+                            .append(addressTotals.getAverageLatencyMs()).append(" ms | ")
+                            .append(addressTotals.getSentBytes()).append(" | ")
+                            .append(addressTotals.getReceivedBytes()).append("<br>");
+                }
+            }
             content.append("</pre>");
 
             content.append("<pre>### Servers:<br><br>");
@@ -228,8 +305,16 @@ public class DebugPage implements Page {
         content.append(")<br>");
 
         content.append("**Database:** ").append(database.getType().getName());
+        if (database instanceof SQLDB) {
+            appendTransactionStatistics(content, (SQLDB) database);
+        }
         content.append("<br><br>");
 
+        if (webServer.isEnabled()) {
+            appendRequestStatistics(content);
+            content.append("<br><br>");
+        }
+
         Properties properties = System.getProperties();
 
         String osName = properties.getProperty("os.name");
@@ -253,6 +338,29 @@ public class DebugPage implements Page {
         content.append("</pre>");
     }
 
+    private void appendTransactionStatistics(StringBuilder content, SQLDB sqlDB) {
+        TransactionStatistics statistics = sqlDB.getTransactionStatistics();
+        content.append("<br>**Group commit:** ").append(sqlDB.isGroupCommitEnabled() ? "Enabled" : "Disabled")
+                .append("<br>**Queued transactions:** ").append(sqlDB.getTransactionQueueSize())
+                .append("<br>**Committed transactions:** ").append(statistics.getCommittedTransactionCount())
+                .append(" in ").append(statistics.getCommitCount()).append(" commits")
+                .append(", ").append(statistics.getFailedTransactionCount()).append(" failed")
+                .append("<br>**Commit latency:** ").append(statistics.getAverageCommitTimeMs()).append(" ms average, ")
+                .append(statistics.getMaxCommitTimeMs()).append(" ms max");
+    }
+
+    private void appendRequestStatistics(StringBuilder content) {
+        RequestStatistics statistics = webServer.getRequestStatistics();
+        content.append("**Web requests:** ").append(statistics.getHandledRequestCount()).append(" handled, ")
+                .append(statistics.getRejectedRequestCount()).append(" rejected")
+                .append("<br>**Active requests:** ").append(webServer.getActiveRequestCount())
+                .append("<br>**Queued requests:** ").append(webServer.getQueuedRequestCount())
+                .append(" (").append(statistics.getMaxQueueSize()).append(" max)")
+                .append("<br>**Request latency:** ").append(statistics.getAverageWaitTimeMs()).append(" ms average wait, ")
+                .append(statistics.getAverageRequestTimeMs()).append(" ms average, ")
+                .append(statistics.getMaxRequestTimeMs()).append(" ms max");
+    }
+
     private void appendBenchmarks(StringBuilder content) {
         content.append("<pre>### Benchmarks<br>&#96;&#96;&#96;<br>");
         try {
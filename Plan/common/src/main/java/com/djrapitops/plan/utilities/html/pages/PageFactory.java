@@ -20,11 +20,17 @@ import com.djrapitops.plan.data.plugin.HookHandler;
 import com.djrapitops.plan.data.store.containers.AnalysisContainer;
 import com.djrapitops.plan.data.store.containers.NetworkContainer;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.containers.ServerContainer;
+import com.djrapitops.plan.data.store.keys.ServerKeys;
 import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.queries.ServerAggregateQueries;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.db.access.queries.objects.ServerQueries;
 import com.djrapitops.plan.extension.implementation.results.player.ExtensionPlayerData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
+import com.djrapitops.plan.system.cache.EventCountCache;
+import com.djrapitops.plan.system.cache.GeolocationCache;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.file.PlanFiles;
 import com.djrapitops.plan.system.info.connection.ConnectionSystem;
@@ -33,6 +39,7 @@ import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
 import com.djrapitops.plan.system.settings.theme.Theme;
 import com.djrapitops.plan.system.update.VersionCheckSystem;
+import com.djrapitops.plan.system.webserver.WebServer;
 import com.djrapitops.plan.system.webserver.response.pages.parts.InspectPagePluginsContent;
 import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.html.graphs.Graphs;
@@ -63,6 +70,10 @@ public class PageFactory {
     private final Lazy<DBSystem> dbSystem;
     private final Lazy<ServerInfo> serverInfo;
     private final Lazy<ConnectionSystem> connectionSystem;
+    private final Lazy<WebServer> webServer;
+    private final Lazy<GeolocationCache> geolocationCache;
+    private final Lazy<PlaceholderValueCache> placeholderValueCache;
+    private final Lazy<EventCountCache> eventCountCache;
     private final Lazy<Graphs> graphs;
     private final Lazy<HtmlTables> tables;
     private final Lazy<Accordions> accordions;
@@ -83,6 +94,10 @@ public class PageFactory {
             Lazy<DBSystem> dbSystem,
             Lazy<ServerInfo> serverInfo,
             Lazy<ConnectionSystem> connectionSystem,
+            Lazy<WebServer> webServer,
+            Lazy<GeolocationCache> geolocationCache,
+            Lazy<PlaceholderValueCache> placeholderValueCache,
+            Lazy<EventCountCache> eventCountCache,
             Lazy<Graphs> graphs,
             Lazy<HtmlTables> tables,
             Lazy<Accordions> accordions,
@@ -101,6 +116,10 @@ public class PageFactory {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.connectionSystem = connectionSystem;
+        this.webServer = webServer;
+        this.geolocationCache = geolocationCache;
+        this.placeholderValueCache = placeholderValueCache;
+        this.eventCountCache = eventCountCache;
         this.graphs = graphs;
         this.tables = tables;
         this.accordions = accordions;
@@ -115,8 +134,8 @@ public class PageFactory {
 
     public DebugPage debugPage() {
         return new DebugPage(
-                dbSystem.get().getDatabase(), serverInfo.get(), connectionSystem.get(), formatters.get(),
-                debugLogger.get(), timings.get(), errorHandler.get()
+                dbSystem.get().getDatabase(), serverInfo.get(), connectionSystem.get(), webServer.get(),
+                geolocationCache.get(), placeholderValueCache.get(), formatters.get(), debugLogger.get(), timings.get(), errorHandler.get()
         );
     }
 
@@ -127,8 +146,13 @@ public class PageFactory {
     }
 
     public AnalysisPage analysisPage(UUID serverUUID) {
-        AnalysisContainer analysisContainer = analysisContainerFactory.get()
-                .forServerContainer(dbSystem.get().getDatabase().query(ContainerFetchQueries.fetchServerContainer(serverUUID)));
+        Database db = dbSystem.get().getDatabase();
+        ServerContainer serverContainer = db.query(ContainerFetchQueries.fetchServerContainer(serverUUID));
+        // Command use counts are buffered in memory, add the unsaved ones so that the page shows all of them.
+        serverContainer.putCachingSupplier(ServerKeys.COMMAND_USAGE, () -> eventCountCache.get().addUnsavedCommandUses(
+                serverUUID, db.query(ServerAggregateQueries.commandUsageCounts(serverUUID))
+        ));
+        AnalysisContainer analysisContainer = analysisContainerFactory.get().forServerContainer(serverContainer);
         return new AnalysisPage(analysisContainer, connectionSystem.get(), versionCheckSystem.get(), fileSystem.get(), formatters.get().decimals(), timings.get());
     }
 
@@ -32,20 +32,33 @@ import com.djrapitops.plugin.logging.error.ErrorHandler;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Creates Plugin section contents for Analysis page.
+ * <p>
+ * PluginData sources are run on the {@link HookHandler} thread pool, a source that takes longer than
+ * {@link #SOURCE_TIMEOUT_MS} is shown as timed out.
+ * <p>
+ * A timed out source can not be stopped if it ignores interrupts, so its worker is replaced in the pool and
+ * the source is skipped by later analyses until it finishes.
  *
  * @author Rsl1122
  */
 @Singleton
 public class AnalysisPluginsTabContentCreator {
 
+    private static final long SOURCE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30L);
+
     private final HookHandler hookHandler;
     private final HtmlTables tables;
     private final Timings timings;
     private final PluginLogger logger;
     private final ErrorHandler errorHandler;
+    private final long sourceTimeoutMs;
+
+    private final Map<PluginData, SourceTask> runningSources;
 
     @Inject
     public AnalysisPluginsTabContentCreator(
@@ -54,12 +67,26 @@ public class AnalysisPluginsTabContentCreator {
             Timings timings,
             PluginLogger logger,
             ErrorHandler errorHandler
+    ) {
+        this(hookHandler, tables, timings, logger, errorHandler, SOURCE_TIMEOUT_MS);
+    }
+
+    AnalysisPluginsTabContentCreator(
+            HookHandler hookHandler,
+            HtmlTables tables,
+            Timings timings,
+            PluginLogger logger,
+            ErrorHandler errorHandler,
+            long sourceTimeoutMs
     ) {
         this.hookHandler = hookHandler;
         this.tables = tables;
         this.timings = timings;
         this.logger = logger;
         this.errorHandler = errorHandler;
+        this.sourceTimeoutMs = sourceTimeoutMs;
+
+        runningSources = new ConcurrentHashMap<>();
     }
 
     private static void appendNewTab(PluginData pluginData, AnalysisContainer container, StringBuilder nav, StringBuilder otherTabs) {
@@ -76,33 +103,157 @@ public class AnalysisPluginsTabContentCreator {
 
     private Map<PluginData, AnalysisContainer> analyzeAdditionalPluginData(
             Collection<UUID> uuids,
-            com.djrapitops.plan.data.store.containers.AnalysisContainer analysisContainer
+            com.djrapitops.plan.data.store.containers.AnalysisContainer analysisContainer,
+            Set<PluginData> timedOut
     ) {
+        List<PluginData> sources = hookHandler.getAdditionalDataSources();
+
         Map<PluginData, AnalysisContainer> containers = new HashMap<>();
+        Map<PluginData, SourceTask> tasks = new LinkedHashMap<>();
+        Map<PluginData, Future<AnalysisContainer>> futures = new LinkedHashMap<>();
+        for (PluginData source : sources) {
+            if (runningSources.containsKey(source)) {
+                timedOut.add(source);
+                containers.put(source, createStatusContainer("Still running from an earlier analysis"));
+                continue;
+            }
+            SourceTask task = new SourceTask(source, uuids, analysisContainer);
+            tasks.put(source, task);
+            futures.put(source, hookHandler.submitSourceTask(task));
+        }
 
-        List<PluginData> sources = hookHandler.getAdditionalDataSources();
+        for (Map.Entry<PluginData, Future<AnalysisContainer>> entry : futures.entrySet()) {
+            PluginData source = entry.getKey();
+            Future<AnalysisContainer> future = entry.getValue();
+            try {
+                AnalysisContainer container = waitForSource(tasks.get(source), future);
+                if (container != null && !container.isEmpty()) {
+                    containers.put(source, container);
+                }
+            } catch (TimeoutException e) {
+                if (tasks.get(source).timeOut()) {
+                    hookHandler.addSourceWorker();
+                }
+                future.cancel(true);
+                timedOut.add(source);
+                containers.put(source, createStatusContainer("Timed out"));
+                String pluginName = source.getSourcePlugin();
+                logger.warn("A PluginData-source timed out after " + e.getMessage() + " ms: " + pluginName +
+                        ", you can disable the integration under 'Plugins." + pluginName + ".Enabled'");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(remaining -> remaining.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                errorHandler.log(L.WARN, this.getClass(), e.getCause());
+            } catch (CancellationException ignored) {
+                /* Plan is disabling */
+            }
+        }
+        return containers;
+    }
 
-        sources.parallelStream().forEach(source -> {
+    /**
+     * Wait for a source to finish.
+     * <p>
+     * The timeout is counted from the time the source started running, or from the time waiting started if the
+     * source is still waiting for a thread.
+     *
+     * @throws TimeoutException with the time taken in ms as the message if the source did not finish in time.
+     */
+    private AnalysisContainer waitForSource(
+            SourceTask task, Future<AnalysisContainer> future
+    ) throws InterruptedException, ExecutionException, TimeoutException {
+        long waitStart = System.currentTimeMillis();
+        while (true) {
+            long startedAt = task.startedAt;
+            long since = startedAt != 0 ? startedAt : waitStart;
+            long remaining = since + sourceTimeoutMs - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new TimeoutException(Long.toString(System.currentTimeMillis() - since));
+            }
+            try {
+                return future.get(remaining, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Check the timeout again, the source may have started while waiting.
+            }
+        }
+    }
+
+    private AnalysisContainer createStatusContainer(String status) {
+        AnalysisContainer container = new AnalysisContainer();
+        container.addValue("<i class=\"col-red fa fa-clock\"></i> Status", status);
+        return container;
+    }
+
+    private class SourceTask implements Callable<AnalysisContainer> {
+
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int FINISHED = 2;
+        private static final int TIMED_OUT = 3;
+        private static final int TIMED_OUT_WHILE_RUNNING = 4;
+
+        private final PluginData source;
+        private final Collection<UUID> uuids;
+        private final com.djrapitops.plan.data.store.containers.AnalysisContainer analysisContainer;
+
+        private final AtomicInteger state;
+        private volatile long startedAt;
+
+        SourceTask(
+                PluginData source,
+                Collection<UUID> uuids,
+                com.djrapitops.plan.data.store.containers.AnalysisContainer analysisContainer
+        ) {
+            this.source = source;
+            this.uuids = uuids;
+            this.analysisContainer = analysisContainer;
+            state = new AtomicInteger(QUEUED);
+        }
+
+        /**
+         * Mark the source as timed out.
+         *
+         * @return true if the source is still running, and is holding on to a worker of the pool.
+         */
+        boolean timeOut() {
+            if (state.compareAndSet(QUEUED, TIMED_OUT)) {
+                return false;
+            }
+            return state.compareAndSet(RUNNING, TIMED_OUT_WHILE_RUNNING);
+        }
+
+        @Override
+        public AnalysisContainer call() {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                return null;
+            }
+            runningSources.put(source, this);
+            startedAt = System.currentTimeMillis();
             String pluginName = source.getSourcePlugin();
             try {
                 timings.start("Source " + pluginName);
 
                 source.setAnalysisData(analysisContainer);
-                AnalysisContainer container = source.getServerData(uuids, new AnalysisContainer());
-                if (container != null && !container.isEmpty()) {
-                    containers.put(source, container);
-                }
-
+                return source.getServerData(uuids, new AnalysisContainer());
             } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError e) {
-                logger.error("A PluginData-source caused an exception: " + pluginName +
-                        ", you can disable the integration under 'Plugins." + pluginName + ".Enabled'");
-                errorHandler.log(L.WARN, this.getClass(), e);
+                if (!Thread.currentThread().isInterrupted()) {
+                    logger.error("A PluginData-source caused an exception: " + pluginName +
+                            ", you can disable the integration under 'Plugins." + pluginName + ".Enabled'");
+                    errorHandler.log(L.WARN, AnalysisPluginsTabContentCreator.class, e);
+                }
+                return null;
             } finally {
                 timings.end(DebugChannels.ANALYSIS, "Source " + pluginName);
+                // Cleared before the source is released so that a later analysis can not be running it.
                 source.setAnalysisData(null);
+                runningSources.remove(source, this);
+                if (!state.compareAndSet(RUNNING, FINISHED)) {
+                    hookHandler.removeSourceWorker();
+                }
             }
-        });
-        return containers;
+        }
     }
 
     public static void appendThird(PluginData pluginData, InspectContainer container, StringBuilder generalTab) {
@@ -148,7 +299,8 @@ public class AnalysisPluginsTabContentCreator {
         }
 
         List<UUID> uuids = mutator.uuids();
-        Map<PluginData, AnalysisContainer> containers = analyzeAdditionalPluginData(uuids, analysisContainer);
+        Set<PluginData> timedOut = new HashSet<>();
+        Map<PluginData, AnalysisContainer> containers = analyzeAdditionalPluginData(uuids, analysisContainer, timedOut);
 
         List<PluginData> order = new ArrayList<>(containers.keySet());
         order.sort(new PluginDataNameComparator());
@@ -164,6 +316,12 @@ public class AnalysisPluginsTabContentCreator {
         for (PluginData pluginData : order) {
             AnalysisContainer container = containers.get(pluginData);
 
+            if (timedOut.contains(pluginData)) {
+                appendThird(pluginData, container, generalTab);
+                displayGeneralTab = true;
+                continue;
+            }
+
             switch (pluginData.getSize()) {
                 case TAB:
                     appendNewTab(pluginData, container, nav, otherTabs);
@@ -149,11 +149,12 @@ public class HtmlTables {
      * Create a Player table for a server.
      *
      * @param players List of {@link PlayerContainer}s of players who have played on the server.
+     * @param date    Epoch ms the activity index is calculated for, same as the activity graph to share its weeks.
      * @return a new {@link PlayersTable}.
      */
-    public TableContainer playerTableForServerPage(List<PlayerContainer> players) {
+    public TableContainer playerTableForServerPage(List<PlayerContainer> players, long date) {
         return new PlayersTable(
-                players,
+                players, date,
                 config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE),
                 config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
                 config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD),
@@ -170,7 +171,7 @@ public class HtmlTables {
      */
     public TableContainer playerTableForPlayersPage(List<PlayerContainer> players) {
         return new PlayersTable(
-                players, config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE),
+                players, System.currentTimeMillis(), config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE),
                 config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
                 config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD),
                 config.get(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB),
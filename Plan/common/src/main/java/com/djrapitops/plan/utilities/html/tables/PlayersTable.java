@@ -40,6 +40,7 @@ import java.util.List;
 class PlayersTable extends TableContainer {
 
     private final List<PlayerContainer> players;
+    private final long date;
     private final int maxPlayers;
     private final long activeMsThreshold;
     private final int activeLoginThreshold;
@@ -49,6 +50,7 @@ class PlayersTable extends TableContainer {
 
     PlayersTable(
             List<PlayerContainer> players,
+            long date,
             int maxPlayers,
             long activeMsThreshold,
             int activeLoginThreshold,
@@ -67,6 +69,7 @@ class PlayersTable extends TableContainer {
                 Icon.called("globe") + " Geolocation"
         );
         this.players = players;
+        this.date = date;
         this.maxPlayers = maxPlayers;
         this.activeMsThreshold = activeMsThreshold;
         this.activeLoginThreshold = activeLoginThreshold;
@@ -82,8 +85,6 @@ class PlayersTable extends TableContainer {
 
     private void addRows() {
         PlanAPI planAPI = PlanAPI.getInstance();
-        long now = System.currentTimeMillis();
-
         players.sort(new PlayerContainerLastPlayedComparator());
 
         int i = 0;
@@ -100,7 +101,7 @@ class PlayersTable extends TableContainer {
             long registered = player.getValue(PlayerKeys.REGISTERED).orElse(0L);
             long lastSeen = sessionsMutator.toLastSeen();
 
-            ActivityIndex activityIndex = player.getActivityIndex(now, activeMsThreshold, activeLoginThreshold);
+            ActivityIndex activityIndex = player.getActivityIndex(date, activeMsThreshold, activeLoginThreshold);
             boolean isBanned = player.getValue(PlayerKeys.BANNED).orElse(false);
             String activityString = activityIndex.getFormattedValue(decimalFormatter)
                     + (isBanned ? " (<b>Banned</b>)" : " (" + activityIndex.getGroup() + ")");
@@ -26,7 +26,6 @@ import com.djrapitops.plan.data.store.mutators.SessionsMutator;
 import com.djrapitops.plan.extension.FormatType;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.implementation.results.*;
-import com.djrapitops.plan.utilities.comparators.PlayerContainerLastPlayedComparator;
 import com.djrapitops.plan.utilities.formatting.Formatter;
 import com.djrapitops.plan.utilities.formatting.Formatters;
 import com.djrapitops.plan.utilities.html.Html;
@@ -39,6 +38,8 @@ import java.util.*;
  * Parsing utility for creating jQuery Datatables JSON for a Players Table.
  * <p>
  * See https://www.datatables.net/manual/data/orthogonal-data#HTML-5 for sort kinds
+ * <p>
+ * Players are shown in the order of the given list.
  *
  * @author Rsl1122
  */
@@ -72,7 +73,7 @@ public class PlayersTableJSONParser {
 
         extensionDescriptives = new ArrayList<>();
         addExtensionDescriptives(extensionData);
-        extensionDescriptives.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
+        sortByName(extensionDescriptives);
 
         // Settings
         this.maxPlayers = maxPlayers;
@@ -101,18 +102,46 @@ public class PlayersTableJSONParser {
         }
     }
 
+    private static void sortByName(List<ExtensionDescriptive> extensionDescriptives) {
+        extensionDescriptives.sort((one, two) -> String.CASE_INSENSITIVE_ORDER.compare(one.getName(), two.getName()));
+    }
+
     public String toJSONString() {
         String data = parseData();
-        String columnHeaders = parseColumnHeaders();
+        String columnHeaders = parseColumnHeaders(extensionDescriptives);
         return "{\"columns\":" + columnHeaders + ",\"data\":" + data + '}';
     }
 
+    /**
+     * Create JSON with only the columns of the table, for server-side processing that requests pages separately.
+     *
+     * @param extensionDescriptives Descriptives of the extension providers shown in the table.
+     * @return JSON with the column headers.
+     */
+    public static String toColumnsJSONString(List<ExtensionDescriptive> extensionDescriptives) {
+        List<ExtensionDescriptive> sorted = new ArrayList<>(extensionDescriptives);
+        sortByName(sorted);
+        return "{\"columns\":" + parseColumnHeaders(sorted) + '}';
+    }
+
+    /**
+     * Create JSON for a jQuery Datatables server-side processing request.
+     *
+     * @param draw            Draw counter of the request, returned as is.
+     * @param recordsTotal    How many players there are in total.
+     * @param recordsFiltered How many players match the search of the request.
+     * @return JSON with the given players as the data of the page.
+     */
+    public String toPageJSONString(int draw, int recordsTotal, int recordsFiltered) {
+        String data = parseData();
+        return "{\"draw\":" + draw + ",\"recordsTotal\":" + recordsTotal + ",\"recordsFiltered\":" + recordsFiltered + ",\"data\":" + data + '}';
+    }
+
     private String parseData() {
         StringBuilder dataJSON = new StringBuilder("[");
 
         PlanAPI planAPI = PlanAPI.getInstance();
         long now = System.currentTimeMillis();
-        players.sort(new PlayerContainerLastPlayedComparator());
 
         int currentPlayerNumber = 0;
         for (PlayerContainer player : players) {
@@ -144,10 +173,10 @@ public class PlayersTableJSONParser {
         String url = planAPI.getPlayerInspectPageLink(name);
 
         SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
-        int loginTimes = sessionsMutator.count();
-        long playtime = sessionsMutator.toPlaytime();
+        int loginTimes = player.getValue(PlayerKeys.SESSION_COUNT).orElseGet(sessionsMutator::count);
+        long playtime = player.getValue(PlayerKeys.PLAYTIME).orElseGet(sessionsMutator::toPlaytime);
         long registered = player.getValue(PlayerKeys.REGISTERED).orElse(0L);
-        long lastSeen = sessionsMutator.toLastSeen();
+        long lastSeen = player.getValue(PlayerKeys.LAST_SEEN).orElseGet(sessionsMutator::toLastSeen);
 
         ActivityIndex activityIndex = player.getActivityIndex(now, activeMsThreshold, activeLoginThreshold);
         boolean isBanned = player.getValue(PlayerKeys.BANNED).orElse(false);
@@ -204,7 +233,7 @@ public class PlayersTableJSONParser {
         }
     }
 
-    private String parseColumnHeaders() {
+    private static String parseColumnHeaders(List<ExtensionDescriptive> extensionDescriptives) {
         StringBuilder columnHeaders = new StringBuilder("[");
 
         // Is the data for the column formatted
@@ -218,20 +247,20 @@ public class PlayersTableJSONParser {
                 .append(makeFColumnHeader(Icon.called("calendar-check").of(Family.REGULAR) + " Last Seen", "seen")).append(',')
                 .append(makeColumnHeader(Icon.called("globe") + " Geolocation", "geolocation"));
 
-        appendExtensionHeaders(columnHeaders);
+        appendExtensionHeaders(columnHeaders, extensionDescriptives);
 
         return columnHeaders.append(']').toString();
     }
 
-    private String makeColumnHeader(String title, String dataProperty) {
-        return "{\"title\": \"" + title.replace('"', '\'') + "\",\"data\":\"" + dataProperty + "\"}";
+    private static String makeColumnHeader(String title, String dataProperty) {
+        return "{\"title\": \"" + title.replace('"', '\'') + "\",\"data\":\"" + dataProperty + "\",\"defaultContent\":\"-\"}";
     }
 
-    private String makeFColumnHeader(String title, String dataProperty) {
-        return "{\"title\": \"" + title.replace('"', '\'') + "\",\"data\":{\"_\":\"" + dataProperty + ".v\",\"display\":\"" + dataProperty + ".d\"}}";
+    private static String makeFColumnHeader(String title, String dataProperty) {
+        return "{\"title\": \"" + title.replace('"', '\'') + "\",\"data\":{\"_\":\"" + dataProperty + ".v\",\"display\":\"" + dataProperty + ".d\"},\"defaultContent\":\"-\"}";
     }
 
-    private void appendExtensionHeaders(StringBuilder columnHeaders) {
+    private static void appendExtensionHeaders(StringBuilder columnHeaders, List<ExtensionDescriptive> extensionDescriptives) {
         for (ExtensionDescriptive provider : extensionDescriptives) {
             columnHeaders.append(',');
             String headerText = Icon.fromExtensionIcon(provider.getIcon().setColor(Color.NONE)).toHtml().replace('"', '\'') + ' ' + provider.getText();
@@ -17,11 +17,18 @@
 package com.djrapitops.plan.data.store.containers;
 
 import com.djrapitops.plan.data.store.Key;
+import com.djrapitops.plugin.benchmarking.Timings;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 /**
  * Test for {@link SupplierDataContainer} programming errors.
@@ -111,4 +118,63 @@ class SupplierDataContainerTest {
         assertSame(found, secondCall);
     }
 
+    @Test
+    void dependentCachingSuppliersAreResolvedOnceConcurrently() {
+        SupplierDataContainer container = new SupplierDataContainer();
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Key<Integer>> keys = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Key<Integer> key = new Key<>(Integer.class, "KEY_" + i);
+            Key<Integer> dependency = i > 0 ? keys.get(i - 1) : null;
+            container.putCachingSupplier(key, () -> {
+                calls.incrementAndGet();
+                return dependency != null ? container.getUnsafe(dependency) + 1 : 0;
+            });
+            keys.add(key);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            container.resolveCachingSuppliers(pool, mock(Timings.class), "Test");
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(50, calls.get());
+        assertEquals(49, (int) container.getUnsafe(keys.get(49)));
+        assertEquals(50, calls.get());
+    }
+
+    @Test
+    void cachingSupplierDependingOnItselfFails() {
+        SupplierDataContainer container = new SupplierDataContainer();
+        container.putCachingSupplier(TEST_KEY, () -> container.getUnsafe(TEST_KEY) + "!");
+
+        assertThrows(IllegalStateException.class, () -> container.getUnsafe(TEST_KEY));
+    }
+
+    @Test
+    void suppliersCanPutValuesWhileResolved() {
+        SupplierDataContainer container = new SupplierDataContainer();
+        for (int i = 0; i < 50; i++) {
+            Key<Integer> key = new Key<>(Integer.class, "KEY_" + i);
+            Key<Integer> putKey = new Key<>(Integer.class, "PUT_KEY_" + i);
+            int value = i;
+            container.putCachingSupplier(key, () -> {
+                container.putRawData(putKey, value);
+                return value;
+            });
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            container.resolveCachingSuppliers(pool, mock(Timings.class), "Test");
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(49, (int) container.getUnsafe(new Key<>(Integer.class, "PUT_KEY_49")));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.data.store.mutators;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WeeklyActivity}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class WeeklyActivityTest {
+
+    private static final long WEEK = WeeklyActivity.WEEK_MS;
+
+    @Test
+    void activityIndexIsSameAsCalculatedFromSessions() {
+        long now = System.currentTimeMillis();
+        long playThreshold = TimeUnit.HOURS.toMillis(12L);
+        int loginThreshold = 2;
+
+        Random random = new Random(42L);
+        for (int player = 0; player < 200; player++) {
+            List<Session> sessions = new ArrayList<>();
+            int sessionCount = random.nextInt(50);
+            for (int i = 0; i < sessionCount; i++) {
+                long start = now - (long) (random.nextDouble() * 14 * WEEK);
+                if (random.nextInt(10) == 0) {
+                    // Sessions starting and ending on week boundaries
+                    start = now - random.nextInt(14) * WEEK;
+                }
+                long length = random.nextInt(5) == 0 ? random.nextInt(3) * WEEK : (long) (random.nextDouble() * TimeUnit.HOURS.toMillis(10L));
+                sessions.add(new Session(i, UUID.randomUUID(), UUID.randomUUID(), start, start + length, 0, 0, length / 4));
+            }
+            PlayerContainer container = new PlayerContainer();
+            container.putRawData(PlayerKeys.SESSIONS, sessions);
+
+            WeeklyActivity weeklyActivity = new WeeklyActivity(container, now, 12);
+            for (long date = now; weeklyActivity.covers(date); date -= WEEK) {
+                double expected = new ActivityIndex(container, date, playThreshold, loginThreshold).getValue();
+                double result = new ActivityIndex(weeklyActivity, date, playThreshold, loginThreshold).getValue();
+                assertEquals(expected, result, 0.0001);
+            }
+        }
+    }
+
+    @Test
+    void onlyWholeWeeksWithinRangeAreCovered() {
+        long now = System.currentTimeMillis();
+        WeeklyActivity weeklyActivity = new WeeklyActivity(new ArrayList<>(), now, 12);
+
+        assertTrue(weeklyActivity.covers(now));
+        assertTrue(weeklyActivity.covers(now - 9 * WEEK));
+        assertFalse(weeklyActivity.covers(now - 10 * WEEK));
+        assertFalse(weeklyActivity.covers(now + WEEK));
+        assertFalse(weeklyActivity.covers(now - TimeUnit.DAYS.toMillis(1L)));
+    }
+}
\ No newline at end of file
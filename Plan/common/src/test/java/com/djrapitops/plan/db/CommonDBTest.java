@@ -25,19 +25,26 @@ import com.djrapitops.plan.data.store.containers.NetworkContainer;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.containers.ServerContainer;
 import com.djrapitops.plan.data.store.keys.*;
+import com.djrapitops.plan.data.store.mutators.DailyAggregatesMutator;
+import com.djrapitops.plan.data.store.mutators.MutatorFunctions;
+import com.djrapitops.plan.data.store.mutators.PlayersMutator;
 import com.djrapitops.plan.data.store.mutators.SessionsMutator;
+import com.djrapitops.plan.data.store.objects.DailyAggregate;
 import com.djrapitops.plan.data.store.objects.DateObj;
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.data.time.GMTimes;
 import com.djrapitops.plan.data.time.WorldTimes;
+import com.djrapitops.plan.db.access.BatchCopyStatement;
 import com.djrapitops.plan.db.access.Executable;
 import com.djrapitops.plan.db.access.Query;
 import com.djrapitops.plan.db.access.queries.*;
 import com.djrapitops.plan.db.access.queries.containers.AllPlayerContainersQuery;
 import com.djrapitops.plan.db.access.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.db.access.queries.containers.ServerPlayerContainersQuery;
+import com.djrapitops.plan.db.access.queries.containers.ServerPlayersTableContainersQuery;
 import com.djrapitops.plan.db.access.queries.objects.*;
 import com.djrapitops.plan.db.access.transactions.BackupCopyTransaction;
+import com.djrapitops.plan.db.access.transactions.RebuildDailyAggregatesTransaction;
 import com.djrapitops.plan.db.access.transactions.StoreConfigTransaction;
 import com.djrapitops.plan.db.access.transactions.StoreServerInformationTransaction;
 import com.djrapitops.plan.db.access.transactions.Transaction;
@@ -46,7 +53,9 @@ import com.djrapitops.plan.db.access.transactions.events.*;
 import com.djrapitops.plan.db.access.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.db.access.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.db.access.transactions.init.RemoveDuplicateUserInfoTransaction;
+import com.djrapitops.plan.db.patches.DailyAggregatesPatch;
 import com.djrapitops.plan.db.patches.Patch;
+import com.djrapitops.plan.db.sql.tables.TPSTable;
 import com.djrapitops.plan.db.tasks.DBCleanTask;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.DataExtension;
@@ -56,6 +65,7 @@ import com.djrapitops.plan.extension.annotation.*;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.icon.Icon;
 import com.djrapitops.plan.extension.implementation.results.ExtensionBooleanData;
+import com.djrapitops.plan.extension.implementation.results.ExtensionDescriptive;
 import com.djrapitops.plan.extension.implementation.results.ExtensionStringData;
 import com.djrapitops.plan.extension.implementation.results.ExtensionTabData;
 import com.djrapitops.plan.extension.implementation.results.ExtensionTableData;
@@ -63,6 +73,7 @@ import com.djrapitops.plan.extension.implementation.results.player.ExtensionPlay
 import com.djrapitops.plan.extension.implementation.results.server.ExtensionServerData;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerDataQuery;
+import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionInformationQueries;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerPlayerDataTableQuery;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveUnsatisfiedConditionalPlayerResultsTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.RemoveUnsatisfiedConditionalServerResultsTransaction;
@@ -92,6 +103,7 @@ import java.lang.management.OperatingSystemMXBean;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
@@ -227,6 +239,27 @@ public abstract class CommonDBTest {
         assertEquals(expected, commandUse);
     }
 
+    @Test
+    public void commandUsageCountsAreSavedInOneTransaction() {
+        testSaveCommandUse();
+
+        Map<String, Integer> counts = new HashMap<>();
+        counts.put("tp", 2);
+        counts.put("test", 3);
+        counts.put("roiergbnougbierubieugbeigubeigubgierbgeugeg", 3);
+        db.executeTransaction(new CommandStoreTransaction(serverUUID, counts));
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("plan", 1);
+        expected.put("test", 3);
+        expected.put("tp", 6);
+        expected.put("pla", 7);
+        expected.put("help", 21);
+
+        Map<String, Integer> commandUse = db.query(ServerAggregateQueries.commandUsageCounts(serverUUID));
+        assertEquals(expected, commandUse);
+    }
+
     private void useCommand(String commandName) {
         db.executeTransaction(new CommandStoreTransaction(serverUUID, commandName));
     }
@@ -332,6 +365,15 @@ public abstract class CommonDBTest {
         assertEquals(new HashSet<>(Arrays.asList(expected)), result);
     }
 
+    @Test
+    public void knownWorldNamesAreNotStoredAgain() {
+        db.executeTransaction(new WorldNameStoreTransaction(serverUUID, "Test", name -> false /* Not known */));
+        db.executeTransaction(new WorldNameStoreTransaction(serverUUID, "Test2", name -> true /* Known */));
+
+        Collection<String> result = db.query(LargeFetchQueries.fetchAllWorldNames()).getOrDefault(serverUUID, new HashSet<>());
+        assertEquals(Collections.singleton("Test"), new HashSet<>(result));
+    }
+
     private void saveWorld(String worldName) {
         db.executeTransaction(new WorldNameStoreTransaction(serverUUID, worldName));
     }
@@ -424,6 +466,267 @@ public abstract class CommonDBTest {
         assertEquals(session, savedSessions.get(0));
     }
 
+    @Test
+    public void queriesInsideQueriesSeeUncommittedChangesOfTransaction() {
+        AtomicBoolean registeredInsideTransaction = new AtomicBoolean(false);
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(DataStoreQueries.registerBaseUser(playerUUID, 123456789L, TestConstants.PLAYER_ONE_NAME));
+                Query<Boolean> nestedQuery = database -> database.query(PlayerFetchQueries.isPlayerRegistered(playerUUID));
+                registeredInsideTransaction.set(query(nestedQuery));
+            }
+        });
+
+        assertTrue(registeredInsideTransaction.get());
+    }
+
+    @Test
+    public void afterCommitActionsAreRunOnlyAfterCommit() {
+        AtomicBoolean ranAfterFailure = new AtomicBoolean(false);
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                runAfterCommit(() -> ranAfterFailure.set(true));
+                execute("DELETE FROM plan_no_such_table");
+            }
+        });
+        assertFalse(ranAfterFailure.get());
+
+        AtomicBoolean ranAfterCommit = new AtomicBoolean(false);
+        AtomicBoolean ranBeforeCommit = new AtomicBoolean(false);
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                executeOther(new Transaction() {
+                    @Override
+                    protected void performOperations() {
+                        runAfterCommit(() -> ranAfterCommit.set(true));
+                    }
+                });
+                ranBeforeCommit.set(ranAfterCommit.get());
+            }
+        });
+        assertFalse(ranBeforeCommit.get());
+        assertTrue(ranAfterCommit.get());
+    }
+
+    @Test
+    public void lastSeenOfAllPlayersIsLatestSessionEnd() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session first = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        first.endSession(22345L);
+        first.setWorldTimes(createWorldTimes());
+        execute(DataStoreQueries.storeSession(first));
+        Session second = new Session(playerUUID, serverUUID, 32345L, worlds[0], "SURVIVAL");
+        second.endSession(42345L);
+        second.setWorldTimes(createWorldTimes());
+        execute(DataStoreQueries.storeSession(second));
+
+        commitTest();
+
+        Map<UUID, Long> expected = Collections.singletonMap(playerUUID, 42345L);
+        assertEquals(expected, db.query(SessionQueries.lastSeenOfAllPlayers()));
+    }
+
+    @Test
+    public void dailyAggregatesMatchStoredSessions() {
+        saveUserOne();
+        saveUserTwo();
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        session.setPlayerKills(createKills());
+        db.executeTransaction(new SessionEndTransaction(session));
+
+        Session session2 = new Session(playerUUID, serverUUID, 32345L, worlds[0], "SURVIVAL");
+        session2.endSession(42345L);
+        session2.setWorldTimes(createWorldTimes());
+        db.executeTransaction(new SessionEndTransaction(session2));
+
+        SessionsMutator sessionsMutator = new SessionsMutator(db.query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID));
+        List<DailyAggregate> aggregates = db.query(DailyAggregateQueries.fetchDailyAggregatesOfServer(serverUUID));
+        DailyAggregatesMutator aggregatesMutator = new DailyAggregatesMutator(aggregates);
+
+        assertEquals(1, aggregates.size());
+        assertEquals(sessionsMutator.count(), aggregatesMutator.toSessionCount());
+        assertEquals(sessionsMutator.toPlaytime(), aggregatesMutator.toPlaytime());
+        assertEquals(sessionsMutator.toPlayerKillCount(), aggregatesMutator.toPlayerKillCount());
+        assertEquals(1, aggregates.get(0).getUniquePlayers());
+        assertEquals(db.query(DailyAggregateQueries.aggregateAllData()).get(serverUUID), aggregates);
+    }
+
+    @Test
+    public void dailyAggregatesOfSessionsSpanningSeveralDaysMatchBackfill() {
+        saveUserOne();
+        saveUserTwo();
+        long dayMs = TimeUnit.DAYS.toMillis(1L);
+        long hourMs = TimeUnit.HOURS.toMillis(1L);
+
+        long[][] sessions = {
+                {2L * dayMs + 23L * hourMs, 5L * dayMs + hourMs},
+                {4L * dayMs + hourMs, 6L * dayMs},
+                {4L * dayMs + 10L * hourMs, 4L * dayMs + 12L * hourMs}
+        };
+        UUID[] players = {playerUUID, player2UUID, player2UUID};
+        long playtime = 0L;
+        for (int i = 0; i < sessions.length; i++) {
+            Session session = new Session(players[i], serverUUID, sessions[i][0], worlds[0], "SURVIVAL");
+            session.endSession(sessions[i][1]);
+            session.setWorldTimes(createWorldTimes());
+            db.executeTransaction(new SessionEndTransaction(session));
+            playtime += sessions[i][1] - sessions[i][0];
+        }
+
+        List<DailyAggregate> aggregates = db.query(DailyAggregateQueries.fetchDailyAggregatesOfServer(serverUUID));
+        DailyAggregatesMutator aggregatesMutator = new DailyAggregatesMutator(aggregates);
+        assertEquals(3, aggregatesMutator.toSessionCount());
+        assertEquals(playtime, aggregatesMutator.toPlaytime());
+        assertEquals(db.query(DailyAggregateQueries.aggregateServerData(serverUUID)), aggregates);
+
+        List<DailyAggregate> withSessions = aggregates.stream()
+                .filter(aggregate -> aggregate.getSessionCount() > 0)
+                .collect(Collectors.toList());
+        assertEquals(2, withSessions.size());
+        assertEquals(2L * dayMs, withSessions.get(0).getDate());
+        assertEquals(4L * dayMs, withSessions.get(1).getDate());
+        assertEquals(2, withSessions.get(1).getSessionCount());
+        assertEquals(1, withSessions.get(1).getUniquePlayers());
+
+        db.executeTransaction(new RebuildDailyAggregatesTransaction(serverUUID));
+        assertEquals(aggregates, db.query(DailyAggregateQueries.fetchDailyAggregatesOfServer(serverUUID)));
+    }
+
+    @Test
+    public void dailyAggregatesPatchRebuildsServersWithoutAggregates() {
+        saveUserOne();
+        UUID otherServerUUID = UUID.randomUUID();
+        db.executeTransaction(new StoreServerInformationTransaction(new Server(-1, otherServerUUID, "OtherServer", "", 20)));
+        db.executeTransaction(new WorldNameStoreTransaction(otherServerUUID, worlds[0]));
+
+        Session session = new Session(playerUUID, serverUUID, 12345L, worlds[0], "SURVIVAL");
+        session.endSession(22345L);
+        session.setWorldTimes(createWorldTimes());
+        db.executeTransaction(new SessionEndTransaction(session));
+        List<DailyAggregate> expected = db.query(DailyAggregateQueries.fetchDailyAggregatesOfServer(serverUUID));
+
+        // Stored like an older version of Plan would, without updating the aggregates.
+        Session unaggregated = new Session(playerUUID, otherServerUUID, 3L * TimeUnit.DAYS.toMillis(1L), worlds[0], "SURVIVAL");
+        unaggregated.endSession(3L * TimeUnit.DAYS.toMillis(1L) + 10000L);
+        unaggregated.setWorldTimes(createWorldTimes());
+        execute(DataStoreQueries.storeSession(unaggregated));
+        commitTest();
+
+        db.executeTransaction(new DailyAggregatesPatch());
+
+        assertEquals(expected, db.query(DailyAggregateQueries.fetchDailyAggregatesOfServer(serverUUID)));
+        List<DailyAggregate> rebuilt = db.query(DailyAggregateQueries.fetchDailyAggregatesOfServer(otherServerUUID));
+        assertEquals(1, new DailyAggregatesMutator(rebuilt).toSessionCount());
+        assertEquals(10000L, new DailyAggregatesMutator(rebuilt).toPlaytime());
+
+        AtomicBoolean appliedAgain = new AtomicBoolean(false);
+        db.executeTransaction(new DailyAggregatesPatch() {
+            @Override
+            protected void applyPatch() {
+                appliedAgain.set(true);
+            }
+        });
+        assertFalse(appliedAgain.get());
+    }
+
+    @Test
+    public void playersTableIsSortedAndLimitedInDatabase() {
+        long now = System.currentTimeMillis();
+        long hourMs = TimeUnit.HOURS.toMillis(1L);
+        db.executeTransaction(new WorldNameStoreTransaction(serverUUID, worlds[0]));
+        db.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> now - 40L * hourMs, TestConstants.PLAYER_ONE_NAME, serverUUID));
+        db.executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> now - 30L * hourMs, TestConstants.PLAYER_TWO_NAME, serverUUID));
+
+        for (long start : new long[]{now - 20L * hourMs, now - 10L * hourMs}) {
+            Session session = new Session(playerUUID, serverUUID, start, worlds[0], "SURVIVAL");
+            session.endSession(start + hourMs);
+            db.executeTransaction(new SessionEndTransaction(session));
+        }
+        Session session = new Session(player2UUID, serverUUID, now - 5L * hourMs, worlds[0], "SURVIVAL");
+        session.endSession(now - 3L * hourMs);
+        db.executeTransaction(new SessionEndTransaction(session));
+
+        List<PlayerContainer> mostRecent = db.query(new ServerPlayersTableContainersQuery(serverUUID, 1));
+        assertEquals(1, mostRecent.size());
+        PlayerContainer player = mostRecent.get(0);
+        OptionalAssert.equals(player2UUID, player.getValue(PlayerKeys.UUID));
+        OptionalAssert.equals(now - 3L * hourMs, player.getValue(PlayerKeys.LAST_SEEN));
+        OptionalAssert.equals(2L * hourMs, player.getValue(PlayerKeys.PLAYTIME));
+        OptionalAssert.equals(1, player.getValue(PlayerKeys.SESSION_COUNT));
+        assertEquals(1, (int) player.getValue(PlayerKeys.SESSIONS).map(List::size).orElse(0));
+
+        List<PlayerContainer> bySessions = db.query(new ServerPlayersTableContainersQuery(
+                serverUUID, ServerPlayersTableContainersQuery.OrderBy.SESSIONS, true, null, 0, 10
+        ));
+        assertEquals(2, bySessions.size());
+        OptionalAssert.equals(playerUUID, bySessions.get(0).getValue(PlayerKeys.UUID));
+        OptionalAssert.equals(2, bySessions.get(0).getValue(PlayerKeys.SESSION_COUNT));
+
+        String search = TestConstants.PLAYER_TWO_NAME.substring(1).toUpperCase();
+        List<PlayerContainer> searched = db.query(new ServerPlayersTableContainersQuery(
+                serverUUID, ServerPlayersTableContainersQuery.OrderBy.NAME, false, search, 0, 10
+        ));
+        assertEquals(1, searched.size());
+        OptionalAssert.equals(player2UUID, searched.get(0).getValue(PlayerKeys.UUID));
+        assertEquals(1, (int) db.query(ServerPlayersTableContainersQuery.countPlayersMatching(serverUUID, search)));
+        assertEquals(0, (int) db.query(ServerPlayersTableContainersQuery.countPlayersMatching(serverUUID, "%")));
+    }
+
+    @Test
+    public void serverAggregateQueriesMatchMutators() {
+        long now = System.currentTimeMillis();
+        long dayMs = TimeUnit.DAYS.toMillis(1L);
+        db.executeTransaction(new WorldNameStoreTransaction(serverUUID, worlds[0]));
+        db.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> now - 40L * dayMs, TestConstants.PLAYER_ONE_NAME, serverUUID));
+        db.executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> now - 3L * dayMs, TestConstants.PLAYER_TWO_NAME, serverUUID));
+
+        for (int day = 1; day <= 40; day += 3) {
+            long start = now - day * dayMs - TimeUnit.HOURS.toMillis(1L);
+            Session session = new Session(playerUUID, serverUUID, start, worlds[0], "SURVIVAL");
+            session.endSession(start + TimeUnit.MINUTES.toMillis(30L));
+            db.executeTransaction(new SessionEndTransaction(session));
+        }
+        // Starts before the last day, but ends during it.
+        long start = now - dayMs - TimeUnit.MINUTES.toMillis(10L);
+        Session session = new Session(player2UUID, serverUUID, start, worlds[0], "SURVIVAL");
+        session.endSession(start + TimeUnit.MINUTES.toMillis(20L));
+        db.executeTransaction(new SessionEndTransaction(session));
+
+        PlayersMutator playersMutator = new PlayersMutator(db.query(new ServerPlayerContainersQuery(serverUUID)));
+        SessionsMutator sessionsMutator = new SessionsMutator(playersMutator.getSessions());
+        TimeZone timeZone = TimeZone.getTimeZone("GMT+03:00");
+        long offset = timeZone.getRawOffset();
+
+        for (long after : new long[]{now - dayMs, now - 7L * dayMs, now - 30L * dayMs, 0L}) {
+            assertEquals(
+                    playersMutator.filterPlayedBetween(after, now).count(),
+                    (int) db.query(ServerAggregateQueries.uniquePlayerCount(serverUUID, after, now, Collections.emptySet()))
+            );
+            assertEquals(
+                    playersMutator.filterRegisteredBetween(after, now).count(),
+                    (int) db.query(ServerAggregateQueries.newPlayerCount(serverUUID, after, now))
+            );
+            assertEquals(
+                    sessionsMutator.filterSessionsBetween(after, now).uniqueJoinsPerDay(timeZone),
+                    MutatorFunctions.addMissingDays(db.query(ServerAggregateQueries.uniquePlayerCountPerDay(serverUUID, after, now, offset, Collections.emptySet())))
+            );
+            assertEquals(
+                    playersMutator.filterRegisteredBetween(after, now).newPerDay(timeZone),
+                    MutatorFunctions.addMissingDays(db.query(ServerAggregateQueries.newPlayerCountPerDay(serverUUID, after, now, offset)))
+            );
+        }
+
+        assertEquals(1, (int) db.query(ServerAggregateQueries.uniquePlayerCount(serverUUID, now - 7L * dayMs, now, Collections.singleton(player2UUID))));
+    }
+
     @Test
     public void userInfoTableStoresCorrectUserInformation() {
         saveUserOne();
@@ -629,6 +932,7 @@ public abstract class CommonDBTest {
                 system.getConfigSystem().getConfig(),
                 new Locale(),
                 system.getDatabaseSystem(),
+                system.getCacheSystem().getKnownEntityCache(),
                 system.getServerInfo(),
                 new TestPluginLogger(),
                 new ConsoleErrorLogger(new TestPluginLogger())
@@ -724,6 +1028,57 @@ public abstract class CommonDBTest {
         assertQueryResultIsEqual(db, backup, LargeFetchQueries.fetchAllTPSData());
         assertQueryResultIsEqual(db, backup, ServerQueries.fetchPlanServerInformation());
         assertQueryResultIsEqual(db, backup, WebUserQueries.fetchAllPlanWebUsers());
+        assertQueryResultIsEqual(db, backup, DailyAggregateQueries.fetchAllDailyAggregates());
+    }
+
+    @Test
+    public void backupCopiesTablesLargerThanOneBatch() throws Exception {
+        H2DB backup = dbSystem.getH2Factory().usingFile(temporaryFolder.newFile("batchBackup.db"));
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        backup.init();
+
+        storeTPSData(0, BatchCopyStatement.BATCH_SIZE * 2 + 1);
+
+        List<Long> progress = new ArrayList<>();
+        backup.executeTransaction(new BackupCopyTransaction(db, backup, (tableName, copiedRows, totalRows) -> {
+            if (TPSTable.TABLE_NAME.equals(tableName)) progress.add(copiedRows);
+        }));
+
+        assertQueryResultIsEqual(db, backup, LargeFetchQueries.fetchAllTPSData());
+        assertEquals(Arrays.asList(0L, 1000L, 2000L, 2001L), progress);
+    }
+
+    @Test
+    public void failedBackupCopyIsRolledBack() throws Exception {
+        H2DB backup = dbSystem.getH2Factory().usingFile(temporaryFolder.newFile("failedBackup.db"));
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        backup.init();
+
+        storeTPSData(0, 10);
+        backup.executeTransaction(new BackupCopyTransaction(db, backup));
+        Map<UUID, List<TPS>> expected = backup.query(LargeFetchQueries.fetchAllTPSData());
+
+        storeTPSData(10, BatchCopyStatement.BATCH_SIZE * 2);
+        BackupCopyTransaction failingCopy = new BackupCopyTransaction(db, backup, (tableName, copiedRows, totalRows) -> {
+            if (TPSTable.TABLE_NAME.equals(tableName) && copiedRows >= BatchCopyStatement.BATCH_SIZE) {
+                throw new IllegalStateException("Test failure in the middle of a table");
+            }
+        });
+        backup.executeTransaction(failingCopy);
+
+        assertFalse(failingCopy.wasSuccessful());
+        assertEquals(expected, backup.query(LargeFetchQueries.fetchAllTPSData()));
+        assertQueryResultIsEqual(db, backup, ServerQueries.fetchPlanServerInformation());
+    }
+
+    private void storeTPSData(long firstDate, int count) {
+        Random r = new Random();
+        List<TPS> tpsData = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tpsData.add(new TPS(firstDate + i, r.nextDouble(), r.nextInt(100), r.nextDouble(), r.nextLong(), r.nextInt(), r.nextInt(), r.nextLong()));
+        }
+        execute(LargeStoreQueries.storeAllTPSData(Collections.singletonMap(serverUUID, tpsData)));
+        commitTest();
     }
 
     private <T> void assertQueryResultIsEqual(Database one, Database two, Query<T> query) {
@@ -771,6 +1126,38 @@ public abstract class CommonDBTest {
         assertEquals(worldTimes, savedWorldTimes);
     }
 
+    @Test
+    public void killsAreSavedToTheirSessionsWithAllSessionSave() {
+        saveUserOne();
+        saveUserTwo();
+        db.executeTransaction(new WorldNameStoreTransaction(serverUUID, "world"));
+        execute(DataStoreQueries.storeSession(createSession()));
+
+        List<Session> sessions = new ArrayList<>();
+        for (long start = 1000L; start <= 3000L; start += 1000L) {
+            Session session = new Session(playerUUID, serverUUID, start, "world", GMTimes.getGMKeyArray()[0]);
+            session.endSession(start + 500L);
+            sessions.add(session);
+        }
+        sessions.get(0).setPlayerKills(Collections.singletonList(new PlayerKill(player2UUID, "Iron Sword", 1100L)));
+        sessions.get(2).setPlayerKills(Collections.singletonList(new PlayerKill(player2UUID, "Gold Sword", 3100L)));
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+            }
+        });
+
+        List<Session> savedSessions = db.query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID);
+        for (Session expected : sessions) {
+            long start = expected.getUnsafe(SessionKeys.START);
+            Session saved = savedSessions.stream()
+                    .filter(session -> session.getUnsafe(SessionKeys.START) == start)
+                    .findFirst().orElseThrow(() -> new AssertionError("Session starting at " + start + " was not saved"));
+            assertEquals(expected.getPlayerKills(), saved.getPlayerKills());
+        }
+    }
+
     @Test
     public void worldTimesAreSavedWithSession() {
         saveTwoWorlds();
@@ -830,6 +1217,42 @@ public abstract class CommonDBTest {
         assertTrue(db.query(PlayerFetchQueries.isPlayerRegisteredOnServer(playerUUID, serverUUID)));
     }
 
+    @Test
+    public void knownPlayerOnlyHasTheirNameUpdated() {
+        playerIsRegisteredToBothTables();
+        db.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> 1000L, "NewName", serverUUID, uuid -> true /* Known */));
+
+        OptionalAssert.equals("NewName", db.query(PlayerFetchQueries.playerUserName(playerUUID)));
+    }
+
+    @Test
+    public void knownPlayerRemovedFromDatabaseIsRegisteredAgain() {
+        db.executeTransaction(new PlayerServerRegisterTransaction(player2UUID, () -> 1000L, TestConstants.PLAYER_TWO_NAME, serverUUID, uuid -> true /* Known */));
+
+        assertTrue(db.query(PlayerFetchQueries.isPlayerRegistered(player2UUID)));
+        assertTrue(db.query(PlayerFetchQueries.isPlayerRegisteredOnServer(player2UUID, serverUUID)));
+    }
+
+    @Test
+    public void storedEntitiesAreRememberedOnlyAfterCommit() {
+        Set<Object> remembered = new HashSet<>();
+        db.executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                executeOther(new WorldNameStoreTransaction(serverUUID, "Test", name -> false, remembered::add));
+                executeOther(new PlayerServerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME, serverUUID, uuid -> false, remembered::add));
+                execute("DELETE FROM plan_no_such_table");
+            }
+        });
+        assertTrue("Remembered after a failed transaction", remembered.isEmpty());
+        assertTrue(db.query(LargeFetchQueries.fetchAllWorldNames()).getOrDefault(serverUUID, Collections.emptyList()).isEmpty());
+
+        db.executeTransaction(new WorldNameStoreTransaction(serverUUID, "Test", name -> false, remembered::add));
+        db.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> 1000L, TestConstants.PLAYER_ONE_NAME, serverUUID, uuid -> false, remembered::add));
+        db.executeTransaction(new NicknameStoreTransaction(playerUUID, new Nickname("Nick", 1000L, serverUUID), (uuid, name) -> false, (uuid, name) -> remembered.add(name)));
+        assertEquals(new HashSet<>(Arrays.asList("Test", playerUUID, "Nick")), remembered);
+    }
+
     @Test
     public void testNewContainerForPlayer() throws NoSuchAlgorithmException {
         saveAllData();
@@ -959,6 +1382,7 @@ public abstract class CommonDBTest {
         return new AnalysisContainer.Factory(
                 "1.0.0",
                 system.getConfigSystem().getConfig(),
+                dbSystem,
                 system.getLocaleSystem().getLocale(),
                 system.getConfigSystem().getTheme(),
                 system.getServerInfo().getServerProperties(),
@@ -1207,6 +1631,17 @@ public abstract class CommonDBTest {
         OptionalAssert.equals("Something", playerData.getString("stringVal").map(ExtensionStringData::getFormattedValue));
     }
 
+    @Test
+    public void extensionPlayersTableProvidersCanBeQueriedWithoutValues() {
+        extensionPlayerValuesAreStored();
+
+        List<ExtensionDescriptive> result = db.query(ExtensionInformationQueries.playersTableProvidersOfServer(serverUUID));
+
+        Set<String> expected = new HashSet<>(Arrays.asList("value", "boolVal", "doubleVal", "percentageVal", "stringVal"));
+        assertEquals(expected, result.stream().map(ExtensionDescriptive::getName).collect(Collectors.toSet()));
+        assertEquals(expected.size(), result.size());
+    }
+
     @Test
     public void extensionServerValuesAreStored() {
         ExtensionServiceImplementation extensionService = (ExtensionServiceImplementation) system.getExtensionService();
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.db.sql.parsing;
 
 import com.djrapitops.plan.db.DBType;
+import com.djrapitops.plan.db.sql.tables.DailyAggregatesTable;
 import com.djrapitops.plan.db.sql.tables.ServerTable;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
@@ -47,4 +48,16 @@ class CreateTableParserTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    void addsUniqueConstraintOverSeveralColumns() {
+        String expected = "CREATE TABLE IF NOT EXISTS plan_daily_aggregates (id integer PRIMARY KEY, server_uuid varchar(36) NOT NULL, date bigint NOT NULL, UNIQUE (server_uuid, date))";
+        String result = CreateTableParser.create(DailyAggregatesTable.TABLE_NAME, DBType.SQLITE)
+                .column(DailyAggregatesTable.ID, Sql.INT).primaryKey()
+                .column(DailyAggregatesTable.SERVER_UUID, Sql.varchar(36)).notNull()
+                .column(DailyAggregatesTable.DATE, Sql.LONG).notNull()
+                .unique(DailyAggregatesTable.SERVER_UUID, DailyAggregatesTable.DATE)
+                .toString();
+        assertEquals(expected, result);
+    }
+
 }
\ No newline at end of file
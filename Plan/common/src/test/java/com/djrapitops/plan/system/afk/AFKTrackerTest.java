@@ -0,0 +1,102 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.afk;
+
+import com.djrapitops.plan.data.container.Session;
+import com.djrapitops.plan.data.store.keys.SessionKeys;
+import com.djrapitops.plan.system.cache.SessionCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AFKTracker}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class AFKTrackerTest {
+
+    private static final long THRESHOLD = TimeUnit.MINUTES.toMillis(3L);
+
+    private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
+    private Session session;
+    private AFKTracker underTest;
+
+    @BeforeEach
+    void setUp() {
+        session = new Session(uuid, TestConstants.SERVER_UUID, 0L, "World1", "SURVIVAL");
+        new SessionCache().cacheSession(uuid, session);
+        underTest = new AFKTracker(THRESHOLD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionCache.clear();
+    }
+
+    private long afkTime() {
+        return session.getValue(SessionKeys.AFK_TIME).orElse(0L);
+    }
+
+    @Test
+    void afkTimeIsAddedWhenThresholdIsCrossed() {
+        underTest.performedAction(uuid, 0L);
+        underTest.performedAction(uuid, THRESHOLD - 1L);
+        assertEquals(0L, afkTime());
+
+        underTest.performedAction(uuid, 3 * THRESHOLD);
+        assertEquals(2 * THRESHOLD + 1L, afkTime());
+    }
+
+    @Test
+    void afkCommandCountsAsAfkFromTheCommand() {
+        underTest.performedAction(uuid, 0L);
+        underTest.usedAfkCommand(uuid, 1000L);
+        underTest.performedAction(uuid, 5000L);
+
+        assertEquals(4000L, afkTime());
+    }
+
+    @Test
+    void ignoredPlayersAreNotAfk() {
+        underTest.hasIgnorePermission(uuid);
+        underTest.performedAction(uuid, 0L);
+        underTest.performedAction(uuid, 3 * THRESHOLD);
+
+        assertFalse(underTest.isAfk(uuid));
+        assertEquals(0L, afkTime());
+    }
+
+    @Test
+    void loggedOutPlayerIsForgotten() {
+        underTest.performedAction(uuid, 0L);
+        underTest.loggedOut(uuid, 2 * THRESHOLD);
+        assertEquals(2 * THRESHOLD, afkTime());
+
+        underTest.performedAction(uuid, 5 * THRESHOLD);
+        assertEquals(2 * THRESHOLD, afkTime());
+    }
+}
\ No newline at end of file
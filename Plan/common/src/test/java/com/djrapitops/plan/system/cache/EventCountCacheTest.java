@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.db.access.transactions.Transaction;
+import com.djrapitops.plan.system.database.DBSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for {@link EventCountCache}.
+ * <p>
+ * The database is mocked, a commit is simulated by running the after commit actions of the transaction
+ * and a failure by completing the transaction without running them.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class EventCountCacheTest {
+
+    private final UUID serverUUID = TestConstants.SERVER_UUID;
+
+    private Database database;
+    private EventCountCache underTest;
+    private boolean commit;
+
+    @BeforeEach
+    void setUp() {
+        database = mock(Database.class);
+        DBSystem dbSystem = mock(DBSystem.class);
+        doReturn(database).when(dbSystem).getDatabase();
+        commit = true;
+        doAnswer(invocation -> {
+            if (commit) {
+                invocation.<Transaction>getArgument(0).runAfterCommitActions();
+            }
+            return CompletableFuture.completedFuture(null);
+        }).when(database).executeTransaction(any());
+        underTest = new EventCountCache(dbSystem);
+    }
+
+    private Map<String, Integer> storedCounts() {
+        Map<String, Integer> stored = new HashMap<>();
+        stored.put("plan", 5);
+        return stored;
+    }
+
+    @Test
+    void unsavedCommandUsesAreAddedToStoredCounts() {
+        underTest.commandUsed(serverUUID, "Plan");
+        underTest.commandUsed(serverUUID, "tp");
+
+        Map<String, Integer> counts = underTest.addUnsavedCommandUses(serverUUID, storedCounts());
+
+        assertEquals(6, (int) counts.get("plan"));
+        assertEquals(1, (int) counts.get("tp"));
+    }
+
+    @Test
+    void committedCommandUsesAreNoLongerAdded() {
+        underTest.commandUsed(serverUUID, "plan");
+        underTest.saveCounts();
+
+        assertEquals(storedCounts(), underTest.addUnsavedCommandUses(serverUUID, storedCounts()));
+    }
+
+    @Test
+    void countsOfFailedSaveAreSavedAgain() {
+        underTest.commandUsed(serverUUID, "plan");
+        underTest.playerKicked(TestConstants.PLAYER_ONE_UUID);
+        commit = false;
+        underTest.saveCounts();
+        underTest.commandUsed(serverUUID, "plan");
+
+        assertEquals(7, (int) underTest.addUnsavedCommandUses(serverUUID, storedCounts()).get("plan"));
+
+        commit = true;
+        underTest.saveCounts();
+
+        assertEquals(storedCounts(), underTest.addUnsavedCommandUses(serverUUID, storedCounts()));
+        underTest.saveCounts();
+        verify(database, times(2)).executeTransaction(any());
+    }
+
+    @Test
+    void nothingIsSavedWithoutCounts() {
+        underTest.saveCounts();
+        verify(database, never()).executeTransaction(any());
+        assertEquals(Collections.emptyMap(), underTest.addUnsavedCommandUses(serverUUID, Collections.emptyMap()));
+    }
+}
\ No newline at end of file
@@ -124,4 +124,22 @@ class GeolocationCacheTest {
             assertEquals(expIp, countryThirdCall);
         }
     }
-}
+
+    @Test
+    void failedLookupsAreNotCached() throws IOException {
+        Files.write(IP_STORE.toPath(), new byte[]{1, 2, 3, 4});
+        assertTrue(IP_STORE.setLastModified(System.currentTimeMillis() - 60000L));
+
+        assertEquals("Not Known", underTest.getCountry("8.8.8.8"));
+        assertFalse(underTest.isCached("8.8.8.8"));
+    }
+
+    @Test
+    void checkingCacheDoesNotAffectStatistics() {
+        underTest.getCountry("127.0.0.1");
+        underTest.isCached("127.0.0.1");
+        underTest.isCached("8.8.8.8");
+
+        assertEquals(1L, underTest.getCacheStatistics().requestCount());
+    }
+}
\ No newline at end of file
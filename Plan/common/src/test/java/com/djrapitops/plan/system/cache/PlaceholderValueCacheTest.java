@@ -0,0 +1,137 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.cache;
+
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plugin.logging.console.TestPluginLogger;
+import com.djrapitops.plugin.logging.error.ConsoleErrorLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+import utilities.mocks.TestProcessing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Test for {@link PlaceholderValueCache}.
+ * <p>
+ * Uses directly executing processing, so values are loaded before they are returned.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class PlaceholderValueCacheTest {
+
+    private final UUID playerUUID = TestConstants.PLAYER_ONE_UUID;
+
+    private PlaceholderValueCache underTest;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        TestPluginLogger logger = new TestPluginLogger();
+        ConsoleErrorLogger errorHandler = new ConsoleErrorLogger(logger);
+        underTest = new PlaceholderValueCache(new TestProcessing(Locale::new, logger, errorHandler), errorHandler);
+        loads = new AtomicInteger(0);
+    }
+
+    private Map<String, String> countingLoader() {
+        String load = Integer.toString(loads.incrementAndGet());
+        Map<String, String> values = new HashMap<>();
+        values.put("players_total", load);
+        values.put("players_new_day", load);
+        values.put("playtime", load);
+        return values;
+    }
+
+    @Test
+    void valueIsLoadedOnlyOnceWithoutRefresh() {
+        assertEquals(Optional.of("1"), underTest.getServerValue("players_total", this::countingLoader));
+        assertEquals(Optional.of("1"), underTest.getServerValue("players_total", this::countingLoader));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void allServerValuesAreLoadedTogether() {
+        assertEquals(Optional.of("1"), underTest.getServerValue("players_total", this::countingLoader));
+        assertEquals(Optional.of("1"), underTest.getServerValue("players_new_day", this::countingLoader));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void sessionChangeRefreshesPlayerValues() {
+        underTest.getPlayerValue("playtime", playerUUID, this::countingLoader);
+
+        underTest.sessionChanged(playerUUID);
+
+        assertEquals(2, loads.get());
+        assertEquals(Optional.of("2"), underTest.getPlayerValue("playtime", playerUUID, this::countingLoader));
+        assertEquals(2, underTest.getRefreshCosts().get(PlaceholderValueCache.PLAYER_VALUES).getRefreshes());
+    }
+
+    @Test
+    void sessionChangeRefreshesRecentlyRefreshedServerValuesOnlyOnce() {
+        underTest.getServerValue("players_total", this::countingLoader);
+
+        for (int i = 0; i < 10; i++) {
+            underTest.sessionChanged(playerUUID);
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void sessionChangeDoesNotRefreshOtherPlayers() {
+        underTest.getPlayerValue("playtime", playerUUID, this::countingLoader);
+
+        underTest.sessionChanged(TestConstants.PLAYER_TWO_UUID);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void sessionChangeRefreshesAfterTheTransactionCompletes() {
+        underTest.getPlayerValue("playtime", playerUUID, this::countingLoader);
+        CompletableFuture<Object> stored = new CompletableFuture<>();
+
+        underTest.sessionChanged(playerUUID, stored);
+        assertEquals(1, loads.get());
+
+        stored.complete(null);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failedLoadIsNotRetriedOnEveryRequest() {
+        underTest.getServerValue("failing", () -> {
+            throw new IllegalStateException("Test exception");
+        });
+
+        assertFalse(underTest.getServerValue("failing", this::countingLoader).isPresent());
+        assertEquals(1, underTest.getRefreshCosts().get(PlaceholderValueCache.SERVER_VALUES).getRefreshes());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.export;
+
+import com.djrapitops.plan.data.container.BaseUser;
+import com.djrapitops.plan.data.plugin.HookHandler;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.locale.Message;
+import com.djrapitops.plan.system.locale.lang.CommandLang;
+import com.djrapitops.plan.system.settings.config.PlanConfig;
+import com.djrapitops.plan.system.settings.paths.ExportSettings;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for the change detection and coalescing of {@link PlayerExporter}.
+ * <p>
+ * Only player JSON is exported. The database is mocked to return no extensions, the players and their last seen
+ * dates for the queries of {@link PlayerExporter#exportChangedPlayers}, in that order.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class PlayerExporterTest {
+
+    private final UUID playerUUID = TestConstants.PLAYER_ONE_UUID;
+    private final String playerName = TestConstants.PLAYER_ONE_NAME;
+
+    private File timesFile;
+    private PlanConfig config;
+    private Locale locale;
+    private Database database;
+    private DBSystem dbSystem;
+    private JSONExport jsonExport;
+    private PlayerExporter underTest;
+
+    @BeforeEach
+    void setUp(@TempDir Path dir) throws IOException {
+        timesFile = dir.resolve("exported_players.txt").toFile();
+        config = mock(PlanConfig.class);
+        doReturn(true).when(config).get(ExportSettings.PLAYER_JSON);
+        doReturn(false).when(config).get(ExportSettings.PLAYER_PAGES);
+        locale = new Locale();
+        database = mock(Database.class);
+        dbSystem = mock(DBSystem.class);
+        doReturn(database).when(dbSystem).getDatabase();
+
+        File exportFile = Files.createFile(dir.resolve(playerName + ".json")).toFile();
+        jsonExport = mock(JSONExport.class);
+        doReturn(exportFile).when(jsonExport).getPlayerExportFile(playerName);
+        doReturn(true).when(jsonExport).exportPlayerJSON(playerUUID);
+        doReturn(true).when(jsonExport).exportPlayerJSON(playerUUID, playerName);
+
+        underTest = createExporter(100L);
+        underTest.enable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.disable();
+    }
+
+    private PlayerExporter createExporter(long coalesceWindowMs) {
+        return new PlayerExporter(
+                "5.0", new PlayerExportTimes(timesFile), config, locale, mock(Theme.class), dbSystem,
+                mock(HookHandler.class), mock(HtmlExport.class), jsonExport,
+                mock(PluginLogger.class), mock(ErrorHandler.class), coalesceWindowMs
+        );
+    }
+
+    private int exportPlayerLastSeenAt(long lastSeen, boolean all) {
+        doReturn(
+                Collections.emptyMap(),
+                Collections.singletonList(new BaseUser(playerUUID, playerName, 1000L, 0)),
+                Collections.singletonMap(playerUUID, lastSeen)
+        ).when(database).query(any());
+        return underTest.exportChangedPlayers(all, (exported, total) -> {
+        });
+    }
+
+    @Test
+    void playerWithoutChangesIsNotExportedAgain() {
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+        assertEquals(0, exportPlayerLastSeenAt(2000L, false));
+        verify(jsonExport, times(1)).exportPlayerJSON(playerUUID, playerName);
+    }
+
+    @Test
+    void playerIsExportedAgainAfterFailedExport() {
+        doReturn(false).when(jsonExport).exportPlayerJSON(playerUUID, playerName);
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+
+        doReturn(true).when(jsonExport).exportPlayerJSON(playerUUID, playerName);
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+        verify(jsonExport, times(2)).exportPlayerJSON(playerUUID, playerName);
+    }
+
+    @Test
+    void playerSeenAfterExportIsExportedAgain() {
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+        assertEquals(1, exportPlayerLastSeenAt(System.currentTimeMillis() + 10000L, false));
+    }
+
+    @Test
+    void allPlayersAreExportedWhenForced() {
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+        assertEquals(1, exportPlayerLastSeenAt(2000L, true));
+    }
+
+    @Test
+    void playerIsExportedAgainWhenLocaleChanges() {
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+        locale.put(CommandLang.FAIL_REQ_ARGS, new Message("Changed"));
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+    }
+
+    @Test
+    void exportTimesAreRememberedAfterRestart() {
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+        underTest.disable();
+
+        underTest = createExporter(100L);
+        underTest.enable();
+        assertEquals(0, exportPlayerLastSeenAt(2000L, false));
+    }
+
+    @Test
+    void scheduledExportsOfAPlayerAreCoalesced() throws InterruptedException {
+        underTest.scheduleExport(playerUUID);
+        underTest.scheduleExport(playerUUID);
+        underTest.scheduleExport(playerUUID);
+
+        verify(jsonExport, timeout(1000L).times(1)).exportPlayerJSON(playerUUID);
+        Thread.sleep(200L);
+        verify(jsonExport, times(1)).exportPlayerJSON(playerUUID);
+    }
+
+    @Test
+    void scheduledExportsAreLeftForNextExportOnDisable() {
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+        underTest.disable();
+        underTest = createExporter(Long.MAX_VALUE);
+        underTest.enable();
+
+        underTest.scheduleExport(playerUUID);
+        underTest.disable();
+        verify(jsonExport, never()).exportPlayerJSON(playerUUID);
+
+        underTest = createExporter(100L);
+        underTest.enable();
+        assertEquals(1, exportPlayerLastSeenAt(2000L, false));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import com.djrapitops.plan.api.exceptions.connection.UnauthorizedServerException;
+import com.djrapitops.plan.db.Database;
+import com.djrapitops.plan.system.info.request.InfoRequest;
+import com.djrapitops.plan.system.webserver.Request;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ConnectionIn}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ConnectionInTest {
+
+    @Test
+    void unknownSenderIsRejectedBeforeTheBodyIsRead() {
+        Request request = mock(Request.class);
+        doReturn(Optional.of(UUID.randomUUID().toString())).when(request).getHeader(InfoRequestBody.SENDER_HEADER);
+        doReturn(Optional.of(InfoRequestBody.BINARY_FORMAT)).when(request).getHeader(InfoRequestBody.FORMAT_HEADER);
+        Database database = mock(Database.class);
+        doReturn(Optional.empty()).when(database).query(any());
+
+        assertThrows(UnauthorizedServerException.class, () ->
+                new ConnectionIn(request, mock(InfoRequest.class), database, mock(ConnectionSystem.class))
+        );
+        verify(request, never()).getRequestBody();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import com.djrapitops.plan.system.info.request.InfoRequest;
+import com.djrapitops.plan.system.info.server.Server;
+import com.djrapitops.plugin.logging.debug.DebugLogger;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the body format negotiation of {@link ConnectionOut}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ConnectionOutTest {
+
+    private static final UUID SERVER_UUID = UUID.randomUUID();
+
+    private HttpServer receiver;
+    private String address;
+    private List<String> receivedFormats;
+    private List<String> receivedSenders;
+    private InfoRequestHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        receivedFormats = new CopyOnWriteArrayList<>();
+        receivedSenders = new CopyOnWriteArrayList<>();
+
+        // Acts like a server that was downgraded to a version that does not know the binary format.
+        receiver = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        receiver.createContext("/info", exchange -> {
+            String format = exchange.getRequestHeaders().getFirst(InfoRequestBody.FORMAT_HEADER);
+            receivedFormats.add(format != null ? format : "legacy");
+            receivedSenders.add(exchange.getRequestHeaders().getFirst(InfoRequestBody.SENDER_HEADER));
+            exchange.getRequestBody().close();
+            exchange.sendResponseHeaders(format != null ? 400 : 200, -1);
+            exchange.close();
+        });
+        receiver.start();
+        address = "http://localhost:" + receiver.getAddress().getPort();
+
+        httpClient = new InfoRequestHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        receiver.stop(0);
+    }
+
+    @Test
+    void requestIsSentAgainInLegacyFormatAfterBinaryFormatIsRejected() throws Exception {
+        httpClient.setAcceptsBinaryFormat(address, true);
+        Server toServer = new Server(1, UUID.randomUUID(), "Receiver", address, 20);
+
+        new ConnectionOut(toServer, SERVER_UUID, mock(InfoRequest.class), new ConnectionLog(mock(DebugLogger.class)), httpClient)
+                .sendRequest();
+
+        assertEquals(Arrays.asList(InfoRequestBody.BINARY_FORMAT, "legacy"), receivedFormats);
+        assertEquals(Arrays.asList(SERVER_UUID.toString(), SERVER_UUID.toString()), receivedSenders);
+        assertFalse(httpClient.acceptsBinaryFormat(address));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import com.djrapitops.plan.utilities.Base64Util;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link InfoRequestBody}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class InfoRequestBodyTest {
+
+    private Map<String, String> createVariables() {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("sender", "e4ec2edd-e0ed-3c58-a87d-8a9021899479");
+        variables.put("type", "CacheAnalysisPageRequest");
+        variables.put("html", "<html><body>a=b;&variable;c</body></html>");
+        return variables;
+    }
+
+    @Test
+    void binaryFormatKeepsVariables() throws IOException {
+        Map<String, String> variables = createVariables();
+        variables.put("nav", "\u00c4\u2603");
+
+        assertEquals(variables, InfoRequestBody.readBinary(InfoRequestBody.writeBinary(variables)));
+    }
+
+    @Test
+    void legacyFormatKeepsVariables() {
+        Map<String, String> variables = createVariables();
+        byte[] body = InfoRequestBody.writeLegacy(variables, Collections.singleton("html"));
+
+        assertEquals(variables, InfoRequestBody.readLegacy(body, Collections.singleton("html")));
+    }
+
+    @Test
+    void legacyFormatIsReadableByOlderVersions() {
+        Map<String, String> variables = createVariables();
+        String body = new String(InfoRequestBody.writeLegacy(variables, Collections.singleton("html")), StandardCharsets.UTF_8);
+
+        // Older versions split the body and decode the html variable themselves.
+        Map<String, String> read = new HashMap<>();
+        for (String variable : body.split(";&variable;")) {
+            String[] keyAndValue = variable.split("=", 2);
+            read.put(keyAndValue[0], keyAndValue[1]);
+        }
+        assertEquals(variables.get("html"), Base64Util.decode(read.get("html")));
+        assertEquals(variables.get("sender"), read.get("sender"));
+    }
+
+    @Test
+    void invalidBinaryBodyIsNotRead() {
+        byte[] body = "sender=e4ec2edd-e0ed-3c58-a87d-8a9021899479".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> InfoRequestBody.readBinary(body));
+    }
+
+    @Test
+    void decompressedBinaryBodyIsLimited() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            byte[] zeros = new byte[1024 * 1024];
+            for (int written = 0; written <= InfoRequestBody.MAX_BODY_LENGTH; written += zeros.length) {
+                out.write(zeros);
+            }
+        }
+        byte[] body = bytes.toByteArray();
+
+        assertThrows(IOException.class, () -> InfoRequestBody.readBinary(body));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.info.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ServerCircuitBreaker}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ServerCircuitBreakerTest {
+
+    private static final UUID SERVER_UUID = UUID.randomUUID();
+
+    private ServerCircuitBreaker underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ServerCircuitBreaker();
+    }
+
+    private void failTimes(int times, long now) {
+        for (int i = 0; i < times; i++) {
+            underTest.requestFailed(SERVER_UUID, now);
+        }
+    }
+
+    @Test
+    void requestsAllowedBelowFailureThreshold() {
+        failTimes(ServerCircuitBreaker.FAILURE_THRESHOLD - 1, 0L);
+        assertTrue(underTest.allowRequest(SERVER_UUID, 0L));
+    }
+
+    @Test
+    void requestsSkippedAfterFailureThreshold() {
+        failTimes(ServerCircuitBreaker.FAILURE_THRESHOLD, 0L);
+        assertFalse(underTest.allowRequest(SERVER_UUID, 0L));
+        assertTrue(underTest.allowRequest(UUID.randomUUID(), 0L));
+    }
+
+    @Test
+    void singleTrialRequestAllowedAfterOpenTime() {
+        failTimes(ServerCircuitBreaker.FAILURE_THRESHOLD, 0L);
+        long later = ServerCircuitBreaker.OPEN_MS;
+
+        assertTrue(underTest.allowRequest(SERVER_UUID, later));
+        assertFalse(underTest.allowRequest(SERVER_UUID, later + 1L));
+    }
+
+    @Test
+    void failedTrialDoublesOpenTime() {
+        failTimes(ServerCircuitBreaker.FAILURE_THRESHOLD, 0L);
+        long trialTime = ServerCircuitBreaker.OPEN_MS;
+        assertTrue(underTest.allowRequest(SERVER_UUID, trialTime));
+        underTest.requestFailed(SERVER_UUID, trialTime);
+
+        assertFalse(underTest.allowRequest(SERVER_UUID, trialTime + ServerCircuitBreaker.OPEN_MS));
+        assertTrue(underTest.allowRequest(SERVER_UUID, trialTime + ServerCircuitBreaker.OPEN_MS * 2));
+    }
+
+    @Test
+    void successClosesBreaker() {
+        failTimes(ServerCircuitBreaker.FAILURE_THRESHOLD, 0L);
+        underTest.requestSucceeded(SERVER_UUID);
+        assertTrue(underTest.allowRequest(SERVER_UUID, 0L));
+    }
+}
\ No newline at end of file
@@ -38,6 +38,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -114,6 +115,7 @@ public class ConfigSettingKeyTest {
         settings.remove(PluginSettings.SERVER_NAME);
         settings.remove(PluginSettings.BUNGEE_COPY_CONFIG);
         settings.remove(DatabaseSettings.TYPE);
+        settings.remove(DatabaseSettings.SQLITE_READ_CONNECTIONS);
         settings.remove(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
         settings.remove(DisplaySettings.GRAPH_TPS_THRESHOLD_HIGH);
         settings.remove(DisplaySettings.GRAPH_DISK_THRESHOLD_MED);
@@ -121,6 +123,8 @@ public class ConfigSettingKeyTest {
         settings.remove(DisplaySettings.GRAPH_DISK_THRESHOLD_HIGH);
         settings.remove(DisplaySettings.WORLD_ALIASES);
         settings.remove(TimeSettings.ANALYSIS_REFRESH_PERIOD);
+        settings.remove(TimeSettings.EVENT_COUNT_SAVE_PERIOD);
+        settings.remove(TimeSettings.PLACEHOLDER_REFRESH_PERIOD);
         return settings;
     }
 
@@ -140,6 +144,20 @@ public class ConfigSettingKeyTest {
         assertValidDefaultValuesForAllSettings(planConfig, settings);
     }
 
+    @Test
+    @DisplayName("Changed config values are not hidden by previously resolved values")
+    void changedValuesAreReturned() throws IOException {
+        PlanConfig planConfig = createConfig("config.yml");
+        planConfig.set(WebserverSettings.PORT, 8804);
+        assertEquals(8804, (int) planConfig.get(WebserverSettings.PORT));
+
+        planConfig.set(WebserverSettings.PORT, 8805);
+        assertEquals(8805, (int) planConfig.get(WebserverSettings.PORT));
+
+        planConfig.getNode(WebserverSettings.PORT.getPath()).ifPresent(node -> node.set(8806));
+        assertEquals(8806, (int) planConfig.get(WebserverSettings.PORT));
+    }
+
     private PlanConfig createConfig(String copyDefaultSettingsFrom) throws IOException {
         File configFile = Files.createTempFile(temporaryFolder, "config", ".yml").toFile();
         TestResources.copyResourceIntoFile(configFile, "/assets/plan/" + copyDefaultSettingsFrom);
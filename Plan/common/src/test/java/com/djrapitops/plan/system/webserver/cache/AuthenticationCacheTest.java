@@ -0,0 +1,74 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.cache;
+
+import com.djrapitops.plan.data.WebUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.RandomData;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AuthenticationCache}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class AuthenticationCacheTest {
+
+    private final String AUTHENTICATION = RandomData.randomString(20);
+    private final WebUser WEB_USER = new WebUser(RandomData.randomString(10), RandomData.randomString(20), 0);
+
+    @AfterEach
+    void clearCache() {
+        AuthenticationCache.clearCache();
+    }
+
+    @Test
+    void verifiedUserIsCached() {
+        assertFalse(AuthenticationCache.getVerifiedUser(AUTHENTICATION).isPresent());
+
+        AuthenticationCache.cacheVerifiedUser(AUTHENTICATION, WEB_USER, AuthenticationCache.getVersion());
+
+        assertEquals(Optional.of(WEB_USER), AuthenticationCache.getVerifiedUser(AUTHENTICATION));
+        assertFalse(AuthenticationCache.getVerifiedUser(AUTHENTICATION + "x").isPresent());
+    }
+
+    @Test
+    void verifiedUserIsClearedWhenCacheIsCleared() {
+        AuthenticationCache.cacheVerifiedUser(AUTHENTICATION, WEB_USER, AuthenticationCache.getVersion());
+
+        AuthenticationCache.clearCache();
+
+        assertFalse(AuthenticationCache.getVerifiedUser(AUTHENTICATION).isPresent());
+    }
+
+    @Test
+    void userVerifiedBeforeClearIsNotCached() {
+        long versionAtStart = AuthenticationCache.getVersion();
+        AuthenticationCache.clearCache();
+
+        AuthenticationCache.cacheVerifiedUser(AUTHENTICATION, WEB_USER, versionAtStart);
+
+        assertFalse(AuthenticationCache.getVerifiedUser(AUTHENTICATION).isPresent());
+    }
+}
\ No newline at end of file
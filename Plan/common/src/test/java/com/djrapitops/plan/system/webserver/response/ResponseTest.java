@@ -0,0 +1,117 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.system.webserver.response;
+
+import com.djrapitops.plan.system.locale.Locale;
+import com.djrapitops.plan.system.settings.theme.Theme;
+import com.djrapitops.plan.system.webserver.response.errors.BadRequestResponse;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for conditional requests answered by {@link Response}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class ResponseTest {
+
+    private Locale locale;
+    private Theme theme;
+
+    @BeforeEach
+    void setUp() {
+        locale = new Locale();
+        theme = Mockito.mock(Theme.class);
+        when(theme.replaceThemeColors(anyString())).then(returnsFirstArg());
+    }
+
+    private HttpExchange send(Response response, String ifNoneMatch) throws IOException {
+        HttpExchange exchange = Mockito.mock(HttpExchange.class);
+        Headers requestHeaders = new Headers();
+        if (ifNoneMatch != null) {
+            requestHeaders.set("If-None-Match", ifNoneMatch);
+        }
+        when(exchange.getRequestHeaders()).thenReturn(requestHeaders);
+        when(exchange.getRequestMethod()).thenReturn("GET");
+        when(exchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
+
+        response.setResponseHeaders(new Headers());
+        response.send(exchange, locale, theme);
+        return exchange;
+    }
+
+    @Test
+    void matchingETagIsAnsweredWithNotModified() throws IOException {
+        Response response = new TextResponse("Test content");
+        send(response, null);
+        String eTag = response.responseHeaders.getFirst("ETag");
+        assertNotNull(eTag);
+
+        HttpExchange exchange = send(response, "\"other\", " + eTag);
+
+        verify(exchange).sendResponseHeaders(304, -1);
+        verify(exchange, never()).getResponseBody();
+        assertEquals(eTag, response.responseHeaders.getFirst("ETag"));
+    }
+
+    @Test
+    void differentETagIsAnsweredWithContent() throws IOException {
+        Response response = new TextResponse("Test content");
+
+        HttpExchange exchange = send(response, "\"other\"");
+
+        verify(exchange).sendResponseHeaders(eq(200), longThat(length -> length > 0));
+        verify(exchange).getResponseBody();
+    }
+
+    @Test
+    void changedContentGetsNewETag() throws IOException {
+        Response response = new TextResponse("Test content");
+        send(response, null);
+        String eTag = response.responseHeaders.getFirst("ETag");
+
+        response.setContent("Changed content");
+        HttpExchange exchange = send(response, eTag);
+
+        verify(exchange).sendResponseHeaders(eq(200), longThat(length -> length > 0));
+        assertNotEquals(eTag, response.responseHeaders.getFirst("ETag"));
+    }
+
+    @Test
+    void errorResponsesHaveNoETag() throws IOException {
+        Response response = new BadRequestResponse("Test");
+
+        HttpExchange exchange = send(response, "*");
+
+        verify(exchange).sendResponseHeaders(eq(400), longThat(length -> length > 0));
+        assertNull(response.responseHeaders.getFirst("ETag"));
+    }
+}
\ No newline at end of file
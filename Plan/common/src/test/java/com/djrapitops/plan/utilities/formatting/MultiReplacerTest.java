@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.formatting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link MultiReplacer}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class MultiReplacerTest {
+
+    @Test
+    void longestMatchIsReplaced() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("Players", "Pelaajat");
+        replacements.put("Players Online", "Pelaajia paikalla");
+
+        String result = new MultiReplacer(replacements).apply("Players Online / Players");
+
+        assertEquals("Pelaajia paikalla / Pelaajat", result);
+    }
+
+    @Test
+    void replacedTextIsNotReplacedAgain() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("#000", "#fff");
+        replacements.put("#fff", "#000");
+
+        String result = new MultiReplacer(replacements).apply("color: #000; background: #fff;");
+
+        assertEquals("color: #fff; background: #000;", result);
+    }
+
+    @Test
+    void partialMatchesAreKept() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("Session Count", "Sessions");
+
+        String result = new MultiReplacer(replacements).apply("Session Coun, Session Count");
+
+        assertEquals("Session Coun, Sessions", result);
+    }
+
+    @Test
+    void unchangedTextIsReturnedAsIs() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("Kills", "Kills");
+        replacements.put("", "Empty");
+
+        String text = "Kills: 5";
+        assertSame(text, new MultiReplacer(replacements).apply(text));
+    }
+}
\ No newline at end of file
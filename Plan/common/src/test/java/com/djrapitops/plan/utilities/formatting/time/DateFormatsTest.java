@@ -0,0 +1,91 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.formatting.time;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the start of day calculation of {@link DateFormatter.DateFormats}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class DateFormatsTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Helsinki");
+
+    private TimeZone defaultTimeZone;
+    private DateFormatter.DateFormats underTest;
+
+    @BeforeEach
+    void setUp() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(ZONE));
+        underTest = new DateFormatter.DateFormats(true, "default");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    private long epochMs(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private long startOf(LocalDate date) {
+        return date.atStartOfDay(ZONE).toInstant().toEpochMilli();
+    }
+
+    @Test
+    void dayWithDaylightSavingTimeStartIsHandled() {
+        // Clocks move forward at 03:00 on 2019-03-31 in Helsinki, the day is 23 hours long.
+        LocalDate day = LocalDate.of(2019, 3, 31);
+
+        long afterChange = epochMs(day.atTime(12, 0));
+        assertEquals(startOf(day), underTest.getStartOfDay(afterChange));
+        assertEquals(startOf(day.minusDays(1L)), underTest.getStartOfYesterday(afterChange));
+
+        long nextDay = epochMs(day.plusDays(1L).atTime(0, 30));
+        assertEquals(startOf(day.plusDays(1L)), underTest.getStartOfDay(nextDay));
+        assertEquals(startOf(day), underTest.getStartOfYesterday(nextDay));
+    }
+
+    @Test
+    void dayWithDaylightSavingTimeEndIsHandled() {
+        // Clocks move backward at 04:00 on 2019-10-27 in Helsinki, the day is 25 hours long.
+        LocalDate day = LocalDate.of(2019, 10, 27);
+
+        long endOfDay = epochMs(day.atTime(23, 30));
+        assertEquals(startOf(day), underTest.getStartOfDay(endOfDay));
+
+        long nextDay = epochMs(day.plusDays(1L).atTime(0, 30));
+        assertEquals(startOf(day.plusDays(1L)), underTest.getStartOfDay(nextDay));
+        assertEquals(startOf(day), underTest.getStartOfYesterday(nextDay));
+    }
+}
\ No newline at end of file
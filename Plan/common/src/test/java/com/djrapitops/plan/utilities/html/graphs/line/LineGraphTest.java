@@ -51,13 +51,13 @@ class LineGraphTest {
     void testLineGraphsForBracketErrors() {
         TPSMutator mutator = new TPSMutator(DATA);
         LineGraph[] graphs = new LineGraph[]{
-                new CPUGraph(mutator, true),
-                new PlayersOnlineGraph(mutator, false),
-                new RamGraph(mutator, true),
-                new TPSGraph(mutator, false),
-                new EntityGraph(mutator, true),
-                new ChunkGraph(mutator, false),
-                new DiskGraph(mutator, false)
+                new CPUGraph(mutator, true, 5),
+                new PlayersOnlineGraph(mutator, false, 5),
+                new RamGraph(mutator, true, 5),
+                new TPSGraph(mutator, false, 5),
+                new EntityGraph(mutator, true, 5),
+                new ChunkGraph(mutator, false, 5),
+                new DiskGraph(mutator, false, 5)
         };
 
         for (LineGraph graph : graphs) {
@@ -71,6 +71,14 @@ class LineGraphTest {
         }
     }
 
+    @Test
+    void emptyLineGraphHasNoPoints() {
+        TPSMutator mutator = new TPSMutator(new ArrayList<>());
+
+        assertEquals("[]", new TPSGraph(mutator, false, 5).toHighChartsSeries());
+        assertEquals("[]", new TPSGraph(mutator, true, 5).toHighChartsSeries());
+    }
+
     private void assertBracketMatch(char[] chars) {
         Stack<Character> bracketStack = new Stack<>();
         for (int i = 0; i < chars.length; i++) {
@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.graphs.line.alg;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for {@link LargestTriangleThreeBuckets}.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class LargestTriangleThreeBucketsTest {
+
+    private static long[] xValues(int size) {
+        long[] x = new long[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i * 60000L;
+        }
+        return x;
+    }
+
+    @Test
+    void smallPartsAreNotReduced() {
+        long[] x = xValues(10);
+        double[] y = new double[10];
+
+        assertArrayEquals(new int[]{2, 3, 4, 5, 6}, LargestTriangleThreeBuckets.selectPoints(x, y, 2, 7, 5));
+    }
+
+    @Test
+    void pointsAreReducedToThresholdKeepingFirstAndLast() {
+        int size = 10000;
+        long[] x = xValues(size);
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            y[i] = Math.sin(i / 100.0) * 20;
+        }
+
+        int[] selected = LargestTriangleThreeBuckets.selectPoints(x, y, 0, size, 500);
+
+        assertEquals(500, selected.length);
+        assertEquals(0, selected[0]);
+        assertEquals(size - 1, selected[selected.length - 1]);
+        for (int i = 1; i < selected.length; i++) {
+            assertTrue(selected[i - 1] < selected[i], "Indexes were not ascending at " + i);
+        }
+    }
+
+    @Test
+    void spikeIsKept() {
+        int size = 1000;
+        long[] x = xValues(size);
+        double[] y = new double[size];
+        y[567] = 100;
+
+        int[] selected = LargestTriangleThreeBuckets.selectPoints(x, y, 0, size, 20);
+
+        boolean containsSpike = false;
+        for (int index : selected) {
+            if (index == 567) {
+                containsSpike = true;
+                break;
+            }
+        }
+        assertTrue(containsSpike);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.html.structure;
+
+import com.djrapitops.plan.data.element.AnalysisContainer;
+import com.djrapitops.plan.data.element.InspectContainer;
+import com.djrapitops.plan.data.element.TableContainer;
+import com.djrapitops.plan.data.plugin.ContainerSize;
+import com.djrapitops.plan.data.plugin.HookHandler;
+import com.djrapitops.plan.data.plugin.PluginData;
+import com.djrapitops.plan.data.plugin.PluginsConfigSection;
+import com.djrapitops.plan.data.store.containers.PlayerContainer;
+import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.data.store.mutators.PlayersMutator;
+import com.djrapitops.plan.utilities.html.tables.HtmlTables;
+import com.djrapitops.plugin.benchmarking.Timings;
+import com.djrapitops.plugin.logging.console.PluginLogger;
+import com.djrapitops.plugin.logging.error.ErrorHandler;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import utilities.TestConstants;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test for the timeouts of {@link AnalysisPluginsTabContentCreator}.
+ * <p>
+ * Hung sources ignore interrupts and wait until the test releases them.
+ *
+ * @author Rsl1122
+ */
+@RunWith(JUnitPlatform.class)
+class AnalysisPluginsTabContentCreatorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HookHandler hookHandler;
+    private AnalysisPluginsTabContentCreator underTest;
+    private PlayersMutator mutator;
+
+    @BeforeEach
+    void setUp() {
+        PluginsConfigSection configSection = mock(PluginsConfigSection.class);
+        doReturn(true).when(configSection).hasSection(any(PluginData.class));
+        doReturn(true).when(configSection).isEnabled(any(PluginData.class));
+        hookHandler = new HookHandler(null, configSection, mock(PluginLogger.class), mock(ErrorHandler.class));
+
+        HtmlTables tables = mock(HtmlTables.class);
+        doReturn(new TableContainer("Player")).when(tables).pluginPlayersTable(any(), any());
+        underTest = new AnalysisPluginsTabContentCreator(
+                hookHandler, tables, mock(Timings.class), mock(PluginLogger.class), mock(ErrorHandler.class), 100L
+        );
+
+        PlayerContainer player = new PlayerContainer();
+        player.putRawData(PlayerKeys.UUID, TestConstants.PLAYER_ONE_UUID);
+        mutator = new PlayersMutator(Collections.singletonList(player));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hookHandler.disable();
+    }
+
+    private String createContent() {
+        String[] content = underTest.createContent(null, mutator);
+        return content[0] + content[1];
+    }
+
+    private static int countOf(String text, String of) {
+        return text.split(of, -1).length - 1;
+    }
+
+    @Test
+    void hungSourceIsShownAsTimedOut() {
+        hookHandler.addPluginDataSource(new HungSource("Hung"));
+
+        String content = createContent();
+        assertTrue(content.contains("Hung"), () -> "Source missing: " + content);
+        assertTrue(content.contains("Timed out"), () -> "Timeout missing: " + content);
+    }
+
+    @Test
+    void hungSourceIsNotRunAgainWhileStillRunning() {
+        HungSource hung = new HungSource("Hung");
+        hookHandler.addPluginDataSource(hung);
+
+        createContent();
+        String content = createContent();
+        assertTrue(content.contains("Still running from an earlier analysis"), () -> "Status missing: " + content);
+        assertEquals(1, hung.calls.get());
+    }
+
+    @Test
+    void hungSourcesDoNotBlockOtherSources() {
+        for (int i = 0; i < 4; i++) {
+            hookHandler.addPluginDataSource(new HungSource("Hung" + i));
+        }
+        hookHandler.addPluginDataSource(new QuickSource());
+
+        String content = createContent();
+        assertEquals(4, countOf(content, "Timed out"), () -> "Unexpected timeouts: " + content);
+        assertTrue(content.contains("Quick value"), () -> "Quick source did not run: " + content);
+    }
+
+    class HungSource extends PluginData {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        HungSource(String name) {
+            super(ContainerSize.THIRD, name);
+        }
+
+        @Override
+        public InspectContainer getPlayerData(UUID uuid, InspectContainer fillThis) {
+            return fillThis;
+        }
+
+        @Override
+        public AnalysisContainer getServerData(Collection<UUID> uuids, AnalysisContainer fillThis) {
+            calls.incrementAndGet();
+            Uninterruptibles.awaitUninterruptibly(release);
+            return fillThis;
+        }
+    }
+
+    class QuickSource extends PluginData {
+
+        QuickSource() {
+            super(ContainerSize.THIRD, "Quick");
+        }
+
+        @Override
+        public InspectContainer getPlayerData(UUID uuid, InspectContainer fillThis) {
+            return fillThis;
+        }
+
+        @Override
+        public AnalysisContainer getServerData(Collection<UUID> uuids, AnalysisContainer fillThis) {
+            fillThis.addValue("Value", "Quick value");
+            return fillThis;
+        }
+    }
+}
\ No newline at end of file
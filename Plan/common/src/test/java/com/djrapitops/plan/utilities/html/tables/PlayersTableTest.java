@@ -20,6 +20,7 @@ import com.djrapitops.plan.api.CommonAPI;
 import com.djrapitops.plan.data.plugin.HookHandler;
 import com.djrapitops.plan.data.store.containers.PlayerContainer;
 import com.djrapitops.plan.data.store.keys.PlayerKeys;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.utilities.uuid.UUIDUtility;
 import com.djrapitops.plugin.logging.console.TestPluginLogger;
@@ -52,6 +53,7 @@ class PlayersTableTest {
                 Mockito.mock(DBSystem.class),
                 Mockito.mock(UUIDUtility.class),
                 Mockito.mock(HookHandler.class),
+                Mockito.mock(PlaceholderValueCache.class),
                 new TestPluginLogger(),
                 new ConsoleErrorLogger(new TestPluginLogger())
         );
@@ -64,6 +66,7 @@ class PlayersTableTest {
         List<PlayerContainer> players = Collections.singletonList(container);
         String html = new PlayersTable(
                 players,
+                System.currentTimeMillis(),
                 50, // maxPlayers
                 TimeUnit.MINUTES.toMillis(60), // activeMsThreshold
                 5, // activeLoginThreshold
@@ -22,8 +22,11 @@ import com.djrapitops.plan.db.Database;
 import com.djrapitops.plan.db.access.transactions.events.*;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionServiceImplementation;
+import com.djrapitops.plan.system.cache.EventCountCache;
 import com.djrapitops.plan.system.cache.GeolocationCache;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.cache.NicknameCache;
+import com.djrapitops.plan.system.cache.PlaceholderValueCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -50,6 +53,7 @@ import javax.inject.Inject;
 import java.net.InetAddress;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Listener for Player Join/Leave on Sponge.
@@ -67,6 +71,9 @@ public class PlayerOnlineListener {
     private final GeolocationCache geolocationCache;
     private final NicknameCache nicknameCache;
     private final SessionCache sessionCache;
+    private final EventCountCache eventCountCache;
+    private final KnownEntityCache knownEntityCache;
+    private final PlaceholderValueCache placeholderValueCache;
     private final Status status;
     private final ErrorHandler errorHandler;
 
@@ -81,6 +88,9 @@ public class PlayerOnlineListener {
             GeolocationCache geolocationCache,
             NicknameCache nicknameCache,
             SessionCache sessionCache,
+            EventCountCache eventCountCache,
+            KnownEntityCache knownEntityCache,
+            PlaceholderValueCache placeholderValueCache,
             Status status,
             ErrorHandler errorHandler
     ) {
@@ -93,6 +103,9 @@ public class PlayerOnlineListener {
         this.geolocationCache = geolocationCache;
         this.nicknameCache = nicknameCache;
         this.sessionCache = sessionCache;
+        this.eventCountCache = eventCountCache;
+        this.knownEntityCache = knownEntityCache;
+        this.placeholderValueCache = placeholderValueCache;
         this.status = status;
         this.errorHandler = errorHandler;
     }
@@ -120,7 +133,7 @@ public class PlayerOnlineListener {
             if (!status.areKicksCounted() || SpongeAFKListener.AFK_TRACKER.isAfk(playerUUID)) {
                 return;
             }
-            dbSystem.getDatabase().executeTransaction(new KickStoreTransaction(playerUUID));
+            eventCountCache.playerKicked(playerUUID);
         } catch (Exception e) {
             errorHandler.log(L.ERROR, this.getClass(), e);
         }
@@ -158,7 +171,10 @@ public class PlayerOnlineListener {
         String gm = gameMode.map(mode -> mode.getName().toUpperCase()).orElse("ADVENTURE");
 
         Database database = dbSystem.getDatabase();
-        database.executeTransaction(new WorldNameStoreTransaction(serverUUID, world));
+        database.executeTransaction(new WorldNameStoreTransaction(
+                serverUUID, world,
+                knownEntityCache::isWorldNameStored, knownEntityCache::addWorldName
+        ));
 
         InetAddress address = player.getConnection().getAddress().getAddress();
 
@@ -172,13 +188,17 @@ public class PlayerOnlineListener {
             );
         }
 
-        database.executeTransaction(new PlayerServerRegisterTransaction(playerUUID, () -> time, playerName, serverUUID));
+        CompletableFuture<?> registered = database.executeTransaction(new PlayerServerRegisterTransaction(
+                playerUUID, () -> time, playerName, serverUUID,
+                knownEntityCache::isPlayerRegistered, knownEntityCache::addRegisteredPlayer
+        ));
         sessionCache.cacheSession(playerUUID, new Session(playerUUID, serverUUID, time, world, gm))
                 .ifPresent(previousSession -> database.executeTransaction(new SessionEndTransaction(previousSession)));
+        placeholderValueCache.sessionChanged(playerUUID, registered);
 
         database.executeTransaction(new NicknameStoreTransaction(
                 playerUUID, new Nickname(displayName, time, serverUUID),
-                (uuid, name) -> name.equals(nicknameCache.getDisplayName(uuid))
+                (uuid, name) -> false /* Checked from the database on join */, knownEntityCache::updateNickname
         ));
 
         processing.submitNonCritical(processors.info().playerPageUpdateProcessor(playerUUID));
@@ -214,8 +234,10 @@ public class PlayerOnlineListener {
         boolean banned = isBanned(player.getProfile());
         dbSystem.getDatabase().executeTransaction(new BanStatusTransaction(playerUUID, () -> banned));
 
-        sessionCache.endSession(playerUUID, time)
-                .ifPresent(endedSession -> dbSystem.getDatabase().executeTransaction(new SessionEndTransaction(endedSession)));
+        sessionCache.endSession(playerUUID, time).ifPresent(endedSession -> {
+            CompletableFuture<?> stored = dbSystem.getDatabase().executeTransaction(new SessionEndTransaction(endedSession));
+            placeholderValueCache.sessionChanged(playerUUID, stored);
+        });
 
         processing.submit(processors.info().playerPageUpdateProcessor(playerUUID));
     }
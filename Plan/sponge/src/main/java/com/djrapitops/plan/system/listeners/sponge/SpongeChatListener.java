@@ -18,7 +18,7 @@ package com.djrapitops.plan.system.listeners.sponge;
 
 import com.djrapitops.plan.data.store.objects.Nickname;
 import com.djrapitops.plan.db.access.transactions.events.NicknameStoreTransaction;
-import com.djrapitops.plan.system.cache.NicknameCache;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plugin.logging.L;
@@ -41,19 +41,19 @@ public class SpongeChatListener {
 
     private final ServerInfo serverInfo;
     private final DBSystem dbSystem;
-    private final NicknameCache nicknameCache;
+    private final KnownEntityCache knownEntityCache;
     private ErrorHandler errorHandler;
 
     @Inject
     public SpongeChatListener(
             ServerInfo serverInfo,
             DBSystem dbSystem,
-            NicknameCache nicknameCache,
+            KnownEntityCache knownEntityCache,
             ErrorHandler errorHandler
     ) {
         this.serverInfo = serverInfo;
         this.dbSystem = dbSystem;
-        this.nicknameCache = nicknameCache;
+        this.knownEntityCache = knownEntityCache;
         this.errorHandler = errorHandler;
     }
 
@@ -77,7 +77,7 @@ public class SpongeChatListener {
 
         dbSystem.getDatabase().executeTransaction(new NicknameStoreTransaction(
                 uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
-                (playerUUID, name) -> name.equals(nicknameCache.getDisplayName(playerUUID))
+                knownEntityCache::isNicknameStored, knownEntityCache::updateNickname
         ));
     }
 }
\ No newline at end of file
@@ -16,8 +16,7 @@
  */
 package com.djrapitops.plan.system.listeners.sponge;
 
-import com.djrapitops.plan.db.access.transactions.events.CommandStoreTransaction;
-import com.djrapitops.plan.system.database.DBSystem;
+import com.djrapitops.plan.system.cache.EventCountCache;
 import com.djrapitops.plan.system.info.server.ServerInfo;
 import com.djrapitops.plan.system.settings.Permissions;
 import com.djrapitops.plan.system.settings.config.PlanConfig;
@@ -44,19 +43,19 @@ public class SpongeCommandListener {
 
     private final PlanConfig config;
     private final ServerInfo serverInfo;
-    private final DBSystem dbSystem;
+    private final EventCountCache eventCountCache;
     private final ErrorHandler errorHandler;
 
     @Inject
     public SpongeCommandListener(
             PlanConfig config,
             ServerInfo serverInfo,
-            DBSystem dbSystem,
+            EventCountCache eventCountCache,
             ErrorHandler errorHandler
     ) {
         this.config = config;
         this.serverInfo = serverInfo;
-        this.dbSystem = dbSystem;
+        this.eventCountCache = eventCountCache;
         this.errorHandler = errorHandler;
     }
 
@@ -89,7 +88,7 @@ public class SpongeCommandListener {
                 commandName = existingCommand.get().getPrimaryAlias();
             }
         }
-        dbSystem.getDatabase().executeTransaction(new CommandStoreTransaction(serverInfo.getServerUUID(), commandName));
+        eventCountCache.commandUsed(serverInfo.getServerUUID(), commandName);
     }
 
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package com.djrapitops.plan.system.listeners.sponge;
 
 import com.djrapitops.plan.data.container.Session;
 import com.djrapitops.plan.db.access.transactions.events.WorldNameStoreTransaction;
+import com.djrapitops.plan.system.cache.KnownEntityCache;
 import com.djrapitops.plan.system.cache.SessionCache;
 import com.djrapitops.plan.system.database.DBSystem;
 import com.djrapitops.plan.system.info.server.ServerInfo;
@@ -43,6 +44,7 @@ public class SpongeGMChangeListener {
     private final WorldAliasSettings worldAliasSettings;
     private final ServerInfo serverInfo;
     private final DBSystem dbSystem;
+    private final KnownEntityCache knownEntityCache;
     private ErrorHandler errorHandler;
 
     @Inject
@@ -50,11 +52,13 @@ public class SpongeGMChangeListener {
             WorldAliasSettings worldAliasSettings,
             ServerInfo serverInfo,
             DBSystem dbSystem,
+            KnownEntityCache knownEntityCache,
             ErrorHandler errorHandler
     ) {
         this.worldAliasSettings = worldAliasSettings;
         this.serverInfo = serverInfo;
         this.dbSystem = dbSystem;
+        this.knownEntityCache = knownEntityCache;
         this.errorHandler = errorHandler;
     }
 
@@ -79,7 +83,10 @@ public class SpongeGMChangeListener {
         String gameMode = event.getGameMode().getName().toUpperCase();
         String worldName = player.getWorld().getName();
 
-        dbSystem.getDatabase().executeTransaction(new WorldNameStoreTransaction(serverInfo.getServerUUID(), worldName));
+        dbSystem.getDatabase().executeTransaction(new WorldNameStoreTransaction(
+                serverInfo.getServerUUID(), worldName,
+                knownEntityCache::isWorldNameStored, knownEntityCache::addWorldName
+        ));
         worldAliasSettings.addWorld(worldName);
 
         Optional<Session> cachedSession = SessionCache.getCachedSession(uuid);
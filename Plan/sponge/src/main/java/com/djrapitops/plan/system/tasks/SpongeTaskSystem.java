@@ -25,7 +25,9 @@ import com.djrapitops.plan.system.settings.paths.DataGatheringSettings;
 import com.djrapitops.plan.system.settings.paths.TimeSettings;
 import com.djrapitops.plan.system.tasks.server.BootAnalysisTask;
 import com.djrapitops.plan.system.tasks.server.ConfigStoreTask;
+import com.djrapitops.plan.system.tasks.server.EventCountSaveTask;
 import com.djrapitops.plan.system.tasks.server.PeriodicAnalysisTask;
+import com.djrapitops.plan.system.tasks.server.PlaceholderRefreshTask;
 import com.djrapitops.plan.system.tasks.sponge.PingCountTimerSponge;
 import com.djrapitops.plan.system.tasks.sponge.SpongeTPSCountTimer;
 import com.djrapitops.plugin.api.TimeAmount;
@@ -59,6 +61,8 @@ public class SpongeTaskSystem extends ServerTaskSystem {
             PingCountTimerSponge pingCountTimer,
             LogsFolderCleanTask logsFolderCleanTask,
             PlayersPageRefreshTask playersPageRefreshTask,
+            EventCountSaveTask eventCountSaveTask,
+            PlaceholderRefreshTask placeholderRefreshTask,
             ConfigStoreTask configStoreTask,
             DBCleanTask dbCleanTask,
             ExtensionServerMethodCallerTask extensionServerMethodCallerTask
@@ -70,7 +74,9 @@ public class SpongeTaskSystem extends ServerTaskSystem {
                 bootAnalysisTask,
                 periodicAnalysisTask,
                 logsFolderCleanTask,
-                playersPageRefreshTask);
+                playersPageRefreshTask,
+                eventCountSaveTask,
+                placeholderRefreshTask);
         this.plugin = plugin;
         this.shutdownHook = shutdownHook;
         this.pingCountTimer = pingCountTimer;
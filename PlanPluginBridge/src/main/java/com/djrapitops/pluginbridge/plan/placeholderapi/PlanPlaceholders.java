@@ -41,18 +41,34 @@ import org.bukkit.entity.Player;
 
 import javax.inject.Singleton;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Placeholders of Plan.
+ * <p>
+ * Server and player placeholders return the last known value cached by Plan, so requests never wait for the database.
+ * All server values are loaded from one ServerContainer and all values of a player from one PlayerContainer.
  *
  * @author Rsl1122
  */
 @Singleton
 public class PlanPlaceholders extends PlaceholderExpansion {
 
+    private static final String NOT_LOADED = "-";
+    private static final Set<String> SERVER_PLACEHOLDERS = new HashSet<>(Arrays.asList(
+            "players_total", "players_new_day", "players_new_week", "players_new_month",
+            "players_unique_day", "players_unique_week", "players_unique_month",
+            "playtime_total", "session_avg", "session_count",
+            "kills_players", "kills_mobs", "deaths_total",
+            "tps_day", "tps_drops_week"
+    ));
+    private static final Set<String> PLAYER_PLACEHOLDERS = new HashSet<>(Arrays.asList(
+            "playtime", "playtime_day", "playtime_week", "playtime_month",
+            "geolocation", "activity_index", "registered", "last_seen",
+            "player_kills", "mob_kills", "deaths"
+    ));
+
     private final PlanPlugin plugin;
     private final PlanConfig config;
     private final ServerInfo serverInfo;
@@ -98,27 +114,46 @@ public class PlanPlaceholders extends PlaceholderExpansion {
 
     @Override
     public String onPlaceholderRequest(Player player, String identifier) {
-        Serializable planValue = getPlanValue(identifier);
+        String lowerCaseIdentifier = identifier.toLowerCase();
+        Serializable planValue = getPlanValue(lowerCaseIdentifier);
         if (planValue != null) {
             return planValue.toString();
         }
-        Serializable serverValue = getServerValue(identifier);
-        if (serverValue != null) {
-            return serverValue.toString();
+        if (SERVER_PLACEHOLDERS.contains(lowerCaseIdentifier)) {
+            return getServerValue(lowerCaseIdentifier);
         }
-
-        if (player != null) {
-            Serializable playerValue = getPlayerValue(player, identifier);
-            if (playerValue != null) {
-                return playerValue.toString();
-            }
+        if (player != null && PLAYER_PLACEHOLDERS.contains(lowerCaseIdentifier)) {
+            return getPlayerValue(player.getUniqueId(), lowerCaseIdentifier);
         }
 
         return null;
     }
 
+    /**
+     * Get the last known value of a server placeholder, values are loaded and refreshed asynchronously by Plan.
+     *
+     * @param identifier Lowercase identifier of the placeholder.
+     * @return The value, or "-" if it has not been loaded yet.
+     */
+    private String getServerValue(String identifier) {
+        return PlanAPI.getInstance().getCachedServerPlaceholderValue(identifier, this::loadServerValues)
+                .orElse(NOT_LOADED);
+    }
+
+    /**
+     * Get the last known value of a player placeholder, values are loaded and refreshed asynchronously by Plan.
+     *
+     * @param playerUUID UUID of the player.
+     * @param identifier Lowercase identifier of the placeholder.
+     * @return The value, or "-" if it has not been loaded yet.
+     */
+    private String getPlayerValue(UUID playerUUID, String identifier) {
+        return PlanAPI.getInstance().getCachedPlayerPlaceholderValue(identifier, playerUUID, () -> loadPlayerValues(playerUUID))
+                .orElse(NOT_LOADED);
+    }
+
     private Serializable getPlanValue(String identifier) {
-        switch (identifier.toLowerCase()) {
+        switch (identifier) {
             case "address":
                 return webServer.getAccessAddress();
             default:
@@ -126,103 +161,85 @@ public class PlanPlaceholders extends PlaceholderExpansion {
         }
     }
 
-    private Serializable getServerValue(String identifier) {
-        ServerContainer serverContainer = PlanAPI.getInstance().fetchServerContainer(serverInfo.getServerUUID());
-
+    /**
+     * Load the values of all server placeholders.
+     *
+     * @return Map: Placeholder identifier - value, or null if the values could not be loaded.
+     */
+    private Map<String, String> loadServerValues() {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeAmount.WEEK.toMillis(1L);
         long monthAgo = now - TimeAmount.MONTH.toMillis(1L);
 
         try {
+            ServerContainer serverContainer = PlanAPI.getInstance().fetchServerContainer(serverInfo.getServerUUID());
             PlayersMutator playersMutator = new PlayersMutator(serverContainer.getValue(ServerKeys.PLAYERS).orElse(new ArrayList<>()));
-            switch (identifier.toLowerCase()) {
-                case "players_total":
-                    return playersMutator.count();
-                case "players_new_day":
-                    return playersMutator.filterRegisteredBetween(dayAgo, now).count();
-                case "players_new_week":
-                    return playersMutator.filterRegisteredBetween(weekAgo, now).count();
-                case "players_new_month":
-                    return playersMutator.filterRegisteredBetween(monthAgo, now).count();
-                case "players_unique_day":
-                    return playersMutator.filterPlayedBetween(dayAgo, now).count();
-                case "players_unique_week":
-                    return playersMutator.filterPlayedBetween(weekAgo, now).count();
-                case "players_unique_month":
-                    return playersMutator.filterPlayedBetween(monthAgo, now).count();
-                case "playtime_total":
-                    return formatters.timeAmount().apply(new SessionsMutator(playersMutator.getSessions()).toPlaytime());
-                case "session_avg":
-                    return formatters.timeAmount().apply(new SessionsMutator(playersMutator.getSessions()).toAverageSessionLength());
-                case "session_count":
-                    return playersMutator.getSessions().size();
-                case "kills_players":
-                    return new SessionsMutator(playersMutator.getSessions()).toPlayerKillCount();
-                case "kills_mobs":
-                    return new SessionsMutator(playersMutator.getSessions()).toMobKillCount();
-                case "deaths_total":
-                    return new SessionsMutator(playersMutator.getSessions()).toDeathCount();
-                case "tps_day":
-                    return new TPSMutator(serverContainer.getValue(ServerKeys.TPS).orElse(new ArrayList<>())).filterDataBetween(dayAgo, now).averageTPS();
-                case "tps_drops_week":
-                    return new TPSMutator(serverContainer.getValue(ServerKeys.TPS).orElse(new ArrayList<>())).filterDataBetween(weekAgo, now)
-                            .lowTpsSpikeCount(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED));
-                default:
-                    break;
-            }
+            SessionsMutator sessionsMutator = new SessionsMutator(playersMutator.getSessions());
+            TPSMutator tpsMutator = new TPSMutator(serverContainer.getValue(ServerKeys.TPS).orElse(new ArrayList<>()));
+
+            Map<String, String> values = new HashMap<>();
+            values.put("players_total", String.valueOf(playersMutator.count()));
+            values.put("players_new_day", String.valueOf(playersMutator.filterRegisteredBetween(dayAgo, now).count()));
+            values.put("players_new_week", String.valueOf(playersMutator.filterRegisteredBetween(weekAgo, now).count()));
+            values.put("players_new_month", String.valueOf(playersMutator.filterRegisteredBetween(monthAgo, now).count()));
+            values.put("players_unique_day", String.valueOf(playersMutator.filterPlayedBetween(dayAgo, now).count()));
+            values.put("players_unique_week", String.valueOf(playersMutator.filterPlayedBetween(weekAgo, now).count()));
+            values.put("players_unique_month", String.valueOf(playersMutator.filterPlayedBetween(monthAgo, now).count()));
+            values.put("playtime_total", formatters.timeAmount().apply(sessionsMutator.toPlaytime()));
+            values.put("session_avg", formatters.timeAmount().apply(sessionsMutator.toAverageSessionLength()));
+            values.put("session_count", String.valueOf(sessionsMutator.count()));
+            values.put("kills_players", String.valueOf(sessionsMutator.toPlayerKillCount()));
+            values.put("kills_mobs", String.valueOf(sessionsMutator.toMobKillCount()));
+            values.put("deaths_total", String.valueOf(sessionsMutator.toDeathCount()));
+            values.put("tps_day", String.valueOf(tpsMutator.filterDataBetween(dayAgo, now).averageTPS()));
+            values.put("tps_drops_week", String.valueOf(tpsMutator.filterDataBetween(weekAgo, now)
+                    .lowTpsSpikeCount(config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED))));
+            return values;
         } catch (Exception e) {
             errorHandler.log(L.WARN, this.getClass(), e);
+            return null;
         }
-        return null;
     }
 
-    private Serializable getPlayerValue(Player player, String identifier) {
-        UUID uuid = player.getUniqueId();
-        PlayerContainer playerContainer = PlanAPI.getInstance().fetchPlayerContainer(uuid);
-
+    /**
+     * Load the values of all placeholders of a player.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Map: Placeholder identifier - value, or null if the values could not be loaded.
+     */
+    private Map<String, String> loadPlayerValues(UUID playerUUID) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeAmount.WEEK.toMillis(1L);
         long monthAgo = now - TimeAmount.MONTH.toMillis(1L);
 
         try {
+            PlayerContainer playerContainer = PlanAPI.getInstance().fetchPlayerContainer(playerUUID);
             SessionsMutator sessionsMutator = new SessionsMutator(playerContainer.getValue(PlayerKeys.SESSIONS).orElse(new ArrayList<>()));
-            switch (identifier.toLowerCase()) {
-                case "playtime":
-                    return formatters.timeAmount().apply(sessionsMutator.toPlaytime());
-                case "playtime_day":
-                    return formatters.timeAmount().apply(sessionsMutator.filterSessionsBetween(dayAgo, now).toPlaytime());
-                case "playtime_week":
-                    return formatters.timeAmount().apply(sessionsMutator.filterSessionsBetween(weekAgo, now).toPlaytime());
-                case "playtime_month":
-                    return formatters.timeAmount().apply(sessionsMutator.filterSessionsBetween(monthAgo, now).toPlaytime());
-                case "geolocation":
-                    return new GeoInfoMutator(playerContainer.getValue(PlayerKeys.GEO_INFO).orElse(new ArrayList<>())).mostRecent().map(GeoInfo::getGeolocation).orElse("Unknown");
-                case "activity_index":
-                    double activityIndex = playerContainer.getActivityIndex(
-                            now,
-                            config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
-                            config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)
-                    );
-                    return activityIndex;
-                case "registered":
-                    return formatters.yearLong().apply(playerContainer.getValue(PlayerKeys.REGISTERED).orElse(0L));
-                case "last_seen":
-                    return formatters.yearLong().apply(playerContainer.getValue(PlayerKeys.LAST_SEEN).orElse(0L));
-                case "player_kills":
-                    return sessionsMutator.toPlayerKillCount();
-                case "mob_kills":
-                    return sessionsMutator.toMobKillCount();
-                case "deaths":
-                    return sessionsMutator.toDeathCount();
-                default:
-                    break;
-            }
+
+            Map<String, String> values = new HashMap<>();
+            values.put("playtime", formatters.timeAmount().apply(sessionsMutator.toPlaytime()));
+            values.put("playtime_day", formatters.timeAmount().apply(sessionsMutator.filterSessionsBetween(dayAgo, now).toPlaytime()));
+            values.put("playtime_week", formatters.timeAmount().apply(sessionsMutator.filterSessionsBetween(weekAgo, now).toPlaytime()));
+            values.put("playtime_month", formatters.timeAmount().apply(sessionsMutator.filterSessionsBetween(monthAgo, now).toPlaytime()));
+            values.put("geolocation", new GeoInfoMutator(playerContainer.getValue(PlayerKeys.GEO_INFO).orElse(new ArrayList<>()))
+                    .mostRecent().map(GeoInfo::getGeolocation).orElse("Unknown"));
+            values.put("activity_index", String.valueOf(playerContainer.getActivityIndex(
+                    now,
+                    config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD),
+                    config.get(TimeSettings.ACTIVE_LOGIN_THRESHOLD)
+            )));
+            values.put("registered", formatters.yearLong().apply(playerContainer.getValue(PlayerKeys.REGISTERED).orElse(0L)));
+            values.put("last_seen", formatters.yearLong().apply(playerContainer.getValue(PlayerKeys.LAST_SEEN).orElse(0L)));
+            values.put("player_kills", String.valueOf(sessionsMutator.toPlayerKillCount()));
+            values.put("mob_kills", String.valueOf(sessionsMutator.toMobKillCount()));
+            values.put("deaths", String.valueOf(sessionsMutator.toDeathCount()));
+            return values;
         } catch (Exception e) {
             errorHandler.log(L.WARN, this.getClass(), e);
+            return null;
         }
-        return null;
     }
 
 }
\ No newline at end of file